@@ -0,0 +1,134 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.benchmarks;
+
+import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
+import com.github.mjeanroy.junit.servers.annotations.TestServer;
+import com.github.mjeanroy.junit.servers.annotations.TestServerConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.engine.AnnotationsHandlerRunner;
+import com.github.mjeanroy.junit.servers.engine.EmbeddedServerRunner;
+import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.JETTY;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.createWebapp;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.deleteWebapp;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.newServer;
+
+/**
+ * Measure the time needed to inject (and clear) annotated fields of a test class instance, before
+ * and after each test:
+ *
+ * <ul>
+ *   <li>{@link #beforeEachAfterEach()} builds (and destroys) a new HTTP client for each test.</li>
+ *   <li>{@link #beforeEachAfterEachWithLeasedClient()} leases HTTP clients from the server runner.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class AnnotationsHandlerRunnerBenchmark {
+
+	private Path webapp;
+
+	private EmbeddedServerRunner serverRunner;
+
+	private AnnotationsHandlerRunner runner;
+
+	private AnnotationsHandlerRunner leasingRunner;
+
+	private TestClass target;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		webapp = createWebapp();
+
+		serverRunner = new EmbeddedServerRunner(newServer(JETTY, webapp));
+		serverRunner.beforeAll();
+
+		EmbeddedServer<?> server = serverRunner.getServer();
+		runner = new AnnotationsHandlerRunner(server, server.getConfiguration());
+		leasingRunner = new AnnotationsHandlerRunner(serverRunner);
+		target = new TestClass();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try {
+			serverRunner.afterAll();
+		}
+		finally {
+			deleteWebapp(webapp);
+		}
+	}
+
+	@Benchmark
+	public TestClass beforeEachAfterEach() {
+		runner.beforeEach(target);
+		runner.afterEach(target);
+		return target;
+	}
+
+	@Benchmark
+	public TestClass beforeEachAfterEachWithLeasedClient() {
+		leasingRunner.beforeEach(target);
+		leasingRunner.afterEach(target);
+		return target;
+	}
+
+	/**
+	 * A test class, using all junit-servers annotations.
+	 */
+	public static class TestClass {
+		@TestServer
+		private EmbeddedServer<?> server;
+
+		@TestServerConfiguration
+		private AbstractConfiguration configuration;
+
+		@TestHttpClient
+		private HttpClient client;
+	}
+}
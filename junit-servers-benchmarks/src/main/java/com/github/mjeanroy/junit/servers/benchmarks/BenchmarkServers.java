@@ -0,0 +1,132 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.benchmarks;
+
+import com.github.mjeanroy.junit.servers.commons.io.Ios;
+import com.github.mjeanroy.junit.servers.jetty.EmbeddedJetty;
+import com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.tomcat.EmbeddedTomcat;
+import com.github.mjeanroy.junit.servers.tomcat.EmbeddedTomcatConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Static utilities used to create the embedded servers used in benchmarks.
+ */
+final class BenchmarkServers {
+
+	/**
+	 * The jetty server type.
+	 */
+	static final String JETTY = "jetty";
+
+	/**
+	 * The tomcat server type.
+	 */
+	static final String TOMCAT = "tomcat";
+
+	/**
+	 * The path of the static page served by the benchmark webapp.
+	 */
+	static final String INDEX = "/index.html";
+
+	/**
+	 * The jetty container JAR pattern: tomcat libraries are also available on the classpath, and
+	 * must not be scanned by jetty (tomcat JSP libraries define web fragments with the same name).
+	 */
+	private static final String JETTY_CONTAINER_JAR_PATTERN = ".*/jetty-[^/]*\\.jar$";
+
+	// Ensure non instantiation.
+	private BenchmarkServers() {
+	}
+
+	/**
+	 * Create a temporary webapp directory, containing a single static page.
+	 *
+	 * @return The webapp directory.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static Path createWebapp() throws IOException {
+		Path webapp = Files.createTempDirectory("junit-servers-benchmarks-");
+		Files.write(webapp.resolve(INDEX.substring(1)), "<html><body>Hello World</body></html>".getBytes(StandardCharsets.UTF_8));
+		return webapp;
+	}
+
+	/**
+	 * Delete webapp directory created with {@link #createWebapp()}.
+	 *
+	 * @param webapp The webapp directory.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static void deleteWebapp(Path webapp) throws IOException {
+		if (webapp != null) {
+			Ios.deleteRecursively(webapp);
+		}
+	}
+
+	/**
+	 * Create a new embedded server (not started), serving given webapp.
+	 *
+	 * @param type The server type, {@link #JETTY} or {@link #TOMCAT}.
+	 * @param webapp The webapp directory.
+	 * @return The embedded server.
+	 * @throws IllegalArgumentException If {@code type} is not a known server type.
+	 */
+	static EmbeddedServer<?> newServer(String type, Path webapp) {
+		String path = webapp.toAbsolutePath().toString();
+
+		if (JETTY.equals(type)) {
+			return new EmbeddedJetty(EmbeddedJettyConfiguration.builder()
+				.withWebapp(path)
+				.withClasspath(path)
+				.withContainerJarPattern(JETTY_CONTAINER_JAR_PATTERN)
+				.build());
+		}
+
+		if (TOMCAT.equals(type)) {
+			return new EmbeddedTomcat(EmbeddedTomcatConfiguration.builder()
+				.withWebapp(path)
+				.withClasspath(path)
+				.build());
+		}
+
+		throw new IllegalArgumentException("Unknown embedded server: " + type);
+	}
+
+	/**
+	 * Stop given server, if it is started.
+	 *
+	 * @param server The embedded server, may be {@code null}.
+	 */
+	static void stopQuietly(EmbeddedServer<?> server) {
+		if (server != null && server.isStarted()) {
+			server.stop();
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.benchmarks;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.INDEX;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.JETTY;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.createWebapp;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.deleteWebapp;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.newServer;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.stopQuietly;
+
+/**
+ * Measure, for each {@link HttpClientStrategy}, the time needed to:
+ *
+ * <ul>
+ *   <li>Prepare a request (i.e {@link HttpClient#prepareRequest(HttpMethod, String)}).</li>
+ *   <li>Execute a request against a running embedded jetty server (i.e a full round-trip).</li>
+ * </ul>
+ *
+ * The {@code IN_MEMORY} strategy is also measured, as a baseline without any socket.
+ *
+ * Note that the {@code JDK_HTTP_CLIENT} strategy requires Java 11.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class HttpClientBenchmark {
+
+	@Param({"OK_HTTP3", "ASYNC_HTTP_CLIENT", "NING_ASYNC_HTTP_CLIENT", "APACHE_HTTP_CLIENT", "JDK_HTTP_CLIENT", "IN_MEMORY"})
+	public HttpClientStrategy strategy;
+
+	private Path webapp;
+
+	private EmbeddedServer<?> server;
+
+	private HttpClient client;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		if (!strategy.support()) {
+			throw new IllegalStateException("HTTP client strategy " + strategy + " is not supported on this JVM");
+		}
+
+		webapp = createWebapp();
+		server = newServer(JETTY, webapp);
+		server.start();
+		client = strategy.build(server);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try {
+			if (client != null) {
+				client.destroy();
+			}
+
+			stopQuietly(server);
+		}
+		finally {
+			deleteWebapp(webapp);
+		}
+	}
+
+	@Benchmark
+	public HttpRequest prepareRequest() {
+		return client.prepareRequest(HttpMethod.GET, INDEX)
+			.acceptGzip()
+			.addCookie("JSESSIONID", "node0123456789abcdef");
+	}
+
+	@Benchmark
+	public String roundTrip() {
+		HttpResponse response = client.prepareGet(INDEX).execute();
+		return response.body();
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.benchmarks;
+
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.createWebapp;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.deleteWebapp;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.newServer;
+import static com.github.mjeanroy.junit.servers.benchmarks.BenchmarkServers.stopQuietly;
+
+/**
+ * Measure the time needed to restart a running embedded server (i.e what a test
+ * pays when it asks for a fresh server).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class ServerRestartBenchmark {
+
+	@Param({BenchmarkServers.JETTY, BenchmarkServers.TOMCAT})
+	public String server;
+
+	private Path webapp;
+
+	private EmbeddedServer<?> embeddedServer;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		webapp = createWebapp();
+		embeddedServer = newServer(server, webapp);
+		embeddedServer.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try {
+			stopQuietly(embeddedServer);
+		}
+		finally {
+			deleteWebapp(webapp);
+		}
+	}
+
+	@Benchmark
+	public EmbeddedServer<?> restart() {
+		embeddedServer.restart();
+		return embeddedServer;
+	}
+}
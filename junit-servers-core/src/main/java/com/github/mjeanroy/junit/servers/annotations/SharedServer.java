@@ -0,0 +1,68 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation that can be added on a test class to share the embedded server
+ * between all test classes using the same configuration.
+ *
+ * <p>
+ *
+ * Instead of being started before all tests and stopped after all tests, a shared embedded server
+ * is started once and kept alive until the end of the test run (i.e until the JUnit engine, or the JUnit 4
+ * run, is finished).
+ *
+ * <p>
+ *
+ * By default, test classes share the same server if they use the same server type and equal configurations
+ * (see {@link com.github.mjeanroy.junit.servers.servers.AbstractConfiguration#equals(Object)}): note that hooks
+ * are compared with {@link Object#equals(Object)}, so test classes using their own hook instances will not share
+ * the server, unless these hooks implement {@link Object#equals(Object)}. A share key may be used instead: test
+ * classes with the same share key (and the same server type) share the same server, whatever their configurations.
+ *
+ * @see com.github.mjeanroy.junit.servers.engine.SharedServers
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({
+	ElementType.TYPE,
+})
+@Documented
+@Inherited
+public @interface SharedServer {
+
+	/**
+	 * The share key: if empty (the default), the server is shared between test classes with equal configurations.
+	 *
+	 * @return The share key.
+	 */
+	String value() default "";
+}
@@ -54,6 +54,12 @@ public @interface TestHttpClient {
 	 * Default is {@link HttpClientStrategy#AUTO} and classpath detection
 	 * will be used to instantiate appropriate client implementation.
 	 *
+	 * <p>
+	 *
+	 * Note that {@link HttpClientStrategy#IN_MEMORY} is only supported by the embedded jetty server: injecting
+	 * such a client with another embedded server (such as the embedded tomcat server) fails with an
+	 * {@link UnsupportedOperationException}.
+	 *
 	 * @return Strategy, default is {@link HttpClientStrategy#AUTO}.
 	 */
 	HttpClientStrategy strategy() default HttpClientStrategy.AUTO;
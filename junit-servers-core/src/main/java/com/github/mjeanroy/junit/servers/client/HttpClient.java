@@ -142,6 +142,36 @@ public interface HttpClient {
 	 */
 	HttpRequest prepareRequest(HttpMethod httpMethod, String endpoint);
 
+	/**
+	 * Reset client state, such as cookies stored by the underlying implementation, so that
+	 * the client can be reused between tests.
+	 *
+	 * <p>
+	 *
+	 * Note that opened connections and thread pools are kept, default implementation does nothing.
+	 *
+	 * <p>
+	 *
+	 * Client metrics are also cleared, so that metrics of a reused client only describe requests executed since
+	 * the last reset.
+	 */
+	default void reset() {
+	}
+
+	/**
+	 * Get the metrics of the requests executed by this client.
+	 *
+	 * <p>
+	 *
+	 * Metrics are recorded since the client has been created, or since the last call to {@link #reset()}.
+	 *
+	 * @return The client metrics.
+	 * @throws UnsupportedOperationException If the implementation does not record metrics (default implementation).
+	 */
+	default HttpClientMetrics getMetrics() {
+		throw new UnsupportedOperationException("Metrics are not supported by " + getClass().getName());
+	}
+
 	/**
 	 * Destroy client.
 	 */
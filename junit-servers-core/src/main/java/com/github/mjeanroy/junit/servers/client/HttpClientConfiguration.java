@@ -46,6 +46,11 @@ public final class HttpClientConfiguration {
 	 */
 	private static final boolean DEFAULT_FOLLOW_REDIRECT = true;
 
+	/**
+	 * Default value for {@link HttpClientConfiguration#maxConnectionsPerHost}.
+	 */
+	private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 100;
+
 	/**
 	 * The default configuration.
 	 * Since the {@link HttpClientConfiguration} is immutable, it is safe to use a singleton.
@@ -76,9 +81,15 @@ public final class HttpClientConfiguration {
 	 */
 	private final boolean followRedirect;
 
+	/**
+	 * The maximum number of concurrent connections (and concurrent requests) to the embedded server.
+	 */
+	private final int maxConnectionsPerHost;
+
 	// Private constructor: use the builder instead.
-	private HttpClientConfiguration(boolean followRedirect, Map<String, HttpHeader> defaultHeaders, List<Cookie> defaultCookies) {
+	private HttpClientConfiguration(boolean followRedirect, int maxConnectionsPerHost, Map<String, HttpHeader> defaultHeaders, List<Cookie> defaultCookies) {
 		this.followRedirect = followRedirect;
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
 		this.defaultHeaders = unmodifiableMap(new LinkedHashMap<>(defaultHeaders));
 		this.defaultCookies = unmodifiableList(new ArrayList<>(defaultCookies));
 	}
@@ -110,6 +121,15 @@ public final class HttpClientConfiguration {
 		return followRedirect;
 	}
 
+	/**
+	 * Get {@link #maxConnectionsPerHost}
+	 *
+	 * @return {@link #maxConnectionsPerHost}.
+	 */
+	public int getMaxConnectionsPerHost() {
+		return maxConnectionsPerHost;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) {
@@ -119,6 +139,7 @@ public final class HttpClientConfiguration {
 		if (o instanceof HttpClientConfiguration) {
 			HttpClientConfiguration c = (HttpClientConfiguration) o;
 			return followRedirect == c.followRedirect &&
+				maxConnectionsPerHost == c.maxConnectionsPerHost &&
 				Objects.equals(defaultHeaders, c.defaultHeaders) &&
 				Objects.equals(defaultCookies, c.defaultCookies);
 		}
@@ -128,13 +149,14 @@ public final class HttpClientConfiguration {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(followRedirect, defaultHeaders, defaultCookies);
+		return Objects.hash(followRedirect, maxConnectionsPerHost, defaultHeaders, defaultCookies);
 	}
 
 	@Override
 	public String toString() {
 		return ToStringBuilder.create(getClass())
 			.append("followRedirect", followRedirect)
+			.append("maxConnectionsPerHost", maxConnectionsPerHost)
 			.append("defaultHeaders", defaultHeaders)
 			.append("defaultCookies", defaultCookies)
 			.build();
@@ -150,6 +172,12 @@ public final class HttpClientConfiguration {
 		 */
 		private boolean followRedirect;
 
+		/**
+		 * The maximum number of concurrent connections to the embedded server.
+		 * @see HttpClientConfiguration#DEFAULT_MAX_CONNECTIONS_PER_HOST
+		 */
+		private int maxConnectionsPerHost;
+
 		/**
 		 * The set of default headers that will be added for each HTTP request.
 		 */
@@ -164,9 +192,11 @@ public final class HttpClientConfiguration {
 		 * Create builder with default values.
 		 *
 		 * @see HttpClientConfiguration#DEFAULT_FOLLOW_REDIRECT
+		 * @see HttpClientConfiguration#DEFAULT_MAX_CONNECTIONS_PER_HOST
 		 */
 		public Builder() {
 			this.followRedirect = DEFAULT_FOLLOW_REDIRECT;
+			this.maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
 			this.defaultHeaders = new LinkedHashMap<>();
 			this.defaultCookies = new ArrayList<>();
 		}
@@ -248,13 +278,35 @@ public final class HttpClientConfiguration {
 			return this;
 		}
 
+		/**
+		 * Set the maximum number of concurrent connections to the embedded server: it is also the maximum
+		 * number of requests that can be executed concurrently (for example, with {@link HttpRequest#executeAsync()}),
+		 * other requests being queued by the client.
+		 *
+		 * <p>
+		 *
+		 * Note that the JDK client does not have any connection limit, so this setting is ignored by this client.
+		 *
+		 * @param maxConnectionsPerHost The maximum number of connections.
+		 * @return The builder (for chaining).
+		 * @throws IllegalArgumentException If {@code maxConnectionsPerHost} is not strictly positive.
+		 */
+		public Builder withMaxConnectionsPerHost(int maxConnectionsPerHost) {
+			if (maxConnectionsPerHost <= 0) {
+				throw new IllegalArgumentException("Max connections per host must be strictly positive");
+			}
+
+			this.maxConnectionsPerHost = maxConnectionsPerHost;
+			return this;
+		}
+
 		/**
 		 * Create new client configuration.
 		 *
 		 * @return The HTTP client configuration.
 		 */
 		public HttpClientConfiguration build() {
-			return new HttpClientConfiguration(followRedirect, defaultHeaders, defaultCookies);
+			return new HttpClientConfiguration(followRedirect, maxConnectionsPerHost, defaultHeaders, defaultCookies);
 		}
 	}
 }
@@ -0,0 +1,487 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.load.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Metrics of the requests executed by an {@link HttpClient}:
+ *
+ * <ul>
+ *   <li>Number of requests, per method and per response status.</li>
+ *   <li>Latency histograms, for all requests, per method and per endpoint.</li>
+ *   <li>Number of bytes sent and received.</li>
+ *   <li>Number of opened connections, and connection reuse ratio.</li>
+ *   <li>Number of in-flight requests.</li>
+ * </ul>
+ *
+ * Recording a request does not allocate any object (except the first time a method or an endpoint is recorded),
+ * so metrics are always enabled. At most {@link #MAX_ENDPOINTS} endpoint paths are tracked, so that the memory
+ * footprint stays bounded when paths contain identifiers (such as {@code "/api/users/1"}): requests to other
+ * paths are recorded in the latency histogram of other endpoints (see {@link #getOtherEndpointsLatency(HttpMethod)}). For example, a test may fail if the latency of an endpoint regresses:
+ *
+ * <pre><code>
+ *   Duration p99 = client.getMetrics().getLatency(HttpMethod.GET, "/api/users").getValueAtPercentile(99);
+ *   assertThat(p99).isLessThan(baseline.multipliedBy(2));
+ * </code></pre>
+ *
+ * Metrics may also be exported to Micrometer using {@link #bindTo(Object)}.
+ */
+public final class HttpClientMetrics {
+
+	/**
+	 * The maximum number of endpoint paths (for all methods) with a dedicated latency histogram.
+	 */
+	public static final int MAX_ENDPOINTS = 32;
+
+	/**
+	 * The HTTP methods.
+	 */
+	private static final HttpMethod[] METHODS = HttpMethod.values();
+
+	/**
+	 * Number of recorded response status: other response status are recorded as failed requests.
+	 */
+	private static final int STATUS_COUNT = 600;
+
+	/**
+	 * The number of requests, indexed by method and response status.
+	 */
+	private final AtomicLongArray counts;
+
+	/**
+	 * The latency of all requests.
+	 */
+	private final LatencyHistogram latency;
+
+	/**
+	 * The latency of requests, indexed by method (lazily initialized).
+	 */
+	private final AtomicReferenceArray<LatencyHistogram> methodLatencies;
+
+	/**
+	 * The latency of requests, by method and endpoint path.
+	 */
+	private final Map<HttpMethod, ConcurrentMap<String, LatencyHistogram>> endpointLatencies;
+
+	/**
+	 * The number of endpoint paths with a dedicated latency histogram.
+	 */
+	private final AtomicInteger endpointCount;
+
+	/**
+	 * The latency of requests to endpoint paths without a dedicated histogram, indexed by method (lazily initialized).
+	 */
+	private final AtomicReferenceArray<LatencyHistogram> otherEndpointLatencies;
+
+	/**
+	 * The number of bytes sent.
+	 */
+	private final LongAdder bytesSent;
+
+	/**
+	 * The number of bytes received.
+	 */
+	private final LongAdder bytesReceived;
+
+	/**
+	 * The number of opened connections.
+	 */
+	private final LongAdder connections;
+
+	/**
+	 * The number of in-flight requests.
+	 */
+	private final LongAdder inFlight;
+
+	/**
+	 * Create empty metrics.
+	 */
+	public HttpClientMetrics() {
+		this.counts = new AtomicLongArray(METHODS.length * STATUS_COUNT);
+		this.latency = new LatencyHistogram();
+		this.methodLatencies = new AtomicReferenceArray<>(METHODS.length);
+		this.endpointCount = new AtomicInteger(0);
+		this.otherEndpointLatencies = new AtomicReferenceArray<>(METHODS.length);
+		this.bytesSent = new LongAdder();
+		this.bytesReceived = new LongAdder();
+		this.connections = new LongAdder();
+		this.inFlight = new LongAdder();
+
+		Map<HttpMethod, ConcurrentMap<String, LatencyHistogram>> endpointLatencies = new EnumMap<>(HttpMethod.class);
+		for (HttpMethod method : METHODS) {
+			endpointLatencies.put(method, new ConcurrentHashMap<>());
+		}
+
+		this.endpointLatencies = unmodifiableMap(endpointLatencies);
+	}
+
+	/**
+	 * Record the start of a request.
+	 *
+	 * <p>
+	 *
+	 * <strong>Internal API</strong>: this method is called by {@link HttpClient} implementations and should not be called directly.
+	 */
+	public void onRequestStart() {
+		inFlight.increment();
+	}
+
+	/**
+	 * Record the end of a request started with {@link #onRequestStart()}.
+	 *
+	 * <p>
+	 *
+	 * <strong>Internal API</strong>: this method is called by {@link HttpClient} implementations and should not be called directly.
+	 *
+	 * @param method The request method.
+	 * @param path The request endpoint path.
+	 * @param status The response status, {@code 0} if the request failed.
+	 * @param nanos The request duration, in nanoseconds.
+	 * @param sent The number of bytes sent (i.e the request body length), negative if unknown.
+	 * @param received The number of bytes received (i.e the response body length), negative if unknown.
+	 */
+	public void onRequestEnd(HttpMethod method, String path, int status, long nanos, long sent, long received) {
+		inFlight.decrement();
+
+		int statusIndex = status > 0 && status < STATUS_COUNT ? status : 0;
+		counts.incrementAndGet(method.ordinal() * STATUS_COUNT + statusIndex);
+
+		latency.record(nanos);
+		methodLatency(method).record(nanos);
+		endpointLatency(method, path).record(nanos);
+
+		if (sent > 0) {
+			bytesSent.add(sent);
+		}
+
+		if (received > 0) {
+			bytesReceived.add(received);
+		}
+	}
+
+	/**
+	 * Record a new connection opened by the underlying client.
+	 *
+	 * <p>
+	 *
+	 * <strong>Internal API</strong>: this method is called by {@link HttpClient} implementations and should not be called directly.
+	 */
+	public void onConnectionOpened() {
+		connections.increment();
+	}
+
+	/**
+	 * Remove all recorded requests and connections, for example when the client is reused by another
+	 * test: in-flight requests are kept, since they will be recorded once they end.
+	 *
+	 * <p>
+	 *
+	 * <strong>Internal API</strong>: this method is called by {@link HttpClient} implementations and should not be called directly.
+	 */
+	public void reset() {
+		for (int i = 0; i < counts.length(); i++) {
+			counts.set(i, 0);
+		}
+
+		latency.reset();
+
+		reset(methodLatencies);
+		reset(otherEndpointLatencies);
+
+		for (ConcurrentMap<String, LatencyHistogram> histograms : endpointLatencies.values()) {
+			histograms.clear();
+		}
+
+		endpointCount.set(0);
+
+		bytesSent.reset();
+		bytesReceived.reset();
+		connections.reset();
+	}
+
+	/**
+	 * Get the total number of requests.
+	 *
+	 * @return Number of requests.
+	 */
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			count += counts.get(i);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Get the number of requests with given method.
+	 *
+	 * @param method The request method.
+	 * @return Number of requests.
+	 */
+	public long getCount(HttpMethod method) {
+		notNull(method, "method");
+
+		long count = 0;
+		int offset = method.ordinal() * STATUS_COUNT;
+		for (int i = 0; i < STATUS_COUNT; i++) {
+			count += counts.get(offset + i);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Get the number of requests with given method and response status.
+	 *
+	 * @param method The request method.
+	 * @param status The response status, {@code 0} to get the number of failed requests.
+	 * @return Number of requests.
+	 */
+	public long getCount(HttpMethod method, int status) {
+		notNull(method, "method");
+		return status >= 0 && status < STATUS_COUNT ? counts.get(method.ordinal() * STATUS_COUNT + status) : 0;
+	}
+
+	/**
+	 * Get the number of failed requests, i.e requests that did not receive any response.
+	 *
+	 * @return Number of failed requests.
+	 */
+	public long getFailureCount() {
+		long count = 0;
+		for (HttpMethod method : METHODS) {
+			count += getCount(method, 0);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Get the latency histogram of all requests.
+	 *
+	 * @return The latency histogram.
+	 */
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Get the latency histogram of requests with given method.
+	 *
+	 * @param method The request method.
+	 * @return The latency histogram (empty if no request has been recorded).
+	 */
+	public LatencyHistogram getLatency(HttpMethod method) {
+		notNull(method, "method");
+		return methodLatency(method);
+	}
+
+	/**
+	 * Get the latency histogram of requests with given method and endpoint path.
+	 *
+	 * <p>
+	 *
+	 * Note that only the first {@link #MAX_ENDPOINTS} recorded paths have a dedicated histogram.
+	 *
+	 * @param method The request method.
+	 * @param path The endpoint path (without query string), such as {@code "/api/users"}.
+	 * @return The latency histogram (empty if no request has been recorded, or if the path does not have a dedicated histogram).
+	 * @see #getOtherEndpointsLatency(HttpMethod)
+	 */
+	public LatencyHistogram getLatency(HttpMethod method, String path) {
+		notNull(method, "method");
+		notNull(path, "path");
+
+		LatencyHistogram histogram = endpointLatencies.get(method).get(path);
+		return histogram == null ? new LatencyHistogram() : histogram;
+	}
+
+	/**
+	 * Get the latency histogram of requests with given method, to endpoint paths recorded once
+	 * {@link #MAX_ENDPOINTS} paths already had a dedicated histogram.
+	 *
+	 * @param method The request method.
+	 * @return The latency histogram (empty if no request has been recorded).
+	 */
+	public LatencyHistogram getOtherEndpointsLatency(HttpMethod method) {
+		notNull(method, "method");
+		return lazyLatency(otherEndpointLatencies, method);
+	}
+
+	/**
+	 * Get the number of bytes sent, i.e the sum of request body lengths.
+	 *
+	 * @return Number of bytes sent.
+	 */
+	public long getBytesSent() {
+		return bytesSent.sum();
+	}
+
+	/**
+	 * Get the number of bytes received, i.e the sum of response body lengths (as defined
+	 * by the {@code Content-Length} header).
+	 *
+	 * @return Number of bytes received.
+	 */
+	public long getBytesReceived() {
+		return bytesReceived.sum();
+	}
+
+	/**
+	 * Get the number of connections opened by the underlying client.
+	 *
+	 * @return Number of opened connections.
+	 */
+	public long getConnectionCount() {
+		return connections.sum();
+	}
+
+	/**
+	 * Get the ratio of requests that reused an already opened connection.
+	 *
+	 * @return The connection reuse ratio, between {@code 0} and {@code 1}, {@link Double#NaN} if no request has been
+	 * executed or if connections are not tracked by the underlying client.
+	 */
+	public double getConnectionReuseRatio() {
+		long opened = getConnectionCount();
+		long count = getCount();
+		if (opened == 0 || count == 0) {
+			return Double.NaN;
+		}
+
+		return Math.max(0, count - opened) / (double) count;
+	}
+
+	/**
+	 * Get the number of in-flight requests.
+	 *
+	 * @return Number of in-flight requests.
+	 */
+	public long getInFlight() {
+		return inFlight.sum();
+	}
+
+	/**
+	 * Export these metrics to given Micrometer registry.
+	 *
+	 * <p>
+	 *
+	 * Micrometer is an optional dependency: given registry must be an instance of {@code io.micrometer.core.instrument.MeterRegistry}.
+	 *
+	 * @param meterRegistry The Micrometer registry.
+	 * @throws IllegalStateException If Micrometer is not available on the classpath.
+	 * @throws IllegalArgumentException If {@code meterRegistry} is not a Micrometer registry.
+	 */
+	public void bindTo(Object meterRegistry) {
+		notNull(meterRegistry, "meterRegistry");
+		MicrometerBinder.bind(this, meterRegistry);
+	}
+
+	/**
+	 * Get the latency at given percentile of requests with given method, without creating the method
+	 * histogram.
+	 *
+	 * @param method The request method.
+	 * @param percentile The percentile.
+	 * @return The latency, in seconds.
+	 */
+	double getLatencySeconds(HttpMethod method, double percentile) {
+		LatencyHistogram histogram = methodLatencies.get(method.ordinal());
+		return histogram == null ? 0 : histogram.getValueAtPercentile(percentile).toNanos() / 1e9;
+	}
+
+	private LatencyHistogram methodLatency(HttpMethod method) {
+		return lazyLatency(methodLatencies, method);
+	}
+
+	private LatencyHistogram endpointLatency(HttpMethod method, String path) {
+		ConcurrentMap<String, LatencyHistogram> histograms = endpointLatencies.get(method);
+		LatencyHistogram histogram = histograms.get(path);
+		if (histogram != null) {
+			return histogram;
+		}
+
+		// Reserve a slot before creating the histogram, so that the number of histograms never exceeds the limit.
+		if (endpointCount.get() >= MAX_ENDPOINTS || endpointCount.incrementAndGet() > MAX_ENDPOINTS) {
+			return lazyLatency(otherEndpointLatencies, method);
+		}
+
+		LatencyHistogram created = new LatencyHistogram();
+		histogram = histograms.putIfAbsent(path, created);
+		if (histogram != null) {
+			endpointCount.decrementAndGet();
+			return histogram;
+		}
+
+		return created;
+	}
+
+	private static LatencyHistogram lazyLatency(AtomicReferenceArray<LatencyHistogram> histograms, HttpMethod method) {
+		int index = method.ordinal();
+		LatencyHistogram histogram = histograms.get(index);
+		if (histogram == null) {
+			histograms.compareAndSet(index, null, new LatencyHistogram());
+			histogram = histograms.get(index);
+		}
+
+		return histogram;
+	}
+
+	private static void reset(AtomicReferenceArray<LatencyHistogram> histograms) {
+		for (int i = 0; i < histograms.length(); i++) {
+			LatencyHistogram histogram = histograms.get(i);
+			if (histogram != null) {
+				histogram.reset();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("count", getCount())
+			.append("latency", latency)
+			.append("bytesSent", getBytesSent())
+			.append("bytesReceived", getBytesReceived())
+			.append("connections", getConnectionCount())
+			.append("inFlight", getInFlight())
+			.build();
+	}
+}
@@ -26,12 +26,16 @@ package com.github.mjeanroy.junit.servers.client;
 
 import com.github.mjeanroy.junit.servers.client.impl.apache.ApacheHttpClient;
 import com.github.mjeanroy.junit.servers.client.impl.async.AsyncHttpClient;
+import com.github.mjeanroy.junit.servers.client.impl.inmemory.InMemoryHttpClient;
 import com.github.mjeanroy.junit.servers.client.impl.ning.NingAsyncHttpClient;
 import com.github.mjeanroy.junit.servers.client.impl.okhttp3.OkHttpClient;
 import com.github.mjeanroy.junit.servers.commons.reflect.Classes;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
+import com.github.mjeanroy.junit.servers.servers.ConnectorConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.InMemoryTransport;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Iterator;
 import java.util.ServiceLoader;
 
@@ -47,6 +51,8 @@ import java.util.ServiceLoader;
  *   <li>{@link HttpClientStrategy#OK_HTTP3}: use <a href="http://square.github.io/okhttp/">OkHttp</a> library.</li>
  *   <li>{@link HttpClientStrategy#NING_ASYNC_HTTP_CLIENT}: use <a href="https://github.com/ning/async-http-client">async-http-client from ning</a> library.</li>
  *   <li>{@link HttpClientStrategy#APACHE_HTTP_CLIENT}: use <a href="https://hc.apache.org/">apache http-client</a> library.</li>
+ *   <li>{@link HttpClientStrategy#JDK_HTTP_CLIENT}: use the HTTP client shipped with the JDK (requires Java 11).</li>
+ *   <li>{@link HttpClientStrategy#IN_MEMORY}: dispatch requests directly into the embedded server, without any socket (embedded jetty only).</li>
  *   <li>{@link HttpClientStrategy#AUTO}: use classpath detection and choose the best available strategy (see below).</li>
  * </ul>
  *
@@ -62,9 +68,14 @@ import java.util.ServiceLoader;
  *     with a jdk &lt; 8, since this library requires Java 8).
  *   </li>
  *   <li>Third test is ning-async-http-client, and it will be selected if library is detected.</li>
- *   <li>Finally, apache httpcomponent will be selected if available.</li>
+ *   <li>Then, apache httpcomponent will be selected if available.</li>
+ *   <li>Finally, the JDK HTTP client will be selected when running on Java 11 or later.</li>
  *   <li>If none of these libraries are available, an exception will be thrown.</li>
  * </ol>
+ *
+ * Note that an embedded server listening on a unix domain socket (see
+ * {@link ConnectorConfiguration#getUnixSocket()}) can only be queried using {@link HttpClientStrategy#OK_HTTP3}
+ * (or {@link HttpClientStrategy#IN_MEMORY}), and that {@link HttpClientStrategy#IN_MEMORY} is never selected automatically.
  */
 public enum HttpClientStrategy {
 	/**
@@ -76,6 +87,11 @@ public enum HttpClientStrategy {
 			return SUPPORT_OK_HTTP3_CLIENT;
 		}
 
+		@Override
+		boolean supportUnixSocket() {
+			return SUPPORT_JNR_UNIX_SOCKET;
+		}
+
 		@Override
 		HttpClient instantiate(EmbeddedServer<? extends AbstractConfiguration> server) {
 			return OkHttpClient.defaultOkHttpClient(server);
@@ -151,6 +167,67 @@ public enum HttpClientStrategy {
 		}
 	},
 
+	/**
+	 * Build http client using the HTTP client shipped with the JDK since Java 11, supporting HTTP/2
+	 * and asynchronous requests, without any third-party library.
+	 *
+	 * <p>
+	 *
+	 * <strong>This strategy requires Java 11</strong>: since the library is compiled with Java 8, the client
+	 * implementation is only shipped when the library is built with Java 11 or later, and is created using reflection.
+	 */
+	JDK_HTTP_CLIENT("JDK HttpClient (Java 11)") {
+		@Override
+		public boolean support() {
+			return SUPPORT_JDK_HTTP_CLIENT;
+		}
+
+		@Override
+		HttpClient instantiate(EmbeddedServer<? extends AbstractConfiguration> server) {
+			return instantiateJdkHttpClient("defaultJdkHttpClient", new Class<?>[]{EmbeddedServer.class}, server);
+		}
+
+		@Override
+		HttpClient instantiate(HttpClientConfiguration configuration, EmbeddedServer<? extends AbstractConfiguration> server) {
+			return instantiateJdkHttpClient("newJdkHttpClient", new Class<?>[]{HttpClientConfiguration.class, EmbeddedServer.class}, configuration, server);
+		}
+	},
+
+	/**
+	 * Build http client dispatching requests directly into the embedded server, without opening any socket: the
+	 * embedded server must implement {@link InMemoryTransport}.
+	 *
+	 * <p>
+	 *
+	 * <strong>This strategy is only supported by the embedded jetty server</strong>: an
+	 * {@link UnsupportedOperationException} is thrown when the client is created for any other
+	 * embedded server (such as the embedded tomcat server). Note that this strategy is never selected
+	 * by {@link HttpClientStrategy#AUTO}.
+	 */
+	IN_MEMORY("In-memory transport") {
+		@Override
+		public boolean support() {
+			return true;
+		}
+
+		@Override
+		boolean supportUnixSocket() {
+			return true;
+		}
+
+		@Override
+		HttpClient instantiate(EmbeddedServer<? extends AbstractConfiguration> server) {
+			checkInMemoryTransport(server);
+			return InMemoryHttpClient.defaultInMemoryHttpClient((EmbeddedServer<?> & InMemoryTransport) server);
+		}
+
+		@Override
+		HttpClient instantiate(HttpClientConfiguration configuration, EmbeddedServer<? extends AbstractConfiguration> server) {
+			checkInMemoryTransport(server);
+			return InMemoryHttpClient.newInMemoryHttpClient(configuration, (EmbeddedServer<?> & InMemoryTransport) server);
+		}
+	},
+
 	/**
 	 * Detect class available on classpath and use appropriate strategy to
 	 * build http client client implementation:
@@ -160,13 +237,25 @@ public enum HttpClientStrategy {
 	 *   <li>Try {@link HttpClientStrategy#ASYNC_HTTP_CLIENT}.</li>
 	 *   <li>Try {@link HttpClientStrategy#NING_ASYNC_HTTP_CLIENT}.</li>
 	 *   <li>Try {@link HttpClientStrategy#APACHE_HTTP_CLIENT}.</li>
+	 *   <li>Try {@link HttpClientStrategy#JDK_HTTP_CLIENT}.</li>
 	 * </ol>
 	 */
-	AUTO("OkHttp OR AsyncHttpClient OR Apache HttpComponent") {
+	AUTO("OkHttp OR AsyncHttpClient OR Apache HttpComponent OR JDK HttpClient (Java 11)") {
 		@Override
 		public boolean support() {
 			for (HttpClientStrategy strategy : HttpClientStrategy.values()) {
-				if (strategy != this && strategy.support()) {
+				if (strategy != this && strategy != IN_MEMORY && strategy.support()) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		@Override
+		boolean supportUnixSocket() {
+			for (HttpClientStrategy strategy : HttpClientStrategy.values()) {
+				if (strategy != this && strategy != IN_MEMORY && strategy.support() && strategy.supportUnixSocket()) {
 					return true;
 				}
 			}
@@ -184,13 +273,13 @@ public enum HttpClientStrategy {
 
 			// Then, use classpath detection.
 			for (HttpClientStrategy strategy : HttpClientStrategy.values()) {
-				if (strategy.support()) {
+				if (strategy != IN_MEMORY && strategy.support() && strategy.canQuery(server)) {
 					return strategy.instantiate(server);
 				}
 			}
 
 			throw new UnsupportedOperationException(
-				"Http client implementation cannot be found, please add OkHttp, AsyncHttpClient or ApacheHttpClient to your classpath"
+				"Http client implementation cannot be found, please add OkHttp, AsyncHttpClient or ApacheHttpClient to your classpath, or use Java 11"
 			);
 		}
 
@@ -204,17 +293,44 @@ public enum HttpClientStrategy {
 
 			// Then, use classpath detection.
 			for (HttpClientStrategy strategy : HttpClientStrategy.values()) {
-				if (strategy.support()) {
+				if (strategy != IN_MEMORY && strategy.support() && strategy.canQuery(server)) {
 					return strategy.instantiate(configuration, server);
 				}
 			}
 
 			throw new UnsupportedOperationException(
-				"Http client implementation cannot be found, please add OkHttp, AsyncHttpClient or ApacheHttpClient to your classpath"
+				"Http client implementation cannot be found, please add OkHttp, AsyncHttpClient or ApacheHttpClient to your classpath, or use Java 11"
 			);
 		}
 	};
 
+	/**
+	 * Get the path of the unix domain socket the embedded server listens on, if any.
+	 *
+	 * @param server The embedded server.
+	 * @return The unix domain socket path, {@code null} if the server listens on a TCP port.
+	 */
+	private static String unixSocket(EmbeddedServer<? extends AbstractConfiguration> server) {
+		AbstractConfiguration configuration = server.getConfiguration();
+		ConnectorConfiguration connector = configuration == null ? null : configuration.getConnector();
+		return connector == null ? null : connector.getUnixSocket();
+	}
+
+	/**
+	 * Ensure that the embedded server can be queried using the in-memory transport, throw
+	 * {@link UnsupportedOperationException} otherwise.
+	 *
+	 * @param server The embedded server.
+	 * @throws UnsupportedOperationException If the embedded server does not implement {@link InMemoryTransport}.
+	 */
+	private static void checkInMemoryTransport(EmbeddedServer<? extends AbstractConfiguration> server) {
+		if (!(server instanceof InMemoryTransport)) {
+			throw new UnsupportedOperationException(
+				"Embedded server " + server.getClass().getName() + " does not support in-memory transport, please use another HTTP client strategy (in-memory transport is only supported by the embedded jetty server)"
+			);
+		}
+	}
+
 	/**
 	 * Look into {@link HttpClientProvider} available using the standard Service Provider Interface.
 	 *
@@ -301,6 +417,46 @@ public enum HttpClientStrategy {
 	 */
 	private static final boolean SUPPORT_OK_HTTP3_CLIENT = Classes.isPresent(OK_HTTP3_CLIENT_CLASS);
 
+	/**
+	 * The FQN entry point for the jnr-unixsocket library.
+	 *
+	 * @see <a href="https://github.com/jnr/jnr-unixsocket">https://github.com/jnr/jnr-unixsocket</a>
+	 */
+	private static final String JNR_UNIX_SOCKET_CLASS = "jnr.unixsocket.UnixSocketChannel";
+
+	/**
+	 * A flag that can be used to know if jnr-unixsocket library is available, i.e if the OkHttp client
+	 * can connect to an embedded server listening on a unix domain socket.
+	 *
+	 * @see HttpClientStrategy#JNR_UNIX_SOCKET_CLASS
+	 */
+	private static final boolean SUPPORT_JNR_UNIX_SOCKET = Classes.isPresent(JNR_UNIX_SOCKET_CLASS);
+
+	/**
+	 * The FQN entry point for the JDK HTTP client, available since Java 11.
+	 *
+	 * @see <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.net.http/java/net/http/HttpClient.html">https://docs.oracle.com/en/java/javase/11/docs/api/java.net.http/java/net/http/HttpClient.html</a>
+	 */
+	private static final String JDK_HTTP_CLIENT_CLASS = "java.net.http.HttpClient";
+
+	/**
+	 * The FQN of the JDK HTTP client implementation, only compiled when the library is built with Java 11 or later.
+	 */
+	private static final String JDK_HTTP_CLIENT_IMPL_CLASS = "com.github.mjeanroy.junit.servers.client.impl.jdk.JdkHttpClient";
+
+	/**
+	 * A flag that can be used to know if the JDK HTTP client is available.
+	 * The following conditions must be met:
+	 * <ul>
+	 *   <li>The runtime must be executed on, at least, <strong>Java 11</strong>.</li>
+	 *   <li>The library must have been built with, at least, <strong>Java 11</strong>.</li>
+	 * </ul>
+	 *
+	 * @see HttpClientStrategy#JDK_HTTP_CLIENT_CLASS
+	 * @see HttpClientStrategy#JDK_HTTP_CLIENT_IMPL_CLASS
+	 */
+	private static final boolean SUPPORT_JDK_HTTP_CLIENT = Classes.isPresent(JDK_HTTP_CLIENT_CLASS) && Classes.isPresent(JDK_HTTP_CLIENT_IMPL_CLASS);
+
 	/**
 	 * The name of the underlying library.
 	 */
@@ -321,9 +477,11 @@ public enum HttpClientStrategy {
 	 * @param server Embedded server.
 	 * @return Http client.
 	 * @throws UnsupportedOperationException If the runtime environment does not allow the strategy (such as: the library has not been imported).
+	 * @throws UnsupportedOperationException If the embedded server listens on a unix domain socket and the strategy does not support it.
 	 */
 	public HttpClient build(EmbeddedServer<? extends AbstractConfiguration> server) {
 		checkSupport();
+		checkUnixSocketSupport(server);
 		return instantiate(server);
 	}
 
@@ -334,9 +492,11 @@ public enum HttpClientStrategy {
 	 * @param server Embedded server.
 	 * @return Http client.
 	 * @throws UnsupportedOperationException If the runtime environment does not allow the strategy (such as: the library has not been imported).
+	 * @throws UnsupportedOperationException If the embedded server listens on a unix domain socket and the strategy does not support it.
 	 */
 	public HttpClient build(HttpClientConfiguration configuration, EmbeddedServer<? extends AbstractConfiguration> server) {
 		checkSupport();
+		checkUnixSocketSupport(server);
 		return instantiate(configuration, server);
 	}
 
@@ -353,6 +513,31 @@ public enum HttpClientStrategy {
 		}
 	}
 
+	/**
+	 * Ensure that the strategy can query the embedded server, throw {@link UnsupportedOperationException} otherwise.
+	 *
+	 * @param server The embedded server.
+	 * @throws UnsupportedOperationException If the embedded server listens on a unix domain socket and the strategy does not support it.
+	 */
+	private void checkUnixSocketSupport(EmbeddedServer<? extends AbstractConfiguration> server) {
+		if (!canQuery(server)) {
+			throw new UnsupportedOperationException(
+				"HTTP Client " + library + " cannot query an embedded server listening on a unix domain socket, please use OkHttp and import com.github.jnr:jnr-unixsocket"
+			);
+		}
+	}
+
+	/**
+	 * Check if the strategy can query the embedded server, i.e if the embedded server listens on a TCP
+	 * port, or if the strategy supports unix domain sockets.
+	 *
+	 * @param server The embedded server.
+	 * @return {@code true} if the strategy can query the embedded server, {@code false} otherwise.
+	 */
+	private boolean canQuery(EmbeddedServer<? extends AbstractConfiguration> server) {
+		return unixSocket(server) == null || supportUnixSocket();
+	}
+
 	/**
 	 * Check if the strategy can be used as it is supported by the runtime environment.
 	 *
@@ -360,6 +545,15 @@ public enum HttpClientStrategy {
 	 */
 	public abstract boolean support();
 
+	/**
+	 * Check if the strategy can query an embedded server listening on a unix domain socket.
+	 *
+	 * @return {@code true} if unix domain sockets are supported, {@code false} otherwise.
+	 */
+	boolean supportUnixSocket() {
+		return false;
+	}
+
 	/**
 	 * Instantiate strategy.
 	 *
@@ -376,4 +570,30 @@ public enum HttpClientStrategy {
 	 * @return The new http client instance.
 	 */
 	abstract HttpClient instantiate(HttpClientConfiguration configuration, EmbeddedServer<? extends AbstractConfiguration> server);
+
+	/**
+	 * Create the JDK HTTP client using the given static factory method of {@link #JDK_HTTP_CLIENT_IMPL_CLASS}.
+	 *
+	 * @param factoryMethod The static factory method name.
+	 * @param parameterTypes The factory method parameter types.
+	 * @param args The factory method arguments.
+	 * @return The new http client instance.
+	 */
+	private static HttpClient instantiateJdkHttpClient(String factoryMethod, Class<?>[] parameterTypes, Object... args) {
+		try {
+			Class<?> klass = Class.forName(JDK_HTTP_CLIENT_IMPL_CLASS);
+			return (HttpClient) klass.getMethod(factoryMethod, parameterTypes).invoke(null, args);
+		}
+		catch (InvocationTargetException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			throw new UnsupportedOperationException("Cannot create JDK HTTP client", cause);
+		}
+		catch (ReflectiveOperationException ex) {
+			throw new UnsupportedOperationException("Cannot create JDK HTTP client", ex);
+		}
+	}
 }
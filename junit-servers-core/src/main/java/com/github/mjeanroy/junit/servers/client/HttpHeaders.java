@@ -57,6 +57,12 @@ public final class HttpHeaders {
 	 */
 	public static final String CONTENT_ENCODING = "Content-Encoding";
 
+	/**
+	 * The {@code Content-Length} header name.
+	 * @see <a href="https://tools.ietf.org/html/rfc7230#section-3.3.2">https://tools.ietf.org/html/rfc7230#section-3.3.2</a>
+	 */
+	public static final String CONTENT_LENGTH = "Content-Length";
+
 	/**
 	 * The {@code Accept-Language} header name.
 	 * @see <a href="https://tools.ietf.org/html/rfc7231#section-5.3.5">https://tools.ietf.org/html/rfc7231#section-5.3.5</a>
@@ -25,6 +25,7 @@
 package com.github.mjeanroy.junit.servers.client;
 
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP request.
@@ -375,4 +376,18 @@ public interface HttpRequest {
 	 * @see #asXml()
 	 */
 	HttpResponse executeXml();
+
+	/**
+	 * Execute request asynchronously: this method does not block and returns a future that will be completed
+	 * once the response is available (if an error occurred, the future is completed exceptionally with
+	 * an {@link com.github.mjeanroy.junit.servers.exceptions.HttpClientException}).
+	 *
+	 * <p>
+	 *
+	 * Note that with HTTP clients that does not support asynchronous execution natively (i.e apache http client), the
+	 * request is executed in a separate thread.
+	 *
+	 * @return The future http response.
+	 */
+	CompletableFuture<HttpResponse> executeAsync();
 }
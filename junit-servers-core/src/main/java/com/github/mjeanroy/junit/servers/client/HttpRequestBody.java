@@ -24,10 +24,21 @@
 
 package com.github.mjeanroy.junit.servers.client;
 
+import com.github.mjeanroy.junit.servers.commons.io.Ios;
+
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * HTTP Request Body.
+ *
+ * <p>
+ *
+ * The request body can be read entirely in memory using {@link #getBody()}, or streamed
+ * using {@link #openStream()} or {@link #writeTo(WritableByteChannel)}: HTTP clients will always stream request body, so
+ * implementations backed by large content (such as files) should override these methods.
  */
 public interface HttpRequestBody {
 
@@ -44,4 +55,55 @@ public interface HttpRequestBody {
 	 * @return Request body.
 	 */
 	byte[] getBody() throws IOException;
+
+	/**
+	 * The request body length, in bytes, or {@code -1} if the length is unknown.
+	 *
+	 * <p>
+	 *
+	 * Default implementation reads the request body in memory to compute its length.
+	 *
+	 * @return Request body length.
+	 * @throws IOException If an error occurred while reading the body.
+	 */
+	default long getContentLength() throws IOException {
+		return getBody().length;
+	}
+
+	/**
+	 * Open the request body as a stream of bytes: the returned stream must be closed by the caller.
+	 *
+	 * <p>
+	 *
+	 * Default implementation reads the request body in memory.
+	 *
+	 * @return Request body stream.
+	 * @throws IOException If an error occurred while reading the body.
+	 */
+	default InputStream openStream() throws IOException {
+		return new ByteArrayInputStream(getBody());
+	}
+
+	/**
+	 * Write the request body to given channel.
+	 *
+	 * <p>
+	 *
+	 * Default implementation reads the request body in memory.
+	 *
+	 * @param channel The target channel.
+	 * @throws IOException If an error occurred while reading the body, or writing to the channel.
+	 */
+	default void writeTo(WritableByteChannel channel) throws IOException {
+		Ios.writeFully(getBody(), channel);
+	}
+
+	/**
+	 * Check if the request body can be read several times (for example, to retry the request).
+	 *
+	 * @return {@code true} if the request body can be read several times, {@code false} otherwise.
+	 */
+	default boolean isRepeatable() {
+		return true;
+	}
 }
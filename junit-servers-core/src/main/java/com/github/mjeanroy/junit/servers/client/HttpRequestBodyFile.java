@@ -29,6 +29,9 @@ import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 
@@ -131,6 +134,21 @@ final class HttpRequestBodyFile implements HttpRequestBody {
 		return Ios.toBytes(path);
 	}
 
+	@Override
+	public long getContentLength() throws IOException {
+		return Files.size(path);
+	}
+
+	@Override
+	public InputStream openStream() throws IOException {
+		return Files.newInputStream(path);
+	}
+
+	@Override
+	public void writeTo(WritableByteChannel channel) throws IOException {
+		Ios.transferTo(path, channel);
+	}
+
 	/**
 	 * Get {@link #path}
 	 *
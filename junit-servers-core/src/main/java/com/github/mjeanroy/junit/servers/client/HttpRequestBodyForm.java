@@ -69,6 +69,18 @@ public final class HttpRequestBodyForm implements HttpRequestBody {
 		return Ios.toUtf8Bytes(rawBody);
 	}
 
+	@Override
+	public long getContentLength() {
+		// URL encoded parameters are only made of ASCII characters, so the length of the body is the number of
+		// characters of each parameter (and of each separator), without serializing the body.
+		long contentLength = Math.max(parameters.size() - 1, 0);
+		for (HttpParameter parameter : parameters) {
+			contentLength += parameter.asEncodedString().length();
+		}
+
+		return contentLength;
+	}
+
 	/**
 	 * Get {@link #parameters}
 	 *
@@ -29,10 +29,17 @@ import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -93,26 +100,96 @@ final class HttpRequestBodyMultipart implements HttpRequestBody {
 
 	@Override
 	public byte[] getBody() throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		writeTo(Channels.newChannel(bos));
+		return bos.toByteArray();
+	}
+
+	@Override
+	public long getContentLength() throws IOException {
+		byte[] delimiter = delimiter();
+		long length = 0;
+
+		for (HttpRequestBodyPart bodyPart : parts) {
+			long partLength = bodyPart.getContentLength();
+			if (partLength < 0) {
+				return -1;
+			}
+
+			length += delimiter.length + Ios.CRLF.length + partLength + Ios.CRLF.length;
+		}
+
+		return length + delimiter.length;
+	}
+
+	@Override
+	public InputStream openStream() throws IOException {
+		byte[] delimiter = delimiter();
+		List<InputStream> streams = new ArrayList<>(parts.size() * 3 + 1);
+
+		try {
+			for (HttpRequestBodyPart bodyPart : parts) {
+				streams.add(new ByteArrayInputStream(concat(delimiter, Ios.CRLF)));
+				streams.add(bodyPart.openStream());
+				streams.add(new ByteArrayInputStream(Ios.CRLF));
+			}
+		}
+		catch (IOException ex) {
+			for (InputStream stream : streams) {
+				stream.close();
+			}
+
+			throw ex;
+		}
+
+		streams.add(new ByteArrayInputStream(delimiter));
+		return new SequenceInputStream(Collections.enumeration(streams));
+	}
+
+	@Override
+	public void writeTo(WritableByteChannel channel) throws IOException {
 		log.debug("Generating multipart body");
 
-		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		byte[] delimiter = delimiter();
 
 		for (HttpRequestBodyPart bodyPart : parts) {
 			log.debug("Writing part: {}", bodyPart);
 			log.debug("Use boundary: {}", boundaries);
 
-			bos.write(DASH_DASH);
-			bos.write(Ios.toUtf8Bytes(boundaries));
-			bos.write(Ios.CRLF);
-			bos.write(bodyPart.serialize());
-			bos.write(Ios.CRLF);
+			Ios.writeFully(delimiter, channel);
+			Ios.writeFully(Ios.CRLF, channel);
+			bodyPart.writeTo(channel);
+			Ios.writeFully(Ios.CRLF, channel);
 		}
 
 		log.debug("Writing last boundaries: {}", boundaries);
+		Ios.writeFully(delimiter, channel);
+	}
 
-		bos.write(DASH_DASH);
-		bos.write(Ios.toUtf8Bytes(boundaries));
-		return bos.toByteArray();
+	@Override
+	public boolean isRepeatable() {
+		for (HttpRequestBodyPart bodyPart : parts) {
+			if (!bodyPart.isRepeatable()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Get the delimiter written before each part (i.e {@code "--"} followed by the boundaries).
+	 *
+	 * @return The delimiter.
+	 */
+	private byte[] delimiter() {
+		return concat(DASH_DASH, Ios.toUtf8Bytes(boundaries));
+	}
+
+	private static byte[] concat(byte[] first, byte[] second) {
+		byte[] result = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
 	}
 
 	/**
@@ -30,8 +30,13 @@ import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -125,28 +130,76 @@ public final class HttpRequestBodyPart {
 	 * @throws IOException If an error occurred during byte transformation.
 	 */
 	byte[] serialize() throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		writeTo(Channels.newChannel(bos));
+		return bos.toByteArray();
+	}
+
+	/**
+	 * Write body part to given channel, without reading the part body in memory.
+	 *
+	 * @param channel The target channel.
+	 * @throws IOException If an error occurred while reading part body or writing to the channel.
+	 */
+	void writeTo(WritableByteChannel channel) throws IOException {
 		log.debug("Writing part body");
+		Ios.writeFully(serializeHead(), channel);
 
-		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		log.debug("Writing body: {}", body);
+		body.writeTo(channel);
+	}
+
+	/**
+	 * Open body part as a stream of bytes.
+	 *
+	 * @return The body part stream.
+	 * @throws IOException If an error occurred while opening part body.
+	 */
+	InputStream openStream() throws IOException {
+		return new SequenceInputStream(new ByteArrayInputStream(serializeHead()), body.openStream());
+	}
+
+	/**
+	 * Get the serialized body part length, or {@code -1} if the length of the part body is unknown.
+	 *
+	 * @return The body part length.
+	 * @throws IOException If an error occurred while computing part body length.
+	 */
+	long getContentLength() throws IOException {
+		long bodyLength = body.getContentLength();
+		return bodyLength < 0 ? -1 : serializeHead().length + bodyLength;
+	}
+
+	/**
+	 * Check if the body part can be read several times.
+	 *
+	 * @return {@code true} if the body part can be read several times, {@code false} otherwise.
+	 */
+	boolean isRepeatable() {
+		return body.isRepeatable();
+	}
+
+	/**
+	 * Serialize body part headers (and the empty line separating headers from the body).
+	 *
+	 * @return The serialization result.
+	 */
+	private byte[] serializeHead() {
+		StringBuilder sb = new StringBuilder();
 
 		for (HttpHeader header : headers.values()) {
 			log.debug("Writing header: {}", header);
-			bos.write(Ios.toUtf8Bytes(header.serialize()));
-			bos.write(Ios.CRLF);
+			sb.append(header.serialize()).append("\r\n");
 		}
 
 		String contentType = body.getContentType();
 		if (Strings.isNotEmpty(contentType)) {
 			log.debug("Writing content type: {}", contentType);
-			bos.write(Ios.toUtf8Bytes(header("Content-Type", body.getContentType()).serialize()));
-			bos.write(Ios.CRLF);
+			sb.append(header("Content-Type", contentType).serialize()).append("\r\n");
 		}
 
-		log.debug("Writing body: {}", body);
-		bos.write(Ios.CRLF);
-		bos.write(body.getBody());
-
-		return bos.toByteArray();
+		sb.append("\r\n");
+		return Ios.toUtf8Bytes(sb.toString());
 	}
 
 	/**
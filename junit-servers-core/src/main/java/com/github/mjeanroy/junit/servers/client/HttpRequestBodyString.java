@@ -94,6 +94,39 @@ final class HttpRequestBodyString implements HttpRequestBody {
 		return Ios.toUtf8Bytes(body);
 	}
 
+	/**
+	 * Compute the length of the UTF-8 encoded body, without encoding it.
+	 *
+	 * @return The body length, in bytes.
+	 */
+	@Override
+	public long getContentLength() {
+		long length = 0;
+
+		for (int i = 0, size = body.length(); i < size; i++) {
+			char c = body.charAt(i);
+			if (c < 0x80) {
+				length += 1;
+			}
+			else if (c < 0x800) {
+				length += 2;
+			}
+			else if (!Character.isSurrogate(c)) {
+				length += 3;
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(body.charAt(i + 1))) {
+				length += 4;
+				i++;
+			}
+			else {
+				// Malformed surrogates are replaced by a single byte.
+				length += 1;
+			}
+		}
+
+		return length;
+	}
+
 	/**
 	 * Get {@link #body}
 	 *
@@ -24,6 +24,8 @@
 
 package com.github.mjeanroy.junit.servers.client;
 
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Collection;
 import java.util.List;
 
@@ -34,7 +36,7 @@ import java.util.List;
  *   <li>A status code: http return code (i.e 200, 400, 500 etc.).</li>
  *   <li>A response body: this is the body of the http response as textual representation.</li>
  *   <li>A set of headers.</li>
- *   <li>Duration: time to produce http response.</li>
+ *   <li>Duration: time to produce http response, and its breakdown (see {@link RequestTiming}).</li>
  * </ul>
  *
  * @see <a href="https://tools.ietf.org/html/rfc2616#section-6">https://tools.ietf.org/html/rfc2616#section-6</a>
@@ -56,6 +58,22 @@ public interface HttpResponse {
 	 */
 	long getRequestDurationInMillis();
 
+	/**
+	 * Get the timing of request execution, split in consecutive phases (queue, connect, request write, time to first
+	 * byte and body read): unlike {@link #getRequestDuration()}, the timing includes the time spent reading the
+	 * response body, once it has been read.
+	 *
+	 * <p>
+	 *
+	 * The default implementation does not record any phase, so only the total duration is reported.
+	 *
+	 * @return The request timing.
+	 * @see RequestTiming#withoutPhases(long, long)
+	 */
+	default RequestTiming getTiming() {
+		return RequestTiming.withoutPhases(getRequestDuration(), -1);
+	}
+
 	/**
 	 * Http status code.
 	 *
@@ -68,11 +86,72 @@ public interface HttpResponse {
 	/**
 	 * Http response body.
 	 *
+	 * <p>
+	 *
+	 * The response body is read only once: either as a {@link String} with this method (the result is cached, so
+	 * this method can be called several times), or with one of {@link #bodyAsBytes()}, {@link #bodyAsStream()},
+	 * {@link #bodyAsChannel()} or {@link #consumeBody(HttpResponseBodyConsumer)}, whatever the underlying HTTP client.
+	 *
 	 * @return Body.
+	 * @throws IllegalStateException If the response body has already been consumed as raw bytes.
 	 * @see <a href="https://tools.ietf.org/html/rfc2616#section-7.2">https://tools.ietf.org/html/rfc2616#section-7.2</a>
 	 */
 	String body();
 
+	/**
+	 * Http response body, as raw bytes (i.e without any decoding).
+	 *
+	 * <p>
+	 *
+	 * Note that, unlike {@link #body()}, the result is not cached: this method may be called only once (see {@link #body()}).
+	 *
+	 * @return Body.
+	 * @throws IllegalStateException If the response body has already been consumed.
+	 * @see <a href="https://tools.ietf.org/html/rfc2616#section-7.2">https://tools.ietf.org/html/rfc2616#section-7.2</a>
+	 */
+	byte[] bodyAsBytes();
+
+	/**
+	 * Http response body, as a stream of bytes: with HTTP clients that supports it, the response body
+	 * is read as the stream is consumed, so that large responses can be read with a bounded memory.
+	 *
+	 * <p>
+	 *
+	 * The returned stream should be closed once consumed, and the response body may be read only once (see {@link #body()}).
+	 *
+	 * @return Body stream.
+	 * @throws IllegalStateException If the response body has already been consumed.
+	 */
+	InputStream bodyAsStream();
+
+	/**
+	 * Http response body, as a channel of bytes.
+	 *
+	 * <p>
+	 *
+	 * The returned channel should be closed once consumed, and the response body may be read only once (see {@link #body()}).
+	 *
+	 * @return Body channel.
+	 * @throws IllegalStateException If the response body has already been consumed.
+	 * @see #bodyAsStream()
+	 */
+	ReadableByteChannel bodyAsChannel();
+
+	/**
+	 * Read http response body, chunk by chunk, and give each chunk to given consumer: the whole body
+	 * is never kept in memory.
+	 *
+	 * <p>
+	 *
+	 * The response body may be read only once (see {@link #body()}).
+	 *
+	 * @param consumer The chunk consumer.
+	 * @return The number of bytes read.
+	 * @throws IllegalStateException If the response body has already been consumed.
+	 * @see HttpResponseBodyConsumer
+	 */
+	long consumeBody(HttpResponseBodyConsumer consumer);
+
 	/**
 	 * Get the list of headers.
 	 *
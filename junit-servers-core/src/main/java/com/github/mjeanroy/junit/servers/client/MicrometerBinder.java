@@ -0,0 +1,207 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client;
+
+import com.github.mjeanroy.junit.servers.commons.reflect.Classes;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Export {@link HttpClientMetrics} to a Micrometer {@code MeterRegistry}.
+ *
+ * <p>
+ *
+ * Micrometer is an optional dependency, so meters are registered using reflection:
+ *
+ * <ul>
+ *   <li>{@code junit.servers.http.client.requests} (function counter, tagged by {@code method}).</li>
+ *   <li>{@code junit.servers.http.client.failures} (function counter).</li>
+ *   <li>{@code junit.servers.http.client.latency} (gauge in seconds, tagged by {@code method} and {@code percentile}).</li>
+ *   <li>{@code junit.servers.http.client.bytes.sent} and {@code junit.servers.http.client.bytes.received} (function counters in bytes).</li>
+ *   <li>{@code junit.servers.http.client.connections} (function counter).</li>
+ *   <li>{@code junit.servers.http.client.connections.reuse} (gauge).</li>
+ *   <li>{@code junit.servers.http.client.in.flight} (gauge).</li>
+ * </ul>
+ */
+final class MicrometerBinder {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(MicrometerBinder.class);
+
+	/**
+	 * The Micrometer registry class name.
+	 */
+	private static final String METER_REGISTRY_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+
+	/**
+	 * The Micrometer gauge class name.
+	 */
+	private static final String GAUGE_CLASS = "io.micrometer.core.instrument.Gauge";
+
+	/**
+	 * The Micrometer function counter class name.
+	 */
+	private static final String FUNCTION_COUNTER_CLASS = "io.micrometer.core.instrument.FunctionCounter";
+
+	/**
+	 * The prefix of all meter names.
+	 */
+	private static final String PREFIX = "junit.servers.http.client.";
+
+	/**
+	 * The exported latency percentiles.
+	 */
+	private static final double[] PERCENTILES = {50, 95, 99};
+
+	// Ensure non instantiation.
+	private MicrometerBinder() {
+	}
+
+	/**
+	 * Register meters of given metrics to given registry.
+	 *
+	 * @param metrics The metrics.
+	 * @param meterRegistry The Micrometer registry.
+	 * @throws IllegalStateException If Micrometer is not available on the classpath.
+	 * @throws IllegalArgumentException If {@code meterRegistry} is not a Micrometer registry.
+	 */
+	static void bind(HttpClientMetrics metrics, Object meterRegistry) {
+		if (!Classes.isPresent(METER_REGISTRY_CLASS)) {
+			throw new IllegalStateException("Micrometer is not available on the classpath");
+		}
+
+		Class<?> registryClass = loadClass(METER_REGISTRY_CLASS);
+		if (!registryClass.isInstance(meterRegistry)) {
+			throw new IllegalArgumentException("Registry must be an instance of " + METER_REGISTRY_CLASS + ", got: " + meterRegistry.getClass().getName());
+		}
+
+		log.debug("Binding HTTP client metrics to: {}", meterRegistry);
+
+		Meters meters = new Meters(metrics, registryClass, meterRegistry);
+
+		for (HttpMethod method : HttpMethod.values()) {
+			String verb = method.getVerb();
+			meters.counter("requests", "Number of HTTP requests", null, m -> m.getCount(method), "method", verb);
+
+			for (double percentile : PERCENTILES) {
+				String tag = String.valueOf(percentile / 100);
+				meters.gauge("latency", "HTTP request latency", "seconds", m -> m.getLatencySeconds(method, percentile), "method", verb, "percentile", tag);
+			}
+		}
+
+		meters.counter("failures", "Number of HTTP requests without any response", null, HttpClientMetrics::getFailureCount);
+		meters.counter("bytes.sent", "Number of bytes sent", "bytes", HttpClientMetrics::getBytesSent);
+		meters.counter("bytes.received", "Number of bytes received", "bytes", HttpClientMetrics::getBytesReceived);
+		meters.counter("connections", "Number of opened connections", null, HttpClientMetrics::getConnectionCount);
+		meters.gauge("connections.reuse", "Ratio of HTTP requests reusing a connection", null, HttpClientMetrics::getConnectionReuseRatio);
+		meters.gauge("in.flight", "Number of in-flight HTTP requests", null, HttpClientMetrics::getInFlight);
+	}
+
+	private static Class<?> loadClass(String className) {
+		try {
+			return Class.forName(className);
+		}
+		catch (ClassNotFoundException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Register meters of a given metrics instance.
+	 */
+	private static final class Meters {
+
+		/**
+		 * The exported metrics.
+		 */
+		private final HttpClientMetrics metrics;
+
+		/**
+		 * The Micrometer registry class.
+		 */
+		private final Class<?> registryClass;
+
+		/**
+		 * The Micrometer registry.
+		 */
+		private final Object registry;
+
+		/**
+		 * The Micrometer gauge class.
+		 */
+		private final Class<?> gaugeClass;
+
+		/**
+		 * The Micrometer function counter class.
+		 */
+		private final Class<?> counterClass;
+
+		private Meters(HttpClientMetrics metrics, Class<?> registryClass, Object registry) {
+			this.metrics = metrics;
+			this.registryClass = registryClass;
+			this.registry = registry;
+			this.gaugeClass = loadClass(GAUGE_CLASS);
+			this.counterClass = loadClass(FUNCTION_COUNTER_CLASS);
+		}
+
+		private void gauge(String name, String description, String baseUnit, ToDoubleFunction<HttpClientMetrics> fn, String... tags) {
+			register(gaugeClass, name, description, baseUnit, fn, tags);
+		}
+
+		private void counter(String name, String description, String baseUnit, ToDoubleFunction<HttpClientMetrics> fn, String... tags) {
+			register(counterClass, name, description, baseUnit, fn, tags);
+		}
+
+		private void register(Class<?> meterClass, String name, String description, String baseUnit, ToDoubleFunction<HttpClientMetrics> fn, String... tags) {
+			try {
+				Object builder = meterClass.getMethod("builder", String.class, Object.class, ToDoubleFunction.class).invoke(null, PREFIX + name, metrics, fn);
+				Class<?> builderClass = builder.getClass();
+
+				builderClass.getMethod("description", String.class).invoke(builder, description);
+
+				if (baseUnit != null) {
+					builderClass.getMethod("baseUnit", String.class).invoke(builder, baseUnit);
+				}
+
+				for (int i = 0; i < tags.length; i += 2) {
+					builderClass.getMethod("tag", String.class, String.class).invoke(builder, tags[i], tags[i + 1]);
+				}
+
+				builderClass.getMethod("register", registryClass).invoke(builder, registry);
+			}
+			catch (InvocationTargetException ex) {
+				throw new IllegalStateException("Unable to register meter: " + name, ex.getCause());
+			}
+			catch (ReflectiveOperationException ex) {
+				throw new IllegalStateException("Unable to register meter: " + name, ex);
+			}
+		}
+	}
+}
@@ -0,0 +1,244 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.positive;
+
+/**
+ * The timing of an HTTP request, split in consecutive phases:
+ *
+ * <ol>
+ *   <li>Queue: time spent before the request is written, excluding the connect phase (i.e waiting for the client or for a pooled connection).</li>
+ *   <li>Connect: time spent resolving the host name, opening the connection and performing the TLS handshake, zero if a pooled connection has been reused.</li>
+ *   <li>Request write: time spent writing the request line, headers and body.</li>
+ *   <li>Time to first byte: time spent waiting for the response status line and headers once the request has been written.</li>
+ *   <li>Body read: time spent reading the response body.</li>
+ * </ol>
+ *
+ * The phases do not overlap, so that the total duration is the sum of all phases. A phase that is not reported by
+ * the underlying HTTP client is zero and its time is accounted in the next reported phase: for example, a client
+ * that does not report the end of the request write includes it in the time to first byte.
+ *
+ * <p>
+ *
+ * Some HTTP clients do not report any phase at all: in this case, phases are {@link #UNKNOWN} (see
+ * {@link #hasPhases()}) and only the total duration is meaningful.
+ *
+ * <p>
+ *
+ * Note that a response body that is streamed (see {@link HttpResponse#bodyAsStream()}) is read by the caller, so
+ * the time spent reading it is not accounted in the body read phase.
+ */
+public final class RequestTiming {
+
+	/**
+	 * The duration, in nano seconds, of a phase that is not reported by the underlying HTTP client.
+	 */
+	public static final long UNKNOWN = -1L;
+
+	/**
+	 * Create request timing.
+	 *
+	 * @param queue The queue duration, in nano seconds.
+	 * @param connect The connect duration, in nano seconds.
+	 * @param requestWrite The request write duration, in nano seconds.
+	 * @param timeToFirstByte The time to first byte, in nano seconds.
+	 * @param bodyRead The body read duration, in nano seconds.
+	 * @return The request timing.
+	 * @throws IllegalArgumentException If one of the duration is negative.
+	 */
+	public static RequestTiming of(long queue, long connect, long requestWrite, long timeToFirstByte, long bodyRead) {
+		return new RequestTiming(
+			positive(queue, "Queue duration"),
+			positive(connect, "Connect duration"),
+			positive(requestWrite, "Request write duration"),
+			positive(timeToFirstByte, "Time to first byte"),
+			positive(bodyRead, "Body read duration"),
+			queue + connect + requestWrite + timeToFirstByte + bodyRead
+		);
+	}
+
+	/**
+	 * Create request timing for an HTTP client that does not report the request phases: the queue, connect,
+	 * request write and time to first byte phases are {@link #UNKNOWN}.
+	 *
+	 * @param total The total duration, in nano seconds.
+	 * @param bodyRead The body read duration, in nano seconds, or a negative value if it is unknown.
+	 * @return The request timing.
+	 * @throws IllegalArgumentException If total duration is negative, or if body read duration is greater than total duration.
+	 */
+	public static RequestTiming withoutPhases(long total, long bodyRead) {
+		positive(total, "Total duration");
+		if (bodyRead > total) {
+			throw new IllegalArgumentException("Body read duration must be less than or equal to total duration");
+		}
+
+		return new RequestTiming(UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN, bodyRead < 0 ? UNKNOWN : bodyRead, total);
+	}
+
+	/**
+	 * The queue duration, in nano seconds.
+	 */
+	private final long queue;
+
+	/**
+	 * The connect duration, in nano seconds.
+	 */
+	private final long connect;
+
+	/**
+	 * The request write duration, in nano seconds.
+	 */
+	private final long requestWrite;
+
+	/**
+	 * The time to first byte, in nano seconds.
+	 */
+	private final long timeToFirstByte;
+
+	/**
+	 * The body read duration, in nano seconds.
+	 */
+	private final long bodyRead;
+
+	/**
+	 * The total duration, in nano seconds.
+	 */
+	private final long total;
+
+	private RequestTiming(long queue, long connect, long requestWrite, long timeToFirstByte, long bodyRead, long total) {
+		this.queue = queue;
+		this.connect = connect;
+		this.requestWrite = requestWrite;
+		this.timeToFirstByte = timeToFirstByte;
+		this.bodyRead = bodyRead;
+		this.total = total;
+	}
+
+	/**
+	 * Check if the request phases have been reported by the HTTP client: if not, queue, connect, request write and
+	 * time to first byte durations are {@link #UNKNOWN}.
+	 *
+	 * @return {@code true} if the request phases are known, {@code false} otherwise.
+	 */
+	public boolean hasPhases() {
+		return queue != UNKNOWN;
+	}
+
+	/**
+	 * Get the time spent before the request is written, excluding the connect phase.
+	 *
+	 * @return The queue duration, a duration of {@link #UNKNOWN} nano seconds if it is not reported by the HTTP client.
+	 */
+	public Duration getQueue() {
+		return Duration.ofNanos(queue);
+	}
+
+	/**
+	 * Get the time spent opening a new connection, zero if a pooled connection has been reused.
+	 *
+	 * @return The connect duration, a duration of {@link #UNKNOWN} nano seconds if it is not reported by the HTTP client.
+	 */
+	public Duration getConnect() {
+		return Duration.ofNanos(connect);
+	}
+
+	/**
+	 * Get the time spent writing the request.
+	 *
+	 * @return The request write duration, a duration of {@link #UNKNOWN} nano seconds if it is not reported by the HTTP client.
+	 */
+	public Duration getRequestWrite() {
+		return Duration.ofNanos(requestWrite);
+	}
+
+	/**
+	 * Get the time spent waiting for the response status line and headers, once the request has been written.
+	 *
+	 * @return The time to first byte, a duration of {@link #UNKNOWN} nano seconds if it is not reported by the HTTP client.
+	 */
+	public Duration getTimeToFirstByte() {
+		return Duration.ofNanos(timeToFirstByte);
+	}
+
+	/**
+	 * Get the time spent reading the response body.
+	 *
+	 * @return The body read duration, a duration of {@link #UNKNOWN} nano seconds if it is not reported by the HTTP client.
+	 */
+	public Duration getBodyRead() {
+		return Duration.ofNanos(bodyRead);
+	}
+
+	/**
+	 * Get the total duration, i.e the sum of all phases when they are reported by the HTTP client.
+	 *
+	 * @return The total duration.
+	 */
+	public Duration getTotal() {
+		return Duration.ofNanos(total);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof RequestTiming) {
+			RequestTiming t = (RequestTiming) o;
+			return queue == t.queue
+				&& connect == t.connect
+				&& requestWrite == t.requestWrite
+				&& timeToFirstByte == t.timeToFirstByte
+				&& bodyRead == t.bodyRead
+				&& total == t.total;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(queue, connect, requestWrite, timeToFirstByte, bodyRead, total);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("queue", queue)
+			.append("connect", connect)
+			.append("requestWrite", requestWrite)
+			.append("timeToFirstByte", timeToFirstByte)
+			.append("bodyRead", bodyRead)
+			.append("total", total)
+			.build();
+	}
+}
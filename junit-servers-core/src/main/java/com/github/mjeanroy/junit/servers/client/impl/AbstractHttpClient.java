@@ -27,6 +27,7 @@ package com.github.mjeanroy.junit.servers.client.impl;
 import com.github.mjeanroy.junit.servers.client.Cookie;
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpClientMetrics;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
@@ -66,6 +67,11 @@ public abstract class AbstractHttpClient implements HttpClient {
 	 */
 	private final EmbeddedServer<?> server;
 
+	/**
+	 * The client metrics.
+	 */
+	private final HttpClientMetrics metrics;
+
 	/**
 	 * Create abstract skeleton.
 	 *
@@ -74,8 +80,22 @@ public abstract class AbstractHttpClient implements HttpClient {
 	 * @throws NullPointerException if server is null.
 	 */
 	protected AbstractHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
+		this(configuration, server, new HttpClientMetrics());
+	}
+
+	/**
+	 * Create abstract skeleton, with metrics already used by the underlying client (for example, to
+	 * record opened connections).
+	 *
+	 * @param configuration The HTTP client configuration.
+	 * @param server Server.
+	 * @param metrics The client metrics.
+	 * @throws NullPointerException if one of the parameters is null.
+	 */
+	protected AbstractHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, HttpClientMetrics metrics) {
 		this.configuration = notNull(configuration, "configuration");
 		this.server = notNull(server, "server");
+		this.metrics = notNull(metrics, "metrics");
 	}
 
 	@Override
@@ -83,6 +103,11 @@ public abstract class AbstractHttpClient implements HttpClient {
 		return configuration;
 	}
 
+	@Override
+	public HttpClientMetrics getMetrics() {
+		return metrics;
+	}
+
 	@Override
 	public HttpRequest prepareDelete(String endpoint) {
 		return prepareRequest(HttpMethod.DELETE, endpoint);
@@ -160,6 +185,9 @@ public abstract class AbstractHttpClient implements HttpClient {
 		}
 
 		HttpRequest rq = buildRequest(httpMethod, requestEndpoint);
+		if (rq instanceof AbstractHttpRequest) {
+			((AbstractHttpRequest) rq).setMetrics(metrics);
+		}
 
 		// Add default headers.
 		log.debug("Adding default headers");
@@ -178,6 +206,12 @@ public abstract class AbstractHttpClient implements HttpClient {
 		return rq;
 	}
 
+	@Override
+	public void reset() {
+		metrics.reset();
+		doReset();
+	}
+
 	@Override
 	public void destroy() {
 		log.debug("Destroying HTTP client");
@@ -205,6 +239,13 @@ public abstract class AbstractHttpClient implements HttpClient {
 	 */
 	protected abstract void doDestroy() throws Exception;
 
+	/**
+	 * Reset client state (such as cookies) kept by the underlying implementation, default implementation
+	 * does nothing.
+	 */
+	protected void doReset() {
+	}
+
 	/**
 	 * Get {@link #server}
 	 *
@@ -27,6 +27,7 @@ package com.github.mjeanroy.junit.servers.client.impl;
 import com.github.mjeanroy.junit.servers.client.Cookie;
 import com.github.mjeanroy.junit.servers.client.Cookies;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
+import com.github.mjeanroy.junit.servers.client.HttpClientMetrics;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpParameter;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
@@ -34,18 +35,22 @@ import com.github.mjeanroy.junit.servers.client.HttpRequestBody;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.MediaType;
+import com.github.mjeanroy.junit.servers.commons.jfr.JfrEvents;
 import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static com.github.mjeanroy.junit.servers.client.HttpHeader.header;
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.ACCEPT;
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.ACCEPT_ENCODING;
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.ACCEPT_LANGUAGE;
+import static com.github.mjeanroy.junit.servers.client.HttpHeaders.CONTENT_LENGTH;
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.CONTENT_TYPE;
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.IF_MATCH;
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.IF_MODIFIED_SINCE;
@@ -64,6 +69,7 @@ import static com.github.mjeanroy.junit.servers.client.HttpParameter.param;
 import static com.github.mjeanroy.junit.servers.commons.lang.Dates.format;
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+import static java.lang.System.nanoTime;
 
 /**
  * Abstract skeleton of {@link HttpRequest} interface.
@@ -110,6 +116,12 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 	 */
 	protected final Map<String, HttpHeader> headers;
 
+	/**
+	 * The metrics of the client that created this request, {@code null} if this request has not
+	 * been created by an {@link AbstractHttpClient}.
+	 */
+	private HttpClientMetrics metrics;
+
 	protected AbstractHttpRequest(HttpUrl endpoint, HttpMethod method) {
 		this.endpoint = notNull(endpoint, "endpoint");
 		this.method = notNull(method, "method");
@@ -297,12 +309,117 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 
 	@Override
 	public HttpResponse execute() {
+		Object event = JfrEvents.HTTP_REQUEST.begin();
+		long start = onRequestStart();
+		HttpResponse response = null;
+
 		try {
-			return doExecute();
+			response = doExecute();
+			return response;
 		}
 		catch (Exception ex) {
 			throw new HttpClientException(ex);
 		}
+		finally {
+			onRequestEnd(event, start, response);
+		}
+	}
+
+	@Override
+	public CompletableFuture<HttpResponse> executeAsync() {
+		Object event = JfrEvents.HTTP_REQUEST.begin();
+		long start = onRequestStart();
+		CompletableFuture<HttpResponse> future;
+
+		try {
+			future = doExecuteAsync();
+		}
+		catch (Exception ex) {
+			future = failedFuture(ex);
+		}
+
+		if (event != null || metrics != null) {
+			future.whenComplete((response, error) -> onRequestEnd(event, start, response));
+		}
+
+		return future;
+	}
+
+	/**
+	 * Set the metrics of the client that created this request.
+	 *
+	 * @param metrics The client metrics.
+	 */
+	void setMetrics(HttpClientMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Record the start of this request in the client metrics.
+	 *
+	 * @return The request start time, in nanoseconds.
+	 */
+	private long onRequestStart() {
+		if (metrics != null) {
+			metrics.onRequestStart();
+		}
+
+		return nanoTime();
+	}
+
+	/**
+	 * Record the end of this request in the client metrics, and commit the JFR event of this request (if a
+	 * flight recording is running).
+	 *
+	 * @param event The event, {@code null} if no flight recording is running.
+	 * @param start The request start time, in nanoseconds.
+	 * @param response The response, {@code null} if the request failed.
+	 */
+	private void onRequestEnd(Object event, long start, HttpResponse response) {
+		long duration = nanoTime() - start;
+		boolean commit = JfrEvents.HTTP_REQUEST.end(event);
+		if (metrics == null && !commit) {
+			return;
+		}
+
+		int status = response == null ? 0 : response.status();
+		long requestBytes = requestContentLength();
+		long responseBytes = response == null ? -1 : responseContentLength(response);
+
+		if (metrics != null) {
+			metrics.onRequestEnd(method, endpoint.getPath(), status, duration, requestBytes, responseBytes);
+		}
+
+		if (commit) {
+			JfrEvents.HTTP_REQUEST.commit(event, method.getVerb(), endpoint.toString(), status, requestBytes, responseBytes);
+		}
+	}
+
+	private long requestContentLength() {
+		if (body == null) {
+			return 0;
+		}
+
+		try {
+			return body.getContentLength();
+		}
+		catch (IOException ex) {
+			return -1;
+		}
+	}
+
+	private static long responseContentLength(HttpResponse response) {
+		HttpHeader contentLength = response.getHeader(CONTENT_LENGTH);
+		if (contentLength == null) {
+			return -1;
+		}
+
+		try {
+			return Long.parseLong(contentLength.getFirstValue().trim());
+		}
+		catch (NumberFormatException ex) {
+			return -1;
+		}
 	}
 
 	@Override
@@ -333,4 +450,26 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 	 * @throws Exception If an error occurred.
 	 */
 	protected abstract HttpResponse doExecute() throws Exception;
+
+	/**
+	 * Execute request asynchronously.
+	 * Exception thrown by this method will be automatically translated into a future completed
+	 * exceptionally with an instance of {@link HttpClientException}.
+	 *
+	 * @return The future http response.
+	 * @throws Exception If an error occurred.
+	 */
+	protected abstract CompletableFuture<HttpResponse> doExecuteAsync() throws Exception;
+
+	/**
+	 * Create a future completed exceptionally with an {@link HttpClientException} wrapping given error.
+	 *
+	 * @param error The error.
+	 * @return The failed future.
+	 */
+	protected static CompletableFuture<HttpResponse> failedFuture(Throwable error) {
+		CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+		future.completeExceptionally(error instanceof HttpClientException ? error : new HttpClientException(error));
+		return future;
+	}
 }
@@ -27,9 +27,16 @@ package com.github.mjeanroy.junit.servers.client.impl;
 import com.github.mjeanroy.junit.servers.client.Cookie;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseBodyConsumer;
+import com.github.mjeanroy.junit.servers.client.RequestTiming;
 import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -51,7 +58,9 @@ import static com.github.mjeanroy.junit.servers.client.HttpHeaders.X_CONTENT_TYP
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.X_WEBKIT_CSP;
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.X_XSS_PROTECTION;
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.positive;
+import static java.lang.System.nanoTime;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 
@@ -64,11 +73,21 @@ import static java.util.Collections.unmodifiableList;
  */
 public abstract class AbstractHttpResponse implements HttpResponse {
 
+	/**
+	 * The size of the buffer used to read the response body, chunk by chunk.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
 	/**
 	 * The original request duration.
 	 */
 	private final long duration;
 
+	/**
+	 * The request timer, {@code null} if the request timing has not been recorded.
+	 */
+	private final RequestTimer timer;
+
 	/**
 	 * The lock used inside {@link #readResponseBody()} to avoid concurrent
 	 * writing to {@link #_body} value.
@@ -81,13 +100,30 @@ public abstract class AbstractHttpResponse implements HttpResponse {
 	 */
 	private String _body;
 
+	/**
+	 * Flag set once the response body has been read (as a {@link String} or as a stream of bytes).
+	 */
+	private boolean _bodyConsumed;
+
 	/**
 	 * Create the partial HTTP response implementation.
 	 *
 	 * @param duration Original request duration.
 	 */
 	protected AbstractHttpResponse(long duration) {
+		this(duration, null);
+	}
+
+	/**
+	 * Create the partial HTTP response implementation, with the timer of the request: the time spent
+	 * reading the response body (if it is not buffered) will be recorded by the timer.
+	 *
+	 * @param duration Original request duration.
+	 * @param timer The request timer.
+	 */
+	protected AbstractHttpResponse(long duration, RequestTimer timer) {
 		this.duration = positive(duration, "Duration must be positive");
+		this.timer = timer;
 		this.readResponseBodyLock = new ReentrantLock();
 	}
 
@@ -101,6 +137,11 @@ public abstract class AbstractHttpResponse implements HttpResponse {
 		return getRequestDuration() / 1000 / 1000;
 	}
 
+	@Override
+	public RequestTiming getTiming() {
+		return timer == null ? HttpResponse.super.getTiming() : timer.toTiming();
+	}
+
 	@Override
 	public String body() {
 		readResponseBodyLock.lock();
@@ -117,6 +158,82 @@ public abstract class AbstractHttpResponse implements HttpResponse {
 		}
 	}
 
+	@Override
+	public byte[] bodyAsBytes() {
+		if (isResponseBodyBuffered()) {
+			readResponseBodyLock.lock();
+
+			try {
+				markBodyAsConsumed();
+				return readResponseBodyAsBytes();
+			}
+			catch (IOException ex) {
+				throw new HttpClientException(ex);
+			}
+			finally {
+				readResponseBodyLock.unlock();
+			}
+		}
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		consumeBody(chunk -> output.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining()));
+		return output.toByteArray();
+	}
+
+	@Override
+	public InputStream bodyAsStream() {
+		readResponseBodyLock.lock();
+
+		try {
+			markBodyAsConsumed();
+			return readResponseBodyAsStream();
+		}
+		catch (IOException ex) {
+			throw new HttpClientException(ex);
+		}
+		finally {
+			readResponseBodyLock.unlock();
+		}
+	}
+
+	@Override
+	public ReadableByteChannel bodyAsChannel() {
+		return Channels.newChannel(bodyAsStream());
+	}
+
+	@Override
+	public long consumeBody(HttpResponseBodyConsumer consumer) {
+		notNull(consumer, "consumer");
+
+		long total = 0;
+		byte[] buffer = new byte[BUFFER_SIZE];
+
+		long readDuration = 0;
+
+		try (InputStream stream = bodyAsStream()) {
+			while (true) {
+				long start = nanoTime();
+				int n = stream.read(buffer);
+				readDuration += nanoTime() - start;
+
+				if (n == -1) {
+					break;
+				}
+
+				consumer.accept(ByteBuffer.wrap(buffer, 0, n));
+				total += n;
+			}
+		}
+		catch (IOException ex) {
+			throw new HttpClientException(ex);
+		}
+		finally {
+			onBodyRead(readDuration);
+		}
+
+		return total;
+	}
+
 	/**
 	 * Read HTTP Response _body as a {@link String} and update {@link #_body} value.
 	 *
@@ -124,8 +241,44 @@ public abstract class AbstractHttpResponse implements HttpResponse {
 	 */
 	private void readBodyIfNotAlreadyComputed() throws IOException {
 		if (_body == null) {
-			_body = readResponseBody();
+			markBodyAsConsumed();
+
+			long start = nanoTime();
+
+			try {
+				_body = readResponseBody();
+			}
+			finally {
+				onBodyRead(nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * Record the time spent reading the response body, unless the response body is buffered (in this case,
+	 * the body read is recorded by the underlying HTTP client).
+	 *
+	 * @param duration The duration, in nano seconds.
+	 */
+	private void onBodyRead(long duration) {
+		if (timer != null && !isResponseBodyBuffered()) {
+			timer.onBodyRead(duration);
+		}
+	}
+
+	/**
+	 * Mark the response body as consumed, and fail if it has already been consumed: the response body is
+	 * read only once, even if the underlying HTTP client keeps the whole response in memory, so that all
+	 * implementations behave the same way.
+	 *
+	 * @throws IllegalStateException If the response body has already been consumed.
+	 */
+	private void markBodyAsConsumed() {
+		if (_bodyConsumed) {
+			throw new IllegalStateException("HTTP response body has already been consumed");
 		}
+
+		_bodyConsumed = true;
 	}
 
 	/**
@@ -136,6 +289,46 @@ public abstract class AbstractHttpResponse implements HttpResponse {
 	 */
 	protected abstract String readResponseBody() throws IOException;
 
+	/**
+	 * Open HTTP Response _body as a stream of bytes.
+	 *
+	 * @return The response _body stream.
+	 * @throws IOException If an error occurred while reading _body.
+	 */
+	protected abstract InputStream readResponseBodyAsStream() throws IOException;
+
+	/**
+	 * Read HTTP Response _body as an array of bytes: this method is called only if the response body
+	 * is buffered (i.e if {@link #isResponseBodyBuffered()} returns {@code true}), and can be overridden
+	 * to avoid copying the buffered body.
+	 *
+	 * @return The response _body.
+	 * @throws IOException If an error occurred while reading _body.
+	 */
+	protected byte[] readResponseBodyAsBytes() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[BUFFER_SIZE];
+
+		try (InputStream stream = readResponseBodyAsStream()) {
+			int n;
+			while ((n = stream.read(buffer)) != -1) {
+				output.write(buffer, 0, n);
+			}
+		}
+
+		return output.toByteArray();
+	}
+
+	/**
+	 * Check if the whole HTTP Response _body has already been read and is kept in memory by
+	 * the underlying HTTP client, so that the body can be read several times.
+	 *
+	 * @return {@code true} if the response body is buffered, {@code false} if the response body is streamed.
+	 */
+	protected boolean isResponseBodyBuffered() {
+		return false;
+	}
+
 	@Override
 	public boolean containsHeader(String name) {
 		return getHeader(name) != null;
@@ -28,11 +28,15 @@ import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /**
  * A simple implementation of {@link HttpResponse}.
  */
@@ -87,6 +91,21 @@ public final class DefaultHttpResponse extends AbstractHttpResponse implements H
 		return body;
 	}
 
+	@Override
+	protected InputStream readResponseBodyAsStream() {
+		return new ByteArrayInputStream(readResponseBodyAsBytes());
+	}
+
+	@Override
+	protected byte[] readResponseBodyAsBytes() {
+		return body == null ? new byte[0] : body.getBytes(UTF_8);
+	}
+
+	@Override
+	protected boolean isResponseBodyBuffered() {
+		return true;
+	}
+
 	@Override
 	public Collection<HttpHeader> getHeaders() {
 		return headers.values();
@@ -0,0 +1,241 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl;
+
+import com.github.mjeanroy.junit.servers.client.RequestTiming;
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import static java.lang.System.nanoTime;
+
+/**
+ * Record the {@link RequestTiming} of a single HTTP request: the timer is started before the request is submitted to
+ * the underlying HTTP client, which then notifies the timer (through its own callbacks, such as event listeners or
+ * request executors) when a phase starts or ends.
+ *
+ * <p>
+ *
+ * When a request is retried or redirected, the request write and time to first byte phases describe the last
+ * exchange, previous exchanges being accounted in the queue phase.
+ *
+ * <p>
+ *
+ * <strong>Internal API</strong>: these methods are part of the internal API and may be removed, have their signature change,
+ * or have their access level decreased from public to protected, package, or private in future versions without notice.
+ */
+public final class RequestTimer {
+
+	/**
+	 * The value of a mark that has not been recorded yet.
+	 */
+	private static final long UNSET = Long.MIN_VALUE;
+
+	/**
+	 * Start the timer of a new request.
+	 *
+	 * @return The timer.
+	 */
+	public static RequestTimer start() {
+		return new RequestTimer(nanoTime(), true);
+	}
+
+	/**
+	 * Start the timer of a new request, executed by an HTTP client that does not report the request phases: the
+	 * timing will only contain the total duration (and the body read duration, if the body is read lazily).
+	 *
+	 * @return The timer.
+	 * @see RequestTiming#withoutPhases(long, long)
+	 */
+	public static RequestTimer startWithoutPhases() {
+		return new RequestTimer(nanoTime(), false);
+	}
+
+	/**
+	 * The timer start.
+	 */
+	private final long start;
+
+	/**
+	 * Whether the underlying HTTP client reports the request phases.
+	 */
+	private final boolean phases;
+
+	/**
+	 * Whether the response body has been read by the underlying HTTP client, without reporting when the
+	 * response status line and headers have been received.
+	 */
+	private volatile boolean bodyReadUnknown;
+
+	/**
+	 * The start of the current connect phase, {@link #UNSET} if no connection is being opened.
+	 */
+	private volatile long connectStart;
+
+	/**
+	 * The total time spent opening connections.
+	 */
+	private volatile long connect;
+
+	/**
+	 * The start of the request write.
+	 */
+	private volatile long requestStart;
+
+	/**
+	 * The end of the request write.
+	 */
+	private volatile long requestEnd;
+
+	/**
+	 * The reception of the response status line and headers.
+	 */
+	private volatile long responseStart;
+
+	/**
+	 * The total time spent reading the response body.
+	 */
+	private volatile long bodyRead;
+
+	private RequestTimer(long start, boolean phases) {
+		this.start = start;
+		this.phases = phases;
+		this.connectStart = UNSET;
+		this.requestStart = UNSET;
+		this.requestEnd = UNSET;
+		this.responseStart = UNSET;
+	}
+
+	/**
+	 * Notify the timer that a new connection is being opened (i.e host name resolution, TCP connect or TLS handshake
+	 * is started): this method does nothing if the connect phase is already started.
+	 */
+	public void onConnectStart() {
+		if (connectStart == UNSET) {
+			connectStart = nanoTime();
+		}
+	}
+
+	/**
+	 * Notify the timer that the connection has been opened (or failed to be opened).
+	 */
+	public void onConnectEnd() {
+		long connectStart = this.connectStart;
+		if (connectStart != UNSET) {
+			this.connect += nanoTime() - connectStart;
+			this.connectStart = UNSET;
+		}
+	}
+
+	/**
+	 * Notify the timer that the request is about to be written.
+	 */
+	public void onRequestStart() {
+		requestStart = nanoTime();
+	}
+
+	/**
+	 * Notify the timer that the request has been written.
+	 */
+	public void onRequestEnd() {
+		requestEnd = nanoTime();
+	}
+
+	/**
+	 * Notify the timer that the response status line and headers have been received.
+	 */
+	public void onResponseStart() {
+		responseStart = nanoTime();
+	}
+
+	/**
+	 * Notify the timer that the whole response body has been received by the underlying HTTP client: the body read
+	 * phase is the time elapsed since the response status line and headers have been received.
+	 */
+	public void onResponseEnd() {
+		long now = nanoTime();
+		if (responseStart == UNSET) {
+			responseStart = now;
+			bodyReadUnknown = true;
+		}
+		else {
+			bodyRead += now - responseStart;
+		}
+	}
+
+	/**
+	 * Record time spent reading the response body, when the response body is read lazily.
+	 *
+	 * @param duration The duration, in nano seconds.
+	 */
+	public void onBodyRead(long duration) {
+		bodyRead += duration;
+	}
+
+	/**
+	 * Get the time elapsed since the timer has been started.
+	 *
+	 * @return The elapsed time, in nano seconds.
+	 */
+	public long elapsed() {
+		return nanoTime() - start;
+	}
+
+	/**
+	 * Get the request timing recorded so far: a mark that has not been recorded is assumed to be equal
+	 * to the previous one, so that the time is accounted in the next recorded phase.
+	 *
+	 * @return The request timing.
+	 */
+	public RequestTiming toTiming() {
+		long requestStart = max(start, this.requestStart);
+		long requestEnd = max(requestStart, this.requestEnd);
+		long responseStart = max(requestEnd, this.responseStart);
+
+		if (!phases) {
+			long bodyRead = this.bodyRead;
+			return RequestTiming.withoutPhases(responseStart - start + bodyRead, bodyReadUnknown ? -1 : bodyRead);
+		}
+
+		long connect = Math.min(this.connect, requestStart - start);
+
+		return RequestTiming.of(
+			requestStart - start - connect,
+			connect,
+			requestEnd - requestStart,
+			responseStart - requestEnd,
+			bodyRead
+		);
+	}
+
+	private static long max(long mark, long value) {
+		return value == UNSET ? mark : Math.max(mark, value);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("timing", toTiming())
+			.build();
+	}
+}
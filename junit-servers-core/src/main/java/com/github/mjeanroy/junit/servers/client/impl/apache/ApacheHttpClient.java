@@ -26,17 +26,29 @@ package com.github.mjeanroy.junit.servers.client.impl.apache;
 
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpClientMetrics;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import org.apache.http.client.CookieStore;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.github.mjeanroy.junit.servers.commons.core.DaemonThreadFactory.daemonThreadFactory;
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
 
 /**
@@ -69,13 +81,31 @@ public class ApacheHttpClient extends AbstractHttpClient implements HttpClient {
 	 * @throws NullPointerException If {@code server} or {@code configuration} are {@code null}.
 	 */
 	public static ApacheHttpClient newApacheHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
-		HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
+		HttpClientMetrics metrics = new HttpClientMetrics();
+		CookieStore cookieStore = new BasicCookieStore();
+
+		// Same socket factories as the default connection manager, decorated to record the connect phase.
+		Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+			.register("http", new ApacheTimedSocketFactory(PlainConnectionSocketFactory.getSocketFactory()))
+			.register("https", new ApacheTimedSocketFactory(SSLConnectionSocketFactory.getSocketFactory()))
+			.build();
+
+		// The default connection manager allows only two connections per route, which would serialize asynchronous requests.
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+		connectionManager.setDefaultMaxPerRoute(configuration.getMaxConnectionsPerHost());
+		connectionManager.setMaxTotal(configuration.getMaxConnectionsPerHost());
+
+		HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+			.setDefaultCookieStore(cookieStore)
+			.setConnectionManager(connectionManager)
+			.setRequestExecutor(new ApacheRequestExecutor(metrics));
+
 		if (!configuration.isFollowRedirect()) {
 			httpClientBuilder.disableRedirectHandling();
 		}
 
 		CloseableHttpClient client = httpClientBuilder.build();
-		return new ApacheHttpClient(configuration, server, client);
+		return new ApacheHttpClient(configuration, server, client, cookieStore, metrics);
 	}
 
 	/**
@@ -90,21 +120,40 @@ public class ApacheHttpClient extends AbstractHttpClient implements HttpClient {
 	 */
 	private final CloseableHttpClient client;
 
+	/**
+	 * The cookie store used by the native client.
+	 */
+	private final CookieStore cookieStore;
+
+	/**
+	 * The executor used to execute requests asynchronously: threads are created on demand, and
+	 * the executor is shutdown when the client is destroyed.
+	 */
+	private final ExecutorService executor;
+
 	// Use static factory
-	private ApacheHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, CloseableHttpClient client) {
-		super(configuration, server);
+	private ApacheHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, CloseableHttpClient client, CookieStore cookieStore, HttpClientMetrics metrics) {
+		super(configuration, server, metrics);
 		this.client = notNull(client, "client");
+		this.cookieStore = notNull(cookieStore, "cookieStore");
 		this.destroyed = new AtomicBoolean(false);
+		this.executor = Executors.newCachedThreadPool(daemonThreadFactory("junit-servers-apache-http-client"));
 	}
 
 	@Override
 	protected HttpRequest buildRequest(HttpMethod httpMethod, HttpUrl endpoint) {
-		return new ApacheHttpRequest(client, httpMethod, endpoint);
+		return new ApacheHttpRequest(client, executor, httpMethod, endpoint);
+	}
+
+	@Override
+	protected void doReset() {
+		cookieStore.clear();
 	}
 
 	@Override
 	public void doDestroy() throws Exception {
 		if (destroyed.compareAndSet(false, true)) {
+			executor.shutdown();
 			client.close();
 		}
 	}
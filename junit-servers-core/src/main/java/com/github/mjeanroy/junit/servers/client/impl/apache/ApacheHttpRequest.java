@@ -32,9 +32,12 @@ import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
@@ -44,17 +47,19 @@ import org.apache.http.client.methods.HttpPatch;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.client.utils.URIBuilder;
-import org.apache.http.entity.ByteArrayEntity;
-import org.apache.http.entity.ContentType;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.COOKIE;
-import static java.lang.System.nanoTime;
 
 /**
  * Implementation for {@link HttpRequest} that use apache http-client
@@ -80,20 +85,61 @@ class ApacheHttpRequest extends AbstractHttpRequest implements HttpRequest {
 	 */
 	private final HttpClient client;
 
+	/**
+	 * The executor used to execute request asynchronously (apache http client
+	 * does not support asynchronous execution).
+	 */
+	private final Executor executor;
+
 	/**
 	 * Create apache http request.
 	 *
 	 * @param client Apache http client.
+	 * @param executor Executor used to execute request asynchronously.
 	 * @param httpMethod Http method.
 	 * @param endpoint Http request url.
 	 */
-	ApacheHttpRequest(HttpClient client, HttpMethod httpMethod, HttpUrl endpoint) {
+	ApacheHttpRequest(HttpClient client, Executor executor, HttpMethod httpMethod, HttpUrl endpoint) {
 		super(endpoint, httpMethod);
 		this.client = client;
+		this.executor = executor;
+	}
+
+	@Override
+	protected CompletableFuture<HttpResponse> doExecuteAsync() {
+		final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+
+		executor.execute(() -> {
+			try {
+				future.complete(doExecute(true));
+			}
+			catch (Exception ex) {
+				future.completeExceptionally(new HttpClientException(ex));
+			}
+		});
+
+		return future;
 	}
 
 	@Override
 	protected HttpResponse doExecute() throws Exception {
+		return doExecute(false);
+	}
+
+	/**
+	 * Execute the request.
+	 *
+	 * <p>
+	 *
+	 * When the response is buffered, the whole response body is read before returning, so that the
+	 * underlying connection is immediately released: this is required when requests are executed
+	 * concurrently, otherwise pending responses would prevent other requests from leasing a connection.
+	 *
+	 * @param buffered If the response body should be read before returning.
+	 * @return The HTTP response.
+	 * @throws Exception If an error occurred.
+	 */
+	private HttpResponse doExecute(boolean buffered) throws Exception {
 		final HttpMethod method = getMethod();
 
 		final HttpRequestBase httpRequest = FACTORY.create(method);
@@ -103,11 +149,19 @@ class ApacheHttpRequest extends AbstractHttpRequest implements HttpRequest {
 		handleHeaders(httpRequest);
 		handleCookies(httpRequest);
 
-		final long start = nanoTime();
-		final org.apache.http.HttpResponse httpResponse = client.execute(httpRequest);
-		final long duration = nanoTime() - start;
+		final HttpClientContext context = HttpClientContext.create();
+		final RequestTimer timer = RequestTimer.start();
+		ApacheRequestExecutor.setTimer(context, timer);
+
+		final org.apache.http.HttpResponse httpResponse = client.execute(httpRequest, context);
+		final HttpEntity entity = httpResponse.getEntity();
+		if (buffered && entity != null) {
+			httpResponse.setEntity(new BufferedHttpEntity(entity));
+			EntityUtils.consume(entity);
+			timer.onResponseEnd();
+		}
 
-		return ApacheHttpResponseFactory.of(httpResponse, duration);
+		return ApacheHttpResponseFactory.of(httpResponse, timer);
 	}
 
 	/**
@@ -123,10 +177,9 @@ class ApacheHttpRequest extends AbstractHttpRequest implements HttpRequest {
 
 		log.debug("Set HTTP Entity from given body: {}", body);
 
-		ContentType contentType = ContentType.getByMimeType(body.getContentType());
-		ByteArrayEntity entity = new ByteArrayEntity(body.getBody(), contentType);
+		ApacheHttpRequestEntity entity = new ApacheHttpRequestEntity(body);
 
-		log.debug("Found contentType={} and entity={}", contentType, entity);
+		log.debug("Created entity: {}", entity);
 		((HttpEntityEnclosingRequestBase) httpRequest).setEntity(entity);
 
 		if (body.getContentType() != null) {
@@ -0,0 +1,101 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.apache;
+
+import com.github.mjeanroy.junit.servers.client.HttpRequestBody;
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.AbstractHttpEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * Implementation of {@link HttpEntity} streaming given {@link HttpRequestBody}: the request body
+ * is written to the connection, without being read in memory.
+ */
+final class ApacheHttpRequestEntity extends AbstractHttpEntity {
+
+	/**
+	 * The request body.
+	 */
+	private final HttpRequestBody body;
+
+	/**
+	 * The request body length, {@code -1} if unknown.
+	 */
+	private final long contentLength;
+
+	/**
+	 * Create the entity.
+	 *
+	 * @param body The request body.
+	 * @throws IOException If an error occurred while computing the request body length.
+	 */
+	ApacheHttpRequestEntity(HttpRequestBody body) throws IOException {
+		this.body = notNull(body, "body");
+		this.contentLength = body.getContentLength();
+		setContentType(body.getContentType());
+		setChunked(contentLength < 0);
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return body.isRepeatable();
+	}
+
+	@Override
+	public long getContentLength() {
+		return contentLength;
+	}
+
+	@Override
+	public InputStream getContent() throws IOException {
+		return body.openStream();
+	}
+
+	@Override
+	public void writeTo(OutputStream outputStream) throws IOException {
+		notNull(outputStream, "outputStream");
+		body.writeTo(Channels.newChannel(outputStream));
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("body", body)
+			.append("contentLength", contentLength)
+			.build();
+	}
+}
@@ -27,12 +27,15 @@ package com.github.mjeanroy.junit.servers.client.impl.apache;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.util.EntityUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -62,7 +65,18 @@ final class ApacheHttpResponse extends AbstractHttpResponse implements HttpRespo
 	 * @param duration Request duration.
 	 */
 	ApacheHttpResponse(org.apache.http.HttpResponse response, long duration) {
-		super(duration);
+		this(response, duration, null);
+	}
+
+	/**
+	 * Create the response from Apache HTTP Component.
+	 *
+	 * @param response The original response.
+	 * @param duration Request duration.
+	 * @param timer The request timer.
+	 */
+	ApacheHttpResponse(org.apache.http.HttpResponse response, long duration, RequestTimer timer) {
+		super(duration, timer);
 		this.response = notNull(response, "Response");
 	}
 
@@ -77,6 +91,18 @@ final class ApacheHttpResponse extends AbstractHttpResponse implements HttpRespo
 		return entity == null ? "" : EntityUtils.toString(entity);
 	}
 
+	@Override
+	protected InputStream readResponseBodyAsStream() throws IOException {
+		HttpEntity entity = response.getEntity();
+		return entity == null ? new ByteArrayInputStream(new byte[0]) : entity.getContent();
+	}
+
+	@Override
+	protected boolean isResponseBodyBuffered() {
+		HttpEntity entity = response.getEntity();
+		return entity == null || entity.isRepeatable();
+	}
+
 	@Override
 	public Collection<HttpHeader> getHeaders() {
 		final Header[] headers = response.getAllHeaders();
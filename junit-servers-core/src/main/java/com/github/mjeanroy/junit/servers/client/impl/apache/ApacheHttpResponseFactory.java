@@ -25,6 +25,7 @@
 package com.github.mjeanroy.junit.servers.client.impl.apache;
 
 import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
 import org.apache.http.HttpResponse;
 
 /**
@@ -49,4 +50,15 @@ final class ApacheHttpResponseFactory {
 	static com.github.mjeanroy.junit.servers.client.HttpResponse of(HttpResponse response, long duration) {
 		return new ApacheHttpResponse(response, duration);
 	}
+
+	/**
+	 * Create the final {@link DefaultHttpResponse} instance.
+	 *
+	 * @param response The Apache response.
+	 * @param timer The request timer, started before the request has been submitted.
+	 * @return The HTTP response.
+	 */
+	static com.github.mjeanroy.junit.servers.client.HttpResponse of(HttpResponse response, RequestTimer timer) {
+		return new ApacheHttpResponse(response, timer.elapsed(), timer);
+	}
 }
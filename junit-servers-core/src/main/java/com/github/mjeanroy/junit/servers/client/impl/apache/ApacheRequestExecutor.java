@@ -0,0 +1,125 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.apache;
+
+import com.github.mjeanroy.junit.servers.client.HttpClientMetrics;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.IOException;
+
+/**
+ * Request executor recording:
+ *
+ * <ul>
+ *   <li>Opened connections in the {@link HttpClientMetrics}: a connection has been opened if it did not send any request before.</li>
+ *   <li>The request write and the response headers reception in the {@link RequestTimer} stored in the {@link HttpContext}.</li>
+ * </ul>
+ */
+final class ApacheRequestExecutor extends HttpRequestExecutor {
+
+	/**
+	 * The name of the {@link HttpContext} attribute containing the request timer.
+	 */
+	private static final String TIMER_ATTRIBUTE = RequestTimer.class.getName();
+
+	/**
+	 * Store the request timer in given context.
+	 *
+	 * @param context The context.
+	 * @param timer The request timer.
+	 */
+	static void setTimer(HttpContext context, RequestTimer timer) {
+		context.setAttribute(TIMER_ATTRIBUTE, timer);
+	}
+
+	/**
+	 * Get the request timer stored in given context.
+	 *
+	 * @param context The context.
+	 * @return The request timer, {@code null} if the request is not timed.
+	 */
+	static RequestTimer getTimer(HttpContext context) {
+		Object timer = context == null ? null : context.getAttribute(TIMER_ATTRIBUTE);
+		return timer instanceof RequestTimer ? (RequestTimer) timer : null;
+	}
+
+	/**
+	 * The client metrics.
+	 */
+	private final HttpClientMetrics metrics;
+
+	/**
+	 * Create the executor.
+	 *
+	 * @param metrics The client metrics.
+	 */
+	ApacheRequestExecutor(HttpClientMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	@Override
+	public HttpResponse execute(HttpRequest request, HttpClientConnection connection, HttpContext context) throws IOException, HttpException {
+		if (connection.getMetrics().getRequestCount() == 0) {
+			metrics.onConnectionOpened();
+		}
+
+		return super.execute(request, connection, context);
+	}
+
+	@Override
+	protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection connection, HttpContext context) throws IOException, HttpException {
+		RequestTimer timer = getTimer(context);
+		if (timer == null) {
+			return super.doSendRequest(request, connection, context);
+		}
+
+		timer.onRequestStart();
+
+		try {
+			return super.doSendRequest(request, connection, context);
+		}
+		finally {
+			timer.onRequestEnd();
+		}
+	}
+
+	@Override
+	protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection connection, HttpContext context) throws HttpException, IOException {
+		HttpResponse response = super.doReceiveResponse(request, connection, context);
+
+		RequestTimer timer = getTimer(context);
+		if (timer != null) {
+			timer.onResponseStart();
+		}
+
+		return response;
+	}
+}
@@ -0,0 +1,89 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.apache;
+
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * Socket factory recording the connect phase (including the TLS handshake, if any) in the {@link RequestTimer}
+ * stored in the {@link HttpContext}, and delegating socket creation to the original socket factory.
+ */
+final class ApacheTimedSocketFactory implements LayeredConnectionSocketFactory {
+
+	/**
+	 * The original socket factory.
+	 */
+	private final ConnectionSocketFactory delegate;
+
+	/**
+	 * Create the socket factory.
+	 *
+	 * @param delegate The original socket factory.
+	 */
+	ApacheTimedSocketFactory(ConnectionSocketFactory delegate) {
+		this.delegate = notNull(delegate, "delegate");
+	}
+
+	@Override
+	public Socket createSocket(HttpContext context) throws IOException {
+		return delegate.createSocket(context);
+	}
+
+	@Override
+	public Socket connectSocket(int connectTimeout, Socket sock, HttpHost host, InetSocketAddress remoteAddress, InetSocketAddress localAddress, HttpContext context) throws IOException {
+		RequestTimer timer = ApacheRequestExecutor.getTimer(context);
+		if (timer == null) {
+			return delegate.connectSocket(connectTimeout, sock, host, remoteAddress, localAddress, context);
+		}
+
+		timer.onConnectStart();
+
+		try {
+			return delegate.connectSocket(connectTimeout, sock, host, remoteAddress, localAddress, context);
+		}
+		finally {
+			timer.onConnectEnd();
+		}
+	}
+
+	@Override
+	public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+		if (!(delegate instanceof LayeredConnectionSocketFactory)) {
+			throw new UnsupportedOperationException("Socket factory does not support layered sockets: " + delegate);
+		}
+
+		return ((LayeredConnectionSocketFactory) delegate).createLayeredSocket(socket, target, port, context);
+	}
+}
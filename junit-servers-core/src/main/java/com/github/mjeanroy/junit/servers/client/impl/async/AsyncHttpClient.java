@@ -26,6 +26,7 @@ package com.github.mjeanroy.junit.servers.client.impl.async;
 
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpClientMetrics;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
@@ -35,6 +36,7 @@ import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import org.asynchttpclient.AsyncHttpClientConfig;
 import org.asynchttpclient.DefaultAsyncHttpClient;
 import org.asynchttpclient.DefaultAsyncHttpClientConfig;
+import org.asynchttpclient.cookie.CookieStore;
 
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
 
@@ -68,12 +70,16 @@ public class AsyncHttpClient extends AbstractHttpClient implements HttpClient {
 	 * @throws NullPointerException If {@code server} or {@code configuration} are {@code null}.
 	 */
 	public static AsyncHttpClient newAsyncHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
+		HttpClientMetrics metrics = new HttpClientMetrics();
 		AsyncHttpClientConfig config = new DefaultAsyncHttpClientConfig.Builder()
 			.setFollowRedirect(configuration.isFollowRedirect())
+			.setMaxConnectionsPerHost(configuration.getMaxConnectionsPerHost())
+			.setMaxConnections(configuration.getMaxConnectionsPerHost())
+			.setHttpAdditionalChannelInitializer(channel -> metrics.onConnectionOpened())
 			.build();
 
 		DefaultAsyncHttpClient client = new DefaultAsyncHttpClient(config);
-		return new AsyncHttpClient(configuration, server, client);
+		return new AsyncHttpClient(configuration, server, client, metrics);
 	}
 
 	/**
@@ -82,8 +88,8 @@ public class AsyncHttpClient extends AbstractHttpClient implements HttpClient {
 	private final org.asynchttpclient.AsyncHttpClient client;
 
 	// Use static factory
-	private AsyncHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, org.asynchttpclient.AsyncHttpClient client) {
-		super(configuration, server);
+	private AsyncHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, org.asynchttpclient.AsyncHttpClient client, HttpClientMetrics metrics) {
+		super(configuration, server, metrics);
 		this.client = notNull(client, "client");
 	}
 
@@ -92,6 +98,14 @@ public class AsyncHttpClient extends AbstractHttpClient implements HttpClient {
 		return new AsyncHttpRequest(client, httpMethod, endpoint);
 	}
 
+	@Override
+	protected void doReset() {
+		CookieStore cookieStore = client.getConfig().getCookieStore();
+		if (cookieStore != null) {
+			cookieStore.clear();
+		}
+	}
+
 	@Override
 	public void doDestroy() throws Exception {
 		client.close();
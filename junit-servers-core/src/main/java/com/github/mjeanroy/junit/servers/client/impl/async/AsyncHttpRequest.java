@@ -33,6 +33,8 @@ import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import io.netty.handler.codec.http.cookie.Cookie;
@@ -44,8 +46,7 @@ import org.asynchttpclient.uri.Uri;
 import org.asynchttpclient.util.Utf8UrlEncoder;
 
 import java.io.IOException;
-
-import static java.lang.System.nanoTime;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation for {@link HttpRequest} that use async-http-client
@@ -80,6 +81,38 @@ class AsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 
 	@Override
 	protected HttpResponse doExecute() throws Exception {
+		final Request request = createRequest();
+		final RequestTimer timer = RequestTimer.start();
+		final ListenableFuture<Response> future = client.executeRequest(request, new AsyncHttpTimingHandler(timer));
+		final Response response = future.get();
+		return AsyncHttpResponseFactory.of(response, timer);
+	}
+
+	@Override
+	protected CompletableFuture<HttpResponse> doExecuteAsync() throws Exception {
+		final Request request = createRequest();
+		final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+		final RequestTimer timer = RequestTimer.start();
+
+		client.executeRequest(request, new AsyncHttpTimingHandler(timer)).toCompletableFuture().whenComplete((response, error) -> {
+			if (error != null) {
+				future.completeExceptionally(new HttpClientException(error));
+			}
+			else {
+				future.complete(AsyncHttpResponseFactory.of(response, timer));
+			}
+		});
+
+		return future;
+	}
+
+	/**
+	 * Create the native AsyncHttpClient request.
+	 *
+	 * @return The request.
+	 * @throws IOException If an error occurred while creating the request body.
+	 */
+	private Request createRequest() throws IOException {
 		final HttpUrl endpoint = getEndpoint();
 		final String scheme = endpoint.getScheme();
 		final String userInfo = null;
@@ -98,14 +131,7 @@ class AsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 		handleHeaders(builder);
 		handleCookies(builder);
 
-		final Request request = builder.build();
-		final ListenableFuture<Response> future = client.executeRequest(request);
-
-		final long start = nanoTime();
-		final Response response = future.get();
-		final long duration = nanoTime() - start;
-
-		return AsyncHttpResponseFactory.of(response, duration);
+		return builder.build();
 	}
 
 	/**
@@ -125,7 +151,7 @@ class AsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 	 *
 	 * @param builder The pending HTTP request.
 	 * @see RequestBuilder#addFormParam(String, String)
-	 * @see RequestBuilder#setBody(String)
+	 * @see RequestBuilder#setBody(org.asynchttpclient.request.body.generator.BodyGenerator)
 	 */
 	private void handleBody(RequestBuilder builder) throws IOException {
 		if (!hasBody()) {
@@ -134,7 +160,7 @@ class AsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 		}
 
 		log.debug("Set body to current request builder using: {}", body);
-		builder.setBody(body.getBody());
+		builder.setBody(new AsyncHttpRequestBodyGenerator(body));
 
 		if (body.getContentType() != null) {
 			builder.setHeader("Content-Type", body.getContentType());
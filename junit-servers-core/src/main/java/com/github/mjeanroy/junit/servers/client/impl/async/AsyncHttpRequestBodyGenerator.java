@@ -0,0 +1,131 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.async;
+
+import com.github.mjeanroy.junit.servers.client.HttpRequestBody;
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import io.netty.buffer.ByteBuf;
+import org.asynchttpclient.request.body.Body;
+import org.asynchttpclient.request.body.generator.BodyGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * Implementation of AsyncHttpClient {@link BodyGenerator} streaming given {@link HttpRequestBody}: the
+ * request body stream is opened each time the request is sent (so that the request can be retried or redirected),
+ * and is never opened if the request is not executed.
+ *
+ * <p>
+ *
+ * Note that AsyncHttpClient {@code InputStreamBodyGenerator} is not used since it cannot stream bodies smaller
+ * than ten bytes when the request body length is known.
+ */
+final class AsyncHttpRequestBodyGenerator implements BodyGenerator {
+
+	/**
+	 * The request body.
+	 */
+	private final HttpRequestBody body;
+
+	/**
+	 * The request body length, {@code -1} if unknown.
+	 */
+	private final long contentLength;
+
+	/**
+	 * Create the body generator.
+	 *
+	 * @param body The request body.
+	 * @throws IOException If an error occurred while computing the request body length.
+	 */
+	AsyncHttpRequestBodyGenerator(HttpRequestBody body) throws IOException {
+		this.body = notNull(body, "body");
+		this.contentLength = body.getContentLength();
+	}
+
+	@Override
+	public Body createBody() {
+		try {
+			return new InputStreamBody(body.openStream(), contentLength);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("body", body)
+			.append("contentLength", contentLength)
+			.build();
+	}
+
+	/**
+	 * A {@link Body} reading given input stream: each chunk is filled until the end of the stream is reached.
+	 */
+	private static final class InputStreamBody implements Body {
+
+		/**
+		 * The body stream.
+		 */
+		private final InputStream stream;
+
+		/**
+		 * The body length, {@code -1} if unknown.
+		 */
+		private final long contentLength;
+
+		private InputStreamBody(InputStream stream, long contentLength) {
+			this.stream = stream;
+			this.contentLength = contentLength;
+		}
+
+		@Override
+		public long getContentLength() {
+			return contentLength;
+		}
+
+		@Override
+		public BodyState transferTo(ByteBuf target) throws IOException {
+			while (target.isWritable()) {
+				if (target.writeBytes(stream, target.writableBytes()) < 0) {
+					return BodyState.STOP;
+				}
+			}
+
+			return BodyState.CONTINUE;
+		}
+
+		@Override
+		public void close() throws IOException {
+			stream.close();
+		}
+	}
+}
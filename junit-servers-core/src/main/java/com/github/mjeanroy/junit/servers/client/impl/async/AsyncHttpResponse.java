@@ -27,10 +27,12 @@ package com.github.mjeanroy.junit.servers.client.impl.async;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import io.netty.handler.codec.http.HttpHeaders;
 import org.asynchttpclient.Response;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -57,7 +59,18 @@ final class AsyncHttpResponse extends AbstractHttpResponse implements HttpRespon
 	 * @param duration Request duration.
 	 */
 	AsyncHttpResponse(Response response, long duration) {
-		super(duration);
+		this(response, duration, null);
+	}
+
+	/**
+	 * Create the response from AsyncHttpClient.
+	 *
+	 * @param response The original response.
+	 * @param duration Request duration.
+	 * @param timer The request timer.
+	 */
+	AsyncHttpResponse(Response response, long duration, RequestTimer timer) {
+		super(duration, timer);
 		this.response = notNull(response, "Response");
 	}
 
@@ -71,6 +84,21 @@ final class AsyncHttpResponse extends AbstractHttpResponse implements HttpRespon
 		return response.getResponseBody();
 	}
 
+	@Override
+	protected InputStream readResponseBodyAsStream() {
+		return response.getResponseBodyAsStream();
+	}
+
+	@Override
+	protected byte[] readResponseBodyAsBytes() {
+		return response.getResponseBodyAsBytes();
+	}
+
+	@Override
+	protected boolean isResponseBodyBuffered() {
+		return true;
+	}
+
 	@Override
 	public Collection<HttpHeader> getHeaders() {
 		HttpHeaders headers = response.getHeaders();
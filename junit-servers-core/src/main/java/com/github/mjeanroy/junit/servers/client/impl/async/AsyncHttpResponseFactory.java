@@ -25,6 +25,7 @@
 package com.github.mjeanroy.junit.servers.client.impl.async;
 
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
 import org.asynchttpclient.Response;
 
 /**
@@ -49,4 +50,15 @@ final class AsyncHttpResponseFactory {
 	static HttpResponse of(Response response, long duration) {
 		return new AsyncHttpResponse(response, duration);
 	}
+
+	/**
+	 * Create the final {@link HttpResponse} instance.
+	 *
+	 * @param response The AsyncHttpClient response.
+	 * @param timer The request timer, started before the request has been submitted.
+	 * @return The HTTP response.
+	 */
+	static HttpResponse of(Response response, RequestTimer timer) {
+		return new AsyncHttpResponse(response, timer.elapsed(), timer);
+	}
 }
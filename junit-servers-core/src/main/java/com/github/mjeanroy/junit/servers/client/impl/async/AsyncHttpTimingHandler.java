@@ -0,0 +1,109 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.async;
+
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+import io.netty.channel.Channel;
+import org.asynchttpclient.AsyncCompletionHandlerBase;
+import org.asynchttpclient.HttpResponseStatus;
+import org.asynchttpclient.Response;
+import org.asynchttpclient.netty.request.NettyRequest;
+
+import javax.net.ssl.SSLSession;
+import java.net.InetSocketAddress;
+
+/**
+ * AsyncHttpClient handler, buffering the response and notifying the {@link RequestTimer} of
+ * the request: note that AsyncHttpClient does not notify the end of the request write, so the
+ * request write is accounted in the time to first byte.
+ */
+final class AsyncHttpTimingHandler extends AsyncCompletionHandlerBase {
+
+	/**
+	 * The request timer.
+	 */
+	private final RequestTimer timer;
+
+	/**
+	 * Create the handler.
+	 *
+	 * @param timer The request timer.
+	 */
+	AsyncHttpTimingHandler(RequestTimer timer) {
+		this.timer = timer;
+	}
+
+	@Override
+	public void onHostnameResolutionAttempt(String name) {
+		timer.onConnectStart();
+	}
+
+	@Override
+	public void onTcpConnectAttempt(InetSocketAddress remoteAddress) {
+		timer.onConnectStart();
+	}
+
+	@Override
+	public void onTcpConnectSuccess(InetSocketAddress remoteAddress, Channel connection) {
+		timer.onConnectEnd();
+	}
+
+	@Override
+	public void onTcpConnectFailure(InetSocketAddress remoteAddress, Throwable cause) {
+		timer.onConnectEnd();
+	}
+
+	@Override
+	public void onTlsHandshakeAttempt() {
+		timer.onConnectStart();
+	}
+
+	@Override
+	public void onTlsHandshakeSuccess(SSLSession sslSession) {
+		timer.onConnectEnd();
+	}
+
+	@Override
+	public void onTlsHandshakeFailure(Throwable cause) {
+		timer.onConnectEnd();
+	}
+
+	@Override
+	public void onRequestSend(NettyRequest request) {
+		timer.onRequestStart();
+	}
+
+	@Override
+	public State onStatusReceived(HttpResponseStatus status) throws Exception {
+		timer.onResponseStart();
+		return super.onStatusReceived(status);
+	}
+
+	@Override
+	public Response onCompleted(Response response) throws Exception {
+		timer.onResponseEnd();
+		return super.onCompleted(response);
+	}
+}
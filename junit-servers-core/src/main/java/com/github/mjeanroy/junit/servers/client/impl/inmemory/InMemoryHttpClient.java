@@ -0,0 +1,143 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.inmemory;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpUrl;
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.InMemoryTransport;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.github.mjeanroy.junit.servers.commons.core.DaemonThreadFactory.daemonThreadFactory;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * Implementation of {@link HttpClient} dispatching requests directly into the embedded server, using
+ * its {@link InMemoryTransport}: no socket is ever opened.
+ *
+ * <p>
+ *
+ * Requests are serialized as HTTP/1.1 messages and responses are fully read in memory.
+ *
+ * <p>
+ *
+ * This client can only be created for embedded servers implementing {@link InMemoryTransport} (for now, the embedded
+ * jetty server only), using {@link com.github.mjeanroy.junit.servers.client.HttpClientStrategy#IN_MEMORY}.
+ */
+public class InMemoryHttpClient extends AbstractHttpClient implements HttpClient {
+
+	/**
+	 * Create new http client using default configuration.
+	 *
+	 * @param server Embedded server.
+	 * @param <T> Type of embedded server.
+	 * @return Http client.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 */
+	public static <T extends EmbeddedServer<?> & InMemoryTransport> InMemoryHttpClient defaultInMemoryHttpClient(T server) {
+		HttpClientConfiguration configuration = HttpClientConfiguration.defaultConfiguration();
+		return newInMemoryHttpClient(configuration, server);
+	}
+
+	/**
+	 * Create new http client using custom configuration.
+	 *
+	 * @param configuration Client configuration.
+	 * @param server Embedded server.
+	 * @param <T> Type of embedded server.
+	 * @return Http client.
+	 * @throws NullPointerException If {@code server} or {@code configuration} are {@code null}.
+	 */
+	public static <T extends EmbeddedServer<?> & InMemoryTransport> InMemoryHttpClient newInMemoryHttpClient(HttpClientConfiguration configuration, T server) {
+		notNull(server, "server");
+
+		ExecutorService executor = Executors.newCachedThreadPool(daemonThreadFactory("junit-servers-in-memory-http-client"));
+		return new InMemoryHttpClient(configuration, server, server, executor);
+	}
+
+	/**
+	 * Flag to ensure that the http client has been destroyed or not.
+	 */
+	private final AtomicBoolean destroyed;
+
+	/**
+	 * The transport used to dispatch requests.
+	 */
+	private final InMemoryTransport transport;
+
+	/**
+	 * The executor used to execute asynchronous requests: the executor is shutdown when the client is destroyed.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Create the client.
+	 *
+	 * @param configuration The client configuration.
+	 * @param server The embedded server that will be queried.
+	 * @param transport The transport used to dispatch requests.
+	 * @param executor The executor used to execute asynchronous requests.
+	 */
+	private InMemoryHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, InMemoryTransport transport, ExecutorService executor) {
+		super(configuration, server);
+		this.transport = transport;
+		this.executor = executor;
+		this.destroyed = new AtomicBoolean(false);
+	}
+
+	@Override
+	protected HttpRequest buildRequest(HttpMethod httpMethod, HttpUrl endpoint) {
+		return new InMemoryHttpRequest(transport, executor, getConfiguration().isFollowRedirect(), httpMethod, endpoint);
+	}
+
+	@Override
+	protected void doDestroy() {
+		if (destroyed.compareAndSet(false, true)) {
+			executor.shutdown();
+		}
+	}
+
+	@Override
+	public boolean isDestroyed() {
+		return destroyed.get();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("configuration", getConfiguration())
+			.append("server", getServer())
+			.append("destroyed", destroyed)
+			.build();
+	}
+}
@@ -0,0 +1,271 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.inmemory;
+
+import com.github.mjeanroy.junit.servers.client.Cookies;
+import com.github.mjeanroy.junit.servers.client.HttpHeader;
+import com.github.mjeanroy.junit.servers.client.HttpHeaders;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpParameter;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpUrl;
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import com.github.mjeanroy.junit.servers.servers.InMemoryTransport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * Implementation of {@link HttpRequest} dispatching the request with an {@link InMemoryTransport}.
+ */
+class InMemoryHttpRequest extends AbstractHttpRequest implements HttpRequest {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(InMemoryHttpRequest.class);
+
+	/**
+	 * The maximum time, in seconds, to wait for the response.
+	 */
+	private static final long TIMEOUT_SECONDS = 30;
+
+	/**
+	 * The maximum number of redirections that are followed.
+	 */
+	private static final int MAX_REDIRECTS = 10;
+
+	/**
+	 * The transport used to dispatch the request.
+	 */
+	private final InMemoryTransport transport;
+
+	/**
+	 * The executor used to execute asynchronous requests.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Flag used to follow redirections.
+	 */
+	private final boolean followRedirect;
+
+	/**
+	 * Create in-memory http request.
+	 *
+	 * @param transport The transport.
+	 * @param executor The executor used to execute asynchronous requests.
+	 * @param followRedirect Flag used to follow redirections.
+	 * @param httpMethod Http method.
+	 * @param endpoint Http request url.
+	 */
+	InMemoryHttpRequest(InMemoryTransport transport, Executor executor, boolean followRedirect, HttpMethod httpMethod, HttpUrl endpoint) {
+		super(endpoint, httpMethod);
+		this.transport = transport;
+		this.executor = executor;
+		this.followRedirect = followRedirect;
+	}
+
+	@Override
+	protected HttpResponse doExecute() throws Exception {
+		final long start = System.nanoTime();
+
+		HttpMethod method = getMethod();
+		String target = createRequestTarget();
+		byte[] body = hasBody() ? readBody() : null;
+		InMemoryHttpResponse response = dispatch(method, target, body);
+
+		int redirects = 0;
+		while (followRedirect && response.isRedirect() && redirects < MAX_REDIRECTS) {
+			target = resolveRedirect(target, response.getHeader(HttpHeaders.LOCATION).getFirstValue());
+			redirects++;
+
+			// See https://tools.ietf.org/html/rfc7231#section-6.4: 307 and 308 must keep the request method and body.
+			if (response.status() != 307 && response.status() != 308 && method != HttpMethod.HEAD) {
+				method = HttpMethod.GET;
+				body = null;
+			}
+
+			log.debug("Following redirection to: {}", target);
+			response = dispatch(method, target, body);
+		}
+
+		return response.toHttpResponse(System.nanoTime() - start);
+	}
+
+	@Override
+	protected CompletableFuture<HttpResponse> doExecuteAsync() {
+		final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+
+		executor.execute(() -> {
+			try {
+				future.complete(doExecute());
+			}
+			catch (Exception ex) {
+				future.completeExceptionally(new HttpClientException(ex));
+			}
+		});
+
+		return future;
+	}
+
+	/**
+	 * Serialize the request, dispatch it with the transport and parse the response.
+	 *
+	 * @param method The request method.
+	 * @param target The request target (i.e the path and the query string).
+	 * @param body The request body, may be {@code null}.
+	 * @return The response.
+	 * @throws Exception If an error occurred while dispatching the request.
+	 */
+	private InMemoryHttpResponse dispatch(HttpMethod method, String target, byte[] body) throws Exception {
+		final boolean head = method == HttpMethod.HEAD;
+		final ByteBuffer request = ByteBuffer.wrap(serialize(method, target, body));
+		final ByteBuffer response = transport.dispatch(request, head, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+		if (response == null) {
+			throw new IOException("No response received after " + TIMEOUT_SECONDS + " seconds");
+		}
+
+		return InMemoryHttpResponse.parse(response, head);
+	}
+
+	/**
+	 * Serialize the request as a HTTP/1.1 message: the connection is always closed, so that the server does not
+	 * wait for any other request.
+	 *
+	 * @param method The request method.
+	 * @param target The request target.
+	 * @param body The request body, may be {@code null}.
+	 * @return The serialized request.
+	 */
+	private byte[] serialize(HttpMethod method, String target, byte[] body) {
+		final HttpUrl endpoint = getEndpoint();
+		final StringBuilder sb = new StringBuilder();
+
+		sb.append(method.getVerb()).append(' ').append(target).append(" HTTP/1.1\r\n");
+		appendHeader(sb, "Host", endpoint.getHost() + ":" + endpoint.getPort());
+
+		for (HttpHeader header : headers.values()) {
+			appendHeader(sb, header.getName(), header.serializeValues());
+		}
+
+		if (!cookies.isEmpty()) {
+			appendHeader(sb, HttpHeaders.COOKIE, Cookies.serialize(cookies));
+		}
+
+		if (body != null) {
+			if (this.body.getContentType() != null) {
+				appendHeader(sb, HttpHeaders.CONTENT_TYPE, this.body.getContentType());
+			}
+
+			appendHeader(sb, "Content-Length", String.valueOf(body.length));
+		}
+
+		appendHeader(sb, "Connection", "close");
+		sb.append("\r\n");
+
+		final byte[] head = sb.toString().getBytes(ISO_8859_1);
+		if (body == null || body.length == 0) {
+			return head;
+		}
+
+		final byte[] message = new byte[head.length + body.length];
+		System.arraycopy(head, 0, message, 0, head.length);
+		System.arraycopy(body, 0, message, head.length, body.length);
+		return message;
+	}
+
+	private static void appendHeader(StringBuilder sb, String name, String value) {
+		sb.append(name).append(": ").append(value).append("\r\n");
+	}
+
+	/**
+	 * Create the request target (i.e the path and the query string): each additional query parameters will
+	 * be appended to the endpoint query string.
+	 *
+	 * @return The request target.
+	 */
+	private String createRequestTarget() {
+		final URI uri = getEndpoint().toURI();
+		final StringBuilder sb = new StringBuilder(uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+
+		char separator = '?';
+		if (uri.getRawQuery() != null) {
+			sb.append(separator).append(uri.getRawQuery());
+			separator = '&';
+		}
+
+		for (HttpParameter parameter : queryParams.values()) {
+			sb.append(separator).append(parameter.getEncodedName());
+			if (parameter.getValue() != null) {
+				sb.append('=').append(parameter.getEncodedValue());
+			}
+
+			separator = '&';
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Resolve the redirection target: since the request is dispatched in memory, only the path and the
+	 * query string are kept.
+	 *
+	 * @param target The current request target.
+	 * @param location The {@code Location} header value.
+	 * @return The new request target.
+	 */
+	private static String resolveRedirect(String target, String location) {
+		final URI uri = URI.create(target).resolve(location);
+		final String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+		return uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery();
+	}
+
+	/**
+	 * Read the request body in memory.
+	 *
+	 * @return The request body.
+	 * @throws IOException If an error occurred while reading the body.
+	 */
+	private byte[] readBody() throws IOException {
+		log.debug("Reading in-memory request body from: {}", body);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		body.writeTo(Channels.newChannel(out));
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,254 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.inmemory;
+
+import com.github.mjeanroy.junit.servers.client.HttpHeader;
+import com.github.mjeanroy.junit.servers.client.HttpHeaders;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A raw HTTP/1.1 response, as returned by an {@link com.github.mjeanroy.junit.servers.servers.InMemoryTransport}.
+ */
+final class InMemoryHttpResponse {
+
+	/**
+	 * Parse the raw HTTP/1.1 response.
+	 *
+	 * @param response The raw response.
+	 * @param head {@code true} if the response is the response of a {@code HEAD} request.
+	 * @return The parsed response.
+	 * @throws IOException If the response is not a valid HTTP/1.1 response.
+	 */
+	static InMemoryHttpResponse parse(ByteBuffer response, boolean head) throws IOException {
+		final byte[] bytes = new byte[response.remaining()];
+		response.get(bytes);
+
+		final int headerEnd = indexOf(bytes, 0, "\r\n\r\n".getBytes(ISO_8859_1));
+		if (headerEnd < 0) {
+			throw new IOException("Invalid HTTP response, cannot find end of headers");
+		}
+
+		final String[] lines = new String(bytes, 0, headerEnd, ISO_8859_1).split("\r\n");
+		final int status = parseStatus(lines[0]);
+
+		final Map<String, List<String>> values = new LinkedHashMap<>();
+		final Map<String, String> names = new LinkedHashMap<>();
+		for (int i = 1; i < lines.length; i++) {
+			final int separator = lines[i].indexOf(':');
+			if (separator <= 0) {
+				throw new IOException("Invalid HTTP response header: " + lines[i]);
+			}
+
+			final String name = lines[i].substring(0, separator).trim();
+			final String key = name.toLowerCase(Locale.ROOT);
+			names.putIfAbsent(key, name);
+			values.computeIfAbsent(key, k -> new ArrayList<>()).add(lines[i].substring(separator + 1).trim());
+		}
+
+		final Map<String, HttpHeader> headers = new LinkedHashMap<>();
+		for (Map.Entry<String, List<String>> entry : values.entrySet()) {
+			headers.put(entry.getKey(), HttpHeader.header(names.get(entry.getKey()), entry.getValue()));
+		}
+
+		final byte[] body = hasBody(status, head) ? readBody(bytes, headerEnd + 4, headers) : new byte[0];
+		return new InMemoryHttpResponse(status, headers, body);
+	}
+
+	private static int parseStatus(String statusLine) throws IOException {
+		final String[] parts = statusLine.split(" ", 3);
+		if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+			throw new IOException("Invalid HTTP response status line: " + statusLine);
+		}
+
+		try {
+			return Integer.parseInt(parts[1]);
+		}
+		catch (NumberFormatException ex) {
+			throw new IOException("Invalid HTTP response status line: " + statusLine, ex);
+		}
+	}
+
+	private static boolean hasBody(int status, boolean head) {
+		return !head && status >= 200 && status != 204 && status != 304;
+	}
+
+	private static byte[] readBody(byte[] bytes, int offset, Map<String, HttpHeader> headers) throws IOException {
+		final HttpHeader transferEncoding = headers.get("transfer-encoding");
+		if (transferEncoding != null && transferEncoding.serializeValues().toLowerCase(Locale.ROOT).contains("chunked")) {
+			return readChunkedBody(bytes, offset);
+		}
+
+		int length = bytes.length - offset;
+
+		final HttpHeader contentLength = headers.get("content-length");
+		if (contentLength != null) {
+			length = Math.min(length, Integer.parseInt(contentLength.getFirstValue()));
+		}
+
+		final byte[] body = new byte[length];
+		System.arraycopy(bytes, offset, body, 0, length);
+		return body;
+	}
+
+	private static byte[] readChunkedBody(byte[] bytes, int offset) throws IOException {
+		final byte[] crlf = "\r\n".getBytes(ISO_8859_1);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		int position = offset;
+		while (true) {
+			final int lineEnd = indexOf(bytes, position, crlf);
+			if (lineEnd < 0) {
+				throw new IOException("Invalid HTTP response, truncated chunked body");
+			}
+
+			// Ignore chunk extensions, if any.
+			final String sizeLine = new String(bytes, position, lineEnd - position, ISO_8859_1);
+			final int extension = sizeLine.indexOf(';');
+			final int size = Integer.parseInt((extension < 0 ? sizeLine : sizeLine.substring(0, extension)).trim(), 16);
+			if (size == 0) {
+				return out.toByteArray();
+			}
+
+			position = lineEnd + crlf.length;
+			if (position + size > bytes.length) {
+				throw new IOException("Invalid HTTP response, truncated chunked body");
+			}
+
+			out.write(bytes, position, size);
+			position += size + crlf.length;
+		}
+	}
+
+	private static int indexOf(byte[] bytes, int from, byte[] pattern) {
+		for (int i = from; i <= bytes.length - pattern.length; i++) {
+			int j = 0;
+			while (j < pattern.length && bytes[i + j] == pattern[j]) {
+				j++;
+			}
+
+			if (j == pattern.length) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * The response status code.
+	 */
+	private final int status;
+
+	/**
+	 * The response headers, indexed by their lower case name.
+	 */
+	private final Map<String, HttpHeader> headers;
+
+	/**
+	 * The response body.
+	 */
+	private final byte[] body;
+
+	private InMemoryHttpResponse(int status, Map<String, HttpHeader> headers, byte[] body) {
+		this.status = status;
+		this.headers = headers;
+		this.body = body;
+	}
+
+	/**
+	 * Get the response status code.
+	 *
+	 * @return The status code.
+	 */
+	int status() {
+		return status;
+	}
+
+	/**
+	 * Get the response header.
+	 *
+	 * @param name The header name (case insensitive).
+	 * @return The header, {@code null} if the header is not set.
+	 */
+	HttpHeader getHeader(String name) {
+		return headers.get(name.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * Check if the response is a redirection that can be followed, i.e a {@code 3xx} response with
+	 * a {@code Location} header.
+	 *
+	 * @return {@code true} if the response is a redirection, {@code false} otherwise.
+	 */
+	boolean isRedirect() {
+		return status >= 300 && status < 400 && status != 304 && getHeader(HttpHeaders.LOCATION) != null;
+	}
+
+	/**
+	 * Create the final response: the body is decoded using the charset of the {@code Content-Type} header,
+	 * {@code UTF-8} by default.
+	 *
+	 * @param duration The request duration, in nanoseconds.
+	 * @return The HTTP response.
+	 */
+	HttpResponse toHttpResponse(long duration) {
+		return DefaultHttpResponse.of(duration, status, new String(body, charset()), headers.values());
+	}
+
+	private Charset charset() {
+		final HttpHeader contentType = getHeader(HttpHeaders.CONTENT_TYPE);
+		if (contentType == null) {
+			return UTF_8;
+		}
+
+		for (String parameter : contentType.getFirstValue().split(";")) {
+			final String[] parts = parameter.trim().split("=", 2);
+			if (parts.length == 2 && parts[0].trim().equalsIgnoreCase("charset")) {
+				try {
+					return Charset.forName(parts[1].trim().replace("\"", ""));
+				}
+				catch (IllegalArgumentException ex) {
+					return UTF_8;
+				}
+			}
+		}
+
+		return UTF_8;
+	}
+}
@@ -60,6 +60,8 @@ public class NingAsyncHttpClient extends AbstractHttpClient implements HttpClien
 		HttpClientConfiguration configuration = HttpClientConfiguration.defaultConfiguration();
 		AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder()
 			.setFollowRedirect(configuration.isFollowRedirect())
+			.setMaxConnectionsPerHost(configuration.getMaxConnectionsPerHost())
+			.setMaxConnections(configuration.getMaxConnectionsPerHost())
 			.build();
 
 		return new NingAsyncHttpClient(configuration, server, new com.ning.http.client.AsyncHttpClient(config));
@@ -76,6 +78,8 @@ public class NingAsyncHttpClient extends AbstractHttpClient implements HttpClien
 	public static NingAsyncHttpClient newAsyncHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
 		AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder()
 			.setFollowRedirect(configuration.isFollowRedirect())
+			.setMaxConnectionsPerHost(configuration.getMaxConnectionsPerHost())
+			.setMaxConnections(configuration.getMaxConnectionsPerHost())
 			.build();
 
 		AsyncHttpClient client = new AsyncHttpClient(config);
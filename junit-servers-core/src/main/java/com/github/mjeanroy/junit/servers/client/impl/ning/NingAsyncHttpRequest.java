@@ -33,8 +33,11 @@ import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import com.ning.http.client.AsyncCompletionHandler;
 import com.ning.http.client.AsyncHttpClient;
 import com.ning.http.client.Request;
 import com.ning.http.client.RequestBuilder;
@@ -43,8 +46,7 @@ import com.ning.http.client.uri.Uri;
 import com.ning.http.util.UTF8UrlEncoder;
 
 import java.io.IOException;
-
-import static java.lang.System.nanoTime;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation for {@link HttpRequest} that use (ning) async-http-client
@@ -79,6 +81,43 @@ class NingAsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 
 	@Override
 	protected HttpResponse doExecute() throws Exception {
+		final Request request = createRequest();
+		final RequestTimer timer = RequestTimer.startWithoutPhases();
+		final Response response = client.executeRequest(request).get();
+		timer.onResponseEnd();
+		return NingAsyncHttpResponseFactory.of(response, timer);
+	}
+
+	@Override
+	protected CompletableFuture<HttpResponse> doExecuteAsync() throws Exception {
+		final Request request = createRequest();
+		final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+		final RequestTimer timer = RequestTimer.startWithoutPhases();
+
+		client.executeRequest(request, new AsyncCompletionHandler<Response>() {
+			@Override
+			public Response onCompleted(Response response) {
+				timer.onResponseEnd();
+				future.complete(NingAsyncHttpResponseFactory.of(response, timer));
+				return response;
+			}
+
+			@Override
+			public void onThrowable(Throwable error) {
+				future.completeExceptionally(new HttpClientException(error));
+			}
+		});
+
+		return future;
+	}
+
+	/**
+	 * Create the native (ning) AsyncHttpClient request.
+	 *
+	 * @return The request.
+	 * @throws IOException If an error occurred while creating the request body.
+	 */
+	private Request createRequest() throws IOException {
 		final HttpUrl endpoint = getEndpoint();
 		final String scheme = endpoint.getScheme();
 		final String userInfo = null;
@@ -96,12 +135,7 @@ class NingAsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 		handleHeaders(builder);
 		handleCookies(builder);
 
-		final Request request = builder.build();
-		final long start = nanoTime();
-		final Response response = client.executeRequest(request).get();
-		final long duration = nanoTime() - start;
-
-		return NingAsyncHttpResponseFactory.of(response, duration);
+		return builder.build();
 	}
 
 	/**
@@ -121,7 +155,7 @@ class NingAsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 	 *
 	 * @param builder The pending HTTP request.
 	 * @see RequestBuilder#addFormParam(String, String)
-	 * @see RequestBuilder#setBody(String)
+	 * @see RequestBuilder#setBody(com.ning.http.client.BodyGenerator)
 	 */
 	private void handleBody(RequestBuilder builder) throws IOException {
 		if (!hasBody()) {
@@ -130,7 +164,7 @@ class NingAsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 		}
 
 		log.debug("Set body to current request builder using: {}", body);
-		builder.setBody(body.getBody());
+		builder.setBody(new NingAsyncHttpRequestBodyGenerator(body));
 
 		if (body.getContentType() != null) {
 			builder.setHeader("Content-Type", body.getContentType());
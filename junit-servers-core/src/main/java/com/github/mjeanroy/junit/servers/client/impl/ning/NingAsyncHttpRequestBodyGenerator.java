@@ -0,0 +1,128 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.ning;
+
+import com.github.mjeanroy.junit.servers.client.HttpRequestBody;
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.ning.http.client.Body;
+import com.ning.http.client.BodyGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * Implementation of Ning {@link BodyGenerator} streaming given {@link HttpRequestBody}: the request body
+ * stream is opened each time the request is sent, and the request body length is reported (when it is known) so
+ * that the request body is not sent chunked.
+ */
+final class NingAsyncHttpRequestBodyGenerator implements BodyGenerator {
+
+	/**
+	 * The request body.
+	 */
+	private final HttpRequestBody body;
+
+	/**
+	 * The request body length, {@code -1} if unknown.
+	 */
+	private final long contentLength;
+
+	/**
+	 * Create the body generator.
+	 *
+	 * @param body The request body.
+	 * @throws IOException If an error occurred while computing the request body length.
+	 */
+	NingAsyncHttpRequestBodyGenerator(HttpRequestBody body) throws IOException {
+		this.body = notNull(body, "body");
+		this.contentLength = body.getContentLength();
+	}
+
+	@Override
+	public Body createBody() throws IOException {
+		return new InputStreamBody(body.openStream(), contentLength);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("body", body)
+			.append("contentLength", contentLength)
+			.build();
+	}
+
+	/**
+	 * A {@link Body} reading given input stream: each chunk is filled until the end of the stream is reached.
+	 */
+	private static final class InputStreamBody implements Body {
+
+		/**
+		 * The body stream.
+		 */
+		private final ReadableByteChannel channel;
+
+		/**
+		 * The body length, {@code -1} if unknown.
+		 */
+		private final long contentLength;
+
+		private InputStreamBody(InputStream stream, long contentLength) {
+			this.channel = Channels.newChannel(stream);
+			this.contentLength = contentLength;
+		}
+
+		@Override
+		public long getContentLength() {
+			return contentLength;
+		}
+
+		@Override
+		public long read(ByteBuffer buffer) throws IOException {
+			// Ning stops sending the body as soon as a read returns less bytes than requested when the body
+			// length is known, so the buffer must be filled until the end of the stream is reached.
+			long read = 0;
+			while (buffer.hasRemaining()) {
+				int count = channel.read(buffer);
+				if (count < 0) {
+					return read == 0 ? -1 : read;
+				}
+
+				read += count;
+			}
+
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
@@ -27,11 +27,13 @@ package com.github.mjeanroy.junit.servers.client.impl.ning;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.ning.http.client.FluentCaseInsensitiveStringsMap;
 import com.ning.http.client.Response;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -58,7 +60,18 @@ final class NingAsyncHttpResponse extends AbstractHttpResponse implements HttpRe
 	 * @param duration Request duration.
 	 */
 	NingAsyncHttpResponse(Response response, long duration) {
-		super(duration);
+		this(response, duration, null);
+	}
+
+	/**
+	 * Create the response from AsyncHttpClient.
+	 *
+	 * @param response The original response.
+	 * @param duration Request duration.
+	 * @param timer The request timer.
+	 */
+	NingAsyncHttpResponse(Response response, long duration, RequestTimer timer) {
+		super(duration, timer);
 		this.response = notNull(response, "Response");
 	}
 
@@ -72,6 +85,21 @@ final class NingAsyncHttpResponse extends AbstractHttpResponse implements HttpRe
 		return response.getResponseBody();
 	}
 
+	@Override
+	protected InputStream readResponseBodyAsStream() throws IOException {
+		return response.getResponseBodyAsStream();
+	}
+
+	@Override
+	protected byte[] readResponseBodyAsBytes() throws IOException {
+		return response.getResponseBodyAsBytes();
+	}
+
+	@Override
+	protected boolean isResponseBodyBuffered() {
+		return true;
+	}
+
 	@Override
 	public Collection<HttpHeader> getHeaders() {
 		FluentCaseInsensitiveStringsMap headers = response.getHeaders();
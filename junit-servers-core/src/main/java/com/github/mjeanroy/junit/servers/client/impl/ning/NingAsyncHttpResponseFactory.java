@@ -26,6 +26,7 @@ package com.github.mjeanroy.junit.servers.client.impl.ning;
 
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
 import com.ning.http.client.Response;
 
 /**
@@ -51,4 +52,15 @@ final class NingAsyncHttpResponseFactory {
 	static HttpResponse of(Response response, long duration) {
 		return new NingAsyncHttpResponse(response, duration);
 	}
+
+	/**
+	 * Create the final {@link DefaultHttpResponse} instance.
+	 *
+	 * @param response The Ning HTTP response.
+	 * @param timer The request timer, started before the request has been submitted.
+	 * @return The HTTP response.
+	 */
+	static HttpResponse of(Response response, RequestTimer timer) {
+		return new NingAsyncHttpResponse(response, timer.elapsed(), timer);
+	}
 }
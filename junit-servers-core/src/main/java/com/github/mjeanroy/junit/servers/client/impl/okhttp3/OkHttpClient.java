@@ -26,18 +26,31 @@ package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
 
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpClientMetrics;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
+import com.github.mjeanroy.junit.servers.servers.ConnectorConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
 /**
  * Implementation of {@link HttpClient} using OkHttp library from Square.
  *
+ * <p>
+ *
+ * If the embedded server listens on a unix domain socket, connections are opened on this socket
+ * (this requires the {@code com.github.jnr:jnr-unixsocket} library).
+ *
  * @see com.github.mjeanroy.junit.servers.client.HttpClientStrategy#OK_HTTP3
  * @see <a href="http://square.github.io/okhttp">http://square.github.io/okhttp</a>
  */
@@ -65,11 +78,31 @@ public class OkHttpClient extends AbstractHttpClient implements HttpClient {
 	 * @throws NullPointerException If {@code server} or {@code configuration} are {@code null}.
 	 */
 	public static OkHttpClient newOkHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
-		okhttp3.OkHttpClient client = new okhttp3.OkHttpClient.Builder()
+		HttpClientMetrics metrics = new HttpClientMetrics();
+
+		// The default dispatcher executes at most five requests per host, which would serialize asynchronous requests.
+		Dispatcher dispatcher = new Dispatcher();
+		dispatcher.setMaxRequests(configuration.getMaxConnectionsPerHost());
+		dispatcher.setMaxRequestsPerHost(configuration.getMaxConnectionsPerHost());
+
+		okhttp3.OkHttpClient.Builder builder = new okhttp3.OkHttpClient.Builder()
 			.followRedirects(configuration.isFollowRedirect())
-			.build();
+			.dispatcher(dispatcher)
+			.connectionPool(new ConnectionPool(configuration.getMaxConnectionsPerHost(), 5, TimeUnit.MINUTES))
+			.eventListener(new OkHttpEventListener(metrics));
+
+		String unixSocket = unixSocket(server);
+		if (unixSocket != null) {
+			builder.socketFactory(new OkHttpUnixSocketFactory(unixSocket));
+		}
+
+		return new OkHttpClient(configuration, server, builder.build(), metrics);
+	}
 
-		return new OkHttpClient(configuration, server, client);
+	private static String unixSocket(EmbeddedServer<?> server) {
+		AbstractConfiguration configuration = notNull(server, "server").getConfiguration();
+		ConnectorConfiguration connector = configuration == null ? null : configuration.getConnector();
+		return connector == null ? null : connector.getUnixSocket();
 	}
 
 	/**
@@ -86,9 +119,10 @@ public class OkHttpClient extends AbstractHttpClient implements HttpClient {
 	 * Create the client.
 	 * @param server The embedded server that will be queried.
 	 * @param client The internal client.
+	 * @param metrics The client metrics.
 	 */
-	private OkHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, okhttp3.OkHttpClient client) {
-		super(configuration, server);
+	private OkHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, okhttp3.OkHttpClient client, HttpClientMetrics metrics) {
+		super(configuration, server, metrics);
 		this.client = client;
 		this.destroyed = new AtomicBoolean(false);
 	}
@@ -0,0 +1,134 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
+
+import com.github.mjeanroy.junit.servers.client.HttpClientMetrics;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+
+/**
+ * OkHttp event listener recording opened connections in the {@link HttpClientMetrics}, and the
+ * timing of each request in the {@link RequestTimer} attached (as a tag) to the request.
+ */
+final class OkHttpEventListener extends EventListener {
+
+	/**
+	 * The client metrics.
+	 */
+	private final HttpClientMetrics metrics;
+
+	/**
+	 * Create the listener.
+	 *
+	 * @param metrics The client metrics.
+	 */
+	OkHttpEventListener(HttpClientMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	@Override
+	public void dnsStart(Call call, String domainName) {
+		RequestTimer timer = timer(call);
+		if (timer != null) {
+			timer.onConnectStart();
+		}
+	}
+
+	@Override
+	public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+		RequestTimer timer = timer(call);
+		if (timer != null) {
+			timer.onConnectStart();
+		}
+	}
+
+	@Override
+	public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+		metrics.onConnectionOpened();
+
+		RequestTimer timer = timer(call);
+		if (timer != null) {
+			timer.onConnectEnd();
+		}
+	}
+
+	@Override
+	public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+		RequestTimer timer = timer(call);
+		if (timer != null) {
+			timer.onConnectEnd();
+		}
+	}
+
+	@Override
+	public void requestHeadersStart(Call call) {
+		RequestTimer timer = timer(call);
+		if (timer != null) {
+			timer.onRequestStart();
+		}
+	}
+
+	@Override
+	public void requestHeadersEnd(Call call, Request request) {
+		RequestTimer timer = timer(call);
+		if (timer != null) {
+			timer.onRequestEnd();
+		}
+	}
+
+	@Override
+	public void requestBodyEnd(Call call, long byteCount) {
+		RequestTimer timer = timer(call);
+		if (timer != null) {
+			timer.onRequestEnd();
+		}
+	}
+
+	@Override
+	public void responseHeadersEnd(Call call, Response response) {
+		RequestTimer timer = timer(call);
+		if (timer != null) {
+			timer.onResponseStart();
+		}
+	}
+
+	/**
+	 * Get the timer of given call.
+	 *
+	 * @param call The call.
+	 * @return The timer, {@code null} if the request is not timed.
+	 */
+	private static RequestTimer timer(Call call) {
+		return call.request().tag(RequestTimer.class);
+	}
+}
@@ -33,16 +33,18 @@ import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import okhttp3.Call;
-import okhttp3.FormBody;
-import okhttp3.MediaType;
+import okhttp3.Callback;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of {@link HttpRequest} using OkHttp library.
@@ -76,6 +78,41 @@ class OkHttpRequest extends AbstractHttpRequest implements HttpRequest {
 
 	@Override
 	protected HttpResponse doExecute() throws Exception {
+		final RequestTimer timer = RequestTimer.start();
+		final Call call = client.newCall(createRequest(timer));
+		final Response response = call.execute();
+		return OkHttpResponseFactory.of(response, timer);
+	}
+
+	@Override
+	protected CompletableFuture<HttpResponse> doExecuteAsync() throws Exception {
+		final RequestTimer timer = RequestTimer.start();
+		final Call call = client.newCall(createRequest(timer));
+		final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+
+		call.enqueue(new Callback() {
+			@Override
+			public void onResponse(Call call, Response response) {
+				future.complete(OkHttpResponseFactory.of(response, timer));
+			}
+
+			@Override
+			public void onFailure(Call call, IOException ex) {
+				future.completeExceptionally(new HttpClientException(ex));
+			}
+		});
+
+		return future;
+	}
+
+	/**
+	 * Create the native OkHttp request.
+	 *
+	 * @param timer The request timer, attached to the request so that it can be notified by the client event listener.
+	 * @return The OkHttp request.
+	 * @throws IOException If an error occurred while creating the request body.
+	 */
+	private Request createRequest(RequestTimer timer) throws IOException {
 		final HttpUrl endpoint = getEndpoint();
 		final okhttp3.HttpUrl.Builder httpUrlBuilder = new okhttp3.HttpUrl.Builder()
 			.scheme(endpoint.getScheme())
@@ -88,18 +125,11 @@ class OkHttpRequest extends AbstractHttpRequest implements HttpRequest {
 			httpUrlBuilder.addEncodedQueryParameter(queryParam.getEncodedName(), queryParam.getEncodedValue());
 		}
 
-		final Request.Builder builder = new Request.Builder().url(httpUrlBuilder.build());
+		final Request.Builder builder = new Request.Builder().url(httpUrlBuilder.build()).tag(RequestTimer.class, timer);
 		handleBody(builder);
 		handleCookies(builder);
 		handleHeaders(builder);
-
-		final Call call = client.newCall(builder.build());
-
-		final long start = System.nanoTime();
-		final Response response = call.execute();
-		final long duration = System.nanoTime() - start;
-
-		return OkHttpResponseFactory.of(response, duration);
+		return builder.build();
 	}
 
 	/**
@@ -159,8 +189,7 @@ class OkHttpRequest extends AbstractHttpRequest implements HttpRequest {
 	 * Create the OkHttp request body.
 	 *
 	 * @return OkHttp {@link RequestBody} instance.
-	 * @see RequestBody#create(MediaType, String)
-	 * @see FormBody
+	 * @see OkHttpRequestBody
 	 */
 	private RequestBody createBody() throws IOException {
 		if (body == null) {
@@ -168,9 +197,7 @@ class OkHttpRequest extends AbstractHttpRequest implements HttpRequest {
 		}
 
 		log.debug("Creating OkHTTP request body from: {}", body);
-		String rawContentType = body.getContentType();
-		MediaType mediaType = rawContentType == null ? null : MediaType.parse(rawContentType);
-		return RequestBody.create(mediaType, body.getBody());
+		return new OkHttpRequestBody(body);
 	}
 
 	/**
@@ -0,0 +1,99 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
+
+import com.github.mjeanroy.junit.servers.client.HttpRequestBody;
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * Implementation of OkHttp {@link RequestBody} streaming given {@link HttpRequestBody}: the request body
+ * is written to the connection, without being read in memory.
+ */
+final class OkHttpRequestBody extends RequestBody {
+
+	/**
+	 * The request body.
+	 */
+	private final HttpRequestBody body;
+
+	/**
+	 * The request body media type, may be {@code null}.
+	 */
+	private final MediaType mediaType;
+
+	/**
+	 * The request body length, {@code -1} if unknown.
+	 */
+	private final long contentLength;
+
+	/**
+	 * Create the request body.
+	 *
+	 * @param body The request body.
+	 * @throws IOException If an error occurred while computing the request body length.
+	 */
+	OkHttpRequestBody(HttpRequestBody body) throws IOException {
+		this.body = notNull(body, "body");
+		this.contentLength = body.getContentLength();
+
+		String rawContentType = body.getContentType();
+		this.mediaType = rawContentType == null ? null : MediaType.parse(rawContentType);
+	}
+
+	@Override
+	public MediaType contentType() {
+		return mediaType;
+	}
+
+	@Override
+	public long contentLength() {
+		return contentLength;
+	}
+
+	@Override
+	public void writeTo(BufferedSink sink) throws IOException {
+		body.writeTo(sink);
+	}
+
+	@Override
+	public boolean isOneShot() {
+		return !body.isRepeatable();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("body", body)
+			.append("contentLength", contentLength)
+			.build();
+	}
+}
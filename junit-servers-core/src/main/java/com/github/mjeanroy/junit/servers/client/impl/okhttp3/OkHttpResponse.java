@@ -27,12 +27,15 @@ package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import okhttp3.Headers;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -58,7 +61,18 @@ final class OkHttpResponse extends AbstractHttpResponse implements HttpResponse
 	 * @param duration Request duration.
 	 */
 	OkHttpResponse(Response response, long duration) {
-		super(duration);
+		this(response, duration, null);
+	}
+
+	/**
+	 * Create the response from OkHTTP3
+	 *
+	 * @param response The original response.
+	 * @param duration Request duration.
+	 * @param timer The request timer.
+	 */
+	OkHttpResponse(Response response, long duration, RequestTimer timer) {
+		super(duration, timer);
 		this.response = notNull(response, "Response");
 	}
 
@@ -77,6 +91,16 @@ final class OkHttpResponse extends AbstractHttpResponse implements HttpResponse
 		return body.string();
 	}
 
+	@Override
+	protected InputStream readResponseBodyAsStream() {
+		final ResponseBody body = response.body();
+		if (body == null) {
+			return new ByteArrayInputStream(new byte[0]);
+		}
+
+		return body.byteStream();
+	}
+
 	@Override
 	public Collection<HttpHeader> getHeaders() {
 		Headers headers = response.headers();
@@ -26,6 +26,7 @@ package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
 
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
 import okhttp3.Response;
 
 /**
@@ -50,4 +51,15 @@ final class OkHttpResponseFactory {
 	static HttpResponse of(Response response, long duration) {
 		return new OkHttpResponse(response, duration);
 	}
+
+	/**
+	 * Create the final {@link DefaultHttpResponse} instance.
+	 *
+	 * @param response The OkHttp response.
+	 * @param timer The request timer, started before the request has been submitted.
+	 * @return The HTTP response.
+	 */
+	static HttpResponse of(Response response, RequestTimer timer) {
+		return new OkHttpResponse(response, timer.elapsed(), timer);
+	}
 }
@@ -0,0 +1,100 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
+
+import jnr.unixsocket.UnixSocket;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+
+import javax.net.SocketFactory;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+
+/**
+ * Socket factory creating sockets connected to a unix domain socket, whatever the address given
+ * by OkHttp: the server URL can still be used to build requests, but the connection is always
+ * opened on the unix domain socket (using the {@code jnr-unixsocket} library).
+ */
+final class OkHttpUnixSocketFactory extends SocketFactory {
+
+	/**
+	 * The unix domain socket path.
+	 */
+	private final File path;
+
+	/**
+	 * Create the factory.
+	 *
+	 * @param path The unix domain socket path.
+	 */
+	OkHttpUnixSocketFactory(String path) {
+		this.path = new File(path);
+	}
+
+	@Override
+	public Socket createSocket() throws IOException {
+		final UnixSocketChannel channel = UnixSocketChannel.open();
+		return new UnixSocket(channel) {
+			@Override
+			public void connect(SocketAddress endpoint) throws IOException {
+				connect(endpoint, 0);
+			}
+
+			@Override
+			public void connect(SocketAddress endpoint, int timeout) throws IOException {
+				super.connect(new UnixSocketAddress(path), timeout);
+			}
+
+			@Override
+			public InetAddress getInetAddress() {
+				// The socket is not connected to any IP address.
+				return null;
+			}
+		};
+	}
+
+	@Override
+	public Socket createSocket(String host, int port) throws IOException {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Socket createSocket(InetAddress host, int port) throws IOException {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,77 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.commons.core;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+
+/**
+ * Thread factory creating daemon threads, named with a given prefix followed by an incremented
+ * counter (for example: {@code junit-servers-start-1}, {@code junit-servers-start-2}, etc.).
+ *
+ * <p>
+ *
+ * <strong>Internal API</strong>: these methods are part of the internal API and may be removed, have their signature change,
+ * or have their access level decreased from public to protected, package, or private in future versions without notice.
+ */
+public final class DaemonThreadFactory implements ThreadFactory {
+
+	/**
+	 * Create the thread factory.
+	 *
+	 * @param prefix The thread name prefix.
+	 * @return The thread factory.
+	 * @throws NullPointerException If {@code prefix} is {@code null}.
+	 * @throws IllegalArgumentException If {@code prefix} is empty or blank.
+	 */
+	public static DaemonThreadFactory daemonThreadFactory(String prefix) {
+		return new DaemonThreadFactory(notBlank(prefix, "prefix"));
+	}
+
+	/**
+	 * The thread name prefix.
+	 */
+	private final String prefix;
+
+	/**
+	 * The thread counter.
+	 */
+	private final AtomicInteger counter;
+
+	// Use static factory instead
+	private DaemonThreadFactory(String prefix) {
+		this.prefix = prefix;
+		this.counter = new AtomicInteger(0);
+	}
+
+	@Override
+	public Thread newThread(Runnable runnable) {
+		Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	}
+}
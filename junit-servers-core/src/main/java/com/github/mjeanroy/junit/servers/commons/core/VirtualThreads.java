@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.commons.core;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+
+/**
+ * Static utilities to create virtual threads (available since Java 21): since the library is compiled
+ * with Java 8, virtual threads are created using reflection.
+ *
+ * <strong>Internal API</strong>: these methods are part of the internal API and may be removed, have their signature change,
+ * or have their access level decreased from public to protected, package, or private in future versions without notice.
+ */
+public final class VirtualThreads {
+
+	// Ensure non instantiation.
+	private VirtualThreads() {
+	}
+
+	/**
+	 * The {@code Thread.ofVirtual()} method, {@code null} if virtual threads are not supported.
+	 */
+	private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+
+	/**
+	 * Check if virtual threads are supported by the runtime, i.e if runtime java version is at least Java 21.
+	 *
+	 * @return {@code true} if virtual threads are supported, {@code false} otherwise.
+	 */
+	public static boolean isSupported() {
+		return OF_VIRTUAL != null;
+	}
+
+	/**
+	 * Create a thread factory creating virtual threads, named {@code prefix-N}.
+	 *
+	 * @param prefix The thread name prefix.
+	 * @return The thread factory.
+	 * @throws UnsupportedOperationException If virtual threads are not supported by the runtime.
+	 */
+	public static ThreadFactory virtualThreadFactory(String prefix) {
+		notBlank(prefix, "prefix");
+		checkSupport();
+
+		try {
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			Object builder = OF_VIRTUAL.invoke(null);
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix + "-", 0L);
+			return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+		}
+		catch (ReflectiveOperationException ex) {
+			throw new UnsupportedOperationException("Cannot create virtual thread factory", ex);
+		}
+	}
+
+	/**
+	 * Create an executor that starts a new virtual thread for each task, threads being named {@code prefix-N}.
+	 *
+	 * @param prefix The thread name prefix.
+	 * @return The executor.
+	 * @throws UnsupportedOperationException If virtual threads are not supported by the runtime.
+	 */
+	public static ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+		ThreadFactory threadFactory = virtualThreadFactory(prefix);
+
+		try {
+			Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+			return (ExecutorService) method.invoke(null, threadFactory);
+		}
+		catch (ReflectiveOperationException ex) {
+			throw new UnsupportedOperationException("Cannot create virtual thread executor", ex);
+		}
+	}
+
+	private static void checkSupport() {
+		if (!isSupported()) {
+			throw new UnsupportedOperationException("Virtual threads are not supported by the runtime environment, please use Java 21");
+		}
+	}
+
+	private static Method findMethod(Class<?> klass, String name) {
+		try {
+			return klass.getMethod(name);
+		}
+		catch (NoSuchMethodException ex) {
+			return null;
+		}
+	}
+}
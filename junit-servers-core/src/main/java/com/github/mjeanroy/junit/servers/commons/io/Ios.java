@@ -32,9 +32,17 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 
 /**
  * Static I/O Utilities.
@@ -85,6 +93,84 @@ public final class Ios {
 		return Files.readAllBytes(path);
 	}
 
+	/**
+	 * Write all bytes of given array to given channel.
+	 *
+	 * @param bytes The bytes to write.
+	 * @param channel The target channel.
+	 * @throws IOException If an I/O error occurs writing to the channel.
+	 */
+	public static void writeFully(byte[] bytes, WritableByteChannel channel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Write the content of given file to given channel: the file is never fully loaded in memory and, when
+	 * it is possible, bytes are directly transferred from the file system to the target channel.
+	 *
+	 * <p>
+	 *
+	 * The target channel must be a blocking channel: the transfer fails if no byte can be transferred (for example,
+	 * if the file has been truncated while it is being transferred, or if the target channel is non-blocking).
+	 *
+	 * @param path The file.
+	 * @param channel The target channel.
+	 * @throws IOException If an I/O error occurs reading the file or writing to the channel, or if the transfer does not progress.
+	 * @see FileChannel#transferTo(long, long, WritableByteChannel)
+	 */
+	public static void transferTo(Path path, WritableByteChannel channel) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = fileChannel.size();
+			long position = 0;
+			while (position < size) {
+				long transferred = fileChannel.transferTo(position, size - position, channel);
+				if (transferred <= 0) {
+					if (fileChannel.size() <= position) {
+						throw new IOException("File " + path + " has been truncated after " + position + " bytes, expected " + size + " bytes");
+					}
+
+					throw new IOException("Cannot transfer file " + path + " to non-blocking channel " + channel);
+				}
+
+				position += transferred;
+			}
+		}
+	}
+
+	/**
+	 * Delete given file, or given directory with all its content: the file tree is walked
+	 * using {@link Files#walkFileTree(Path, java.nio.file.FileVisitor)}, without following symbolic links.
+	 *
+	 * @param path The file or directory to delete.
+	 * @throws IOException If a file cannot be deleted.
+	 */
+	public static void deleteRecursively(Path path) throws IOException {
+		if (path == null || Files.notExists(path, LinkOption.NOFOLLOW_LINKS)) {
+			return;
+		}
+
+		Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+				if (exc != null) {
+					throw exc;
+				}
+
+				Files.delete(dir);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
 	/**
 	 * Try to guess content type of given file.
 	 *
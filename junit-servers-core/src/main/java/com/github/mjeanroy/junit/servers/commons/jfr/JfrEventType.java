@@ -0,0 +1,429 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.commons.jfr;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A Java Flight Recorder event type, created using the {@code jdk.jfr.EventFactory} API (available since Java 12):
+ * since the library is compiled with Java 8, JFR events are created using reflection, and this event type
+ * does nothing if the {@code jdk.jfr} module is not available.
+ *
+ * <p>
+ *
+ * Events are emitted using the following pattern:
+ *
+ * <pre><code>
+ *   Object event = eventType.begin();
+ *   // ...
+ *   if (eventType.end(event)) {
+ *     eventType.commit(event, value1, value2);
+ *   }
+ * </code></pre>
+ *
+ * <strong>Internal API</strong>: these methods are part of the internal API and may be removed, have their signature change,
+ * or have their access level decreased from public to protected, package, or private in future versions without notice.
+ */
+public final class JfrEventType {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(JfrEventType.class);
+
+	/**
+	 * The JFR API, {@code null} if JFR is not supported by the runtime.
+	 */
+	private static final Jfr JFR = Jfr.load();
+
+	/**
+	 * Check if JFR events are supported by the runtime, i.e if the {@code jdk.jfr} module is available and
+	 * if runtime java version is at least Java 12.
+	 *
+	 * @return {@code true} if JFR events are supported, {@code false} otherwise.
+	 */
+	public static boolean isSupported() {
+		return JFR != null;
+	}
+
+	/**
+	 * Create a builder of event type.
+	 *
+	 * @param name The event name, for example {@code "com.github.mjeanroy.junit.servers.HttpRequest"}.
+	 * @return The builder.
+	 * @throws NullPointerException If {@code name} is {@code null}.
+	 * @throws IllegalArgumentException If {@code name} is blank.
+	 */
+	public static Builder builder(String name) {
+		return new Builder(name);
+	}
+
+	/**
+	 * The event name.
+	 */
+	private final String name;
+
+	/**
+	 * The number of event fields.
+	 */
+	private final int fieldCount;
+
+	/**
+	 * The {@code jdk.jfr.EventFactory} instance, {@code null} if JFR is not supported.
+	 */
+	private final Object factory;
+
+	private JfrEventType(String name, int fieldCount, Object factory) {
+		this.name = name;
+		this.fieldCount = fieldCount;
+		this.factory = factory;
+	}
+
+	/**
+	 * Check if this event type is registered in the flight recorder.
+	 *
+	 * @return {@code true} if events can be emitted, {@code false} otherwise.
+	 */
+	public boolean isRegistered() {
+		return factory != null;
+	}
+
+	/**
+	 * Create a new event and start its timing: this method returns {@code null} if the flight recorder is not
+	 * running or if this event type is disabled.
+	 *
+	 * @return The event, may be {@code null}.
+	 */
+	public Object begin() {
+		if (factory == null || !JFR.isRecording()) {
+			return null;
+		}
+
+		try {
+			Object event = JFR.newEvent.invoke(factory);
+			if (!(boolean) JFR.isEnabled.invoke(event)) {
+				return null;
+			}
+
+			JFR.begin.invoke(event);
+			return event;
+		}
+		catch (Throwable ex) {
+			log.debug("Failed to create JFR event {}: {}", name, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Stop the timing of given event, and check if it should be committed.
+	 *
+	 * @param event The event, returned by {@link #begin()}, may be {@code null}.
+	 * @return {@code true} if the event should be committed, {@code false} otherwise.
+	 */
+	public boolean end(Object event) {
+		if (event == null) {
+			return false;
+		}
+
+		try {
+			JFR.end.invoke(event);
+			return (boolean) JFR.shouldCommit.invoke(event);
+		}
+		catch (Throwable ex) {
+			log.debug("Failed to end JFR event {}: {}", name, ex);
+			return false;
+		}
+	}
+
+	/**
+	 * Set the event field values and commit the event.
+	 *
+	 * @param event The event, returned by {@link #begin()}.
+	 * @param values The field values, in declaration order.
+	 * @throws IllegalArgumentException If the number of values does not match the number of fields.
+	 */
+	public void commit(Object event, Object... values) {
+		if (values.length != fieldCount) {
+			throw new IllegalArgumentException("Event " + name + " expects " + fieldCount + " values, got: " + values.length);
+		}
+
+		if (event == null) {
+			return;
+		}
+
+		try {
+			for (int i = 0; i < values.length; ++i) {
+				JFR.set.invoke(event, i, values[i]);
+			}
+
+			JFR.commit.invoke(event);
+		}
+		catch (Throwable ex) {
+			log.debug("Failed to commit JFR event {}: {}", name, ex);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("name", name)
+			.append("fieldCount", fieldCount)
+			.append("registered", isRegistered())
+			.build();
+	}
+
+	/**
+	 * Builder of {@link JfrEventType}.
+	 */
+	public static final class Builder {
+
+		private final String name;
+		private final List<Field> fields;
+		private String label;
+		private String description;
+		private String[] category;
+
+		private Builder(String name) {
+			this.name = notBlank(name, "name");
+			this.fields = new ArrayList<>();
+			this.category = new String[0];
+		}
+
+		/**
+		 * Set the event label (i.e the human readable name of the event).
+		 *
+		 * @param label The label.
+		 * @return The builder.
+		 */
+		public Builder withLabel(String label) {
+			this.label = label;
+			return this;
+		}
+
+		/**
+		 * Set the event description.
+		 *
+		 * @param description The description.
+		 * @return The builder.
+		 */
+		public Builder withDescription(String description) {
+			this.description = description;
+			return this;
+		}
+
+		/**
+		 * Set the event category, for example {@code "junit-servers", "HTTP Client"}.
+		 *
+		 * @param category The category names.
+		 * @return The builder.
+		 */
+		public Builder withCategory(String... category) {
+			this.category = category.clone();
+			return this;
+		}
+
+		/**
+		 * Add an event field.
+		 *
+		 * @param type The field type: a primitive type, {@link String}, {@link Thread} or {@link Class}.
+		 * @param name The field name.
+		 * @param label The field label.
+		 * @return The builder.
+		 */
+		public Builder withField(Class<?> type, String name, String label) {
+			this.fields.add(new Field(notNull(type, "type"), notBlank(name, "name"), label, false));
+			return this;
+		}
+
+		/**
+		 * Add an event field, containing a number of bytes.
+		 *
+		 * @param name The field name.
+		 * @param label The field label.
+		 * @return The builder.
+		 */
+		public Builder withBytesField(String name, String label) {
+			this.fields.add(new Field(long.class, notBlank(name, "name"), label, true));
+			return this;
+		}
+
+		/**
+		 * Create the event type, and register it in the flight recorder (if JFR is supported).
+		 *
+		 * @return The event type.
+		 */
+		public JfrEventType build() {
+			Object factory = null;
+
+			if (JFR != null) {
+				try {
+					factory = JFR.createFactory(this);
+				}
+				catch (Exception ex) {
+					log.debug("Failed to register JFR event {}: {}", name, ex);
+				}
+			}
+
+			return new JfrEventType(name, fields.size(), factory);
+		}
+	}
+
+	/**
+	 * An event field.
+	 */
+	private static final class Field {
+		private final Class<?> type;
+		private final String name;
+		private final String label;
+		private final boolean bytes;
+
+		private Field(Class<?> type, String name, String label, boolean bytes) {
+			this.type = type;
+			this.name = name;
+			this.label = label;
+			this.bytes = bytes;
+		}
+	}
+
+	/**
+	 * The JFR API, resolved using reflection.
+	 */
+	private static final class Jfr {
+		private final Class<? extends Annotation> nameAnnotation;
+		private final Class<? extends Annotation> labelAnnotation;
+		private final Class<? extends Annotation> descriptionAnnotation;
+		private final Class<? extends Annotation> categoryAnnotation;
+		private final Class<? extends Annotation> dataAmountAnnotation;
+		private final Constructor<?> annotationElement;
+		private final Constructor<?> valueDescriptor;
+		private final Method create;
+		private final MethodHandle isInitialized;
+		private final MethodHandle newEvent;
+		private final MethodHandle isEnabled;
+		private final MethodHandle begin;
+		private final MethodHandle end;
+		private final MethodHandle shouldCommit;
+		private final MethodHandle set;
+		private final MethodHandle commit;
+
+		private Jfr() throws ReflectiveOperationException {
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			ClassLoader classLoader = JfrEventType.class.getClassLoader();
+
+			Class<?> eventClass = Class.forName("jdk.jfr.Event", false, classLoader);
+			Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory", false, classLoader);
+			Class<?> flightRecorderClass = Class.forName("jdk.jfr.FlightRecorder", false, classLoader);
+			Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement", false, classLoader);
+			Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor", false, classLoader);
+
+			this.nameAnnotation = annotationClass("jdk.jfr.Name", classLoader);
+			this.labelAnnotation = annotationClass("jdk.jfr.Label", classLoader);
+			this.descriptionAnnotation = annotationClass("jdk.jfr.Description", classLoader);
+			this.categoryAnnotation = annotationClass("jdk.jfr.Category", classLoader);
+			this.dataAmountAnnotation = annotationClass("jdk.jfr.DataAmount", classLoader);
+			this.annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+			this.valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+			this.create = eventFactoryClass.getMethod("create", List.class, List.class);
+			this.isInitialized = lookup.findStatic(flightRecorderClass, "isInitialized", methodType(boolean.class));
+			this.newEvent = lookup.findVirtual(eventFactoryClass, "newEvent", methodType(eventClass));
+			this.isEnabled = lookup.findVirtual(eventClass, "isEnabled", methodType(boolean.class));
+			this.begin = lookup.findVirtual(eventClass, "begin", methodType(void.class));
+			this.end = lookup.findVirtual(eventClass, "end", methodType(void.class));
+			this.shouldCommit = lookup.findVirtual(eventClass, "shouldCommit", methodType(boolean.class));
+			this.set = lookup.findVirtual(eventClass, "set", methodType(void.class, int.class, Object.class));
+			this.commit = lookup.findVirtual(eventClass, "commit", methodType(void.class));
+		}
+
+		private static Jfr load() {
+			try {
+				return new Jfr();
+			}
+			catch (ReflectiveOperationException | LinkageError | RuntimeException ex) {
+				log.debug("JFR events are not supported by the runtime environment: {}", ex);
+				return null;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Class<? extends Annotation> annotationClass(String name, ClassLoader classLoader) throws ClassNotFoundException {
+			return (Class<? extends Annotation>) Class.forName(name, false, classLoader);
+		}
+
+		// Check if the flight recorder has been started (i.e if a recording may be running).
+		private boolean isRecording() {
+			try {
+				return (boolean) isInitialized.invoke();
+			}
+			catch (Throwable ex) {
+				return false;
+			}
+		}
+
+		private Object createFactory(Builder builder) throws ReflectiveOperationException {
+			List<Object> annotations = new ArrayList<>();
+			annotations.add(annotationElement.newInstance(nameAnnotation, builder.name));
+			annotations.add(annotationElement.newInstance(categoryAnnotation, builder.category));
+
+			if (builder.label != null) {
+				annotations.add(annotationElement.newInstance(labelAnnotation, builder.label));
+			}
+
+			if (builder.description != null) {
+				annotations.add(annotationElement.newInstance(descriptionAnnotation, builder.description));
+			}
+
+			List<Object> fields = new ArrayList<>(builder.fields.size());
+			for (Field field : builder.fields) {
+				List<Object> fieldAnnotations = new ArrayList<>();
+				if (field.label != null) {
+					fieldAnnotations.add(annotationElement.newInstance(labelAnnotation, field.label));
+				}
+
+				if (field.bytes) {
+					fieldAnnotations.add(annotationElement.newInstance(dataAmountAnnotation, "BYTES"));
+				}
+
+				fields.add(valueDescriptor.newInstance(field.type, field.name, Collections.unmodifiableList(fieldAnnotations)));
+			}
+
+			return create.invoke(null, annotations, fields);
+		}
+	}
+}
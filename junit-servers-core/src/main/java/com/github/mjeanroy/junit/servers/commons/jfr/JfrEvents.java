@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.commons.jfr;
+
+/**
+ * The Java Flight Recorder events emitted by junit-servers, so that a single recording shows whether a slow test
+ * is waiting for the embedded server, the HTTP client, or the test code itself.
+ *
+ * <p>
+ *
+ * All events are defined in the {@code junit-servers} category (see {@link JfrEventType} for the runtime requirements).
+ *
+ * <strong>Internal API</strong>: these methods are part of the internal API and may be removed, have their signature change,
+ * or have their access level decreased from public to protected, package, or private in future versions without notice.
+ */
+public final class JfrEvents {
+
+	/**
+	 * The category of all events.
+	 */
+	private static final String CATEGORY = "junit-servers";
+
+	/**
+	 * Embedded server start, stop or restart, with fields:
+	 *
+	 * <ol>
+	 *   <li>The operation ({@code START}, {@code STOP} or {@code RESTART}).</li>
+	 *   <li>The embedded server class name.</li>
+	 *   <li>The embedded server URL.</li>
+	 * </ol>
+	 */
+	public static final JfrEventType SERVER_LIFECYCLE = JfrEventType.builder("com.github.mjeanroy.junit.servers.ServerLifecycle")
+		.withLabel("Embedded Server Lifecycle")
+		.withDescription("Start, stop or restart of an embedded server")
+		.withCategory(CATEGORY, "Server")
+		.withField(String.class, "operation", "Operation")
+		.withField(String.class, "server", "Server")
+		.withField(String.class, "url", "URL")
+		.build();
+
+	/**
+	 * Execution of an embedded server hook, with fields:
+	 *
+	 * <ol>
+	 *   <li>The hook class name.</li>
+	 *   <li>The hook phase ({@code pre}, {@code post} or {@code onStarted}).</li>
+	 *   <li>The embedded server class name.</li>
+	 * </ol>
+	 */
+	public static final JfrEventType HOOK = JfrEventType.builder("com.github.mjeanroy.junit.servers.Hook")
+		.withLabel("Embedded Server Hook")
+		.withDescription("Execution of an embedded server lifecycle hook")
+		.withCategory(CATEGORY, "Server")
+		.withField(String.class, "hook", "Hook")
+		.withField(String.class, "phase", "Phase")
+		.withField(String.class, "server", "Server")
+		.build();
+
+	/**
+	 * Injection (or clearing) of annotated fields in a test class instance, with fields:
+	 *
+	 * <ol>
+	 *   <li>The test class name.</li>
+	 *   <li>The phase ({@code inject} or {@code clear}).</li>
+	 *   <li>The number of annotated fields.</li>
+	 * </ol>
+	 */
+	public static final JfrEventType INJECTION = JfrEventType.builder("com.github.mjeanroy.junit.servers.Injection")
+		.withLabel("Test Injection")
+		.withDescription("Injection of annotated fields in a test class instance")
+		.withCategory(CATEGORY, "Test")
+		.withField(String.class, "testClass", "Test Class")
+		.withField(String.class, "phase", "Phase")
+		.withField(int.class, "fields", "Fields")
+		.build();
+
+	/**
+	 * Execution of an HTTP request, with fields:
+	 *
+	 * <ol>
+	 *   <li>The HTTP method.</li>
+	 *   <li>The request URL.</li>
+	 *   <li>The response status, {@code 0} if the request failed.</li>
+	 *   <li>The request body length, {@code -1} if unknown.</li>
+	 *   <li>The response body length (as defined by the {@code Content-Length} header), {@code -1} if unknown.</li>
+	 * </ol>
+	 */
+	public static final JfrEventType HTTP_REQUEST = JfrEventType.builder("com.github.mjeanroy.junit.servers.HttpRequest")
+		.withLabel("HTTP Request")
+		.withDescription("Execution of an HTTP request by a junit-servers HTTP client")
+		.withCategory(CATEGORY, "HTTP Client")
+		.withField(String.class, "method", "Method")
+		.withField(String.class, "url", "URL")
+		.withField(int.class, "status", "Status")
+		.withBytesField("requestBytes", "Request Bytes")
+		.withBytesField("responseBytes", "Response Bytes")
+		.build();
+
+	// Ensure non instantiation.
+	private JfrEvents() {
+	}
+}
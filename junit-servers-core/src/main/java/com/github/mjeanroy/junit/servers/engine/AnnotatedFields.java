@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.engine;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.commons.reflect.Annotations;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.github.mjeanroy.junit.servers.commons.reflect.Reflections.findAllFields;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Cache of annotated fields, indexed by test class.
+ *
+ * <p>
+ *
+ * Looking for annotations (and meta-annotations) on all fields of a test class is expensive, and the result
+ * never changes for a given class: the annotated fields of each test class are computed once and cached
+ * for the next test invocations.
+ */
+final class AnnotatedFields {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(AnnotatedFields.class);
+
+	/**
+	 * The annotated fields, indexed by class.
+	 */
+	private static final ClassValue<List<AnnotatedField>> cache = new ClassValue<List<AnnotatedField>>() {
+		@Override
+		protected List<AnnotatedField> computeValue(Class<?> type) {
+			return scan(type);
+		}
+	};
+
+	// Ensure non instantiation.
+	private AnnotatedFields() {
+	}
+
+	/**
+	 * Get all annotated fields of given class (including fields declared in super classes).
+	 *
+	 * @param type The class.
+	 * @return The annotated fields.
+	 */
+	static List<AnnotatedField> findAnnotatedFields(Class<?> type) {
+		return cache.get(type);
+	}
+
+	private static List<AnnotatedField> scan(Class<?> type) {
+		log.debug("Scanning annotated fields of: {}", type);
+
+		List<AnnotatedField> annotatedFields = new ArrayList<>();
+		for (Field field : findAllFields(type)) {
+			Collection<Annotation> annotations = Annotations.findAnnotations(field);
+			if (!annotations.isEmpty()) {
+				log.debug("Found annotations on field {}: {}", field, annotations);
+				annotatedFields.add(new AnnotatedField(field, annotations));
+			}
+		}
+
+		return unmodifiableList(annotatedFields);
+	}
+
+	/**
+	 * A field, with all its annotations.
+	 */
+	static final class AnnotatedField {
+
+		/**
+		 * The field.
+		 */
+		private final Field field;
+
+		/**
+		 * The annotations found on the field.
+		 */
+		private final List<Annotation> annotations;
+
+		private AnnotatedField(Field field, Collection<Annotation> annotations) {
+			this.field = makeAccessible(field);
+			this.annotations = unmodifiableList(new ArrayList<>(annotations));
+		}
+
+		/**
+		 * Get {@link #field}
+		 *
+		 * @return {@link #field}
+		 */
+		Field getField() {
+			return field;
+		}
+
+		/**
+		 * Get {@link #annotations}
+		 *
+		 * @return {@link #annotations}
+		 */
+		List<Annotation> getAnnotations() {
+			return annotations;
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("field", field)
+				.append("annotations", annotations)
+				.build();
+		}
+
+		/**
+		 * Make given field accessible once, so that it does not need to be made accessible (and then inaccessible)
+		 * each time it is read or written: note that the field instance is a copy owned by this cache, so this does
+		 * not have any side effect on other callers.
+		 *
+		 * @param field The field.
+		 * @return The field.
+		 */
+		private static Field makeAccessible(Field field) {
+			try {
+				field.setAccessible(true);
+			}
+			catch (RuntimeException ex) {
+				// Field will be made accessible each time it is read or written (and will probably fail).
+				log.warn("Cannot make field {} accessible: {}", field, ex.getMessage());
+			}
+
+			return field;
+		}
+	}
+}
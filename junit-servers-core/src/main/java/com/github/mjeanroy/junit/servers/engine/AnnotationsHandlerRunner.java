@@ -24,8 +24,9 @@
 
 package com.github.mjeanroy.junit.servers.engine;
 
+import com.github.mjeanroy.junit.servers.commons.jfr.JfrEvents;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
-import com.github.mjeanroy.junit.servers.commons.reflect.Annotations;
+import com.github.mjeanroy.junit.servers.engine.AnnotatedFields.AnnotatedField;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
@@ -33,10 +34,9 @@ import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.Collection;
 import java.util.List;
 
-import static com.github.mjeanroy.junit.servers.commons.reflect.Reflections.findAllFields;
+import static com.github.mjeanroy.junit.servers.engine.AnnotatedFields.findAnnotatedFields;
 import static com.github.mjeanroy.junit.servers.engine.ConfigurationAnnotationHandler.newConfigurationAnnotationHandler;
 import static com.github.mjeanroy.junit.servers.engine.HttpClientAnnotationHandler.newHttpClientAnnotationHandler;
 import static com.github.mjeanroy.junit.servers.engine.ServerAnnotationHandler.newServerAnnotationHandler;
@@ -83,6 +83,26 @@ public class AnnotationsHandlerRunner extends AbstractTestRunner implements Test
 		);
 	}
 
+	/**
+	 * Create test lifecycle engine that will setup Junit-Servers annotations declared in test class, using
+	 * embedded server (and embedded server configuration) of given runner.
+	 *
+	 * <p>
+	 *
+	 * Note that HTTP clients injected in fields annotated with {@link com.github.mjeanroy.junit.servers.annotations.TestHttpClient}
+	 * are leased from given runner: they are reset after each test, and destroyed once the runner is stopped.
+	 *
+	 * @param serverRunner The embedded server runner.
+	 */
+	public AnnotationsHandlerRunner(EmbeddedServerRunner serverRunner) {
+		EmbeddedServer<?> server = serverRunner.getServer();
+		this.handlers = asList(
+			newServerAnnotationHandler(server),
+			newConfigurationAnnotationHandler(server.getConfiguration()),
+			newHttpClientAnnotationHandler(serverRunner)
+		);
+	}
+
 	@Override
 	public void beforeEach(Object target) {
 		log.debug("Injecting to test class instance: {}", target);
@@ -105,16 +125,27 @@ public class AnnotationsHandlerRunner extends AbstractTestRunner implements Test
 	/**
 	 * Process handlers.
 	 *
+	 * <p>
+	 *
+	 * Annotated fields of the target class are computed once and then cached, so that processing a
+	 * test class instance only requires to run handlers on fields to inject.
+	 *
 	 * @param target Target class (i.e tested class).
 	 * @param before Flag to know if handler has to run "before" phase or "after" phase.
 	 */
 	private void process(Object target, boolean before) {
-		List<Field> fields = findAllFields(target.getClass());
-		for (Field field : fields) {
+		Object event = JfrEvents.INJECTION.begin();
+
+		List<AnnotatedField> annotatedFields = findAnnotatedFields(target.getClass());
+		for (AnnotatedField annotatedField : annotatedFields) {
 			for (AnnotationHandler handler : handlers) {
-				processField(target, handler, field, before);
+				processField(target, handler, annotatedField, before);
 			}
 		}
+
+		if (JfrEvents.INJECTION.end(event)) {
+			JfrEvents.INJECTION.commit(event, target.getClass().getName(), before ? "inject" : "clear", annotatedFields.size());
+		}
 	}
 
 	/**
@@ -122,15 +153,14 @@ public class AnnotationsHandlerRunner extends AbstractTestRunner implements Test
 	 *
 	 * @param target Target class (i.e tested class).
 	 * @param handler Handler.
-	 * @param field Field.
+	 * @param annotatedField Field, with its annotations.
 	 * @param before Flag to know if handler has to run "before" phase or "after" phase.
 	 */
-	private void processField(Object target, AnnotationHandler handler, Field field, boolean before) {
+	private void processField(Object target, AnnotationHandler handler, AnnotatedField annotatedField, boolean before) {
+		Field field = annotatedField.getField();
 		log.debug("Processing field: {}", field);
-		Collection<Annotation> annotations = Annotations.findAnnotations(field);
 
-		log.debug("Found annotations on field: {}", annotations);
-		for (Annotation annotation : annotations) {
+		for (Annotation annotation : annotatedField.getAnnotations()) {
 			processFieldAnnotation(target, handler, field, before, annotation);
 		}
 	}
@@ -145,7 +175,6 @@ public class AnnotationsHandlerRunner extends AbstractTestRunner implements Test
 	 * @param annotation The processed annotation.
 	 */
 	private void processFieldAnnotation(Object target, AnnotationHandler handler, Field field, boolean before, Annotation annotation) {
-		log.debug("Checking for annotation: {}", annotation);
 		if (handler.support(annotation)) {
 			log.debug("Annotation {} supported by handler: {}", annotation, handler);
 			processHandlerAnnotation(target, handler, field, before);
@@ -28,10 +28,13 @@ import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.load.LoadResult;
+import com.github.mjeanroy.junit.servers.load.LoadScenario;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.ServerLifecycleReport;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -66,6 +69,18 @@ public final class EmbeddedServerRunner extends AbstractTestRunner implements Te
 	 */
 	private final Map<HttpClientId, HttpClient> clients;
 
+	/**
+	 * Flag to indicate that the embedded server is a shared server, registered in {@link SharedServers}: a
+	 * shared server is not stopped in the {@code after} step.
+	 */
+	private final boolean shared;
+
+	/**
+	 * The name of the test suite using the embedded server (may be {@code null}): embedded server lifecycle
+	 * timings are attributed to this suite in the {@link ServerLifecycleReport}.
+	 */
+	private final String suite;
+
 	/**
 	 * Create rule with default embedded server.
 	 *
@@ -110,8 +125,55 @@ public final class EmbeddedServerRunner extends AbstractTestRunner implements Te
 	 * @throws NullPointerException If {@code server} is {@code null}.
 	 */
 	public EmbeddedServerRunner(EmbeddedServer<?> server) {
+		this(server, false, null);
+	}
+
+	/**
+	 * Create rule with an embedded server, used by given test class: embedded server lifecycle timings will be
+	 * attributed to this test class in the {@link ServerLifecycleReport}.
+	 *
+	 * @param server Embedded server, not null.
+	 * @param testClass The test class, may be {@code null}.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 */
+	public EmbeddedServerRunner(EmbeddedServer<?> server, Class<?> testClass) {
+		this(server, false, testClass);
+	}
+
+	// Create runner with given server.
+	private EmbeddedServerRunner(EmbeddedServer<?> server, boolean shared, Class<?> testClass) {
 		this.server = notNull(server, "server");
 		this.clients = new HashMap<>();
+		this.shared = shared;
+		this.suite = testClass == null ? null : testClass.getName();
+	}
+
+	/**
+	 * Create runner using a shared embedded server: the server is registered in {@link SharedServers}
+	 * registry (unless an equivalent server has already been registered), and it will not be stopped
+	 * in the {@code after} step.
+	 *
+	 * @param server Embedded server, not null.
+	 * @return The runner.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 * @see SharedServers#register(EmbeddedServer)
+	 */
+	public static EmbeddedServerRunner shared(EmbeddedServer<?> server) {
+		return shared(server, null);
+	}
+
+	/**
+	 * Create runner using a shared embedded server, used by given test class.
+	 *
+	 * @param server Embedded server, not null.
+	 * @param testClass The test class, may be {@code null}.
+	 * @return The runner.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 * @see #shared(EmbeddedServer)
+	 * @see #EmbeddedServerRunner(EmbeddedServer, Class)
+	 */
+	public static EmbeddedServerRunner shared(EmbeddedServer<?> server, Class<?> testClass) {
+		return new EmbeddedServerRunner(SharedServers.register(server, SharedServers.getShareKey(testClass)), true, testClass);
 	}
 
 	/**
@@ -119,7 +181,13 @@ public final class EmbeddedServerRunner extends AbstractTestRunner implements Te
 	 */
 	@Override
 	public void beforeAll() {
-		start();
+		if (shared) {
+			log.debug("Acquiring shared embedded server");
+			ServerLifecycleReport.runInSuite(suite, () -> SharedServers.acquire(server));
+		}
+		else {
+			start();
+		}
 	}
 
 	/**
@@ -127,7 +195,14 @@ public final class EmbeddedServerRunner extends AbstractTestRunner implements Te
 	 */
 	@Override
 	public void afterAll() {
-		stop();
+		if (shared) {
+			log.debug("Releasing shared embedded server");
+			closeOpenedClients();
+			SharedServers.release(server);
+		}
+		else {
+			stop();
+		}
 	}
 
 	/**
@@ -137,7 +212,7 @@ public final class EmbeddedServerRunner extends AbstractTestRunner implements Te
 	 */
 	public void start() {
 		log.debug("Starting embedded server");
-		server.start();
+		ServerLifecycleReport.runInSuite(suite, server::start);
 	}
 
 	/**
@@ -152,7 +227,7 @@ public final class EmbeddedServerRunner extends AbstractTestRunner implements Te
 
 	private void stopServer() {
 		log.debug("Stopping embedded server");
-		server.stop();
+		ServerLifecycleReport.runInSuite(suite, server::stop);
 	}
 
 	private void closeOpenedClients() {
@@ -176,7 +251,7 @@ public final class EmbeddedServerRunner extends AbstractTestRunner implements Te
 	 */
 	public void restart() {
 		log.debug("Restarting embedded server");
-		server.restart();
+		ServerLifecycleReport.runInSuite(suite, server::restart);
 	}
 
 	/**
@@ -256,6 +331,16 @@ public final class EmbeddedServerRunner extends AbstractTestRunner implements Te
 		return server;
 	}
 
+	/**
+	 * Check if embedded server is a shared server.
+	 *
+	 * @return {@code true} if embedded server is shared between test classes, {@code false} otherwise.
+	 * @see SharedServers
+	 */
+	public boolean isShared() {
+		return shared;
+	}
+
 	/**
 	 * Returns HTTP client that can be used against {@link #server}.
 	 *
@@ -300,6 +385,32 @@ public final class EmbeddedServerRunner extends AbstractTestRunner implements Te
 		return openClient(strategy, configuration);
 	}
 
+	/**
+	 * Run given load scenario against {@link #server}, using the default HTTP client.
+	 *
+	 * @param scenario The load scenario.
+	 * @return The result of the scenario.
+	 * @throws UnsupportedOperationException If the client cannot be returned because of missing implementation.
+	 * @see LoadScenario#run(HttpClient)
+	 */
+	public LoadResult runLoad(LoadScenario scenario) {
+		return runLoad(scenario, HttpClientStrategy.AUTO);
+	}
+
+	/**
+	 * Run given load scenario against {@link #server}, using given HTTP client strategy.
+	 *
+	 * @param scenario The load scenario.
+	 * @param strategy The strategy to use.
+	 * @return The result of the scenario.
+	 * @throws UnsupportedOperationException If the client cannot be returned because of missing implementation.
+	 * @see LoadScenario#run(HttpClient)
+	 */
+	public LoadResult runLoad(LoadScenario scenario, HttpClientStrategy strategy) {
+		notNull(scenario, "scenario");
+		return scenario.run(getClient(strategy));
+	}
+
 	private HttpClient openClient(HttpClientStrategy strategy, HttpClientConfiguration configuration) {
 		log.debug("Opening HTTP client using strategy: {}", strategy);
 
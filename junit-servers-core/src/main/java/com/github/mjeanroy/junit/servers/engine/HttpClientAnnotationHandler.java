@@ -57,7 +57,20 @@ class HttpClientAnnotationHandler extends AbstractAnnotationHandler {
 	 * @throws NullPointerException if server is null.
 	 */
 	static AnnotationHandler newHttpClientAnnotationHandler(EmbeddedServer<?> server) {
-		return new HttpClientAnnotationHandler(notNull(server, "server"));
+		return new HttpClientAnnotationHandler(notNull(server, "server"), null);
+	}
+
+	/**
+	 * Create new handler: HTTP clients are leased from given runner, so that they are reused between
+	 * tests (instead of being created before each test and destroyed after each test).
+	 *
+	 * @param serverRunner Embedded server runner.
+	 * @return Handler.
+	 * @throws NullPointerException if server runner is null.
+	 */
+	static AnnotationHandler newHttpClientAnnotationHandler(EmbeddedServerRunner serverRunner) {
+		notNull(serverRunner, "serverRunner");
+		return new HttpClientAnnotationHandler(serverRunner.getServer(), serverRunner);
 	}
 
 	/**
@@ -65,10 +78,22 @@ class HttpClientAnnotationHandler extends AbstractAnnotationHandler {
 	 */
 	private final EmbeddedServer<?> server;
 
+	/**
+	 * Embedded server runner, owning the HTTP clients (may be {@code null}).
+	 *
+	 * <p>
+	 *
+	 * When set, HTTP clients are leased from this runner and are only reset after each test (they will be
+	 * destroyed when the runner is stopped). Otherwise, HTTP clients are built before each test and destroyed
+	 * after each test.
+	 */
+	private final EmbeddedServerRunner serverRunner;
+
 	// Use static factory instead
-	private HttpClientAnnotationHandler(EmbeddedServer<?> server) {
+	private HttpClientAnnotationHandler(EmbeddedServer<?> server, EmbeddedServerRunner serverRunner) {
 		super(TestHttpClient.class);
 		this.server = server;
+		this.serverRunner = serverRunner;
 	}
 
 	@Override
@@ -77,7 +102,7 @@ class HttpClientAnnotationHandler extends AbstractAnnotationHandler {
 		TestHttpClient httpClient = Annotations.findAnnotation(field, TestHttpClient.class);
 		if (httpClient != null) {
 			HttpClientStrategy strategy = httpClient.strategy();
-			setter(target, field, strategy.build(server));
+			setter(target, field, serverRunner == null ? strategy.build(server) : serverRunner.getClient(strategy));
 		}
 	}
 
@@ -85,7 +110,14 @@ class HttpClientAnnotationHandler extends AbstractAnnotationHandler {
 	public void after(Object target, Field field) {
 		log.debug("Clearing HTTP client to {} # {}", target, field);
 		HttpClient httpClient = getter(target, field);
-		httpClient.destroy();
+
+		if (serverRunner == null) {
+			httpClient.destroy();
+		}
+		else if (!httpClient.isDestroyed()) {
+			httpClient.reset();
+		}
+
 		setter(target, field, null);
 	}
 
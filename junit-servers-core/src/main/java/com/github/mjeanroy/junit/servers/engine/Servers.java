@@ -36,9 +36,17 @@ import com.github.mjeanroy.junit.servers.servers.EmbeddedServerProvider;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
+import static com.github.mjeanroy.junit.servers.commons.core.DaemonThreadFactory.daemonThreadFactory;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
 import static com.github.mjeanroy.junit.servers.commons.reflect.Reflections.findStaticFieldsAnnotatedWith;
 import static com.github.mjeanroy.junit.servers.commons.reflect.Reflections.findStaticMethodsAnnotatedWith;
 import static com.github.mjeanroy.junit.servers.commons.reflect.Reflections.getter;
@@ -56,6 +64,12 @@ public final class Servers {
 	 */
 	private static final Logger log = LoggerFactory.getLogger(Servers.class);
 
+	/**
+	 * Thread factory used to start embedded servers concurrently: threads are daemon
+	 * threads, so that they never prevent the JVM from exiting.
+	 */
+	private static final ThreadFactory START_THREAD_FACTORY = daemonThreadFactory("junit-servers-start");
+
 	// Ensure non instantiation
 	private Servers() {
 	}
@@ -150,6 +164,67 @@ public final class Servers {
 		return configuration == null ? provider.instantiate() : provider.instantiate(configuration);
 	}
 
+	/**
+	 * Start given embedded servers concurrently.
+	 *
+	 * <p>
+	 *
+	 * Each server is started in a dedicated thread, the returned futures are completed once
+	 * the corresponding server is fully started (or completed exceptionally if the server failed to start).
+	 * Threads are released as soon as all servers have been started.
+	 *
+	 * <p>
+	 *
+	 * Note that environment properties are global to the JVM: servers defining the same environment
+	 * properties should not be started concurrently.
+	 *
+	 * @param servers Servers to start.
+	 * @return Futures, in the same order as given servers.
+	 * @throws NullPointerException If {@code servers} is {@code null}.
+	 */
+	public static List<CompletableFuture<EmbeddedServer<?>>> startAll(Collection<? extends EmbeddedServer<?>> servers) {
+		notNull(servers, "servers");
+
+		if (servers.isEmpty()) {
+			return new ArrayList<>(0);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(servers.size(), START_THREAD_FACTORY);
+		List<CompletableFuture<EmbeddedServer<?>>> futures = startAll(servers, executor);
+
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenComplete(
+			(result, error) -> executor.shutdown()
+		);
+
+		return futures;
+	}
+
+	/**
+	 * Start given embedded servers concurrently, using given executor.
+	 *
+	 * @param servers Servers to start.
+	 * @param executor The executor used to start each server.
+	 * @return Futures, in the same order as given servers.
+	 * @throws NullPointerException If {@code servers} or {@code executor} is {@code null}.
+	 * @see #startAll(Collection)
+	 */
+	public static List<CompletableFuture<EmbeddedServer<?>>> startAll(Collection<? extends EmbeddedServer<?>> servers, Executor executor) {
+		notNull(servers, "servers");
+		notNull(executor, "executor");
+
+		log.debug("Starting {} embedded server(s) concurrently", servers.size());
+
+		List<CompletableFuture<EmbeddedServer<?>>> futures = new ArrayList<>(servers.size());
+		for (EmbeddedServer<?> server : servers) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				server.start();
+				return server;
+			}, executor));
+		}
+
+		return futures;
+	}
+
 	/**
 	 * Find configuration object on static field / method on
 	 * running class. Configuration is read from static method or static field
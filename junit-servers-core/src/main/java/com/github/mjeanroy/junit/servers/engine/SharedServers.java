@@ -0,0 +1,319 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.engine;
+
+import com.github.mjeanroy.junit.servers.annotations.SharedServer;
+import com.github.mjeanroy.junit.servers.commons.reflect.Annotations;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * JVM-wide registry of shared embedded servers.
+ *
+ * <p>
+ *
+ * Shared servers are identified by their type and their share key (see {@link SharedServer#value()}) or, if no share key
+ * is defined, by their type and their configuration (compared using {@link Object#equals(Object)}): test classes using the
+ * same configuration will use the same embedded server, so that the server (and the underlying application) is started only once.
+ *
+ * <p>
+ *
+ * Each server is reference counted: a reference is acquired when a test class starts using the server, and released
+ * once all tests of this class have been run. A server that is no longer referenced is kept alive (so that next test
+ * classes can use it immediately) until {@link #stopIdle()} is called by the test engine, at the end of the test run:
+ * remaining shared servers are stopped when the JVM exits.
+ *
+ * <p>
+ *
+ * <strong>Internal API</strong>: these methods are part of the internal API and may be removed, have their signature change,
+ * or have their access level decreased from public to protected, package, or private in future versions without notice.
+ */
+public final class SharedServers {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(SharedServers.class);
+
+	/**
+	 * The shared servers, indexed by configuration.
+	 */
+	private static final Map<SharedServerId, EmbeddedServer<?>> servers = new HashMap<>();
+
+	/**
+	 * The number of references of each shared servers.
+	 */
+	private static final Map<EmbeddedServer<?>, Integer> references = new IdentityHashMap<>();
+
+	/**
+	 * Flag used to register the shutdown hook only once.
+	 */
+	private static boolean shutdownHookRegistered = false;
+
+	// Ensure non instantiation
+	private SharedServers() {
+	}
+
+	/**
+	 * Check if given test class requires a shared embedded server, i.e if the test class
+	 * is annotated with {@link SharedServer}.
+	 *
+	 * @param testClass The test class.
+	 * @return {@code true} if the test class should use a shared embedded server, {@code false} otherwise.
+	 */
+	public static boolean isShared(Class<?> testClass) {
+		return testClass != null && Annotations.findAnnotation(testClass, SharedServer.class) != null;
+	}
+
+	/**
+	 * Get the share key of given test class, i.e the value of its {@link SharedServer} annotation.
+	 *
+	 * @param testClass The test class.
+	 * @return The share key, {@code null} if the test class does not define a share key (or is not a shared test class).
+	 */
+	public static String getShareKey(Class<?> testClass) {
+		SharedServer annotation = testClass == null ? null : Annotations.findAnnotation(testClass, SharedServer.class);
+		return annotation == null || annotation.value().isEmpty() ? null : annotation.value();
+	}
+
+	/**
+	 * Register given embedded server as a shared server and returns it, unless a shared embedded server with
+	 * the same type and an equal configuration has already been registered: in this case, the previously registered
+	 * server is returned and the given one is simply discarded.
+	 *
+	 * <p>
+	 *
+	 * Note that the returned server may not be started yet.
+	 *
+	 * @param server The embedded server, not started.
+	 * @return The shared embedded server.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 */
+	public static EmbeddedServer<?> register(EmbeddedServer<?> server) {
+		return register(server, null);
+	}
+
+	/**
+	 * Register given embedded server as a shared server and returns it, unless a shared embedded server with
+	 * the same type and the same share key (or, if {@code shareKey} is {@code null}, an equal configuration) has
+	 * already been registered: in this case, the previously registered server is returned and the given one is
+	 * simply discarded.
+	 *
+	 * <p>
+	 *
+	 * Note that the returned server may not be started yet.
+	 *
+	 * @param server The embedded server, not started.
+	 * @param shareKey The share key, may be {@code null}.
+	 * @return The shared embedded server.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 */
+	public static synchronized EmbeddedServer<?> register(EmbeddedServer<?> server, String shareKey) {
+		notNull(server, "server");
+
+		SharedServerId id = new SharedServerId(server, shareKey);
+		EmbeddedServer<?> sharedServer = servers.get(id);
+
+		if (sharedServer == null) {
+			log.debug("Registering shared embedded server: {}", server);
+			servers.put(id, server);
+			references.put(server, 0);
+			registerShutdownHook();
+			return server;
+		}
+
+		log.debug("Returning shared embedded server: {}", sharedServer);
+		return sharedServer;
+	}
+
+	/**
+	 * Acquire a reference to given shared server, and start it if it is not already started: if the server
+	 * fails to start, the acquired reference is released and the error is rethrown.
+	 *
+	 * @param server The shared server.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 * @throws IllegalArgumentException If {@code server} has not been returned by {@link #register(EmbeddedServer)}.
+	 */
+	public static void acquire(EmbeddedServer<?> server) {
+		notNull(server, "server");
+
+		synchronized (SharedServers.class) {
+			int count = countReferences(server);
+			log.debug("Acquiring shared embedded server (references: {})", count + 1);
+			references.put(server, count + 1);
+		}
+
+		try {
+			server.start();
+		}
+		catch (RuntimeException | Error ex) {
+			log.debug("Failed to start shared embedded server, releasing acquired reference");
+			release(server);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Release a reference to given shared server: note that the server is not stopped, even if it is
+	 * no longer referenced.
+	 *
+	 * @param server The shared server.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 * @throws IllegalArgumentException If {@code server} has not been returned by {@link #register(EmbeddedServer)}.
+	 */
+	public static synchronized void release(EmbeddedServer<?> server) {
+		notNull(server, "server");
+
+		int count = countReferences(server);
+		log.debug("Releasing shared embedded server (references: {})", count - 1);
+		references.put(server, Math.max(count - 1, 0));
+	}
+
+	/**
+	 * Stop and unregister all shared servers that are no longer referenced.
+	 */
+	public static void stopIdle() {
+		List<EmbeddedServer<?>> idle = new ArrayList<>();
+
+		synchronized (SharedServers.class) {
+			Iterator<EmbeddedServer<?>> it = servers.values().iterator();
+			while (it.hasNext()) {
+				EmbeddedServer<?> server = it.next();
+				if (references.get(server) == 0) {
+					references.remove(server);
+					it.remove();
+					idle.add(server);
+				}
+			}
+		}
+
+		stop(idle);
+	}
+
+	/**
+	 * Stop and unregister all shared servers, whatever the number of references.
+	 */
+	static void stopAll() {
+		List<EmbeddedServer<?>> all;
+
+		synchronized (SharedServers.class) {
+			all = new ArrayList<>(servers.values());
+			servers.clear();
+			references.clear();
+		}
+
+		stop(all);
+	}
+
+	private static void stop(List<EmbeddedServer<?>> toStop) {
+		for (EmbeddedServer<?> server : toStop) {
+			log.debug("Stopping shared embedded server: {}", server);
+
+			try {
+				server.stop();
+			}
+			catch (RuntimeException ex) {
+				log.error("Failed to stop shared embedded server", ex);
+			}
+		}
+	}
+
+	private static int countReferences(EmbeddedServer<?> server) {
+		Integer count = references.get(server);
+		if (count == null) {
+			throw new IllegalArgumentException("Embedded server " + server + " is not a shared server");
+		}
+
+		return count;
+	}
+
+	private static void registerShutdownHook() {
+		if (!shutdownHookRegistered) {
+			log.debug("Registering shutdown hook to stop shared embedded servers");
+			Runtime.getRuntime().addShutdownHook(new Thread(SharedServers::stopAll, "junit-servers-shutdown"));
+			shutdownHookRegistered = true;
+		}
+	}
+
+	/**
+	 * The identifier of a shared server: the server type and the share key or, if no share key is defined,
+	 * the server configuration.
+	 */
+	private static final class SharedServerId {
+
+		/**
+		 * The server type.
+		 */
+		private final Class<?> serverClass;
+
+		/**
+		 * The share key, {@code null} if the server is identified by its configuration.
+		 */
+		private final String shareKey;
+
+		/**
+		 * The server configuration, {@code null} if the server is identified by its share key.
+		 */
+		private final Object configuration;
+
+		private SharedServerId(EmbeddedServer<?> server, String shareKey) {
+			this.serverClass = server.getClass();
+			this.shareKey = shareKey;
+			this.configuration = shareKey == null ? server.getConfiguration() : null;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof SharedServerId) {
+				SharedServerId id = (SharedServerId) o;
+				return Objects.equals(serverClass, id.serverClass)
+					&& Objects.equals(shareKey, id.shareKey)
+					&& Objects.equals(configuration, id.configuration);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(serverClass, shareKey, configuration);
+		}
+	}
+}
@@ -26,6 +26,7 @@ package com.github.mjeanroy.junit.servers.junit4;
 
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.engine.AnnotationsHandlerRunner;
+import com.github.mjeanroy.junit.servers.engine.EmbeddedServerRunner;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 
@@ -52,6 +53,17 @@ class AnnotationsHandlerRule extends AbstractRuleInstance {
 		this.annotationHandlers = new AnnotationsHandlerRunner(server, configuration);
 	}
 
+	/**
+	 * Create new rules, using embedded server of given runner.
+	 *
+	 * @param target Target class (i.e tested class).
+	 * @param serverRunner The embedded server runner used in the tested class instance.
+	 */
+	AnnotationsHandlerRule(Object target, EmbeddedServerRunner serverRunner) {
+		super(target);
+		this.annotationHandlers = new AnnotationsHandlerRunner(serverRunner);
+	}
+
 	@Override
 	protected void before() {
 		annotationHandlers.beforeEach(getTarget());
@@ -24,17 +24,26 @@
 
 package com.github.mjeanroy.junit.servers.junit4;
 
+import com.github.mjeanroy.junit.servers.engine.EmbeddedServerRunner;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.engine.SharedServers;
 import org.junit.rules.TestRule;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.InitializationError;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import static com.github.mjeanroy.junit.servers.engine.Servers.instantiate;
+import static com.github.mjeanroy.junit.servers.engine.SharedServers.isShared;
 
 /**
  * Runner that will start and stop embedded server before tests.
@@ -72,6 +81,11 @@ import static com.github.mjeanroy.junit.servers.engine.Servers.instantiate;
  * The runner should be used, but due to the limitation of JUnit (only one runner can be used), the rule can
  * be used if you need to use a custom runner.
  *
+ * <h3>How to share the embedded server between test classes?</h3>
+ *
+ * Annotate the test class with {@link com.github.mjeanroy.junit.servers.annotations.SharedServer}: the embedded server
+ * will be shared with all other test classes using the same configuration, and stopped once the test run is finished.
+ *
  * @see ServerRule
  */
 public class JunitServerRunner extends BlockJUnit4ClassRunner {
@@ -81,6 +95,11 @@ public class JunitServerRunner extends BlockJUnit4ClassRunner {
 	 */
 	private static final Logger log = LoggerFactory.getLogger(JunitServerRunner.class);
 
+	/**
+	 * The run notifiers where the shared servers cleanup listener has already been registered.
+	 */
+	private static final Set<RunNotifier> notifiers = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
 	/**
 	 * Embedded server defined before and after tests.
 	 */
@@ -91,6 +110,11 @@ public class JunitServerRunner extends BlockJUnit4ClassRunner {
 	 */
 	private final AbstractConfiguration configuration;
 
+	/**
+	 * The embedded server adapter, used to start and stop the embedded server.
+	 */
+	private final EmbeddedServerRunner adapter;
+
 	/**
 	 * Create runner starting an embedded server.
 	 *
@@ -105,9 +129,7 @@ public class JunitServerRunner extends BlockJUnit4ClassRunner {
 	 * @throws InitializationError If an error occurred while starting embedded server.
 	 */
 	public JunitServerRunner(Class<?> klass) throws InitializationError {
-		super(klass);
-		this.server = instantiate(klass);
-		this.configuration = this.server.getConfiguration();
+		this(klass, instantiate(klass));
 	}
 
 	/**
@@ -119,13 +141,35 @@ public class JunitServerRunner extends BlockJUnit4ClassRunner {
 	 */
 	protected JunitServerRunner(Class<?> klass, EmbeddedServer<?> server) throws InitializationError {
 		super(klass);
-		this.server = server;
-		this.configuration = server.getConfiguration();
+		this.adapter = isShared(klass) ? EmbeddedServerRunner.shared(server, klass) : new EmbeddedServerRunner(server, klass);
+		this.server = adapter.getServer();
+		this.configuration = this.server.getConfiguration();
+	}
+
+	@Override
+	public void run(RunNotifier notifier) {
+		if (adapter.isShared()) {
+			registerSharedServersCleanup(notifier);
+		}
+
+		super.run(notifier);
+	}
+
+	/**
+	 * Register, once per test run, a listener stopping idle shared servers when the test run is finished.
+	 *
+	 * @param notifier The run notifier.
+	 */
+	private static void registerSharedServersCleanup(RunNotifier notifier) {
+		if (notifiers.add(notifier)) {
+			log.debug("Registering shared embedded servers cleanup to junit run notifier");
+			notifier.addListener(new SharedServersCleanup());
+		}
 	}
 
 	@Override
 	protected List<TestRule> classRules() {
-		ServerRule serverRule = new ServerRule(server);
+		ServerRule serverRule = new ServerRule(adapter);
 
 		log.debug("Injecting {} to class rules", serverRule);
 		List<TestRule> classRules = super.classRules();
@@ -135,11 +179,21 @@ public class JunitServerRunner extends BlockJUnit4ClassRunner {
 
 	@Override
 	protected List<TestRule> getTestRules(Object target) {
-		AnnotationsHandlerRule rule = new AnnotationsHandlerRule(target, server, configuration);
+		AnnotationsHandlerRule rule = new AnnotationsHandlerRule(target, adapter);
 
 		log.debug("Injecting {} to test rules", rule);
 		List<TestRule> testRules = super.getTestRules(target);
 		testRules.add(rule);
 		return testRules;
 	}
+
+	/**
+	 * Listener stopping idle shared servers when the test run is finished.
+	 */
+	private static final class SharedServersCleanup extends RunListener {
+		@Override
+		public void testRunFinished(Result result) {
+			SharedServers.stopIdle();
+		}
+	}
 }
@@ -99,6 +99,15 @@ public class ServerRule extends AbstractRule {
 		this.adapter = new EmbeddedServerRunner(server);
 	}
 
+	/**
+	 * Create rule with given embedded server adapter.
+	 *
+	 * @param adapter The embedded server adapter.
+	 */
+	ServerRule(EmbeddedServerRunner adapter) {
+		this.adapter = adapter;
+	}
+
 	@Override
 	protected void before() {
 		adapter.beforeAll();
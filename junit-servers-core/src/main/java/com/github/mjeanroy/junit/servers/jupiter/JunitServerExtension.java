@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.junit.servers.jupiter;
 
+import com.github.mjeanroy.junit.servers.annotations.SharedServer;
 import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
 import com.github.mjeanroy.junit.servers.annotations.TestServer;
 import com.github.mjeanroy.junit.servers.annotations.TestServerConfiguration;
@@ -31,6 +32,7 @@ import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.engine.AnnotationsHandlerRunner;
 import com.github.mjeanroy.junit.servers.engine.EmbeddedServerRunner;
 import com.github.mjeanroy.junit.servers.engine.Servers;
+import com.github.mjeanroy.junit.servers.engine.SharedServers;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
@@ -132,6 +134,10 @@ import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNu
  *   }
  * }
  * </code></pre>
+ *
+ * When the test class is annotated with {@link SharedServer}, the embedded server started <strong>before all</strong> tests
+ * is shared with all other test classes using the same configuration: it is not stopped <strong>after all</strong> tests, but
+ * once all test classes have been run by the JUnit Jupiter engine.
  */
 public class JunitServerExtension implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback, ParameterResolver {
 
@@ -145,6 +151,11 @@ public class JunitServerExtension implements BeforeAllCallback, AfterAllCallback
 	 */
 	private static final Namespace NAMESPACE = Namespace.create(JunitServerExtension.class.getName());
 
+	/**
+	 * The key of the resource stopping idle shared servers, stored in the root context store.
+	 */
+	private static final String SHARED_SERVERS_KEY = "sharedServers";
+
 	/**
 	 * The name of the {@link EmbeddedServerRunner} instance in the internal store.
 	 */
@@ -231,9 +242,7 @@ public class JunitServerExtension implements BeforeAllCallback, AfterAllCallback
 			serverAdapter = registerEmbeddedServer(context, false);
 		}
 
-		EmbeddedServer<?> server = serverAdapter.getServer();
-		AbstractConfiguration configuration = server.getConfiguration();
-		AnnotationsHandlerRunner annotationsAdapter = new AnnotationsHandlerRunner(server, configuration);
+		AnnotationsHandlerRunner annotationsAdapter = new AnnotationsHandlerRunner(serverAdapter);
 		annotationsAdapter.beforeEach(context.getRequiredTestInstance());
 
 		putAnnotationsHandlerAdapterInStore(context, annotationsAdapter);
@@ -324,9 +333,11 @@ public class JunitServerExtension implements BeforeAllCallback, AfterAllCallback
 		log.debug("Register embedded server to junit extension context");
 
 		Class<?> testClass = context.getRequiredTestClass();
-		EmbeddedServer<?> server = this.server == null ? instantiateServer(testClass, configuration) : this.server;
+		EmbeddedServerRunner serverAdapter = createServerAdapter(testClass, staticMode);
+		if (serverAdapter.isShared()) {
+			registerSharedServersCleanup(context);
+		}
 
-		EmbeddedServerRunner serverAdapter = new EmbeddedServerRunner(server);
 		serverAdapter.beforeAll();
 
 		putEmbeddedServerAdapterInStore(context, serverAdapter, staticMode);
@@ -334,6 +345,47 @@ public class JunitServerExtension implements BeforeAllCallback, AfterAllCallback
 		return serverAdapter;
 	}
 
+	/**
+	 * Create the embedded server adapter: when the test class is annotated with {@link SharedServer} and the
+	 * extension has been registered as a static extension, the embedded server is shared between test classes
+	 * with the same configuration (a warning is logged if the extension is not registered as a static extension,
+	 * since the server cannot be shared in this mode).
+	 *
+	 * @param testClass The test class.
+	 * @param staticMode {@code true} if the extension has been registered as a static extension, {@code false} otherwise.
+	 * @return The adapter.
+	 */
+	private EmbeddedServerRunner createServerAdapter(Class<?> testClass, boolean staticMode) {
+		if (this.server != null) {
+			return new EmbeddedServerRunner(this.server, testClass);
+		}
+
+		EmbeddedServer<?> server = instantiateServer(testClass, configuration);
+		if (!SharedServers.isShared(testClass)) {
+			return new EmbeddedServerRunner(server, testClass);
+		}
+
+		if (!staticMode) {
+			log.warn("Test class {} is annotated with @SharedServer, but the extension is not registered as a static extension: the embedded server will not be shared", testClass.getName());
+			return new EmbeddedServerRunner(server, testClass);
+		}
+
+		return EmbeddedServerRunner.shared(server, testClass);
+	}
+
+	/**
+	 * Register, in the root context store, a resource stopping idle shared servers: this resource is closed
+	 * by the JUnit Jupiter engine once all test classes have been run.
+	 *
+	 * @param context The test context.
+	 */
+	private static void registerSharedServersCleanup(ExtensionContext context) {
+		context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(SHARED_SERVERS_KEY, key -> {
+			log.debug("Registering shared embedded servers cleanup to junit root context");
+			return (Store.CloseableResource) SharedServers::stopIdle;
+		});
+	}
+
 	/**
 	 * Stop and remove from the store the started embedded server.
 	 *
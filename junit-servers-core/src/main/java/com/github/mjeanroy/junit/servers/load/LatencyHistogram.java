@@ -0,0 +1,233 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe latency histogram, inspired by HDR Histogram: values (in nanoseconds) are recorded in
+ * log-linear buckets, so that the memory footprint is constant (whatever the number of recorded values),
+ * and each value is recorded with a relative error of at most 1/64 (about 1.6%).
+ *
+ * <p>
+ *
+ * Values lower than 128 are recorded exactly; then, each power of two range is divided
+ * into 64 linear sub-buckets, and a value is reported as the upper bound of its sub-bucket.
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * Number of bits used to index sub-buckets of each power of two range.
+	 */
+	private static final int SUB_BUCKET_BITS = 6;
+
+	/**
+	 * Number of sub-buckets in each power of two range.
+	 */
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * Number of buckets: enough to record any positive {@code long} value.
+	 */
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	/**
+	 * The counts, for each bucket.
+	 */
+	private final AtomicLongArray counts;
+
+	/**
+	 * The total number of recorded values.
+	 */
+	private final LongAdder count;
+
+	/**
+	 * The sum of recorded values.
+	 */
+	private final LongAdder sum;
+
+	/**
+	 * The lowest recorded value.
+	 */
+	private final LongAccumulator min;
+
+	/**
+	 * The highest recorded value.
+	 */
+	private final LongAccumulator max;
+
+	/**
+	 * Create an empty histogram.
+	 */
+	public LatencyHistogram() {
+		this.counts = new AtomicLongArray(BUCKET_COUNT);
+		this.count = new LongAdder();
+		this.sum = new LongAdder();
+		this.min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+		this.max = new LongAccumulator(Math::max, 0);
+	}
+
+	/**
+	 * Record given latency.
+	 *
+	 * @param nanos The latency, in nanoseconds (negative values are recorded as zero).
+	 */
+	public void record(long nanos) {
+		long value = Math.max(nanos, 0);
+		counts.incrementAndGet(indexOf(value));
+		count.increment();
+		sum.add(value);
+		min.accumulate(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * Remove all recorded values: values recorded concurrently may be partially removed.
+	 */
+	public void reset() {
+		for (int i = 0; i < counts.length(); i++) {
+			counts.set(i, 0);
+		}
+
+		count.reset();
+		sum.reset();
+		min.reset();
+		max.reset();
+	}
+
+	/**
+	 * Get the number of recorded values.
+	 *
+	 * @return Number of recorded values.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Get the lowest recorded latency.
+	 *
+	 * @return The lowest latency, {@link Duration#ZERO} if the histogram is empty.
+	 */
+	public Duration getMin() {
+		return getCount() == 0 ? Duration.ZERO : Duration.ofNanos(min.get());
+	}
+
+	/**
+	 * Get the highest recorded latency.
+	 *
+	 * @return The highest latency, {@link Duration#ZERO} if the histogram is empty.
+	 */
+	public Duration getMax() {
+		return Duration.ofNanos(max.get());
+	}
+
+	/**
+	 * Get the mean of recorded latencies.
+	 *
+	 * @return The mean latency, {@link Duration#ZERO} if the histogram is empty.
+	 */
+	public Duration getMean() {
+		long n = getCount();
+		return n == 0 ? Duration.ZERO : Duration.ofNanos(sum.sum() / n);
+	}
+
+	/**
+	 * Get the latency at given percentile, i.e the latency such that given percentage
+	 * of recorded values are lower or equal to this latency.
+	 *
+	 * @param percentile The percentile, between {@code 0} and {@code 100}.
+	 * @return The latency at given percentile, {@link Duration#ZERO} if the histogram is empty.
+	 * @throws IllegalArgumentException If {@code percentile} is not between {@code 0} and {@code 100}.
+	 */
+	public Duration getValueAtPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100, got: " + percentile);
+		}
+
+		long n = getCount();
+		if (n == 0) {
+			return Duration.ZERO;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts.get(i);
+			if (seen >= rank) {
+				return Duration.ofNanos(Math.min(highestValueOf(i), max.get()));
+			}
+		}
+
+		return getMax();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("count", getCount())
+			.append("min", getMin())
+			.append("max", getMax())
+			.append("mean", getMean())
+			.build();
+	}
+
+	/**
+	 * Compute the index of the bucket recording given value.
+	 *
+	 * @param value The value (positive).
+	 * @return The bucket index.
+	 */
+	static int indexOf(long value) {
+		if (value < 2 * SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift);
+		return (shift + 1) * SUB_BUCKET_COUNT + (subBucket - SUB_BUCKET_COUNT);
+	}
+
+	/**
+	 * Compute the highest value recorded in given bucket.
+	 *
+	 * @param index The bucket index.
+	 * @return The highest value of the bucket.
+	 */
+	static long highestValueOf(int index) {
+		if (index < 2 * SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
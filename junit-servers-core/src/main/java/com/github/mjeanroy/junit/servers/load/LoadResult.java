@@ -0,0 +1,182 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.time.Duration;
+
+/**
+ * The result of a {@link LoadScenario}: number of requests, number of errors, throughput and
+ * latency distribution.
+ *
+ * <p>
+ *
+ * For example:
+ *
+ * <pre><code>
+ *   LoadResult result = scenario.run(client);
+ *   assertThat(result.p99()).isLessThan(Duration.ofMillis(50));
+ *   assertThat(result.getErrors()).isZero();
+ * </code></pre>
+ */
+public final class LoadResult {
+
+	/**
+	 * The latency histogram.
+	 */
+	private final LatencyHistogram histogram;
+
+	/**
+	 * The number of failed requests.
+	 */
+	private final long errors;
+
+	/**
+	 * The elapsed time of the scenario.
+	 */
+	private final Duration elapsed;
+
+	/**
+	 * Create the result.
+	 *
+	 * @param histogram The latency histogram.
+	 * @param errors The number of failed requests.
+	 * @param elapsed The elapsed time of the scenario.
+	 */
+	LoadResult(LatencyHistogram histogram, long errors, Duration elapsed) {
+		this.histogram = histogram;
+		this.errors = errors;
+		this.elapsed = elapsed;
+	}
+
+	/**
+	 * Get the total number of requests executed during the scenario (including failed requests).
+	 *
+	 * @return The number of requests.
+	 */
+	public long getCount() {
+		return histogram.getCount();
+	}
+
+	/**
+	 * Get the number of failed requests, i.e requests that threw an exception or that did not
+	 * match the scenario success predicate.
+	 *
+	 * @return The number of failed requests.
+	 */
+	public long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Get the elapsed time of the scenario.
+	 *
+	 * @return The elapsed time.
+	 */
+	public Duration getElapsed() {
+		return elapsed;
+	}
+
+	/**
+	 * Get the throughput, in requests per second.
+	 *
+	 * @return The throughput.
+	 */
+	public double throughput() {
+		long nanos = elapsed.toNanos();
+		return nanos == 0 ? 0 : getCount() * 1_000_000_000.0 / nanos;
+	}
+
+	/**
+	 * Get the latency histogram.
+	 *
+	 * @return The histogram.
+	 */
+	public LatencyHistogram getHistogram() {
+		return histogram;
+	}
+
+	/**
+	 * Get the latency at given percentile.
+	 *
+	 * @param percentile The percentile, between {@code 0} and {@code 100}.
+	 * @return The latency.
+	 * @see LatencyHistogram#getValueAtPercentile(double)
+	 */
+	public Duration percentile(double percentile) {
+		return histogram.getValueAtPercentile(percentile);
+	}
+
+	/**
+	 * Get the median latency.
+	 *
+	 * @return The median latency.
+	 */
+	public Duration p50() {
+		return percentile(50);
+	}
+
+	/**
+	 * Get the 99th percentile latency.
+	 *
+	 * @return The 99th percentile latency.
+	 */
+	public Duration p99() {
+		return percentile(99);
+	}
+
+	/**
+	 * Get the 99.9th percentile latency.
+	 *
+	 * @return The 99.9th percentile latency.
+	 */
+	public Duration p999() {
+		return percentile(99.9);
+	}
+
+	/**
+	 * Get the highest latency.
+	 *
+	 * @return The highest latency.
+	 */
+	public Duration max() {
+		return histogram.getMax();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("count", getCount())
+			.append("errors", errors)
+			.append("elapsed", elapsed)
+			.append("throughput", throughput())
+			.append("p50", p50())
+			.append("p99", p99())
+			.append("p999", p999())
+			.append("max", max())
+			.build();
+	}
+}
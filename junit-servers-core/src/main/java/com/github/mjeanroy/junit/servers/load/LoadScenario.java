@@ -0,0 +1,496 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.github.mjeanroy.junit.servers.commons.core.DaemonThreadFactory.daemonThreadFactory;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * A load scenario, executing a request template against an embedded server and
+ * recording latencies in a {@link LatencyHistogram}.
+ *
+ * <p>
+ *
+ * Two models are supported:
+ *
+ * <ul>
+ *   <li>
+ *     The <strong>closed</strong> model (the default): a fixed number of workers execute requests
+ *     in a loop, each worker waiting for the response before sending the next request.
+ *   </li>
+ *   <li>
+ *     The <strong>open</strong> model (see {@link Builder#withArrivalRate(double)}): requests are
+ *     sent at a fixed arrival rate, whatever the response time of the server. Latencies are measured from the
+ *     time the request <em>should</em> have been sent, so that a stalled server is not hidden by the
+ *     load generator itself (i.e coordinated omission is avoided). Responses are verified by dedicated threads,
+ *     never by the I/O threads of the HTTP client.
+ *   </li>
+ * </ul>
+ *
+ * Note that requests queued by the HTTP client are measured as server latency: the client must allow at least
+ * as many concurrent connections as the scenario concurrency (see
+ * {@link com.github.mjeanroy.junit.servers.client.HttpClientConfiguration.Builder#withMaxConnectionsPerHost(int)}).
+ *
+ * For example:
+ *
+ * <pre><code>
+ *   LoadScenario scenario = new LoadScenario.Builder(client -&gt; client.prepareGet("/api/people"))
+ *     .withConcurrency(8)
+ *     .withDuration(Duration.ofSeconds(5))
+ *     .build();
+ *
+ *   LoadResult result = scenario.run(client);
+ * </code></pre>
+ */
+public final class LoadScenario {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(LoadScenario.class);
+
+	/**
+	 * The request template, creating the request to execute.
+	 */
+	private final Function<HttpClient, HttpRequest> request;
+
+	/**
+	 * The predicate used to check if a response is successful.
+	 */
+	private final Predicate<HttpResponse> success;
+
+	/**
+	 * The number of workers (closed model) or the maximum number of in-flight requests (open model).
+	 */
+	private final int concurrency;
+
+	/**
+	 * The duration of the scenario.
+	 */
+	private final Duration duration;
+
+	/**
+	 * The arrival rate, in requests per second, or zero for the closed model.
+	 */
+	private final double arrivalRate;
+
+	/**
+	 * The maximum number of requests to execute, or a negative value for an unlimited number of requests.
+	 */
+	private final long maxRequests;
+
+	private LoadScenario(Builder builder) {
+		this.request = builder.request;
+		this.success = builder.success;
+		this.concurrency = builder.concurrency;
+		this.duration = builder.duration;
+		this.arrivalRate = builder.arrivalRate;
+		this.maxRequests = builder.maxRequests;
+	}
+
+	/**
+	 * Get {@link #concurrency}
+	 *
+	 * @return {@link #concurrency}
+	 */
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	/**
+	 * Get {@link #duration}
+	 *
+	 * @return {@link #duration}
+	 */
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Get {@link #arrivalRate}
+	 *
+	 * @return {@link #arrivalRate}
+	 */
+	public double getArrivalRate() {
+		return arrivalRate;
+	}
+
+	/**
+	 * Get {@link #maxRequests}
+	 *
+	 * @return {@link #maxRequests}
+	 */
+	public long getMaxRequests() {
+		return maxRequests;
+	}
+
+	/**
+	 * Check if this scenario uses the open model (i.e a fixed arrival rate).
+	 *
+	 * @return {@code true} with the open model, {@code false} with the closed model.
+	 */
+	public boolean isOpenModel() {
+		return arrivalRate > 0;
+	}
+
+	/**
+	 * Run the scenario with given client, and wait for its completion.
+	 *
+	 * @param client The HTTP client.
+	 * @return The result of the scenario.
+	 * @throws NullPointerException If {@code client} is {@code null}.
+	 */
+	public LoadResult run(HttpClient client) {
+		notNull(client, "client");
+		log.debug("Running load scenario: {}", this);
+
+		HttpClientConfiguration configuration = client.getConfiguration();
+		if (configuration != null && configuration.getMaxConnectionsPerHost() < concurrency) {
+			log.warn("HTTP client allows {} concurrent connections, lower than the load scenario concurrency ({}): queued requests will be measured as server latency", configuration.getMaxConnectionsPerHost(), concurrency);
+		}
+
+		LoadResult result = isOpenModel() ? runOpen(client) : runClosed(client);
+
+		log.debug("Load scenario completed: {}", result);
+		return result;
+	}
+
+	private LoadResult runClosed(HttpClient client) {
+		LatencyHistogram histogram = new LatencyHistogram();
+		LongAdder errors = new LongAdder();
+		AtomicLong budget = new AtomicLong(maxRequests);
+
+		long start = System.nanoTime();
+		long deadline = start + duration.toNanos();
+
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency, daemonThreadFactory("junit-servers-load"));
+
+		try {
+			List<Future<?>> workers = new ArrayList<>(concurrency);
+			for (int i = 0; i < concurrency; i++) {
+				workers.add(executor.submit(() -> {
+					while (System.nanoTime() < deadline && (maxRequests < 0 || budget.getAndDecrement() > 0)) {
+						long t0 = System.nanoTime();
+						boolean ok = execute(client);
+						histogram.record(System.nanoTime() - t0);
+						if (!ok) {
+							errors.increment();
+						}
+					}
+				}));
+			}
+
+			for (Future<?> worker : workers) {
+				worker.get();
+			}
+		}
+		catch (InterruptedException ex) {
+			log.warn("Load scenario has been interrupted");
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException ex) {
+			throw new IllegalStateException("Load scenario failed", ex.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		return new LoadResult(histogram, errors.sum(), Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private LoadResult runOpen(HttpClient client) {
+		LatencyHistogram histogram = new LatencyHistogram();
+		LongAdder errors = new LongAdder();
+		Semaphore inFlight = new Semaphore(concurrency);
+
+		long interval = (long) (1_000_000_000.0 / arrivalRate);
+		long start = System.nanoTime();
+		long deadline = start + duration.toNanos();
+
+		// Responses are not verified in the completion callback, since it may be executed by an I/O thread of
+		// the HTTP client (for example, a Netty event loop): a slow verification would delay other responses.
+		ExecutorService verifier = Executors.newFixedThreadPool(concurrency, daemonThreadFactory("junit-servers-load-verifier"));
+
+		try {
+			for (long i = 0; maxRequests < 0 || i < maxRequests; i++) {
+				long intendedStart = start + i * interval;
+				if (intendedStart >= deadline) {
+					break;
+				}
+
+				parkUntil(intendedStart);
+				inFlight.acquire();
+
+				try {
+					request.apply(client).executeAsync().whenCompleteAsync((rsp, err) -> {
+						try {
+							boolean ok = err == null && verify(rsp);
+							histogram.record(System.nanoTime() - intendedStart);
+							if (!ok) {
+								errors.increment();
+							}
+						}
+						finally {
+							inFlight.release();
+						}
+					}, verifier);
+				}
+				catch (RuntimeException ex) {
+					log.debug("Failed to send request", ex);
+					histogram.record(System.nanoTime() - intendedStart);
+					errors.increment();
+					inFlight.release();
+				}
+			}
+
+			// Wait for in-flight requests.
+			inFlight.acquire(concurrency);
+		}
+		catch (InterruptedException ex) {
+			log.warn("Load scenario has been interrupted");
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			verifier.shutdownNow();
+		}
+
+		return new LoadResult(histogram, errors.sum(), Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private boolean execute(HttpClient client) {
+		try {
+			return verify(request.apply(client).execute());
+		}
+		catch (RuntimeException ex) {
+			log.debug("Failed to execute request", ex);
+			return false;
+		}
+	}
+
+	private boolean verify(HttpResponse response) {
+		try {
+			// The predicate is evaluated first, since it may read the response body (that can be read only once).
+			boolean ok = success.test(response);
+			drain(response);
+			return ok;
+		}
+		catch (RuntimeException ex) {
+			log.debug("Failed to read response", ex);
+			return false;
+		}
+	}
+
+	/**
+	 * Drain the response body, unless it has already been read by the success predicate, so that it is
+	 * part of the measured latency.
+	 *
+	 * @param response The response.
+	 */
+	private static void drain(HttpResponse response) {
+		try {
+			response.consumeBody(chunk -> {});
+		}
+		catch (IllegalStateException ex) {
+			log.trace("Response body has already been read by the success predicate");
+		}
+	}
+
+	private static void parkUntil(long nanoTime) {
+		long remaining;
+		while ((remaining = nanoTime - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(remaining);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("concurrency", concurrency)
+			.append("duration", duration)
+			.append("arrivalRate", arrivalRate)
+			.append("maxRequests", maxRequests)
+			.build();
+	}
+
+	/**
+	 * Builder for {@link LoadScenario} class.
+	 */
+	public static class Builder {
+
+		/**
+		 * The request template.
+		 */
+		private final Function<HttpClient, HttpRequest> request;
+
+		/**
+		 * The success predicate, default to responses with a status code lower than 400.
+		 */
+		private Predicate<HttpResponse> success;
+
+		/**
+		 * The concurrency, default to one.
+		 */
+		private int concurrency;
+
+		/**
+		 * The duration, default to ten seconds.
+		 */
+		private Duration duration;
+
+		/**
+		 * The arrival rate, default to zero (closed model).
+		 */
+		private double arrivalRate;
+
+		/**
+		 * The maximum number of requests, default to unlimited.
+		 */
+		private long maxRequests;
+
+		/**
+		 * Create the builder.
+		 *
+		 * @param request The request template, creating the request to execute with given client.
+		 * @throws NullPointerException If {@code request} is {@code null}.
+		 */
+		public Builder(Function<HttpClient, HttpRequest> request) {
+			this.request = notNull(request, "request");
+			this.success = rsp -> rsp.status() < 400;
+			this.concurrency = 1;
+			this.duration = Duration.ofSeconds(10);
+			this.arrivalRate = 0;
+			this.maxRequests = -1;
+		}
+
+		/**
+		 * Set the number of workers (closed model) or the maximum number of in-flight requests (open model).
+		 *
+		 * @param concurrency The concurrency.
+		 * @return The builder.
+		 * @throws IllegalArgumentException If {@code concurrency} is not strictly positive.
+		 */
+		public Builder withConcurrency(int concurrency) {
+			if (concurrency <= 0) {
+				throw new IllegalArgumentException("Concurrency must be strictly positive");
+			}
+
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		/**
+		 * Set the duration of the scenario.
+		 *
+		 * @param duration The duration.
+		 * @return The builder.
+		 * @throws NullPointerException If {@code duration} is {@code null}.
+		 * @throws IllegalArgumentException If {@code duration} is negative.
+		 */
+		public Builder withDuration(Duration duration) {
+			notNull(duration, "duration");
+			if (duration.isNegative()) {
+				throw new IllegalArgumentException("Duration must be positive");
+			}
+
+			this.duration = duration;
+			return this;
+		}
+
+		/**
+		 * Use the open model, sending requests at given arrival rate.
+		 *
+		 * @param requestsPerSecond The arrival rate, in requests per second.
+		 * @return The builder.
+		 * @throws IllegalArgumentException If {@code requestsPerSecond} is not strictly positive.
+		 */
+		public Builder withArrivalRate(double requestsPerSecond) {
+			if (!(requestsPerSecond > 0)) {
+				throw new IllegalArgumentException("Arrival rate must be strictly positive");
+			}
+
+			this.arrivalRate = requestsPerSecond;
+			return this;
+		}
+
+		/**
+		 * Stop the scenario after given number of requests (even if the duration has not elapsed).
+		 *
+		 * @param maxRequests The maximum number of requests.
+		 * @return The builder.
+		 * @throws IllegalArgumentException If {@code maxRequests} is negative.
+		 */
+		public Builder withMaxRequests(long maxRequests) {
+			if (maxRequests < 0) {
+				throw new IllegalArgumentException("Max requests must be positive");
+			}
+
+			this.maxRequests = maxRequests;
+			return this;
+		}
+
+		/**
+		 * Set the predicate used to check if a response is successful.
+		 *
+		 * @param success The predicate.
+		 * @return The builder.
+		 * @throws NullPointerException If {@code success} is {@code null}.
+		 */
+		public Builder withSuccessPredicate(Predicate<HttpResponse> success) {
+			this.success = notNull(success, "success");
+			return this;
+		}
+
+		/**
+		 * Create the scenario.
+		 *
+		 * @return The scenario.
+		 */
+		public LoadScenario build() {
+			return new LoadScenario(this);
+		}
+	}
+}
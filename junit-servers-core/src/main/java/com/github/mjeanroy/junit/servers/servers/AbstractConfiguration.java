@@ -139,6 +139,16 @@ public abstract class AbstractConfiguration {
 	 */
 	private final String overrideDescriptor;
 
+	/**
+	 * The thread pool used to execute requests, {@code null} to use the embedded server defaults.
+	 */
+	private final ThreadPoolConfiguration threadPool;
+
+	/**
+	 * The connector configuration, {@code null} to use the embedded server defaults.
+	 */
+	private final ConnectorConfiguration connector;
+
 	/**
 	 * Initialize configuration with default values.
 	 */
@@ -151,6 +161,8 @@ public abstract class AbstractConfiguration {
 		this.hooks = emptyList();
 		this.parentClassLoader = null;
 		this.overrideDescriptor = null;
+		this.threadPool = null;
+		this.connector = null;
 	}
 
 	/**
@@ -175,6 +187,35 @@ public abstract class AbstractConfiguration {
 		ClassLoader parentClassLoader,
 		String overrideDescriptor) {
 
+		this(classpath, path, webapp, port, envProperties, hooks, parentClassLoader, overrideDescriptor, null, null);
+	}
+
+	/**
+	 * Initialize configuration.
+	 *
+	 * @param classpath New {@link #classpath} value.
+	 * @param path New {@link #path} value.
+	 * @param webapp New {@link #webapp} value.
+	 * @param port New {@link #port} value.
+	 * @param envProperties New {@link #envProperties} value.
+	 * @param hooks New {@link #hooks} value.
+	 * @param parentClassLoader New {@link #parentClassLoader} value.
+	 * @param overrideDescriptor New {@link #overrideDescriptor} value.
+	 * @param threadPool New {@link #threadPool} value.
+	 * @param connector New {@link #connector} value.
+	 */
+	protected AbstractConfiguration(
+		String classpath,
+		String path,
+		String webapp,
+		int port,
+		Map<String, String> envProperties,
+		List<Hook> hooks,
+		ClassLoader parentClassLoader,
+		String overrideDescriptor,
+		ThreadPoolConfiguration threadPool,
+		ConnectorConfiguration connector) {
+
 		this.classpath = notNull(classpath, "classpath");
 		this.path = notNull(path, "path");
 		this.webapp = notNull(webapp, "webapp");
@@ -183,6 +224,8 @@ public abstract class AbstractConfiguration {
 		this.hooks = new ArrayList<>(hooks);
 		this.parentClassLoader = parentClassLoader;
 		this.overrideDescriptor = overrideDescriptor;
+		this.threadPool = threadPool;
+		this.connector = connector;
 	}
 
 	/**
@@ -239,6 +282,24 @@ public abstract class AbstractConfiguration {
 		return overrideDescriptor;
 	}
 
+	/**
+	 * Get {@link #threadPool}.
+	 *
+	 * @return {@link #threadPool}, {@code null} if the embedded server defaults should be used.
+	 */
+	public ThreadPoolConfiguration getThreadPool() {
+		return threadPool;
+	}
+
+	/**
+	 * Get {@link #connector}.
+	 *
+	 * @return {@link #connector}, {@code null} if the embedded server defaults should be used.
+	 */
+	public ConnectorConfiguration getConnector() {
+		return connector;
+	}
+
 	/**
 	 * Get {@link #envProperties} as a non-modifiable map.
 	 *
@@ -273,6 +334,8 @@ public abstract class AbstractConfiguration {
 				Objects.equals(envProperties, c.envProperties) &&
 				Objects.equals(hooks, c.hooks) &&
 				Objects.equals(overrideDescriptor, c.overrideDescriptor) &&
+				Objects.equals(threadPool, c.threadPool) &&
+				Objects.equals(connector, c.connector) &&
 				Objects.equals(parentClassLoader, c.parentClassLoader);
 		}
 
@@ -291,7 +354,7 @@ public abstract class AbstractConfiguration {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(port, path, webapp, classpath, envProperties, hooks, overrideDescriptor, parentClassLoader);
+		return Objects.hash(port, path, webapp, classpath, envProperties, hooks, overrideDescriptor, parentClassLoader, threadPool, connector);
 	}
 
 	@Override
@@ -303,6 +366,8 @@ public abstract class AbstractConfiguration {
 			.append("classpath", classpath)
 			.append("overrideDescriptor", overrideDescriptor)
 			.append("parentClassLoader", parentClassLoader)
+			.append("threadPool", threadPool)
+			.append("connector", connector)
 			.build();
 	}
 }
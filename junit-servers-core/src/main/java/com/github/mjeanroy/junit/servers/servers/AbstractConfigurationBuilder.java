@@ -108,6 +108,20 @@ public abstract class AbstractConfigurationBuilder<T extends AbstractConfigurati
 	 */
 	private String overrideDescriptor;
 
+	/**
+	 * The thread pool configuration.
+	 *
+	 * @see AbstractConfiguration#getThreadPool()
+	 */
+	private ThreadPoolConfiguration threadPool;
+
+	/**
+	 * The connector configuration.
+	 *
+	 * @see AbstractConfiguration#getConnector()
+	 */
+	private ConnectorConfiguration connector;
+
 	/**
 	 * Build default configuration.
 	 */
@@ -207,6 +221,24 @@ public abstract class AbstractConfigurationBuilder<T extends AbstractConfigurati
 		return overrideDescriptor;
 	}
 
+	/**
+	 * Get current {@link #threadPool}.
+	 *
+	 * @return {@link #threadPool}.
+	 */
+	public ThreadPoolConfiguration getThreadPool() {
+		return threadPool;
+	}
+
+	/**
+	 * Get current {@link #connector}.
+	 *
+	 * @return {@link #connector}.
+	 */
+	public ConnectorConfiguration getConnector() {
+		return connector;
+	}
+
 	/**
 	 * Change {@link #path} value.
 	 *
@@ -353,4 +385,26 @@ public abstract class AbstractConfigurationBuilder<T extends AbstractConfigurati
 		this.overrideDescriptor = overrideDescriptor;
 		return self();
 	}
+
+	/**
+	 * Change {@link #threadPool} value.
+	 *
+	 * @param threadPool The new {@link #threadPool} value, {@code null} to use the embedded server defaults.
+	 * @return this
+	 */
+	public T withThreadPool(ThreadPoolConfiguration threadPool) {
+		this.threadPool = threadPool;
+		return self();
+	}
+
+	/**
+	 * Change {@link #connector} value.
+	 *
+	 * @param connector The new {@link #connector} value, {@code null} to use the embedded server defaults.
+	 * @return this
+	 */
+	public T withConnector(ConnectorConfiguration connector) {
+		this.connector = connector;
+		return self();
+	}
 }
@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.junit.servers.servers;
 
+import com.github.mjeanroy.junit.servers.commons.jfr.JfrEvents;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 
@@ -55,7 +56,10 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 	private static final String DEFAULT_SCHEME = "http";
 
 	/**
-	 * The default host returned by {@link AbstractEmbeddedServer#getHost()}.
+	 * The default host returned by {@link AbstractEmbeddedServer#getHost()}, unless a connector
+	 * host is configured.
+	 *
+	 * @see ConnectorConfiguration#getHost()
 	 */
 	private static final String DEFAULT_HOST = "localhost";
 
@@ -83,8 +87,26 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 	 */
 	private final Map<String, String> oldProperties;
 
-	// Lock used to synchronize start and stop tasks
-	private static final Object lock = new Object();
+	/**
+	 * Lock used to synchronize start and stop tasks.
+	 *
+	 * <p>
+	 *
+	 * Note that this lock is owned by the server instance: two distinct embedded servers can
+	 * be started (or stopped) concurrently.
+	 */
+	private final Object lock;
+
+	/**
+	 * The recorder of the running lifecycle operation, {@code null} if no operation is running.
+	 */
+	private volatile ServerLifecycleRecorder recorder;
+
+	/**
+	 * The JFR event of the running lifecycle operation, {@code null} if no operation is running or if
+	 * no flight recording is running.
+	 */
+	private Object lifecycleEvent;
 
 	/**
 	 * Build default embedded server.
@@ -95,6 +117,7 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 		this.configuration = notNull(configuration, "configuration");
 		this.status = ServerStatus.STOPPED;
 		this.oldProperties = new LinkedHashMap<>();
+		this.lock = new Object();
 	}
 
 	@Override
@@ -105,13 +128,25 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 				log.debug("Lock acquired, starting server (current status is: {})", status);
 				if (status != ServerStatus.STARTED) {
 					status = ServerStatus.STARTING;
-					initEnvironment();
-					execHooks(true);
-					doStart();
-					status = ServerStatus.STARTED;
-
-					// Server is fully initialized
-					onStarted();
+					startRecording(ServerLifecycleTimings.Operation.START);
+
+					try {
+						long time = System.nanoTime();
+						initEnvironment();
+						time = endPhase(ServerLifecycleTimings.ENVIRONMENT, time);
+						execHooks(true);
+						time = endPhase(ServerLifecycleTimings.HOOKS, time);
+						doStart();
+						time = endPhase(ServerLifecycleTimings.SERVER, time);
+						status = ServerStatus.STARTED;
+
+						// Server is fully initialized
+						onStarted();
+						endPhase(ServerLifecycleTimings.STARTED_HOOKS, time);
+					}
+					finally {
+						stopRecording(status == ServerStatus.STARTED);
+					}
 				}
 			}
 
@@ -127,10 +162,21 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 				log.debug("Lock acquired, stopping server (current status is: {})", status);
 				if (status != ServerStatus.STOPPED) {
 					status = ServerStatus.STOPPING;
-					execHooks(false);
-					doStop();
-					destroyEnvironment();
-					status = ServerStatus.STOPPED;
+					startRecording(ServerLifecycleTimings.Operation.STOP);
+
+					try {
+						long time = System.nanoTime();
+						execHooks(false);
+						time = endPhase(ServerLifecycleTimings.HOOKS, time);
+						doStop();
+						time = endPhase(ServerLifecycleTimings.SERVER, time);
+						destroyEnvironment();
+						endPhase(ServerLifecycleTimings.ENVIRONMENT, time);
+						status = ServerStatus.STOPPED;
+					}
+					finally {
+						stopRecording(status == ServerStatus.STOPPED);
+					}
 				}
 			}
 
@@ -146,8 +192,45 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 	@Override
 	public void restart() {
 		log.debug("Restarting embedded server");
-		stop();
-		start();
+		if (status == ServerStatus.STARTED && canRestartInPlace()) {
+			synchronized (lock) {
+				log.debug("Lock acquired, restarting server in place (current status is: {})", status);
+				if (status == ServerStatus.STARTED) {
+					status = ServerStatus.STOPPING;
+					startRecording(ServerLifecycleTimings.Operation.RESTART);
+
+					try {
+						long time = System.nanoTime();
+						execHooks(false);
+						time = endPhase(ServerLifecycleTimings.HOOKS, time);
+						destroyEnvironment();
+						time = endPhase(ServerLifecycleTimings.ENVIRONMENT, time);
+
+						status = ServerStatus.STARTING;
+						initEnvironment();
+						time = endPhase(ServerLifecycleTimings.ENVIRONMENT, time);
+						execHooks(true);
+						time = endPhase(ServerLifecycleTimings.HOOKS, time);
+						doRestart();
+						time = endPhase(ServerLifecycleTimings.SERVER, time);
+						status = ServerStatus.STARTED;
+
+						// Server is fully initialized
+						onStarted();
+						endPhase(ServerLifecycleTimings.STARTED_HOOKS, time);
+					}
+					finally {
+						stopRecording(status == ServerStatus.STARTED);
+					}
+				}
+			}
+
+			log.debug("Lock released, current status is now: {}", status);
+		}
+		else {
+			stop();
+			start();
+		}
 	}
 
 	@Override
@@ -211,19 +294,101 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 	private void execHooks(boolean pre) {
 		log.debug("Executing embedded server lifecycle hooks (pre = {})", pre);
 		for (Hook hook : configuration.getHooks()) {
+			Object event = JfrEvents.HOOK.begin();
+
 			if (pre) {
 				hook.pre(this);
 			}
 			else {
 				hook.post(this);
 			}
+
+			commitHookEvent(event, hook, pre ? "pre" : "post");
 		}
 	}
 
 	private void onStarted() {
 		log.error("Executing `onStarted` embedded server lifecycle hooks");
 		for (Hook hook : configuration.getHooks()) {
+			Object event = JfrEvents.HOOK.begin();
 			hook.onStarted(this, getServletContext());
+			commitHookEvent(event, hook, "onStarted");
+		}
+	}
+
+	private void commitHookEvent(Object event, Hook hook, String phase) {
+		if (JfrEvents.HOOK.end(event)) {
+			JfrEvents.HOOK.commit(event, hook.getClass().getName(), phase, getClass().getName());
+		}
+	}
+
+	/**
+	 * Record the time spent in given phase of the running lifecycle operation (this method does nothing if
+	 * no lifecycle operation is running).
+	 *
+	 * <p>
+	 *
+	 * Subclasses may use this method to record internal phases of the underlying server (phases recorded during
+	 * {@link #doStart()}, {@link #doStop()} or {@link #doRestart()} are a breakdown of the {@link ServerLifecycleTimings#SERVER} phase).
+	 * Note that this method may be called from any thread.
+	 *
+	 * @param phase The phase name.
+	 * @param nanos The time spent in this phase, in nanoseconds.
+	 * @see ServerLifecycleTimings
+	 */
+	protected final void recordPhase(String phase, long nanos) {
+		ServerLifecycleRecorder current = recorder;
+		if (current != null) {
+			current.record(phase, nanos);
+		}
+	}
+
+	private void startRecording(ServerLifecycleTimings.Operation operation) {
+		recorder = new ServerLifecycleRecorder(operation);
+		lifecycleEvent = JfrEvents.SERVER_LIFECYCLE.begin();
+	}
+
+	/**
+	 * Record the time spent in given phase, started at given time.
+	 *
+	 * @param phase The phase name.
+	 * @param start The phase start time, in nanoseconds.
+	 * @return The phase end time, in nanoseconds.
+	 */
+	private long endPhase(String phase, long start) {
+		long end = System.nanoTime();
+		recordPhase(phase, end - start);
+		return end;
+	}
+
+	/**
+	 * Stop recording the running lifecycle operation, and notify listeners if the operation succeeded.
+	 *
+	 * @param success {@code true} if the operation succeeded, {@code false} otherwise.
+	 */
+	private void stopRecording(boolean success) {
+		ServerLifecycleTimings timings = recorder.stop();
+		Object event = lifecycleEvent;
+		recorder = null;
+		lifecycleEvent = null;
+
+		if (!success) {
+			return;
+		}
+
+		if (JfrEvents.SERVER_LIFECYCLE.end(event)) {
+			ServerLifecycleTimings.Operation operation = timings.getOperation();
+			String url = operation == ServerLifecycleTimings.Operation.STOP ? null : getUrl();
+			JfrEvents.SERVER_LIFECYCLE.commit(event, operation.name(), getClass().getName(), url);
+		}
+
+		log.debug("Embedded server lifecycle timings: {}", timings);
+		ServerLifecycleReport.record(timings);
+
+		for (Hook hook : configuration.getHooks()) {
+			if (hook instanceof ServerLifecycleListener) {
+				((ServerLifecycleListener) hook).onLifecycle(this, timings);
+			}
 		}
 	}
 
@@ -234,7 +399,8 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 
 	@Override
 	public String getHost() {
-		return DEFAULT_HOST;
+		final ConnectorConfiguration connector = configuration.getConnector();
+		return connector != null && connector.getHost() != null ? connector.getHost() : DEFAULT_HOST;
 	}
 
 	@Override
@@ -283,6 +449,27 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 	 */
 	protected abstract void doStop();
 
+	/**
+	 * Check if embedded server can be restarted in place, i.e without
+	 * a full stop / start cycle: if this method returns {@code true}, {@link #restart()}
+	 * will call {@link #doRestart()} instead of {@link #doStop()} and {@link #doStart()}.
+	 *
+	 * Default is {@code false}.
+	 *
+	 * @return {@code true} if server can be restarted in place, {@code false} otherwise.
+	 */
+	protected boolean canRestartInPlace() {
+		return false;
+	}
+
+	/**
+	 * Restart embedded server in place (only called if {@link #canRestartInPlace()} returns {@code true}).
+	 * Must block until server is fully restarted.
+	 */
+	protected void doRestart() {
+		throw new UnsupportedOperationException("Embedded server " + getClass().getName() + " cannot be restarted in place");
+	}
+
 	/**
 	 * Get port once server is started.
 	 *
@@ -0,0 +1,587 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.positive;
+
+/**
+ * Configuration of the connector accepting HTTP connections on the embedded server.
+ *
+ * <p>
+ *
+ * By default, the connector listens on all network interfaces: use {@link Builder#withHost(String)} to
+ * listen on a given address only, such as the loopback address {@code 127.0.0.1}, or use
+ * {@link Builder#withUnixSocket(String)} to listen on a unix domain socket instead of a TCP port.
+ *
+ * <p>
+ *
+ * Each setting is optional: an unset setting (i.e a {@code null} value) means that the embedded server
+ * default is used. Note that some settings may not be supported by all embedded servers: in this case, the
+ * setting is ignored (and a warning is logged).
+ */
+public final class ConnectorConfiguration {
+
+	/**
+	 * The I/O implementation used by the connector.
+	 */
+	public enum Protocol {
+
+		/**
+		 * Non blocking I/O, using selectors (i.e {@code java.nio}).
+		 */
+		NIO,
+
+		/**
+		 * Asynchronous I/O (i.e {@code java.nio.channels.AsynchronousSocketChannel}), supported by tomcat only.
+		 */
+		NIO2
+	}
+
+	/**
+	 * Get configuration builder.
+	 *
+	 * @return Builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * The connector I/O implementation.
+	 */
+	private final Protocol protocol;
+
+	/**
+	 * The address the connector listens on, also used as the host of the server URL.
+	 */
+	private final String host;
+
+	/**
+	 * The path of the unix domain socket the connector listens on, instead of a TCP port.
+	 *
+	 * <p>
+	 *
+	 * This is supported by the embedded jetty server only (and requires the {@code org.eclipse.jetty:jetty-unixsocket}
+	 * library), and the server can then be queried with the OkHttp client only (which requires the
+	 * {@code com.github.jnr:jnr-unixsocket} library).
+	 */
+	private final String unixSocket;
+
+	/**
+	 * The number of threads accepting new connections.
+	 */
+	private final Integer acceptors;
+
+	/**
+	 * The number of selector (a.k.a poller) threads.
+	 */
+	private final Integer selectors;
+
+	/**
+	 * The maximum number of connections accepted and processed at the same time.
+	 */
+	private final Integer maxConnections;
+
+	/**
+	 * The size of the accept queue (a.k.a backlog) of the server socket.
+	 */
+	private final Integer acceptQueueSize;
+
+	/**
+	 * The time, in milliseconds, an idle keep-alive connection is kept open.
+	 */
+	private final Integer keepAliveTimeout;
+
+	/**
+	 * The maximum number of requests that can be pipelined on a keep-alive connection.
+	 */
+	private final Integer maxKeepAliveRequests;
+
+	/**
+	 * The socket receive buffer size ({@code SO_RCVBUF}), in bytes.
+	 */
+	private final Integer socketReceiveBufferSize;
+
+	/**
+	 * The socket send buffer size ({@code SO_SNDBUF}), in bytes.
+	 */
+	private final Integer socketSendBufferSize;
+
+	/**
+	 * The size of the buffer used to write the response, in bytes.
+	 */
+	private final Integer outputBufferSize;
+
+	/**
+	 * The maximum size of the request line and request headers, in bytes.
+	 */
+	private final Integer requestHeaderSize;
+
+	// Private constructor, use static builder.
+	private ConnectorConfiguration(Builder builder) {
+		this.protocol = builder.protocol;
+		this.host = builder.host;
+		this.unixSocket = builder.unixSocket;
+		this.acceptors = builder.acceptors;
+		this.selectors = builder.selectors;
+		this.maxConnections = builder.maxConnections;
+		this.acceptQueueSize = builder.acceptQueueSize;
+		this.keepAliveTimeout = builder.keepAliveTimeout;
+		this.maxKeepAliveRequests = builder.maxKeepAliveRequests;
+		this.socketReceiveBufferSize = builder.socketReceiveBufferSize;
+		this.socketSendBufferSize = builder.socketSendBufferSize;
+		this.outputBufferSize = builder.outputBufferSize;
+		this.requestHeaderSize = builder.requestHeaderSize;
+	}
+
+	/**
+	 * Get {@link #protocol}
+	 *
+	 * @return {@link #protocol}
+	 */
+	public Protocol getProtocol() {
+		return protocol;
+	}
+
+	/**
+	 * Get {@link #host}
+	 *
+	 * @return {@link #host}, {@code null} to listen on all network interfaces.
+	 */
+	public String getHost() {
+		return host;
+	}
+
+	/**
+	 * Get {@link #unixSocket}
+	 *
+	 * @return {@link #unixSocket}, {@code null} to listen on a TCP port.
+	 */
+	public String getUnixSocket() {
+		return unixSocket;
+	}
+
+	/**
+	 * Get {@link #acceptors}
+	 *
+	 * @return {@link #acceptors}, {@code null} to use the embedded server default.
+	 */
+	public Integer getAcceptors() {
+		return acceptors;
+	}
+
+	/**
+	 * Get {@link #selectors}
+	 *
+	 * @return {@link #selectors}, {@code null} to use the embedded server default.
+	 */
+	public Integer getSelectors() {
+		return selectors;
+	}
+
+	/**
+	 * Get {@link #maxConnections}
+	 *
+	 * @return {@link #maxConnections}, {@code null} to use the embedded server default.
+	 */
+	public Integer getMaxConnections() {
+		return maxConnections;
+	}
+
+	/**
+	 * Get {@link #acceptQueueSize}
+	 *
+	 * @return {@link #acceptQueueSize}, {@code null} to use the embedded server default.
+	 */
+	public Integer getAcceptQueueSize() {
+		return acceptQueueSize;
+	}
+
+	/**
+	 * Get {@link #keepAliveTimeout}
+	 *
+	 * @return {@link #keepAliveTimeout}, {@code null} to use the embedded server default.
+	 */
+	public Integer getKeepAliveTimeout() {
+		return keepAliveTimeout;
+	}
+
+	/**
+	 * Get {@link #maxKeepAliveRequests}
+	 *
+	 * @return {@link #maxKeepAliveRequests}, {@code null} to use the embedded server default.
+	 */
+	public Integer getMaxKeepAliveRequests() {
+		return maxKeepAliveRequests;
+	}
+
+	/**
+	 * Get {@link #socketReceiveBufferSize}
+	 *
+	 * @return {@link #socketReceiveBufferSize}, {@code null} to use the embedded server default.
+	 */
+	public Integer getSocketReceiveBufferSize() {
+		return socketReceiveBufferSize;
+	}
+
+	/**
+	 * Get {@link #socketSendBufferSize}
+	 *
+	 * @return {@link #socketSendBufferSize}, {@code null} to use the embedded server default.
+	 */
+	public Integer getSocketSendBufferSize() {
+		return socketSendBufferSize;
+	}
+
+	/**
+	 * Get {@link #outputBufferSize}
+	 *
+	 * @return {@link #outputBufferSize}, {@code null} to use the embedded server default.
+	 */
+	public Integer getOutputBufferSize() {
+		return outputBufferSize;
+	}
+
+	/**
+	 * Get {@link #requestHeaderSize}
+	 *
+	 * @return {@link #requestHeaderSize}, {@code null} to use the embedded server default.
+	 */
+	public Integer getRequestHeaderSize() {
+		return requestHeaderSize;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof ConnectorConfiguration) {
+			ConnectorConfiguration c = (ConnectorConfiguration) o;
+			return Objects.equals(protocol, c.protocol)
+				&& Objects.equals(host, c.host)
+				&& Objects.equals(unixSocket, c.unixSocket)
+				&& Objects.equals(acceptors, c.acceptors)
+				&& Objects.equals(selectors, c.selectors)
+				&& Objects.equals(maxConnections, c.maxConnections)
+				&& Objects.equals(acceptQueueSize, c.acceptQueueSize)
+				&& Objects.equals(keepAliveTimeout, c.keepAliveTimeout)
+				&& Objects.equals(maxKeepAliveRequests, c.maxKeepAliveRequests)
+				&& Objects.equals(socketReceiveBufferSize, c.socketReceiveBufferSize)
+				&& Objects.equals(socketSendBufferSize, c.socketSendBufferSize)
+				&& Objects.equals(outputBufferSize, c.outputBufferSize)
+				&& Objects.equals(requestHeaderSize, c.requestHeaderSize);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(
+			protocol,
+			host,
+			unixSocket,
+			acceptors,
+			selectors,
+			maxConnections,
+			acceptQueueSize,
+			keepAliveTimeout,
+			maxKeepAliveRequests,
+			socketReceiveBufferSize,
+			socketSendBufferSize,
+			outputBufferSize,
+			requestHeaderSize
+		);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("protocol", protocol)
+			.append("host", host)
+			.append("unixSocket", unixSocket)
+			.append("acceptors", acceptors)
+			.append("selectors", selectors)
+			.append("maxConnections", maxConnections)
+			.append("acceptQueueSize", acceptQueueSize)
+			.append("keepAliveTimeout", keepAliveTimeout)
+			.append("maxKeepAliveRequests", maxKeepAliveRequests)
+			.append("socketReceiveBufferSize", socketReceiveBufferSize)
+			.append("socketSendBufferSize", socketSendBufferSize)
+			.append("outputBufferSize", outputBufferSize)
+			.append("requestHeaderSize", requestHeaderSize)
+			.build();
+	}
+
+	/**
+	 * Builder for {@link ConnectorConfiguration} instances.
+	 */
+	public static class Builder {
+
+		/**
+		 * The connector I/O implementation.
+		 */
+		private Protocol protocol;
+
+		/**
+		 * The listening address.
+		 */
+		private String host;
+
+		/**
+		 * The unix domain socket path.
+		 */
+		private String unixSocket;
+
+		/**
+		 * The number of acceptor threads.
+		 */
+		private Integer acceptors;
+
+		/**
+		 * The number of selector threads.
+		 */
+		private Integer selectors;
+
+		/**
+		 * The maximum number of connections.
+		 */
+		private Integer maxConnections;
+
+		/**
+		 * The accept queue size.
+		 */
+		private Integer acceptQueueSize;
+
+		/**
+		 * The keep-alive timeout, in milliseconds.
+		 */
+		private Integer keepAliveTimeout;
+
+		/**
+		 * The maximum number of requests per keep-alive connection.
+		 */
+		private Integer maxKeepAliveRequests;
+
+		/**
+		 * The socket receive buffer size.
+		 */
+		private Integer socketReceiveBufferSize;
+
+		/**
+		 * The socket send buffer size.
+		 */
+		private Integer socketSendBufferSize;
+
+		/**
+		 * The output buffer size.
+		 */
+		private Integer outputBufferSize;
+
+		/**
+		 * The request header size.
+		 */
+		private Integer requestHeaderSize;
+
+		private Builder() {
+			this.protocol = Protocol.NIO;
+		}
+
+		/**
+		 * Change {@link #protocol} value.
+		 *
+		 * @param protocol New {@link #protocol} value.
+		 * @return this
+		 * @throws NullPointerException If {@code protocol} is {@code null}.
+		 */
+		public Builder withProtocol(Protocol protocol) {
+			this.protocol = notNull(protocol, "protocol");
+			return this;
+		}
+
+		/**
+		 * Change {@link #host} value.
+		 *
+		 * @param host New {@link #host} value.
+		 * @return this
+		 * @throws NullPointerException If {@code host} is {@code null}.
+		 * @throws IllegalArgumentException If {@code host} is blank.
+		 */
+		public Builder withHost(String host) {
+			this.host = notBlank(host, "host");
+			return this;
+		}
+
+		/**
+		 * Change {@link #unixSocket} value.
+		 *
+		 * @param unixSocket New {@link #unixSocket} value.
+		 * @return this
+		 * @throws NullPointerException If {@code unixSocket} is {@code null}.
+		 * @throws IllegalArgumentException If {@code unixSocket} is blank.
+		 */
+		public Builder withUnixSocket(String unixSocket) {
+			this.unixSocket = notBlank(unixSocket, "unixSocket");
+			return this;
+		}
+
+		/**
+		 * Change {@link #acceptors} value.
+		 *
+		 * @param acceptors New {@link #acceptors} value.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code acceptors} is not positive.
+		 */
+		public Builder withAcceptors(int acceptors) {
+			this.acceptors = positive(acceptors, "acceptors");
+			return this;
+		}
+
+		/**
+		 * Change {@link #selectors} value.
+		 *
+		 * @param selectors New {@link #selectors} value.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code selectors} is not positive.
+		 */
+		public Builder withSelectors(int selectors) {
+			this.selectors = positive(selectors, "selectors");
+			return this;
+		}
+
+		/**
+		 * Change {@link #maxConnections} value.
+		 *
+		 * @param maxConnections New {@link #maxConnections} value.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code maxConnections} is not positive.
+		 */
+		public Builder withMaxConnections(int maxConnections) {
+			this.maxConnections = positive(maxConnections, "maxConnections");
+			return this;
+		}
+
+		/**
+		 * Change {@link #acceptQueueSize} value.
+		 *
+		 * @param acceptQueueSize New {@link #acceptQueueSize} value.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code acceptQueueSize} is not positive.
+		 */
+		public Builder withAcceptQueueSize(int acceptQueueSize) {
+			this.acceptQueueSize = positive(acceptQueueSize, "acceptQueueSize");
+			return this;
+		}
+
+		/**
+		 * Change {@link #keepAliveTimeout} value.
+		 *
+		 * @param keepAliveTimeout New {@link #keepAliveTimeout} value, in milliseconds.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code keepAliveTimeout} is not positive.
+		 */
+		public Builder withKeepAliveTimeout(int keepAliveTimeout) {
+			this.keepAliveTimeout = positive(keepAliveTimeout, "keepAliveTimeout");
+			return this;
+		}
+
+		/**
+		 * Change {@link #maxKeepAliveRequests} value.
+		 *
+		 * @param maxKeepAliveRequests New {@link #maxKeepAliveRequests} value.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code maxKeepAliveRequests} is not positive.
+		 */
+		public Builder withMaxKeepAliveRequests(int maxKeepAliveRequests) {
+			this.maxKeepAliveRequests = positive(maxKeepAliveRequests, "maxKeepAliveRequests");
+			return this;
+		}
+
+		/**
+		 * Change {@link #socketReceiveBufferSize} value.
+		 *
+		 * @param socketReceiveBufferSize New {@link #socketReceiveBufferSize} value, in bytes.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code socketReceiveBufferSize} is not positive.
+		 */
+		public Builder withSocketReceiveBufferSize(int socketReceiveBufferSize) {
+			this.socketReceiveBufferSize = positive(socketReceiveBufferSize, "socketReceiveBufferSize");
+			return this;
+		}
+
+		/**
+		 * Change {@link #socketSendBufferSize} value.
+		 *
+		 * @param socketSendBufferSize New {@link #socketSendBufferSize} value, in bytes.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code socketSendBufferSize} is not positive.
+		 */
+		public Builder withSocketSendBufferSize(int socketSendBufferSize) {
+			this.socketSendBufferSize = positive(socketSendBufferSize, "socketSendBufferSize");
+			return this;
+		}
+
+		/**
+		 * Change {@link #outputBufferSize} value.
+		 *
+		 * @param outputBufferSize New {@link #outputBufferSize} value, in bytes.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code outputBufferSize} is not positive.
+		 */
+		public Builder withOutputBufferSize(int outputBufferSize) {
+			this.outputBufferSize = positive(outputBufferSize, "outputBufferSize");
+			return this;
+		}
+
+		/**
+		 * Change {@link #requestHeaderSize} value.
+		 *
+		 * @param requestHeaderSize New {@link #requestHeaderSize} value, in bytes.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code requestHeaderSize} is not positive.
+		 */
+		public Builder withRequestHeaderSize(int requestHeaderSize) {
+			this.requestHeaderSize = positive(requestHeaderSize, "requestHeaderSize");
+			return this;
+		}
+
+		/**
+		 * Build the configuration.
+		 *
+		 * @return The configuration.
+		 */
+		public ConnectorConfiguration build() {
+			return new ConnectorConfiguration(this);
+		}
+	}
+}
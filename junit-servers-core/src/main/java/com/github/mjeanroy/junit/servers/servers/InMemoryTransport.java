@@ -0,0 +1,53 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transport used to dispatch HTTP requests directly into an embedded server, without opening
+ * any socket.
+ *
+ * <p>
+ *
+ * Embedded servers implementing this interface can be queried using the
+ * {@link com.github.mjeanroy.junit.servers.client.impl.inmemory.InMemoryHttpClient} http client: for now, only the
+ * embedded jetty server implements this interface.
+ */
+public interface InMemoryTransport {
+
+	/**
+	 * Dispatch a raw HTTP/1.1 request to the embedded server and wait for the raw HTTP/1.1 response.
+	 *
+	 * @param request The raw request (request line, headers and body).
+	 * @param head {@code true} if the request is a {@code HEAD} request, i.e the response does not have any body.
+	 * @param timeout The maximum time to wait for the response.
+	 * @param unit The {@code timeout} unit.
+	 * @return The raw response (status line, headers and body).
+	 * @throws Exception If an error occurred while dispatching the request.
+	 */
+	ByteBuffer dispatch(ByteBuffer request, boolean head, long timeout, TimeUnit unit) throws Exception;
+}
@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.mjeanroy.junit.servers.servers;
+
+import java.util.function.ObjLongConsumer;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * Record the time spent in a lifecycle phase that starts and ends in two different callbacks of the
+ * underlying server (for example, the start of a connector notified to a lifecycle listener).
+ *
+ * <p>
+ *
+ * The timer may be started and stopped several times: each step is recorded, and the recorder is expected
+ * to add up the time spent in the same phase (see {@link AbstractEmbeddedServer#recordPhase(String, long)}).
+ *
+ * <p>
+ *
+ * <strong>Internal API</strong>: these methods are part of the internal API and may be removed, have their signature change,
+ * or have their access level decreased from public to protected, package, or private in future versions without notice.
+ */
+public final class PhaseTimer {
+
+	/**
+	 * The recorded phase.
+	 */
+	private final String phase;
+
+	/**
+	 * The phase recorder.
+	 */
+	private final ObjLongConsumer<String> recorder;
+
+	/**
+	 * The start time of the current step, in nanoseconds.
+	 */
+	private volatile long stepStart;
+
+	/**
+	 * Create the timer.
+	 *
+	 * @param phase The recorded phase.
+	 * @param recorder The phase recorder.
+	 */
+	public PhaseTimer(String phase, ObjLongConsumer<String> recorder) {
+		this.phase = notBlank(phase, "phase");
+		this.recorder = notNull(recorder, "recorder");
+	}
+
+	/**
+	 * Start a new step of the phase.
+	 */
+	public void start() {
+		stepStart = System.nanoTime();
+	}
+
+	/**
+	 * End the current step of the phase, and record the time spent since {@link #start()}.
+	 */
+	public void stop() {
+		recorder.accept(phase, System.nanoTime() - stepStart);
+	}
+}
@@ -0,0 +1,67 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import javax.servlet.ServletContext;
+
+/**
+ * A {@link Hook} notified with the time spent in each phase of the embedded server lifecycle, once
+ * the server has been started, stopped or restarted.
+ *
+ * <p>
+ *
+ * Listeners are registered as any other hook, for example:
+ *
+ * <pre><code>
+ *   EmbeddedJettyConfiguration.builder()
+ *     .withHook((ServerLifecycleListener) (server, timings) -&gt; log(timings))
+ *     .build();
+ * </code></pre>
+ *
+ * @see ServerLifecycleTimings
+ */
+@FunctionalInterface
+public interface ServerLifecycleListener extends Hook {
+
+	@Override
+	default void pre(EmbeddedServer<?> server) {
+	}
+
+	@Override
+	default void post(EmbeddedServer<?> server) {
+	}
+
+	@Override
+	default void onStarted(EmbeddedServer<?> server, ServletContext servletContext) {
+	}
+
+	/**
+	 * Method invoked once a lifecycle operation (start, stop or restart) is done.
+	 *
+	 * @param server Server.
+	 * @param timings The time spent in each phase of the operation.
+	 */
+	void onLifecycle(EmbeddedServer<?> server, ServerLifecycleTimings timings);
+}
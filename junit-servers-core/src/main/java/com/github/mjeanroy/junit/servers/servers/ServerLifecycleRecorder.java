@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Record the time spent in each phase of a lifecycle operation.
+ *
+ * <p>
+ *
+ * This recorder is thread-safe: some phases may be recorded by the internal threads of the
+ * embedded server (for example, when webapp contexts are started in a dedicated thread pool).
+ */
+final class ServerLifecycleRecorder {
+
+	/**
+	 * The timed operation.
+	 */
+	private final ServerLifecycleTimings.Operation operation;
+
+	/**
+	 * The operation start time, in nanoseconds.
+	 */
+	private final long start;
+
+	/**
+	 * The time spent in each phase, in nanoseconds.
+	 */
+	private final Map<String, Long> phases;
+
+	/**
+	 * Create the recorder, and start the timer.
+	 *
+	 * @param operation The timed operation.
+	 */
+	ServerLifecycleRecorder(ServerLifecycleTimings.Operation operation) {
+		this.operation = operation;
+		this.start = System.nanoTime();
+		this.phases = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Record the time spent in given phase: if the phase has already been recorded, the time
+	 * is added to the previous one.
+	 *
+	 * @param phase The phase name.
+	 * @param nanos The time spent in this phase, in nanoseconds.
+	 */
+	synchronized void record(String phase, long nanos) {
+		Long previous = phases.get(phase);
+		phases.put(phase, previous == null ? nanos : previous + nanos);
+	}
+
+	/**
+	 * Stop the timer and returns the recorded timings.
+	 *
+	 * @return The timings.
+	 */
+	synchronized ServerLifecycleTimings stop() {
+		return new ServerLifecycleTimings(operation, phases, System.nanoTime() - start);
+	}
+}
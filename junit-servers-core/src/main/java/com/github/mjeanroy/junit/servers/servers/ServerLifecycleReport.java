@@ -0,0 +1,364 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * JVM-wide report of the time spent to start, stop and restart embedded servers, aggregated by
+ * test suite (i.e test class).
+ *
+ * <p>
+ *
+ * Each lifecycle operation is attributed to the suite running in the current thread (see {@link #runInSuite(String, Runnable)}),
+ * so that it is easy to find which test classes pay the most boot time. The report can be read using {@link #getSuites()}
+ * or {@link #summary()}, and it is logged (at {@code INFO} level) when the JVM exits if the system property
+ * {@value #REPORT_PROPERTY} is set to {@code true}.
+ *
+ * <p>
+ *
+ * <strong>Internal API</strong>: these methods are part of the internal API and may be removed, have their signature change,
+ * or have their access level decreased from public to protected, package, or private in future versions without notice.
+ */
+public final class ServerLifecycleReport {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(ServerLifecycleReport.class);
+
+	/**
+	 * The system property used to log the report when the JVM exits.
+	 */
+	public static final String REPORT_PROPERTY = "junit.servers.lifecycle-report";
+
+	/**
+	 * The suite name used for lifecycle operations run outside of any suite.
+	 */
+	static final String NO_SUITE = "(none)";
+
+	/**
+	 * The suite running in each thread.
+	 */
+	private static final ThreadLocal<String> currentSuite = new ThreadLocal<>();
+
+	/**
+	 * The timings, indexed by suite name.
+	 */
+	private static final Map<String, SuiteTimings> suites = new HashMap<>();
+
+	/**
+	 * Flag used to register the shutdown hook only once.
+	 */
+	private static boolean shutdownHookRegistered = false;
+
+	// Ensure non instantiation
+	private ServerLifecycleReport() {
+	}
+
+	/**
+	 * Run given action in given suite: all lifecycle operations executed by this action, in the current
+	 * thread, will be attributed to this suite.
+	 *
+	 * @param suite The suite name, may be {@code null}.
+	 * @param action The action.
+	 * @throws NullPointerException If {@code action} is {@code null}.
+	 */
+	public static void runInSuite(String suite, Runnable action) {
+		notNull(action, "action");
+
+		String previous = currentSuite.get();
+		currentSuite.set(suite);
+
+		try {
+			action.run();
+		}
+		finally {
+			if (previous == null) {
+				currentSuite.remove();
+			}
+			else {
+				currentSuite.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Get the timings of each suite, ordered by total time (the most expensive suite first).
+	 *
+	 * @return The timings of each suite.
+	 */
+	public static synchronized List<SuiteTimings> getSuites() {
+		List<SuiteTimings> results = new ArrayList<>(suites.values());
+		results.sort((t1, t2) -> Long.compare(t2.total, t1.total));
+		return Collections.unmodifiableList(results);
+	}
+
+	/**
+	 * Get a human readable summary of the report.
+	 *
+	 * @return The summary.
+	 */
+	public static String summary() {
+		List<SuiteTimings> results = getSuites();
+
+		long total = 0;
+		for (SuiteTimings suite : results) {
+			total += suite.total;
+		}
+
+		StringBuilder sb = new StringBuilder()
+			.append("Embedded servers lifecycle report (")
+			.append(results.size())
+			.append(" suite(s), total: ")
+			.append(formatNanos(total))
+			.append(")");
+
+		for (SuiteTimings suite : results) {
+			sb.append(System.lineSeparator()).append("  ").append(suite.format());
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Clear the report.
+	 */
+	public static synchronized void reset() {
+		suites.clear();
+	}
+
+	/**
+	 * Add given timings to the suite running in the current thread.
+	 *
+	 * @param timings The timings.
+	 */
+	static void record(ServerLifecycleTimings timings) {
+		String suite = currentSuite.get();
+		String name = suite == null ? NO_SUITE : suite;
+
+		synchronized (ServerLifecycleReport.class) {
+			SuiteTimings previous = suites.get(name);
+			suites.put(name, (previous == null ? new SuiteTimings(name) : previous).add(timings));
+			registerShutdownHook();
+		}
+	}
+
+	private static void registerShutdownHook() {
+		if (!shutdownHookRegistered && Boolean.getBoolean(REPORT_PROPERTY)) {
+			log.debug("Registering shutdown hook to log embedded servers lifecycle report");
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> log.info(summary()), "junit-servers-lifecycle-report"));
+			shutdownHookRegistered = true;
+		}
+	}
+
+	private static String formatNanos(long nanos) {
+		return String.format(Locale.ROOT, "%.1f ms", nanos / 1_000_000.0);
+	}
+
+	/**
+	 * The timings of a suite: the number of lifecycle operations, the time spent in each operation
+	 * and in each phase.
+	 */
+	public static final class SuiteTimings {
+
+		/**
+		 * The suite name.
+		 */
+		private final String suite;
+
+		/**
+		 * The number of each operation.
+		 */
+		private final Map<ServerLifecycleTimings.Operation, Long> counts;
+
+		/**
+		 * The time spent in each operation, in nanoseconds.
+		 */
+		private final Map<ServerLifecycleTimings.Operation, Long> totals;
+
+		/**
+		 * The time spent in each phase, in nanoseconds.
+		 */
+		private final Map<String, Long> phases;
+
+		/**
+		 * The total time, in nanoseconds.
+		 */
+		private final long total;
+
+		// Create empty timings.
+		private SuiteTimings(String suite) {
+			this(suite, new EnumMap<>(ServerLifecycleTimings.Operation.class), new EnumMap<>(ServerLifecycleTimings.Operation.class), new LinkedHashMap<>(), 0);
+		}
+
+		private SuiteTimings(
+				String suite,
+				Map<ServerLifecycleTimings.Operation, Long> counts,
+				Map<ServerLifecycleTimings.Operation, Long> totals,
+				Map<String, Long> phases,
+				long total) {
+
+			this.suite = suite;
+			this.counts = counts;
+			this.totals = totals;
+			this.phases = phases;
+			this.total = total;
+		}
+
+		// Returns new timings, including given operation timings.
+		private SuiteTimings add(ServerLifecycleTimings timings) {
+			ServerLifecycleTimings.Operation operation = timings.getOperation();
+
+			Map<ServerLifecycleTimings.Operation, Long> newCounts = new EnumMap<>(counts);
+			newCounts.merge(operation, 1L, Long::sum);
+
+			Map<ServerLifecycleTimings.Operation, Long> newTotals = new EnumMap<>(totals);
+			newTotals.merge(operation, timings.getTotalNanos(), Long::sum);
+
+			Map<String, Long> newPhases = new LinkedHashMap<>(phases);
+			for (Map.Entry<String, Long> phase : timings.getPhasesNanos().entrySet()) {
+				newPhases.merge(phase.getKey(), phase.getValue(), Long::sum);
+			}
+
+			return new SuiteTimings(suite, newCounts, newTotals, newPhases, total + timings.getTotalNanos());
+		}
+
+		/**
+		 * Get the suite name.
+		 *
+		 * @return The suite name.
+		 */
+		public String getSuite() {
+			return suite;
+		}
+
+		/**
+		 * Get the number of given operation executed in this suite.
+		 *
+		 * @param operation The operation.
+		 * @return The number of operations.
+		 */
+		public long getCount(ServerLifecycleTimings.Operation operation) {
+			return counts.getOrDefault(operation, 0L);
+		}
+
+		/**
+		 * Get the time spent in given operation.
+		 *
+		 * @param operation The operation.
+		 * @return The time spent in this operation.
+		 */
+		public Duration getTotal(ServerLifecycleTimings.Operation operation) {
+			return Duration.ofNanos(totals.getOrDefault(operation, 0L));
+		}
+
+		/**
+		 * Get the total time spent in lifecycle operations.
+		 *
+		 * @return The total time.
+		 */
+		public Duration getTotal() {
+			return Duration.ofNanos(total);
+		}
+
+		/**
+		 * Get the time spent in each phase, summed over all operations.
+		 *
+		 * @return The time spent in each phase.
+		 */
+		public Map<String, Duration> getPhases() {
+			Map<String, Duration> durations = new LinkedHashMap<>();
+			for (Map.Entry<String, Long> entry : phases.entrySet()) {
+				durations.put(entry.getKey(), Duration.ofNanos(entry.getValue()));
+			}
+
+			return Collections.unmodifiableMap(durations);
+		}
+
+		// Format timings as a single line.
+		private String format() {
+			StringBuilder sb = new StringBuilder()
+				.append(suite)
+				.append(": ")
+				.append(formatNanos(total))
+				.append(" (");
+
+			String separator = "";
+			for (ServerLifecycleTimings.Operation operation : ServerLifecycleTimings.Operation.values()) {
+				long count = getCount(operation);
+				if (count > 0) {
+					sb.append(separator)
+						.append(operation.name().toLowerCase(Locale.ROOT))
+						.append(": ")
+						.append(count)
+						.append(" x ")
+						.append(formatNanos(totals.get(operation) / count));
+
+					separator = ", ";
+				}
+			}
+
+			sb.append(")");
+
+			separator = " [";
+			for (Map.Entry<String, Long> phase : phases.entrySet()) {
+				sb.append(separator).append(phase.getKey()).append(": ").append(formatNanos(phase.getValue()));
+				separator = ", ";
+			}
+
+			if (!phases.isEmpty()) {
+				sb.append("]");
+			}
+
+			return sb.toString();
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("suite", suite)
+				.append("counts", counts)
+				.append("totals", totals)
+				.append("phases", phases)
+				.append("total", total)
+				.build();
+		}
+	}
+}
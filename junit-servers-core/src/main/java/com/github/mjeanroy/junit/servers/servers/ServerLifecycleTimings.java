@@ -0,0 +1,190 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The time spent in each phase of an embedded server lifecycle operation (start, stop or restart).
+ *
+ * <p>
+ *
+ * The following phases are recorded for all embedded servers:
+ *
+ * <ul>
+ *   <li>{@link #ENVIRONMENT}: the time spent to set (or reset) environment properties.</li>
+ *   <li>{@link #HOOKS}: the time spent in {@link Hook#pre(EmbeddedServer)} (or {@link Hook#post(EmbeddedServer)}) hooks.</li>
+ *   <li>{@link #SERVER}: the time spent to start (or stop, or restart) the underlying server.</li>
+ *   <li>{@link #STARTED_HOOKS}: the time spent in {@link Hook#onStarted(EmbeddedServer, javax.servlet.ServletContext)} hooks.</li>
+ * </ul>
+ *
+ * Embedded server implementations may record additional phases, prefixed by the server name (for example
+ * {@code "tomcat.connector"}): these phases are a breakdown of the {@link #SERVER} phase.
+ */
+public final class ServerLifecycleTimings {
+
+	/**
+	 * The phase used to set (or reset) environment properties.
+	 */
+	public static final String ENVIRONMENT = "environment";
+
+	/**
+	 * The phase used to execute {@code pre} (or {@code post}) hooks.
+	 */
+	public static final String HOOKS = "hooks";
+
+	/**
+	 * The phase used to start (or stop, or restart) the underlying server.
+	 */
+	public static final String SERVER = "server";
+
+	/**
+	 * The phase used to execute {@code onStarted} hooks.
+	 */
+	public static final String STARTED_HOOKS = "started-hooks";
+
+	/**
+	 * The lifecycle operation.
+	 */
+	public enum Operation {
+		/**
+		 * Embedded server start.
+		 */
+		START,
+
+		/**
+		 * Embedded server stop.
+		 */
+		STOP,
+
+		/**
+		 * Embedded server restart (in place).
+		 */
+		RESTART
+	}
+
+	/**
+	 * The timed operation.
+	 */
+	private final Operation operation;
+
+	/**
+	 * The time spent in each phase, in nanoseconds, in recording order.
+	 */
+	private final Map<String, Long> phases;
+
+	/**
+	 * The total time of the operation, in nanoseconds.
+	 */
+	private final long total;
+
+	/**
+	 * Create timings.
+	 *
+	 * @param operation The timed operation.
+	 * @param phases The time spent in each phase, in nanoseconds.
+	 * @param total The total time of the operation, in nanoseconds.
+	 */
+	ServerLifecycleTimings(Operation operation, Map<String, Long> phases, long total) {
+		this.operation = operation;
+		this.phases = Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+		this.total = total;
+	}
+
+	/**
+	 * Get the timed operation.
+	 *
+	 * @return The operation.
+	 */
+	public Operation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Get the total time of the operation.
+	 *
+	 * @return The total time.
+	 */
+	public Duration getTotal() {
+		return Duration.ofNanos(total);
+	}
+
+	/**
+	 * Get the time spent in given phase.
+	 *
+	 * @param phase The phase name.
+	 * @return The time spent in this phase, {@code null} if the phase has not been recorded.
+	 */
+	public Duration getPhase(String phase) {
+		Long nanos = phases.get(phase);
+		return nanos == null ? null : Duration.ofNanos(nanos);
+	}
+
+	/**
+	 * Get the time spent in each phase, in recording order.
+	 *
+	 * @return The time spent in each phase.
+	 */
+	public Map<String, Duration> getPhases() {
+		Map<String, Duration> durations = new LinkedHashMap<>();
+		for (Map.Entry<String, Long> entry : phases.entrySet()) {
+			durations.put(entry.getKey(), Duration.ofNanos(entry.getValue()));
+		}
+
+		return Collections.unmodifiableMap(durations);
+	}
+
+	/**
+	 * Get the time spent in each phase, in nanoseconds.
+	 *
+	 * @return The time spent in each phase.
+	 */
+	Map<String, Long> getPhasesNanos() {
+		return phases;
+	}
+
+	/**
+	 * Get the total time of the operation, in nanoseconds.
+	 *
+	 * @return The total time.
+	 */
+	long getTotalNanos() {
+		return total;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("operation", operation)
+			.append("total", getTotal())
+			.append("phases", getPhases())
+			.build();
+	}
+}
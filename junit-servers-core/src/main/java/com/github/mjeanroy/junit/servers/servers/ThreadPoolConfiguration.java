@@ -0,0 +1,327 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.positive;
+
+/**
+ * Configuration of the thread pool used by the embedded server to execute requests.
+ *
+ * <p>
+ *
+ * When {@link #isVirtualThreads()} is enabled, each request is executed in a new virtual thread (the pool
+ * sizes are then ignored): note that virtual threads require Java 21, the embedded server will fallback to
+ * the configured thread pool on older runtime.
+ */
+public final class ThreadPoolConfiguration {
+
+	/**
+	 * The default {@link #minThreads} value.
+	 */
+	private static final int DEFAULT_MIN_THREADS = 10;
+
+	/**
+	 * The default {@link #maxThreads} value.
+	 */
+	private static final int DEFAULT_MAX_THREADS = 200;
+
+	/**
+	 * The default {@link #queueSize} value: the queue is unbounded.
+	 */
+	private static final int DEFAULT_QUEUE_SIZE = Integer.MAX_VALUE;
+
+	/**
+	 * The default {@link #idleTimeout} value, in milliseconds.
+	 */
+	private static final int DEFAULT_IDLE_TIMEOUT = 60000;
+
+	/**
+	 * Get configuration builder.
+	 *
+	 * @return Builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Create a configuration executing each request in a new virtual thread.
+	 *
+	 * @return The configuration.
+	 */
+	public static ThreadPoolConfiguration virtualThreads() {
+		return builder().enableVirtualThreads().build();
+	}
+
+	/**
+	 * The minimum number of threads kept alive in the pool.
+	 */
+	private final int minThreads;
+
+	/**
+	 * The maximum number of threads in the pool.
+	 */
+	private final int maxThreads;
+
+	/**
+	 * The maximum number of tasks waiting for a thread.
+	 */
+	private final int queueSize;
+
+	/**
+	 * The time, in milliseconds, after which an idle thread (above {@link #minThreads}) is stopped.
+	 */
+	private final int idleTimeout;
+
+	/**
+	 * Flag used to execute requests in virtual threads (requires Java 21).
+	 */
+	private final boolean virtualThreads;
+
+	// Private constructor, use static builder.
+	private ThreadPoolConfiguration(Builder builder) {
+		this.minThreads = builder.minThreads;
+		this.maxThreads = builder.maxThreads;
+		this.queueSize = builder.queueSize;
+		this.idleTimeout = builder.idleTimeout;
+		this.virtualThreads = builder.virtualThreads;
+	}
+
+	/**
+	 * Get {@link #minThreads}
+	 *
+	 * @return {@link #minThreads}
+	 */
+	public int getMinThreads() {
+		return minThreads;
+	}
+
+	/**
+	 * Get {@link #maxThreads}
+	 *
+	 * @return {@link #maxThreads}
+	 */
+	public int getMaxThreads() {
+		return maxThreads;
+	}
+
+	/**
+	 * Get {@link #queueSize}
+	 *
+	 * @return {@link #queueSize}
+	 */
+	public int getQueueSize() {
+		return queueSize;
+	}
+
+	/**
+	 * Get {@link #idleTimeout}
+	 *
+	 * @return {@link #idleTimeout}
+	 */
+	public int getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/**
+	 * Get {@link #virtualThreads}
+	 *
+	 * @return {@link #virtualThreads}
+	 */
+	public boolean isVirtualThreads() {
+		return virtualThreads;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof ThreadPoolConfiguration) {
+			ThreadPoolConfiguration c = (ThreadPoolConfiguration) o;
+			return Objects.equals(minThreads, c.minThreads)
+				&& Objects.equals(maxThreads, c.maxThreads)
+				&& Objects.equals(queueSize, c.queueSize)
+				&& Objects.equals(idleTimeout, c.idleTimeout)
+				&& Objects.equals(virtualThreads, c.virtualThreads);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(minThreads, maxThreads, queueSize, idleTimeout, virtualThreads);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("minThreads", minThreads)
+			.append("maxThreads", maxThreads)
+			.append("queueSize", queueSize)
+			.append("idleTimeout", idleTimeout)
+			.append("virtualThreads", virtualThreads)
+			.build();
+	}
+
+	/**
+	 * Builder for {@link ThreadPoolConfiguration} instances.
+	 */
+	public static class Builder {
+
+		/**
+		 * The minimum number of threads.
+		 *
+		 * @see ThreadPoolConfiguration#DEFAULT_MIN_THREADS
+		 */
+		private int minThreads;
+
+		/**
+		 * The maximum number of threads.
+		 *
+		 * @see ThreadPoolConfiguration#DEFAULT_MAX_THREADS
+		 */
+		private int maxThreads;
+
+		/**
+		 * The maximum number of queued tasks.
+		 *
+		 * @see ThreadPoolConfiguration#DEFAULT_QUEUE_SIZE
+		 */
+		private int queueSize;
+
+		/**
+		 * The idle timeout, in milliseconds.
+		 *
+		 * @see ThreadPoolConfiguration#DEFAULT_IDLE_TIMEOUT
+		 */
+		private int idleTimeout;
+
+		/**
+		 * The virtual threads flag.
+		 */
+		private boolean virtualThreads;
+
+		private Builder() {
+			this.minThreads = DEFAULT_MIN_THREADS;
+			this.maxThreads = DEFAULT_MAX_THREADS;
+			this.queueSize = DEFAULT_QUEUE_SIZE;
+			this.idleTimeout = DEFAULT_IDLE_TIMEOUT;
+			this.virtualThreads = false;
+		}
+
+		/**
+		 * Change {@link #minThreads} value.
+		 *
+		 * @param minThreads New {@link #minThreads} value.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code minThreads} is not positive.
+		 */
+		public Builder withMinThreads(int minThreads) {
+			this.minThreads = positive(minThreads, "minThreads");
+			return this;
+		}
+
+		/**
+		 * Change {@link #maxThreads} value.
+		 *
+		 * @param maxThreads New {@link #maxThreads} value.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code maxThreads} is not strictly positive.
+		 */
+		public Builder withMaxThreads(int maxThreads) {
+			if (maxThreads <= 0) {
+				throw new IllegalArgumentException("maxThreads must be strictly positive");
+			}
+
+			this.maxThreads = maxThreads;
+			return this;
+		}
+
+		/**
+		 * Change {@link #queueSize} value.
+		 *
+		 * @param queueSize New {@link #queueSize} value.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code queueSize} is not positive.
+		 */
+		public Builder withQueueSize(int queueSize) {
+			this.queueSize = positive(queueSize, "queueSize");
+			return this;
+		}
+
+		/**
+		 * Change {@link #idleTimeout} value.
+		 *
+		 * @param idleTimeout New {@link #idleTimeout} value, in milliseconds.
+		 * @return this
+		 * @throws IllegalArgumentException If {@code idleTimeout} is not positive.
+		 */
+		public Builder withIdleTimeout(int idleTimeout) {
+			this.idleTimeout = positive(idleTimeout, "idleTimeout");
+			return this;
+		}
+
+		/**
+		 * Execute requests in virtual threads (requires Java 21).
+		 *
+		 * @return this
+		 */
+		public Builder enableVirtualThreads() {
+			this.virtualThreads = true;
+			return this;
+		}
+
+		/**
+		 * Execute requests in platform threads.
+		 *
+		 * @return this
+		 */
+		public Builder disableVirtualThreads() {
+			this.virtualThreads = false;
+			return this;
+		}
+
+		/**
+		 * Build the configuration.
+		 *
+		 * @return The configuration.
+		 * @throws IllegalArgumentException If {@code minThreads} is greater than {@code maxThreads}.
+		 */
+		public ThreadPoolConfiguration build() {
+			if (minThreads > maxThreads) {
+				throw new IllegalArgumentException("minThreads must be lower than or equal to maxThreads");
+			}
+
+			return new ThreadPoolConfiguration(this);
+		}
+	}
+}
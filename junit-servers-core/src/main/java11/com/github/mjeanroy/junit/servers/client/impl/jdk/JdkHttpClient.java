@@ -0,0 +1,148 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.jdk;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpUrl;
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.github.mjeanroy.junit.servers.commons.core.DaemonThreadFactory.daemonThreadFactory;
+
+/**
+ * Implementation of {@link HttpClient} using the HTTP client shipped with the JDK since Java 11 (i.e
+ * {@link java.net.http.HttpClient}).
+ *
+ * <p>
+ *
+ * The client negotiates HTTP/2 when the server supports it: requests on a single connection are then multiplexed.
+ * Note that, with a plain text connection, the JDK client does not support HTTP/2 with prior knowledge, and upgrades
+ * the connection using the {@code Upgrade: h2c} mechanism instead (falling back to HTTP/1.1 if the server
+ * does not support it).
+ *
+ * <p>
+ *
+ * <strong>This implementation requires Java 11.</strong>
+ *
+ * @see com.github.mjeanroy.junit.servers.client.HttpClientStrategy#JDK_HTTP_CLIENT
+ */
+public class JdkHttpClient extends AbstractHttpClient implements HttpClient {
+
+	/**
+	 * Create new http client using default configuration.
+	 *
+	 * @param server Embedded server.
+	 * @return Http client.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 */
+	public static JdkHttpClient defaultJdkHttpClient(EmbeddedServer<?> server) {
+		HttpClientConfiguration configuration = HttpClientConfiguration.defaultConfiguration();
+		return newJdkHttpClient(configuration, server);
+	}
+
+	/**
+	 * Create new http client using custom configuration.
+	 *
+	 * @param configuration Client configuration.
+	 * @param server Embedded server.
+	 * @return Http client.
+	 * @throws NullPointerException If {@code server} or {@code configuration} are {@code null}.
+	 */
+	public static JdkHttpClient newJdkHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
+		ExecutorService executor = Executors.newCachedThreadPool(daemonThreadFactory("junit-servers-jdk-http-client"));
+		java.net.http.HttpClient client = java.net.http.HttpClient.newBuilder()
+			.version(java.net.http.HttpClient.Version.HTTP_2)
+			.followRedirects(configuration.isFollowRedirect() ? java.net.http.HttpClient.Redirect.NORMAL : java.net.http.HttpClient.Redirect.NEVER)
+			.executor(executor)
+			.build();
+
+		return new JdkHttpClient(configuration, server, client, executor);
+	}
+
+	/**
+	 * Flag to ensure that the http client has been destroyed or not.
+	 */
+	private final AtomicBoolean destroyed;
+
+	/**
+	 * The native JDK client.
+	 */
+	private final java.net.http.HttpClient client;
+
+	/**
+	 * The executor used by the native JDK client: the executor is shutdown when the client is destroyed.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Create the client.
+	 *
+	 * @param configuration The client configuration.
+	 * @param server The embedded server that will be queried.
+	 * @param client The internal client.
+	 * @param executor The executor used by the internal client.
+	 */
+	private JdkHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, java.net.http.HttpClient client, ExecutorService executor) {
+		super(configuration, server);
+		this.client = client;
+		this.executor = executor;
+		this.destroyed = new AtomicBoolean(false);
+	}
+
+	@Override
+	protected HttpRequest buildRequest(HttpMethod httpMethod, HttpUrl endpoint) {
+		return new JdkHttpRequest(this.client, httpMethod, endpoint);
+	}
+
+	@Override
+	protected void doDestroy() {
+		if (destroyed.compareAndSet(false, true)) {
+			executor.shutdown();
+		}
+	}
+
+	@Override
+	public boolean isDestroyed() {
+		return destroyed.get();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("configuration", getConfiguration())
+			.append("server", getServer())
+			.append("client", client)
+			.append("destroyed", destroyed)
+			.build();
+	}
+}
@@ -0,0 +1,224 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.jdk;
+
+import com.github.mjeanroy.junit.servers.client.Cookies;
+import com.github.mjeanroy.junit.servers.client.HttpHeader;
+import com.github.mjeanroy.junit.servers.client.HttpHeaders;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpParameter;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpRequestBody;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpUrl;
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * Implementation of {@link HttpRequest} using the JDK HTTP client.
+ *
+ * @see com.github.mjeanroy.junit.servers.client.HttpClientStrategy#JDK_HTTP_CLIENT
+ */
+class JdkHttpRequest extends AbstractHttpRequest implements HttpRequest {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(JdkHttpRequest.class);
+
+	/**
+	 * Headers that cannot be set by the JDK HTTP client, since they are managed by the client itself.
+	 */
+	private static final Set<String> RESTRICTED_HEADERS = unmodifiableSet(new HashSet<>(Arrays.asList(
+		"connection", "content-length", "expect", "host", "upgrade"
+	)));
+
+	/**
+	 * The native JDK client.
+	 */
+	private final java.net.http.HttpClient client;
+
+	/**
+	 * Create JDK http request.
+	 *
+	 * @param client JDK http client.
+	 * @param httpMethod Http method.
+	 * @param endpoint Http request url.
+	 */
+	JdkHttpRequest(java.net.http.HttpClient client, HttpMethod httpMethod, HttpUrl endpoint) {
+		super(endpoint, httpMethod);
+		this.client = client;
+	}
+
+	@Override
+	protected HttpResponse doExecute() throws Exception {
+		final java.net.http.HttpRequest request = createRequest();
+
+		final RequestTimer timer = RequestTimer.startWithoutPhases();
+		final java.net.http.HttpResponse<InputStream> response = client.send(request, BodyHandlers.ofInputStream());
+		timer.onResponseStart();
+		return JdkHttpResponseFactory.of(response, timer);
+	}
+
+	@Override
+	protected CompletableFuture<HttpResponse> doExecuteAsync() throws Exception {
+		final java.net.http.HttpRequest request = createRequest();
+		final RequestTimer timer = RequestTimer.startWithoutPhases();
+
+		return client.sendAsync(request, BodyHandlers.ofInputStream()).handle((response, ex) -> {
+			if (ex != null) {
+				Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+				throw new HttpClientException(cause);
+			}
+
+			timer.onResponseStart();
+			return JdkHttpResponseFactory.of(response, timer);
+		});
+	}
+
+	/**
+	 * Create the native JDK request.
+	 *
+	 * @return The JDK request.
+	 * @throws IOException If an error occurred while creating the request body.
+	 */
+	private java.net.http.HttpRequest createRequest() throws IOException {
+		final java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(createRequestURI());
+		handleBody(builder);
+		handleCookies(builder);
+		handleHeaders(builder);
+		return builder.build();
+	}
+
+	/**
+	 * Create request URI: each additional query parameters will be appended to final URI.
+	 *
+	 * @return Created URI.
+	 */
+	private URI createRequestURI() {
+		final StringBuilder sb = new StringBuilder(getEndpoint().toURI().toString());
+
+		char separator = '?';
+		for (HttpParameter parameter : queryParams.values()) {
+			sb.append(separator).append(parameter.getEncodedName());
+			if (parameter.getValue() != null) {
+				sb.append('=').append(parameter.getEncodedValue());
+			}
+
+			separator = '&';
+		}
+
+		return URI.create(sb.toString());
+	}
+
+	/**
+	 * Add all HTTP headers to the final request: note that restricted headers (such as {@code Host} or
+	 * {@code Content-Length}) are managed by the JDK client and are skipped.
+	 *
+	 * @param builder The JDK request builder.
+	 * @see java.net.http.HttpRequest.Builder#setHeader(String, String)
+	 */
+	private void handleHeaders(java.net.http.HttpRequest.Builder builder) {
+		for (HttpHeader h : headers.values()) {
+			if (RESTRICTED_HEADERS.contains(h.getName().toLowerCase())) {
+				log.warn("Header {} is managed by the JDK HTTP client and cannot be set, skipping it", h.getName());
+				continue;
+			}
+
+			builder.setHeader(h.getName(), h.serializeValues());
+		}
+	}
+
+	/**
+	 * Add all cookies to the final request (i.e add the {@code Cookie} header).
+	 *
+	 * @param builder The JDK request builder.
+	 * @see java.net.http.HttpRequest.Builder#header(String, String)
+	 */
+	private void handleCookies(java.net.http.HttpRequest.Builder builder) {
+		if (!cookies.isEmpty()) {
+			builder.header(HttpHeaders.COOKIE, Cookies.serialize(cookies));
+		}
+	}
+
+	/**
+	 * Add request body if appropriate: the body is streamed, i.e it is not read in memory.
+	 *
+	 * @param builder The JDK request builder.
+	 * @throws IOException If an error occurred while computing the request body length.
+	 * @see java.net.http.HttpRequest.Builder#method(String, BodyPublisher)
+	 */
+	private void handleBody(java.net.http.HttpRequest.Builder builder) throws IOException {
+		final HttpMethod method = getMethod();
+		final BodyPublisher publisher = hasBody() ? createBody(body) : BodyPublishers.noBody();
+
+		builder.method(method.getVerb(), publisher);
+
+		if (body != null && body.getContentType() != null) {
+			builder.header(HttpHeaders.CONTENT_TYPE, body.getContentType());
+		}
+	}
+
+	/**
+	 * Create the JDK body publisher.
+	 *
+	 * @param body The request body.
+	 * @return The body publisher.
+	 * @throws IOException If an error occurred while computing the request body length.
+	 */
+	private static BodyPublisher createBody(HttpRequestBody body) throws IOException {
+		log.debug("Creating JDK request body from: {}", body);
+
+		final BodyPublisher publisher = BodyPublishers.ofInputStream(() -> {
+			try {
+				return body.openStream();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
+
+		final long contentLength = body.getContentLength();
+		return contentLength < 0 ? publisher : BodyPublishers.fromPublisher(publisher, contentLength);
+	}
+}
@@ -0,0 +1,172 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.jdk;
+
+import com.github.mjeanroy.junit.servers.client.HttpHeader;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.client.HttpHeaders.CONTENT_TYPE;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/**
+ * Implementation of {@link HttpResponse} delegating calls to original {@link java.net.http.HttpResponse}
+ * instance.
+ */
+final class JdkHttpResponse extends AbstractHttpResponse implements HttpResponse {
+
+	/**
+	 * The original response.
+	 */
+	private final java.net.http.HttpResponse<InputStream> response;
+
+	/**
+	 * Create the response from the JDK response.
+	 *
+	 * @param response The original response.
+	 * @param duration Request duration.
+	 */
+	JdkHttpResponse(java.net.http.HttpResponse<InputStream> response, long duration) {
+		this(response, duration, null);
+	}
+
+	/**
+	 * Create the response from the JDK response.
+	 *
+	 * @param response The original response.
+	 * @param duration Request duration.
+	 * @param timer The request timer.
+	 */
+	JdkHttpResponse(java.net.http.HttpResponse<InputStream> response, long duration, RequestTimer timer) {
+		super(duration, timer);
+		this.response = notNull(response, "Response");
+	}
+
+	@Override
+	public int status() {
+		return response.statusCode();
+	}
+
+	@Override
+	protected String readResponseBody() throws IOException {
+		return new String(readResponseBodyAsBytes(), charset());
+	}
+
+	@Override
+	protected InputStream readResponseBodyAsStream() {
+		return response.body();
+	}
+
+	@Override
+	public Collection<HttpHeader> getHeaders() {
+		Map<String, List<String>> headers = response.headers().map();
+		List<HttpHeader> results = new ArrayList<>(headers.size());
+		for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+			// Skip HTTP/2 pseudo headers.
+			if (!entry.getKey().startsWith(":")) {
+				results.add(HttpHeader.header(entry.getKey(), entry.getValue()));
+			}
+		}
+
+		return results;
+	}
+
+	@Override
+	public HttpHeader getHeader(String name) {
+		List<String> values = response.headers().allValues(name);
+		if (values.isEmpty()) {
+			return null;
+		}
+
+		return HttpHeader.header(name, values);
+	}
+
+	/**
+	 * Get the charset of the response body, as defined by the {@code Content-Type} header, default
+	 * to {@code UTF-8}.
+	 *
+	 * @return The charset.
+	 */
+	private Charset charset() {
+		String contentType = response.headers().firstValue(CONTENT_TYPE).orElse("");
+		for (String parameter : contentType.split(";")) {
+			String[] parts = parameter.trim().split("=", 2);
+			if (parts.length == 2 && parts[0].trim().equalsIgnoreCase("charset")) {
+				try {
+					return Charset.forName(parts[1].trim().replace("\"", ""));
+				}
+				catch (IllegalArgumentException ex) {
+					return StandardCharsets.UTF_8;
+				}
+			}
+		}
+
+		return StandardCharsets.UTF_8;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("duration", getRequestDuration())
+			.append("response", response)
+			.build();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof JdkHttpResponse) {
+			JdkHttpResponse r = (JdkHttpResponse) o;
+			return super.equals(r) && Objects.equals(response, r.response);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(super.hashCode(), response);
+	}
+
+	@Override
+	protected boolean canEqual(AbstractHttpResponse o) {
+		return o instanceof JdkHttpResponse;
+	}
+}
@@ -0,0 +1,64 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.jdk;
+
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.RequestTimer;
+
+import java.io.InputStream;
+
+/**
+ * Factory that produce {@link HttpResponse} from {@link java.net.http.HttpResponse}.
+ *
+ * @see com.github.mjeanroy.junit.servers.client.HttpClientStrategy#JDK_HTTP_CLIENT
+ */
+final class JdkHttpResponseFactory {
+
+	// Ensure non instantiation.
+	private JdkHttpResponseFactory() {
+	}
+
+	/**
+	 * Create the final {@link JdkHttpResponse} instance.
+	 *
+	 * @param response The JDK response.
+	 * @param duration The request duration.
+	 * @return The HTTP response.
+	 */
+	static HttpResponse of(java.net.http.HttpResponse<InputStream> response, long duration) {
+		return new JdkHttpResponse(response, duration);
+	}
+
+	/**
+	 * Create the final {@link JdkHttpResponse} instance.
+	 *
+	 * @param response The JDK response.
+	 * @param timer The request timer, started before the request has been submitted.
+	 * @return The HTTP response.
+	 */
+	static HttpResponse of(java.net.http.HttpResponse<InputStream> response, RequestTimer timer) {
+		return new JdkHttpResponse(response, timer.elapsed(), timer);
+	}
+}
@@ -31,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
 class HttpClientConfigurationTest {
@@ -151,6 +152,23 @@ class HttpClientConfigurationTest {
 			);
 	}
 
+	@Test
+	void it_should_create_configuration_with_max_connections_per_host() {
+		final HttpClientConfiguration configuration = new HttpClientConfiguration.Builder()
+			.withMaxConnectionsPerHost(500)
+			.build();
+
+		assertThat(configuration.getMaxConnectionsPerHost()).isEqualTo(500);
+		assertThat(HttpClientConfiguration.defaultConfiguration().getMaxConnectionsPerHost()).isEqualTo(100);
+	}
+
+	@Test
+	void it_should_fail_with_negative_max_connections_per_host() {
+		assertThatThrownBy(() -> new HttpClientConfiguration.Builder().withMaxConnectionsPerHost(0))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Max connections per host must be strictly positive");
+	}
+
 	@Test
 	void it_should_implement_equals_hashCode() {
 		EqualsVerifier.forClass(HttpClientConfiguration.class)
@@ -171,6 +189,7 @@ class HttpClientConfigurationTest {
 		assertThat(configuration.toString()).isEqualTo(
 			"HttpClientConfiguration{" +
 				"followRedirect: false, " +
+				"maxConnectionsPerHost: 100, " +
 				"defaultHeaders: {" +
 					"User-Agent: HttpHeader{name: \"User-Agent\", values: [\"" + ua + "\"]}" +
 				"}, " +
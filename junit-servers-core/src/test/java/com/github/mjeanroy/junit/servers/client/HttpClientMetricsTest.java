@@ -0,0 +1,160 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HttpClientMetricsTest {
+
+	@Test
+	void it_should_create_empty_metrics() {
+		final HttpClientMetrics metrics = new HttpClientMetrics();
+
+		assertThat(metrics.getCount()).isZero();
+		assertThat(metrics.getCount(HttpMethod.GET)).isZero();
+		assertThat(metrics.getFailureCount()).isZero();
+		assertThat(metrics.getLatency().getCount()).isZero();
+		assertThat(metrics.getLatency(HttpMethod.GET, "/foo").getCount()).isZero();
+		assertThat(metrics.getBytesSent()).isZero();
+		assertThat(metrics.getBytesReceived()).isZero();
+		assertThat(metrics.getConnectionCount()).isZero();
+		assertThat(metrics.getConnectionReuseRatio()).isNaN();
+		assertThat(metrics.getInFlight()).isZero();
+	}
+
+	@Test
+	void it_should_record_requests() {
+		final HttpClientMetrics metrics = new HttpClientMetrics();
+
+		metrics.onRequestStart();
+		metrics.onRequestStart();
+		metrics.onRequestStart();
+		assertThat(metrics.getInFlight()).isEqualTo(3);
+
+		metrics.onRequestEnd(HttpMethod.GET, "/foo", 200, Duration.ofMillis(10).toNanos(), 0, 100);
+		metrics.onRequestEnd(HttpMethod.GET, "/bar", 404, Duration.ofMillis(20).toNanos(), 0, -1);
+		metrics.onRequestEnd(HttpMethod.POST, "/foo", 0, Duration.ofMillis(30).toNanos(), 50, -1);
+
+		assertThat(metrics.getInFlight()).isZero();
+		assertThat(metrics.getCount()).isEqualTo(3);
+		assertThat(metrics.getCount(HttpMethod.GET)).isEqualTo(2);
+		assertThat(metrics.getCount(HttpMethod.GET, 200)).isEqualTo(1);
+		assertThat(metrics.getCount(HttpMethod.GET, 404)).isEqualTo(1);
+		assertThat(metrics.getCount(HttpMethod.GET, 999)).isZero();
+		assertThat(metrics.getCount(HttpMethod.POST, 0)).isEqualTo(1);
+		assertThat(metrics.getFailureCount()).isEqualTo(1);
+		assertThat(metrics.getBytesSent()).isEqualTo(50);
+		assertThat(metrics.getBytesReceived()).isEqualTo(100);
+
+		assertThat(metrics.getLatency().getCount()).isEqualTo(3);
+		assertThat(metrics.getLatency(HttpMethod.GET).getCount()).isEqualTo(2);
+		assertThat(metrics.getLatency(HttpMethod.GET, "/foo").getCount()).isEqualTo(1);
+		assertThat(metrics.getLatency(HttpMethod.GET, "/foo").getMax()).isEqualTo(Duration.ofMillis(10));
+		assertThat(metrics.getLatency(HttpMethod.POST, "/foo").getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_bound_number_of_endpoint_histograms() {
+		final HttpClientMetrics metrics = new HttpClientMetrics();
+
+		for (int i = 0; i < HttpClientMetrics.MAX_ENDPOINTS + 10; i++) {
+			metrics.onRequestStart();
+			metrics.onRequestEnd(HttpMethod.GET, "/users/" + i, 200, 1000, 0, 0);
+		}
+
+		metrics.onRequestStart();
+		metrics.onRequestEnd(HttpMethod.GET, "/users/0", 200, 1000, 0, 0);
+
+		assertThat(metrics.getLatency(HttpMethod.GET, "/users/0").getCount()).isEqualTo(2);
+		assertThat(metrics.getLatency(HttpMethod.GET, "/users/" + (HttpClientMetrics.MAX_ENDPOINTS - 1)).getCount()).isOne();
+		assertThat(metrics.getLatency(HttpMethod.GET, "/users/" + HttpClientMetrics.MAX_ENDPOINTS).getCount()).isZero();
+		assertThat(metrics.getOtherEndpointsLatency(HttpMethod.GET).getCount()).isEqualTo(10);
+		assertThat(metrics.getOtherEndpointsLatency(HttpMethod.POST).getCount()).isZero();
+		assertThat(metrics.getLatency(HttpMethod.GET).getCount()).isEqualTo(HttpClientMetrics.MAX_ENDPOINTS + 11);
+
+		metrics.reset();
+		metrics.onRequestStart();
+		metrics.onRequestEnd(HttpMethod.GET, "/users/" + HttpClientMetrics.MAX_ENDPOINTS, 200, 1000, 0, 0);
+
+		assertThat(metrics.getLatency(HttpMethod.GET, "/users/" + HttpClientMetrics.MAX_ENDPOINTS).getCount()).isOne();
+		assertThat(metrics.getOtherEndpointsLatency(HttpMethod.GET).getCount()).isZero();
+	}
+
+	@Test
+	void it_should_compute_connection_reuse_ratio() {
+		final HttpClientMetrics metrics = new HttpClientMetrics();
+
+		metrics.onConnectionOpened();
+		for (int i = 0; i < 4; i++) {
+			metrics.onRequestStart();
+			metrics.onRequestEnd(HttpMethod.GET, "/foo", 200, 1000, 0, 0);
+		}
+
+		assertThat(metrics.getConnectionCount()).isEqualTo(1);
+		assertThat(metrics.getConnectionReuseRatio()).isCloseTo(0.75, within(0.001));
+	}
+
+	@Test
+	void it_should_reset_metrics() {
+		final HttpClientMetrics metrics = new HttpClientMetrics();
+
+		metrics.onConnectionOpened();
+		metrics.onRequestStart();
+		metrics.onRequestStart();
+		metrics.onRequestEnd(HttpMethod.GET, "/foo", 200, 1000, 10, 20);
+
+		metrics.reset();
+
+		assertThat(metrics.getCount()).isZero();
+		assertThat(metrics.getLatency().getCount()).isZero();
+		assertThat(metrics.getLatency(HttpMethod.GET).getCount()).isZero();
+		assertThat(metrics.getLatency(HttpMethod.GET, "/foo").getCount()).isZero();
+		assertThat(metrics.getBytesSent()).isZero();
+		assertThat(metrics.getBytesReceived()).isZero();
+		assertThat(metrics.getConnectionCount()).isZero();
+		assertThat(metrics.getInFlight()).isOne();
+	}
+
+	@Test
+	void it_should_fail_to_bind_to_micrometer_if_not_available() {
+		final HttpClientMetrics metrics = new HttpClientMetrics();
+
+		assertThatThrownBy(() -> metrics.bindTo(new Object()))
+			.isExactlyInstanceOf(IllegalStateException.class)
+			.hasMessage("Micrometer is not available on the classpath");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		final HttpClientMetrics metrics = new HttpClientMetrics();
+		assertThat(metrics.toString()).startsWith("HttpClientMetrics{count: 0, latency: LatencyHistogram{");
+	}
+}
@@ -26,14 +26,20 @@ package com.github.mjeanroy.junit.servers.client;
 
 import com.github.mjeanroy.junit.servers.client.impl.apache.ApacheHttpClient;
 import com.github.mjeanroy.junit.servers.client.impl.async.AsyncHttpClient;
+import com.github.mjeanroy.junit.servers.client.impl.inmemory.InMemoryHttpClient;
 import com.github.mjeanroy.junit.servers.client.impl.ning.NingAsyncHttpClient;
 import com.github.mjeanroy.junit.servers.client.impl.okhttp3.OkHttpClient;
+import com.github.mjeanroy.junit.servers.servers.ConnectorConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import com.github.mjeanroy.junit.servers.utils.builders.EmbeddedServerMockBuilder;
+import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServerConfigurationBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class HttpClientStrategyTest {
 
@@ -59,11 +65,67 @@ class HttpClientStrategyTest {
 		testHttpClient(HttpClientStrategy.NING_ASYNC_HTTP_CLIENT, NingAsyncHttpClient.class);
 	}
 
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_11)
+	void it_should_create_jdk_http_client() throws Exception {
+		testHttpClient(HttpClientStrategy.JDK_HTTP_CLIENT, Class.forName("com.github.mjeanroy.junit.servers.client.impl.jdk.JdkHttpClient"));
+	}
+
+	@Test
+	void it_should_create_in_memory_http_client() {
+		server = new EmbeddedServerMockBuilder().withInMemoryTransport((request, head, timeout, unit) -> null).build();
+		testHttpClient(HttpClientStrategy.IN_MEMORY, InMemoryHttpClient.class);
+	}
+
+	@Test
+	void it_should_fail_to_create_in_memory_http_client_without_in_memory_transport() {
+		assertThatThrownBy(() -> HttpClientStrategy.IN_MEMORY.build(server))
+			.isExactlyInstanceOf(UnsupportedOperationException.class)
+			.hasMessageContaining("does not support in-memory transport");
+	}
+
+	@Test
+	void it_should_not_select_in_memory_http_client_with_auto_strategy() {
+		server = new EmbeddedServerMockBuilder().withInMemoryTransport((request, head, timeout, unit) -> null).build();
+		testHttpClient(HttpClientStrategy.AUTO, OkHttpClient.class);
+	}
+
 	@Test
 	void it_should_create_ok_http_client() {
 		testHttpClient(HttpClientStrategy.OK_HTTP3, OkHttpClient.class);
 	}
 
+	@Test
+	void it_should_create_ok_http_client_for_server_listening_on_unix_socket() {
+		server = unixSocketServer();
+		testHttpClient(HttpClientStrategy.OK_HTTP3, OkHttpClient.class);
+	}
+
+	@Test
+	void it_should_create_ok_http_client_with_auto_strategy_for_server_listening_on_unix_socket() {
+		server = unixSocketServer();
+		testHttpClient(HttpClientStrategy.AUTO, OkHttpClient.class);
+	}
+
+	@Test
+	void it_should_fail_to_create_http_client_not_supporting_unix_socket() {
+		server = unixSocketServer();
+
+		assertThatThrownBy(() -> HttpClientStrategy.APACHE_HTTP_CLIENT.build(server))
+			.isExactlyInstanceOf(UnsupportedOperationException.class)
+			.hasMessage(
+				"HTTP Client Apache HttpComponent cannot query an embedded server listening on a unix domain socket, please use OkHttp and import com.github.jnr:jnr-unixsocket"
+			);
+	}
+
+	private static EmbeddedServer<?> unixSocketServer() {
+		return new EmbeddedServerMockBuilder()
+			.withConfiguration(new FakeEmbeddedServerConfigurationBuilder()
+				.withConnector(ConnectorConfiguration.builder().withUnixSocket("/tmp/junit-servers.sock").build())
+				.build())
+			.build();
+	}
+
 	private void testHttpClient(HttpClientStrategy strategy, Class<?> expectedImpl) {
 		assertThat(strategy.support()).isTrue();
 
@@ -27,7 +27,12 @@ package com.github.mjeanroy.junit.servers.client;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.classpathFile;
@@ -93,6 +98,22 @@ class HttpRequestBodyFileTest {
 		);
 	}
 
+	@Test
+	void it_should_stream_body() throws Exception {
+		final Path path = classpathPath("/file1.txt");
+		final HttpRequestBodyFile bodyFile = HttpRequestBodyFile.of(path);
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		bodyFile.writeTo(Channels.newChannel(output));
+
+		assertThat(output.toByteArray()).isEqualTo(bodyFile.getBody());
+		assertThat(bodyFile.getContentLength()).isEqualTo(Files.size(path));
+
+		try (InputStream stream = bodyFile.openStream()) {
+			assertThat(stream).hasSameContentAs(new ByteArrayInputStream(bodyFile.getBody()));
+		}
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		final Path path = classpathPath("/file1.txt");
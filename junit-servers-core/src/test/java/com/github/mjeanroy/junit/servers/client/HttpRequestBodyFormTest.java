@@ -31,6 +31,7 @@ import java.nio.charset.Charset;
 import java.util.List;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -64,6 +65,19 @@ class HttpRequestBodyFormTest {
 		assertThat(bodyForm.getParameters()).isEqualTo(parameters);
 	}
 
+	@Test
+	void it_should_compute_content_length() {
+		final List<HttpParameter> parameters = asList(
+			HttpParameter.of("id", "1"),
+			HttpParameter.of("full name", "Jöhn Doe")
+		);
+
+		final HttpRequestBodyForm bodyForm = new HttpRequestBodyForm(parameters);
+
+		assertThat(bodyForm.getContentLength()).isEqualTo(bodyForm.getBody().length);
+		assertThat(new HttpRequestBodyForm(emptyList()).getContentLength()).isZero();
+	}
+
 	@Test
 	void it_should_implement_equals_and_hash_code() {
 		EqualsVerifier.forClass(HttpRequestBodyForm.class).verify();
@@ -27,7 +27,11 @@ package com.github.mjeanroy.junit.servers.client;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -172,6 +176,31 @@ class HttpRequestBodyMultipartTest {
 		)));
 	}
 
+	@Test
+	void it_should_stream_multipart_body_with_a_file() throws Exception {
+		final String contentType = "multipart/form-data";
+		final String boundaries = "123456789";
+		final File file = classpathFile("/file1.txt");
+		final List<HttpRequestBodyPart> parts = asList(
+			givenHttpRequestBodyPart("param", HttpRequestBodyString.of("HttpRequestBody", TEXT_PLAIN)),
+			givenHttpRequestBodyPart("file", HttpRequestBodyFile.of(file))
+		);
+
+		final HttpRequestBodyMultipart requestBody = new HttpRequestBodyMultipart(contentType, boundaries, parts);
+		final byte[] expected = requestBody.getBody();
+
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		requestBody.writeTo(Channels.newChannel(output));
+
+		assertThat(output.toByteArray()).isEqualTo(expected);
+		assertThat(requestBody.getContentLength()).isEqualTo(expected.length);
+		assertThat(requestBody.isRepeatable()).isTrue();
+
+		try (InputStream stream = requestBody.openStream()) {
+			assertThat(stream).hasSameContentAs(new ByteArrayInputStream(expected));
+		}
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		final String contentType = "multipart/form-data";
@@ -52,6 +52,13 @@ class HttpRequestBodyStringTest {
 		assertThat(bodyString.getBody()).isEqualTo(rawBody.getBytes(StandardCharsets.UTF_8));
 	}
 
+	@Test
+	void it_should_compute_content_length() {
+		final String rawBody = "{\"name\": \"caf\u00e9 \u20ac \uD83D\uDE00 \uD800\"}";
+		final HttpRequestBodyString bodyString = HttpRequestBodyString.of(rawBody);
+		assertThat(bodyString.getContentLength()).isEqualTo(rawBody.getBytes(StandardCharsets.UTF_8).length);
+	}
+
 	@Test
 	void it_should_implement_equals_and_hash_code() {
 		EqualsVerifier.forClass(HttpRequestBodyString.class).verify();
@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestTimingTest {
+
+	@Test
+	void it_should_create_request_timing() {
+		final RequestTiming timing = RequestTiming.of(1, 2, 3, 4, 5);
+
+		assertThat(timing.getQueue()).isEqualTo(Duration.ofNanos(1));
+		assertThat(timing.getConnect()).isEqualTo(Duration.ofNanos(2));
+		assertThat(timing.getRequestWrite()).isEqualTo(Duration.ofNanos(3));
+		assertThat(timing.getTimeToFirstByte()).isEqualTo(Duration.ofNanos(4));
+		assertThat(timing.getBodyRead()).isEqualTo(Duration.ofNanos(5));
+		assertThat(timing.getTotal()).isEqualTo(Duration.ofNanos(15));
+		assertThat(timing.hasPhases()).isTrue();
+	}
+
+	@Test
+	void it_should_create_request_timing_without_phases() {
+		final RequestTiming timing = RequestTiming.withoutPhases(10, 3);
+
+		assertThat(timing.hasPhases()).isFalse();
+		assertThat(timing.getQueue()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+		assertThat(timing.getConnect()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+		assertThat(timing.getRequestWrite()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+		assertThat(timing.getTimeToFirstByte()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+		assertThat(timing.getBodyRead()).isEqualTo(Duration.ofNanos(3));
+		assertThat(timing.getTotal()).isEqualTo(Duration.ofNanos(10));
+		assertThat(RequestTiming.withoutPhases(10, -1).getBodyRead()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+	}
+
+	@Test
+	void it_should_fail_with_negative_duration() {
+		assertThatThrownBy(() -> RequestTiming.of(0, 0, -1, 0, 0))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Request write duration must be positive");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		final RequestTiming timing = RequestTiming.of(1, 2, 3, 4, 5);
+		assertThat(timing.toString()).isEqualTo(
+			"RequestTiming{" +
+				"queue: 1, " +
+				"connect: 2, " +
+				"requestWrite: 3, " +
+				"timeToFirstByte: 4, " +
+				"bodyRead: 5, " +
+				"total: 15" +
+			"}"
+		);
+	}
+
+	@Test
+	void it_should_implement_equals() {
+		EqualsVerifier.forClass(RequestTiming.class).verify();
+	}
+}
@@ -30,13 +30,20 @@ import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.utils.builders.AbstractHttpResponseBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 /**
@@ -81,6 +88,110 @@ public abstract class AbstractHttpResponseImplTest<T extends AbstractHttpRespons
 		assertThat(response.body()).isEqualTo(body);
 	}
 
+	@Test
+	void it_should_get_response_body_as_bytes() {
+		final long duration = 1000L;
+		final String body = "Hello World";
+		final U delegate = getBuilder().withBody(body).build();
+
+		final V response = createHttpResponse(delegate, duration);
+
+		assertThat(response.bodyAsBytes()).isEqualTo(body.getBytes(UTF_8));
+	}
+
+	@Test
+	void it_should_get_response_body_as_stream() throws Exception {
+		final long duration = 1000L;
+		final String body = "Hello World";
+		final U delegate = getBuilder().withBody(body).build();
+
+		final V response = createHttpResponse(delegate, duration);
+
+		try (InputStream stream = response.bodyAsStream()) {
+			assertThat(stream).hasSameContentAs(new ByteArrayInputStream(body.getBytes(UTF_8)));
+		}
+	}
+
+	@Test
+	void it_should_get_response_body_as_channel() throws Exception {
+		final long duration = 1000L;
+		final String body = "Hello World";
+		final U delegate = getBuilder().withBody(body).build();
+
+		final V response = createHttpResponse(delegate, duration);
+		final ByteBuffer buffer = ByteBuffer.allocate(64);
+
+		try (ReadableByteChannel channel = response.bodyAsChannel()) {
+			while (channel.read(buffer) != -1) {
+				// Read until the end of the stream.
+			}
+		}
+
+		buffer.flip();
+		assertThat(UTF_8.decode(buffer).toString()).isEqualTo(body);
+	}
+
+	@Test
+	void it_should_consume_response_body() {
+		final long duration = 1000L;
+		final String body = "Hello World";
+		final U delegate = getBuilder().withBody(body).build();
+
+		final V response = createHttpResponse(delegate, duration);
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		final long size = response.consumeBody(chunk -> {
+			while (chunk.hasRemaining()) {
+				output.write(chunk.get());
+			}
+		});
+
+		assertThat(size).isEqualTo(body.length());
+		assertThat(new String(output.toByteArray(), UTF_8)).isEqualTo(body);
+	}
+
+	@Test
+	void it_should_get_response_body_several_times() {
+		final long duration = 1000L;
+		final String body = "Hello World";
+		final U delegate = getBuilder().withBody(body).build();
+
+		final V response = createHttpResponse(delegate, duration);
+
+		assertThat(response.body()).isEqualTo(body);
+		assertThat(response.body()).isEqualTo(body);
+	}
+
+	@Test
+	void it_should_fail_to_get_response_body_once_consumed() throws Exception {
+		final long duration = 1000L;
+		final String body = "Hello World";
+		final U delegate = getBuilder().withBody(body).build();
+
+		final V response = createHttpResponse(delegate, duration);
+
+		try (InputStream stream = response.bodyAsStream()) {
+			assertThat(stream).hasSameContentAs(new ByteArrayInputStream(body.getBytes(UTF_8)));
+		}
+
+		assertThatThrownBy(response::body)
+			.isExactlyInstanceOf(IllegalStateException.class)
+			.hasMessage("HTTP response body has already been consumed");
+	}
+
+	@Test
+	void it_should_fail_to_consume_response_body_twice() {
+		final long duration = 1000L;
+		final String body = "Hello World";
+		final U delegate = getBuilder().withBody(body).build();
+
+		final V response = createHttpResponse(delegate, duration);
+
+		assertThat(response.bodyAsBytes()).isEqualTo(body.getBytes(UTF_8));
+		assertThatThrownBy(() -> response.consumeBody(chunk -> {}))
+			.isExactlyInstanceOf(IllegalStateException.class)
+			.hasMessage("HTTP response body has already been consumed");
+	}
+
 	@Test
 	void it_should_get_all_headers() {
 		final HttpHeader h1 = HttpHeader.header("Content-Type", "text/html; charset=utf-8");
@@ -79,7 +79,7 @@ class DefaultHttpResponseTest {
 	void it_should_implement_equals_hash_code() {
 		EqualsVerifier.forClass(DefaultHttpResponse.class)
 			.withRedefinedSuperclass()
-			.withIgnoredFields("readResponseBodyLock", "_body")
+			.withIgnoredFields("readResponseBodyLock", "_body", "_bodyConsumed")
 			.verify();
 	}
 
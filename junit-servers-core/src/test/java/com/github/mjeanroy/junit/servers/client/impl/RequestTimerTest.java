@@ -0,0 +1,150 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl;
+
+import com.github.mjeanroy.junit.servers.client.RequestTiming;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimerTest {
+
+	@Test
+	void it_should_record_all_phases() throws Exception {
+		final RequestTimer timer = RequestTimer.start();
+		sleep();
+
+		timer.onConnectStart();
+		sleep();
+		timer.onConnectEnd();
+
+		timer.onRequestStart();
+		sleep();
+		timer.onRequestEnd();
+		sleep();
+
+		timer.onResponseStart();
+		sleep();
+		timer.onResponseEnd();
+
+		final RequestTiming timing = timer.toTiming();
+		assertThat(timing.getQueue()).isPositive();
+		assertThat(timing.getConnect()).isPositive();
+		assertThat(timing.getRequestWrite()).isPositive();
+		assertThat(timing.getTimeToFirstByte()).isPositive();
+		assertThat(timing.getBodyRead()).isPositive();
+		assertThat(timing.getTotal()).isLessThanOrEqualTo(Duration.ofNanos(timer.elapsed()));
+	}
+
+	@Test
+	void it_should_account_missing_phases_in_next_phase() throws Exception {
+		final RequestTimer timer = RequestTimer.start();
+		sleep();
+		timer.onResponseStart();
+
+		final RequestTiming timing = timer.toTiming();
+		assertThat(timing.getQueue()).isZero();
+		assertThat(timing.getConnect()).isZero();
+		assertThat(timing.getRequestWrite()).isZero();
+		assertThat(timing.getTimeToFirstByte()).isPositive();
+		assertThat(timing.getBodyRead()).isZero();
+		assertThat(timing.getTotal()).isEqualTo(timing.getTimeToFirstByte());
+	}
+
+	@Test
+	void it_should_sum_connect_attempts() throws Exception {
+		final RequestTimer timer = RequestTimer.start();
+
+		timer.onConnectStart();
+		timer.onConnectStart();
+		sleep();
+		timer.onConnectEnd();
+
+		timer.onConnectStart();
+		sleep();
+		timer.onConnectEnd();
+		timer.onConnectEnd();
+		timer.onRequestStart();
+
+		final RequestTiming timing = timer.toTiming();
+		assertThat(timing.getConnect()).isGreaterThanOrEqualTo(Duration.ofMillis(4));
+		assertThat(timing.getQueue().plus(timing.getConnect())).isLessThanOrEqualTo(Duration.ofNanos(timer.elapsed()));
+	}
+
+	@Test
+	void it_should_record_lazy_body_read() {
+		final RequestTimer timer = RequestTimer.start();
+		timer.onResponseStart();
+		timer.onBodyRead(10);
+		timer.onBodyRead(5);
+
+		assertThat(timer.toTiming().getBodyRead()).isEqualTo(Duration.ofNanos(15));
+	}
+
+	@Test
+	void it_should_record_response_end_without_response_start() throws Exception {
+		final RequestTimer timer = RequestTimer.start();
+		sleep();
+		timer.onResponseEnd();
+
+		final RequestTiming timing = timer.toTiming();
+		assertThat(timing.getTimeToFirstByte()).isPositive();
+		assertThat(timing.getBodyRead()).isZero();
+	}
+
+	@Test
+	void it_should_not_report_phases_of_client_without_phases() throws Exception {
+		final RequestTimer timer = RequestTimer.startWithoutPhases();
+		sleep();
+		timer.onResponseStart();
+		timer.onBodyRead(10);
+
+		final RequestTiming timing = timer.toTiming();
+		assertThat(timing.getQueue()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+		assertThat(timing.getConnect()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+		assertThat(timing.getRequestWrite()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+		assertThat(timing.getTimeToFirstByte()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+		assertThat(timing.getBodyRead()).isEqualTo(Duration.ofNanos(10));
+		assertThat(timing.getTotal()).isGreaterThan(Duration.ofMillis(2));
+	}
+
+	@Test
+	void it_should_not_report_body_read_of_client_without_phases_reading_body() throws Exception {
+		final RequestTimer timer = RequestTimer.startWithoutPhases();
+		sleep();
+		timer.onResponseEnd();
+
+		final RequestTiming timing = timer.toTiming();
+		assertThat(timing.getTimeToFirstByte()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+		assertThat(timing.getBodyRead()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+		assertThat(timing.getTotal()).isPositive();
+	}
+
+	private static void sleep() throws InterruptedException {
+		Thread.sleep(2);
+	}
+}
@@ -69,6 +69,7 @@ class ApacheHttpClientTest extends BaseHttpClientTest {
 			"ApacheHttpClient{" +
 				"configuration: HttpClientConfiguration{" +
 					"followRedirect: true, " +
+					"maxConnectionsPerHost: 100, " +
 					"defaultHeaders: {}, " +
 					"defaultCookies: []" +
 				"}, " +
@@ -62,7 +62,7 @@ class ApacheHttpResponseTest extends AbstractHttpResponseImplTest<ApacheHttpResp
 	void it_should_implement_equal_and_hash_code() {
 		EqualsVerifier.forClass(ApacheHttpResponse.class)
 			.withRedefinedSuperclass()
-			.withIgnoredFields("readResponseBodyLock", "_body")
+			.withIgnoredFields("readResponseBodyLock", "_body", "_bodyConsumed")
 			.verify();
 	}
 }
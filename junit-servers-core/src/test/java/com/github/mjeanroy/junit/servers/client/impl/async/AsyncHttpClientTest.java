@@ -71,6 +71,7 @@ class AsyncHttpClientTest extends BaseHttpClientTest {
 			"AsyncHttpClient{" +
 				"configuration: HttpClientConfiguration{" +
 					"followRedirect: true, " +
+					"maxConnectionsPerHost: 100, " +
 					"defaultHeaders: {}, " +
 					"defaultCookies: []" +
 				"}, " +
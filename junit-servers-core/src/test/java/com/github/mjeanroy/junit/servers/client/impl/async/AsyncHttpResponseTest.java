@@ -67,7 +67,7 @@ class AsyncHttpResponseTest extends AbstractHttpResponseImplTest<AsyncHttpRespon
 	void it_should_implement_equal_and_hash_code() {
 		EqualsVerifier.forClass(AsyncHttpResponse.class)
 			.withRedefinedSuperclass()
-			.withIgnoredFields("readResponseBodyLock", "_body")
+			.withIgnoredFields("readResponseBodyLock", "_body", "_bodyConsumed")
 			.verify();
 	}
 }
@@ -0,0 +1,171 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.inmemory;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpRequestBodies;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.utils.builders.EmbeddedServerMockBuilder;
+import com.github.mjeanroy.junit.servers.utils.builders.EmbeddedServerMockBuilder.InMemoryEmbeddedServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import static com.github.mjeanroy.junit.servers.client.impl.inmemory.InMemoryHttpClient.defaultInMemoryHttpClient;
+import static com.github.mjeanroy.junit.servers.client.impl.inmemory.InMemoryHttpClient.newInMemoryHttpClient;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryHttpClientTest {
+
+	private final List<String> requests = new ArrayList<>();
+	private final Queue<String> responses = new LinkedList<>();
+	private HttpClient client;
+
+	@AfterEach
+	void tearDown() {
+		if (client != null) {
+			client.destroy();
+		}
+	}
+
+	@Test
+	void it_should_dispatch_get_request() {
+		client = defaultInMemoryHttpClient(createServer());
+		responses.add("HTTP/1.1 200 OK\r\nContent-Type: text/plain;charset=utf-8\r\nContent-Length: 5\r\nX-Foo: a\r\nx-foo: b\r\n\r\nHello");
+
+		final HttpResponse response = client.prepareGet("/people")
+			.addQueryParam("name", "john doe")
+			.addHeader("X-Custom", "value")
+			.addCookie("id", "1")
+			.execute();
+
+		assertThat(requests).containsExactly(
+			"GET /people?name=john+doe HTTP/1.1\r\n" +
+			"Host: localhost:8080\r\n" +
+			"X-Custom: value\r\n" +
+			"Cookie: id=1\r\n" +
+			"Connection: close\r\n" +
+			"\r\n"
+		);
+
+		assertThat(response.status()).isEqualTo(200);
+		assertThat(response.body()).isEqualTo("Hello");
+		assertThat(response.getContentType().getFirstValue()).isEqualTo("text/plain;charset=utf-8");
+		assertThat(response.getHeader("X-Foo").getValues()).isEqualTo(asList("a", "b"));
+	}
+
+	@Test
+	void it_should_dispatch_request_with_body() {
+		client = defaultInMemoryHttpClient(createServer());
+		responses.add("HTTP/1.1 201 Created\r\nContent-Length: 0\r\n\r\n");
+
+		final HttpResponse response = client.preparePost("/people")
+			.setBody(HttpRequestBodies.jsonBody("{\"id\": 1}"))
+			.execute();
+
+		assertThat(requests).containsExactly(
+			"POST /people HTTP/1.1\r\n" +
+			"Host: localhost:8080\r\n" +
+			"Content-Type: application/json\r\n" +
+			"Content-Length: 9\r\n" +
+			"Connection: close\r\n" +
+			"\r\n" +
+			"{\"id\": 1}"
+		);
+
+		assertThat(response.status()).isEqualTo(201);
+		assertThat(response.body()).isEmpty();
+	}
+
+	@Test
+	void it_should_read_chunked_response() {
+		client = defaultInMemoryHttpClient(createServer());
+		responses.add("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n5\r\nHello\r\n6;ext=1\r\n World\r\n0\r\n\r\n");
+
+		final HttpResponse response = client.prepareGet("/").execute();
+
+		assertThat(response.status()).isEqualTo(200);
+		assertThat(response.body()).isEqualTo("Hello World");
+	}
+
+	@Test
+	void it_should_follow_redirect_with_get_request() {
+		client = defaultInMemoryHttpClient(createServer());
+		responses.add("HTTP/1.1 302 Found\r\nLocation: http://localhost:8080/login?from=people\r\nContent-Length: 0\r\n\r\n");
+		responses.add("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nLogin");
+
+		final HttpResponse response = client.preparePost("/people").setBody(HttpRequestBodies.jsonBody("{}")).execute();
+
+		assertThat(requests).hasSize(2);
+		assertThat(requests.get(1)).startsWith("GET /login?from=people HTTP/1.1\r\n").doesNotContain("Content-Length");
+		assertThat(response.status()).isEqualTo(200);
+		assertThat(response.body()).isEqualTo("Login");
+	}
+
+	@Test
+	void it_should_not_follow_redirect_if_disabled() {
+		final HttpClientConfiguration configuration = new HttpClientConfiguration.Builder().disableFollowRedirect().build();
+		client = newInMemoryHttpClient(configuration, createServer());
+		responses.add("HTTP/1.1 302 Found\r\nLocation: /login\r\nContent-Length: 0\r\n\r\n");
+
+		final HttpResponse response = client.prepareGet("/people").execute();
+
+		assertThat(requests).hasSize(1);
+		assertThat(response.status()).isEqualTo(302);
+		assertThat(response.getHeader("Location").getFirstValue()).isEqualTo("/login");
+	}
+
+	@Test
+	void it_should_execute_request_asynchronously() throws Exception {
+		client = defaultInMemoryHttpClient(createServer());
+		responses.add("HTTP/1.1 204 No Content\r\n\r\n");
+
+		final HttpResponse response = client.prepareDelete("/people/1").executeAsync().get();
+
+		assertThat(requests).hasSize(1);
+		assertThat(requests.get(0)).startsWith("DELETE /people/1 HTTP/1.1\r\n");
+		assertThat(response.status()).isEqualTo(204);
+	}
+
+	private InMemoryEmbeddedServer createServer() {
+		return new EmbeddedServerMockBuilder()
+			.withPort(8080)
+			.withInMemoryTransport((request, head, timeout, unit) -> {
+				final byte[] bytes = new byte[request.remaining()];
+				request.get(bytes);
+				requests.add(new String(bytes, ISO_8859_1));
+				return ByteBuffer.wrap(responses.remove().getBytes(ISO_8859_1));
+			})
+			.buildInMemory();
+	}
+}
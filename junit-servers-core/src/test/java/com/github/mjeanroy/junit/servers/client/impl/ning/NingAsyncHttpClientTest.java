@@ -73,6 +73,7 @@ class NingAsyncHttpClientTest extends BaseHttpClientTest {
 			"NingAsyncHttpClient{" +
 				"configuration: HttpClientConfiguration{" +
 					"followRedirect: true, " +
+					"maxConnectionsPerHost: 100, " +
 					"defaultHeaders: {}, " +
 					"defaultCookies: []" +
 				"}, " +
@@ -62,7 +62,7 @@ class NingAsyncHttpResponseTest extends AbstractHttpResponseImplTest<NingHttpRes
 	void it_should_implement_equal_and_hash_code() {
 		EqualsVerifier.forClass(NingAsyncHttpResponse.class)
 			.withRedefinedSuperclass()
-			.withIgnoredFields("readResponseBodyLock", "_body")
+			.withIgnoredFields("readResponseBodyLock", "_body", "_bodyConsumed")
 			.verify();
 	}
 }
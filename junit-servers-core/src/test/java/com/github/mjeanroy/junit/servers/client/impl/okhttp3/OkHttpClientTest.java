@@ -70,6 +70,7 @@ class OkHttpClientTest extends BaseHttpClientTest {
 			"OkHttpClient{" +
 				"configuration: HttpClientConfiguration{" +
 					"followRedirect: true, " +
+					"maxConnectionsPerHost: 100, " +
 					"defaultHeaders: {}, " +
 					"defaultCookies: []" +
 				"}, " +
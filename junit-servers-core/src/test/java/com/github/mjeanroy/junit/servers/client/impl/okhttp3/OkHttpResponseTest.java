@@ -65,7 +65,7 @@ class OkHttpResponseTest extends AbstractHttpResponseImplTest<OkHttpResponseBuil
 
 		EqualsVerifier.forClass(OkHttpResponse.class)
 			.withRedefinedSuperclass()
-			.withIgnoredFields("readResponseBodyLock", "_body")
+			.withIgnoredFields("readResponseBodyLock", "_body", "_bodyConsumed")
 			.withPrefabValues(Response.class, red, black)
 			.verify();
 	}
@@ -28,6 +28,7 @@ import com.github.mjeanroy.junit.servers.client.Cookie;
 import com.github.mjeanroy.junit.servers.client.Cookies;
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpClientMetrics;
 import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
@@ -35,6 +36,7 @@ import com.github.mjeanroy.junit.servers.client.HttpParameter;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpRequestBody;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.RequestTiming;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import com.github.mjeanroy.junit.servers.utils.builders.EmbeddedServerMockBuilder;
 import com.github.mjeanroy.junit.servers.utils.commons.Function;
@@ -42,11 +44,16 @@ import com.github.mjeanroy.junit.servers.utils.commons.MapperFunction;
 import com.github.mjeanroy.junit.servers.utils.commons.Pair;
 import com.github.mjeanroy.junit.servers.utils.jupiter.WireMockTest;
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
@@ -54,6 +61,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.mjeanroy.junit.servers.client.HttpParameter.param;
 import static com.github.mjeanroy.junit.servers.client.HttpRequestBodies.formUrlEncodedBody;
@@ -67,6 +76,7 @@ import static com.github.mjeanroy.junit.servers.client.it.HeaderTestUtils.APPLIC
 import static com.github.mjeanroy.junit.servers.client.it.HeaderTestUtils.APPLICATION_XML;
 import static com.github.mjeanroy.junit.servers.client.it.HeaderTestUtils.CACHE_CONTROL;
 import static com.github.mjeanroy.junit.servers.client.it.HeaderTestUtils.CONTENT_ENCODING;
+import static com.github.mjeanroy.junit.servers.client.it.HeaderTestUtils.CONTENT_LENGTH;
 import static com.github.mjeanroy.junit.servers.client.it.HeaderTestUtils.CONTENT_SECURITY_POLICY;
 import static com.github.mjeanroy.junit.servers.client.it.HeaderTestUtils.CONTENT_TYPE;
 import static com.github.mjeanroy.junit.servers.client.it.HeaderTestUtils.ETAG;
@@ -101,6 +111,7 @@ import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.asse
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubDefaultRequest;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubDeleteRequest;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubGetRequest;
+import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubGetRequestWithDelay;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubHeadRequest;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubPatchRequest;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubPostRequest;
@@ -109,6 +120,10 @@ import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stub
 import static com.github.mjeanroy.junit.servers.utils.commons.Pair.pair;
 import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.classpathFile;
 import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.url;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
@@ -117,6 +132,7 @@ import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
 
 @WireMockTest
 public abstract class BaseHttpClientTest {
@@ -207,6 +223,73 @@ public abstract class BaseHttpClientTest {
 		assertThat(r1).isEqualTo(r2);
 	}
 
+	@Test
+	void testGetAsync() throws Exception {
+		final String endpoint = ENDPOINT;
+		final int status = 200;
+		final Collection<Pair> headers = singleton(pair(CONTENT_TYPE, APPLICATION_JSON));
+		final String body = "[{\"id\": 1, \"name\": \"John Doe\"}]";
+
+		stubGetRequest(endpoint, status, headers, body);
+
+		final HttpClient client = createDefaultClient();
+		final List<CompletableFuture<HttpResponse>> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			futures.add(client.prepareGet(endpoint).acceptJson().executeAsync());
+		}
+
+		for (CompletableFuture<HttpResponse> future : futures) {
+			final HttpResponse rsp = future.get(10, TimeUnit.SECONDS);
+			assertThat(rsp.status()).isEqualTo(status);
+			assertThat(rsp.body()).isEqualTo(body);
+		}
+	}
+
+	@Test
+	void testGetAsync_should_execute_requests_concurrently() throws Exception {
+		final String endpoint = ENDPOINT;
+		final int status = 200;
+		final int delayMillis = 1000;
+
+		stubGetRequestWithDelay(endpoint, status, delayMillis);
+
+		// More requests than default connection limits of underlying clients (two for apache, five for OkHttp).
+		final int nbRequests = 20;
+		final HttpClient client = createDefaultClient();
+		final long start = System.nanoTime();
+		final List<CompletableFuture<HttpResponse>> futures = new ArrayList<>();
+		for (int i = 0; i < nbRequests; i++) {
+			futures.add(client.prepareGet(endpoint).executeAsync());
+		}
+
+		for (CompletableFuture<HttpResponse> future : futures) {
+			assertThat(future.get(30, TimeUnit.SECONDS).status()).isEqualTo(status);
+		}
+
+		// With five concurrent requests, it would take at least four times the response delay.
+		final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertThat(elapsedMillis).isLessThan(3L * delayMillis);
+	}
+
+	@Test
+	void testGetReadingBodyAsStream() throws Exception {
+		final String endpoint = ENDPOINT;
+		final int status = 200;
+		final Collection<Pair> headers = singleton(pair(CONTENT_TYPE, APPLICATION_JSON));
+		final String body = "[{\"id\": 1, \"name\": \"John Doe\"}]";
+
+		stubGetRequest(endpoint, status, headers, body);
+
+		final HttpResponse rsp = createDefaultClient()
+			.prepareGet(endpoint)
+			.acceptJson()
+			.execute();
+
+		try (InputStream stream = rsp.bodyAsStream()) {
+			assertThat(stream).hasSameContentAs(new ByteArrayInputStream(body.getBytes(UTF_8)));
+		}
+	}
+
 	@Test
 	void testGetWithFullEndpoint() {
 		final String endpoint = ENDPOINT;
@@ -966,6 +1049,20 @@ public abstract class BaseHttpClientTest {
 		);
 	}
 
+	@Test
+	void testRequest_set_body_with_content_length() {
+		final String rawBody = "{\"id\": 1, \"firstName\": \"John\", \"lastName\": \"Doe\"}";
+		final HttpRequestBody body = requestBody(rawBody);
+		final String endpoint = ENDPOINT;
+
+		stubPostRequest(endpoint, 204, emptyList(), "");
+
+		final HttpResponse rsp = createDefaultClient().preparePost(endpoint).setBody(body).execute();
+
+		assertThat(rsp.status()).isEqualTo(204);
+		assertRequestWithHeader(endpoint, HttpMethod.POST, CONTENT_LENGTH, String.valueOf(rawBody.length()));
+	}
+
 	@Test
 	void testRequest_add_body_form() {
 		final String n1 = "firstName";
@@ -1354,10 +1451,11 @@ public abstract class BaseHttpClientTest {
 		assertThat(header.getFirstValue()).isEqualTo(value);
 		assertThat(header.getLastValue()).isEqualTo(value);
 
+		// Header names are case insensitive (and are always lower case with HTTP/2).
 		assertThat(rsp.getHeaders())
-			.extracting("name", "values")
+			.extracting(h -> h.getName().toLowerCase(), HttpHeader::getValues)
 			.contains(
-				tuple(name, singletonList(value))
+				tuple(name.toLowerCase(), singletonList(value))
 			);
 	}
 
@@ -1386,10 +1484,11 @@ public abstract class BaseHttpClientTest {
 		assertThat(header.getFirstValue()).isEqualTo(values.get(0));
 		assertThat(header.getLastValue()).isEqualTo(values.get(values.size() - 1));
 
+		// Header names are case insensitive (and are always lower case with HTTP/2).
 		assertThat(rsp.getHeaders())
-			.extracting("name", "values")
+			.extracting(h -> h.getName().toLowerCase(), HttpHeader::getValues)
 			.contains(
-				tuple(name, values)
+				tuple(name.toLowerCase(), values)
 			);
 	}
 
@@ -1483,8 +1582,122 @@ public abstract class BaseHttpClientTest {
 			.hasMessage("Cannot create request from a destroyed client");
 	}
 
+	@Test
+	void testResetClient() {
+		final String endpoint = ENDPOINT;
+		final int status = 200;
+		final Collection<Pair> headers = singleton(pair(SET_COOKIE, "id=1; Path=/"));
+		final String body = null;
+
+		stubGetRequest(endpoint, status, headers, body);
+
+		final HttpClient client = createDefaultClient();
+		client.prepareGet(endpoint).executeJson();
+		client.reset();
+		client.prepareGet(endpoint).executeJson();
+
+		final List<LoggedRequest> requests = findAll(getRequestedFor(urlEqualTo(endpoint)));
+		assertThat(requests).hasSize(2);
+		assertThat(requests.get(1).containsHeader("Cookie")).isFalse();
+		assertThat(client.isDestroyed()).isFalse();
+		assertThat(client.getMetrics().getCount()).isOne();
+	}
+
+	@Test
+	void it_should_record_metrics() {
+		final String endpoint = ENDPOINT;
+		final String requestBody = "{\"id\": 1}";
+		final String responseBody = "{\"id\": 1, \"name\": \"John Doe\"}";
+		final Collection<Pair> headers = singleton(pair(CONTENT_LENGTH, String.valueOf(responseBody.length())));
+
+		stubGetRequest(endpoint, 200, headers, responseBody);
+		stubPostRequest(endpoint, 201, headers, responseBody);
+
+		final HttpClient client = createDefaultClient();
+		assertThat(client.prepareGet(endpoint).executeJson().body()).isEqualTo(responseBody);
+		assertThat(client.prepareGet(endpoint).executeJson().body()).isEqualTo(responseBody);
+		assertThat(client.preparePost(endpoint).setBody(jsonBody(requestBody)).executeJson().body()).isEqualTo(responseBody);
+
+		final HttpClientMetrics metrics = client.getMetrics();
+		assertThat(metrics.getCount()).isEqualTo(3);
+		assertThat(metrics.getCount(HttpMethod.GET)).isEqualTo(2);
+		assertThat(metrics.getCount(HttpMethod.GET, 200)).isEqualTo(2);
+		assertThat(metrics.getCount(HttpMethod.POST, 201)).isEqualTo(1);
+		assertThat(metrics.getFailureCount()).isZero();
+		assertThat(metrics.getLatency().getCount()).isEqualTo(3);
+		assertThat(metrics.getLatency(HttpMethod.GET, endpoint).getCount()).isEqualTo(2);
+		assertThat(metrics.getBytesSent()).isEqualTo(requestBody.length());
+		assertThat(metrics.getBytesReceived()).isEqualTo(3L * responseBody.length());
+		assertThat(metrics.getInFlight()).isZero();
+
+		if (isConnectionTracked()) {
+			assertThat(metrics.getConnectionCount()).isOne();
+			assertThat(metrics.getConnectionReuseRatio()).isCloseTo(2.0 / 3, within(0.001));
+		}
+		else {
+			assertThat(metrics.getConnectionReuseRatio()).isNaN();
+		}
+	}
+
+	@Test
+	void it_should_record_request_timing() throws Exception {
+		final String endpoint = ENDPOINT;
+		final String responseBody = "{\"id\": 1, \"name\": \"John Doe\"}";
+
+		stubGetRequest(endpoint, 200, singleton(pair(CONTENT_TYPE, APPLICATION_JSON)), responseBody);
+
+		final HttpClient client = createDefaultClient();
+
+		final HttpResponse rsp1 = client.prepareGet(endpoint).executeJson();
+		assertThat(rsp1.body()).isEqualTo(responseBody);
+		verifyRequestTiming(rsp1.getTiming());
+
+		final HttpResponse rsp2 = client.prepareGet(endpoint).executeAsync().get(10, TimeUnit.SECONDS);
+		assertThat(rsp2.body()).isEqualTo(responseBody);
+		verifyRequestTiming(rsp2.getTiming());
+
+		if (isConnectionTracked()) {
+			assertThat(rsp1.getTiming().getConnect()).isPositive();
+			assertThat(rsp2.getTiming().getConnect()).isZero();
+		}
+	}
+
+	private void verifyRequestTiming(RequestTiming timing) {
+		if (!isConnectionTracked()) {
+			assertThat(timing.hasPhases()).isFalse();
+			assertThat(timing.getQueue()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+			assertThat(timing.getConnect()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+			assertThat(timing.getRequestWrite()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+			assertThat(timing.getTimeToFirstByte()).isEqualTo(Duration.ofNanos(RequestTiming.UNKNOWN));
+			assertThat(timing.getTotal()).isPositive();
+			return;
+		}
+
+		assertThat(timing.getQueue()).isGreaterThanOrEqualTo(Duration.ZERO);
+		assertThat(timing.getConnect()).isGreaterThanOrEqualTo(Duration.ZERO);
+		assertThat(timing.getRequestWrite()).isGreaterThanOrEqualTo(Duration.ZERO);
+		assertThat(timing.getTimeToFirstByte()).isPositive();
+		assertThat(timing.getBodyRead()).isGreaterThanOrEqualTo(Duration.ZERO);
+		assertThat(timing.getTotal()).isEqualTo(
+			timing.getQueue()
+				.plus(timing.getConnect())
+				.plus(timing.getRequestWrite())
+				.plus(timing.getTimeToFirstByte())
+				.plus(timing.getBodyRead())
+		);
+	}
+
 	protected abstract HttpClientStrategy strategy();
 
+	/**
+	 * Check if the client records opened connections in its metrics, and the request phases in the request timing.
+	 *
+	 * @return {@code true} if opened connections are recorded, {@code false} otherwise.
+	 */
+	protected boolean isConnectionTracked() {
+		return true;
+	}
+
 	private HttpClient createDefaultClient() {
 		return createClient(() ->
 			strategy().build(server)
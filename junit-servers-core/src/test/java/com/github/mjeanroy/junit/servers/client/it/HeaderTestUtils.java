@@ -47,6 +47,7 @@ final class HeaderTestUtils {
 	static final String USER_AGENT = "User-Agent";
 	static final String CONTENT_TYPE = "Content-Type";
 	static final String CONTENT_ENCODING = "Content-Encoding";
+	static final String CONTENT_LENGTH = "Content-Length";
 	static final String LOCATION = "Location";
 	static final String ETAG = "ETag";
 	static final String CACHE_CONTROL = "Cache-Control";
@@ -92,6 +92,17 @@ final class WireMockTestUtils {
 		stubRequest(GET, endpoint, status, headers, body);
 	}
 
+	/**
+	 * Stub {@code GET} request, with a response sent after given delay.
+	 *
+	 * @param endpoint Request endpoint.
+	 * @param status Response HTTP status code.
+	 * @param delayMillis Response delay, in milliseconds.
+	 */
+	static void stubGetRequestWithDelay(String endpoint, int status, int delayMillis) {
+		stubFor(request(GET, urlEqualTo(endpoint)).willReturn(aResponse().withStatus(status).withFixedDelay(delayMillis)));
+	}
+
 	/**
 	 * Stub {@code HEAD} request.
 	 *
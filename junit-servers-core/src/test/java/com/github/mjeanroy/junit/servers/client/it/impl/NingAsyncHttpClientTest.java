@@ -33,4 +33,9 @@ class NingAsyncHttpClientTest extends BaseHttpClientTest {
 	protected HttpClientStrategy strategy() {
 		return HttpClientStrategy.NING_ASYNC_HTTP_CLIENT;
 	}
+
+	@Override
+	protected boolean isConnectionTracked() {
+		return false;
+	}
 }
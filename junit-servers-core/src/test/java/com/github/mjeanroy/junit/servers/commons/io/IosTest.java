@@ -25,12 +25,20 @@
 package com.github.mjeanroy.junit.servers.commons.io;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.classpathPath;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class IosTest {
 
@@ -64,6 +72,35 @@ class IosTest {
 		assertThat(strOutput).isEqualToIgnoringNewLines("Content of file1.txt");
 	}
 
+	@Test
+	void it_should_delete_directory_recursively(@TempDir Path tmpDir) throws Exception {
+		final Path dir = Files.createDirectories(tmpDir.resolve("work/Tomcat/localhost/ROOT"));
+		Files.write(dir.resolve("index_jsp.java"), Ios.toUtf8Bytes("test"));
+		Files.write(tmpDir.resolve("work/file.txt"), Ios.toUtf8Bytes("test"));
+
+		Ios.deleteRecursively(tmpDir.resolve("work"));
+
+		assertThat(tmpDir.resolve("work")).doesNotExist();
+		assertThat(tmpDir).exists();
+	}
+
+	@Test
+	void it_should_delete_single_file(@TempDir Path tmpDir) throws Exception {
+		final Path file = Files.write(tmpDir.resolve("file.txt"), Ios.toUtf8Bytes("test"));
+
+		Ios.deleteRecursively(file);
+
+		assertThat(file).doesNotExist();
+	}
+
+	@Test
+	void it_should_ignore_missing_file_when_deleting(@TempDir Path tmpDir) throws Exception {
+		Ios.deleteRecursively(tmpDir.resolve("missing"));
+		Ios.deleteRecursively(null);
+
+		assertThat(tmpDir).exists();
+	}
+
 	@Test
 	void it_should_guess_content_type_files() {
 		assertThat(Ios.guessContentType(null)).isNull();
@@ -72,4 +109,38 @@ class IosTest {
 		assertThat(Ios.guessContentType(classpathPath("/img2.png"))).isEqualTo("image/png");
 		assertThat(Ios.guessContentType(classpathPath("/file1.pdf"))).isEqualTo("application/pdf");
 	}
+
+	@Test
+	void it_should_transfer_file_to_channel(@TempDir Path tmpDir) throws Exception {
+		final Path file = Files.write(tmpDir.resolve("file.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		Ios.transferTo(file, Channels.newChannel(output));
+
+		assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("Hello World");
+	}
+
+	@Test
+	void it_should_fail_to_transfer_file_to_channel_without_progress(@TempDir Path tmpDir) throws Exception {
+		final Path file = Files.write(tmpDir.resolve("file.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+		final WritableByteChannel channel = new WritableByteChannel() {
+			@Override
+			public int write(ByteBuffer src) {
+				return 0;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return true;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		assertThatThrownBy(() -> Ios.transferTo(file, channel))
+			.isExactlyInstanceOf(IOException.class)
+			.hasMessageStartingWith("Cannot transfer file " + file + " to non-blocking channel");
+	}
 }
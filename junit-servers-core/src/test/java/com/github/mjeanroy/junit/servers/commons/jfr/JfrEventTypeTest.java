@@ -0,0 +1,95 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.commons.jfr;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class JfrEventTypeTest {
+
+	private static final JfrEventType EVENT_TYPE = JfrEventType.builder("com.github.mjeanroy.junit.servers.Test")
+		.withLabel("Test")
+		.withCategory("junit-servers", "Test")
+		.withField(String.class, "name", "Name")
+		.withBytesField("bytes", "Bytes")
+		.build();
+
+	@Test
+	void it_should_not_begin_event_without_recording() {
+		assertThat(EVENT_TYPE.begin()).isNull();
+		assertThat(EVENT_TYPE.end(null)).isFalse();
+	}
+
+	@Test
+	void it_should_emit_event_during_recording(@TempDir Path tmp) throws Exception {
+		assumeTrue(JfrEventType.isSupported());
+		assertThat(EVENT_TYPE.isRegistered()).isTrue();
+
+		final Path dump = tmp.resolve("test.jfr");
+		final Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+		final Object recording = recordingClass.getConstructor().newInstance();
+
+		try {
+			recordingClass.getMethod("enable", String.class).invoke(recording, "com.github.mjeanroy.junit.servers.Test");
+			recordingClass.getMethod("start").invoke(recording);
+
+			final Object event = EVENT_TYPE.begin();
+			assertThat(event).isNotNull();
+			assertThat(EVENT_TYPE.end(event)).isTrue();
+
+			assertThatThrownBy(() -> EVENT_TYPE.commit(event, "foo"))
+				.isExactlyInstanceOf(IllegalArgumentException.class);
+
+			EVENT_TYPE.commit(event, "foo", 10L);
+
+			recordingClass.getMethod("stop").invoke(recording);
+			recordingClass.getMethod("dump", Path.class).invoke(recording, dump);
+		}
+		finally {
+			recordingClass.getMethod("close").invoke(recording);
+		}
+
+		final List<?> events = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile").getMethod("readAllEvents", Path.class).invoke(null, dump);
+		final List<String> names = events.stream().map(JfrEventTypeTest::valueOfName).collect(Collectors.toList());
+		assertThat(names).containsExactly("foo");
+	}
+
+	private static String valueOfName(Object recordedEvent) {
+		try {
+			return (String) recordedEvent.getClass().getMethod("getString", String.class).invoke(recordedEvent, "name");
+		}
+		catch (Exception ex) {
+			throw new AssertionError(ex);
+		}
+	}
+}
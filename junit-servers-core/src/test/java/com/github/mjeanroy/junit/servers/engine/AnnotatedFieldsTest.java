@@ -0,0 +1,69 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.engine;
+
+import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
+import com.github.mjeanroy.junit.servers.annotations.TestServer;
+import com.github.mjeanroy.junit.servers.annotations.TestServerConfiguration;
+import com.github.mjeanroy.junit.servers.engine.AnnotatedFields.AnnotatedField;
+import com.github.mjeanroy.junit.servers.utils.fixtures.FixtureClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.mjeanroy.junit.servers.engine.AnnotatedFields.findAnnotatedFields;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnnotatedFieldsTest {
+
+	@Test
+	void it_should_find_annotated_fields() {
+		final List<AnnotatedField> annotatedFields = findAnnotatedFields(FixtureClassWithoutAnnotation.class);
+
+		assertThat(annotatedFields).hasSize(3);
+		assertThat(annotatedFields).extracting(f -> f.getField().getName()).containsExactly("server", "configuration", "client");
+		assertThat(annotatedFields).extracting(f -> (Object) f.getAnnotations().get(0).annotationType()).containsExactly(
+			TestServer.class,
+			TestServerConfiguration.class,
+			TestHttpClient.class
+		);
+	}
+
+	@Test
+	void it_should_make_annotated_fields_accessible() {
+		final List<AnnotatedField> annotatedFields = findAnnotatedFields(FixtureClassWithoutAnnotation.class);
+		assertThat(annotatedFields).allSatisfy(f -> assertThat(f.getField().isAccessible()).isTrue());
+	}
+
+	@Test
+	void it_should_cache_annotated_fields() {
+		final List<AnnotatedField> annotatedFields = findAnnotatedFields(FixtureClassWithoutAnnotation.class);
+		assertThat(findAnnotatedFields(FixtureClassWithoutAnnotation.class)).isSameAs(annotatedFields);
+	}
+
+	private static class FixtureClassWithoutAnnotation extends FixtureClass {
+		private String notAnnotated;
+	}
+}
@@ -29,6 +29,8 @@ import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
 import com.github.mjeanroy.junit.servers.client.impl.okhttp3.OkHttpClient;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.ServerLifecycleReport;
+import com.github.mjeanroy.junit.servers.servers.ServerLifecycleTimings;
 import com.github.mjeanroy.junit.servers.utils.builders.EmbeddedServerMockBuilder;
 import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServer;
 import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServerConfiguration;
@@ -69,6 +71,27 @@ class EmbeddedServerRunnerTest {
 		verify(server).start();
 	}
 
+	@Test
+	void it_should_attribute_server_lifecycle_to_test_class() {
+		ServerLifecycleReport.reset();
+
+		try {
+			final EmbeddedServerRunner adapter = new EmbeddedServerRunner(new FakeEmbeddedServer(), EmbeddedServerRunnerTest.class);
+
+			adapter.beforeAll();
+			adapter.afterAll();
+
+			assertThat(ServerLifecycleReport.getSuites()).hasSize(1).allSatisfy(suite -> {
+				assertThat(suite.getSuite()).isEqualTo(EmbeddedServerRunnerTest.class.getName());
+				assertThat(suite.getCount(ServerLifecycleTimings.Operation.START)).isOne();
+				assertThat(suite.getCount(ServerLifecycleTimings.Operation.STOP)).isOne();
+			});
+		}
+		finally {
+			ServerLifecycleReport.reset();
+		}
+	}
+
 	@Test
 	void it_should_stop_server_after_test() {
 		final EmbeddedServer<?> server = new EmbeddedServerMockBuilder().build();
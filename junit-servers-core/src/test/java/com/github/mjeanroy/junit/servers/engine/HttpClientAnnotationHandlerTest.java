@@ -94,6 +94,25 @@ class HttpClientAnnotationHandlerTest {
 		verifyAsyncHttpClient(client);
 	}
 
+	@Test
+	void it_should_lease_client_instance_from_server_runner() {
+		final EmbeddedServer<?> server = new EmbeddedServerMockBuilder().build();
+		final EmbeddedServerRunner serverRunner = new EmbeddedServerRunner(server);
+		final TestClassWithAnnotatedField target = new TestClassWithAnnotatedField();
+		final Field field = extractClientField(TestClassWithAnnotatedField.class);
+		final AnnotationHandler handler = newHttpClientAnnotationHandler(serverRunner);
+
+		final HttpClient client = verifyBeforeTest(target, field, handler);
+		assertThat(client).isSameAs(serverRunner.getClient());
+
+		handler.after(target, field);
+		assertThat((HttpClient) readPrivate(target, "client")).isNull();
+		assertThat(client.isDestroyed()).isFalse();
+
+		serverRunner.stop();
+		assertThat(client.isDestroyed()).isTrue();
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		final EmbeddedServer<?> server = new EmbeddedServerMockBuilder().build();
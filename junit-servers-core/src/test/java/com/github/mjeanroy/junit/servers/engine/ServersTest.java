@@ -32,6 +32,11 @@ import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServerConfigurat
 import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServerConfigurationBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Arrays.asList;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ServersTest {
@@ -70,6 +75,19 @@ class ServersTest {
 		assertThat(configuration).isNotNull();
 	}
 
+	@Test
+	void it_should_start_all_servers() {
+		final FakeEmbeddedServer server1 = new FakeEmbeddedServer();
+		final FakeEmbeddedServer server2 = new FakeEmbeddedServer();
+		final List<CompletableFuture<EmbeddedServer<?>>> futures = Servers.startAll(asList(server1, server2));
+
+		assertThat(futures).hasSize(2);
+		assertThat(futures.get(0).join()).isSameAs(server1);
+		assertThat(futures.get(1).join()).isSameAs(server2);
+		assertThat(server1.isStarted()).isTrue();
+		assertThat(server2.isStarted()).isTrue();
+	}
+
 	private static class FixtureClass {
 	}
 
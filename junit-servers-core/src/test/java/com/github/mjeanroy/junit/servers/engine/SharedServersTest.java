@@ -0,0 +1,174 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.engine;
+
+import com.github.mjeanroy.junit.servers.annotations.SharedServer;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.Hook;
+import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServer;
+import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServerConfigurationBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.servlet.ServletContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SharedServersTest {
+
+	@AfterEach
+	void tearDown() {
+		SharedServers.stopAll();
+	}
+
+	@Test
+	void it_should_detect_shared_test_class() {
+		assertThat(SharedServers.isShared(SharedFixtureClass.class)).isTrue();
+		assertThat(SharedServers.isShared(FixtureClass.class)).isFalse();
+	}
+
+	@Test
+	void it_should_return_same_server_for_same_configuration() {
+		final FakeEmbeddedServer server1 = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withPort(8080).build());
+		final FakeEmbeddedServer server2 = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withPort(8080).build());
+		final FakeEmbeddedServer server3 = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withPort(9090).build());
+
+		assertThat(SharedServers.register(server1)).isSameAs(server1);
+		assertThat(SharedServers.register(server2)).isSameAs(server1);
+		assertThat(SharedServers.register(server3)).isSameAs(server3);
+	}
+
+	@Test
+	void it_should_compare_hooks_using_equals() {
+		final Hook hook = new FixtureHook();
+		final FakeEmbeddedServer server1 = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withHook(hook).build());
+		final FakeEmbeddedServer server2 = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withHook(hook).build());
+		final FakeEmbeddedServer server3 = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withHook(new FixtureHook()).build());
+
+		assertThat(SharedServers.register(server1)).isSameAs(server1);
+		assertThat(SharedServers.register(server2)).isSameAs(server1);
+		assertThat(SharedServers.register(server3)).isSameAs(server3);
+	}
+
+	@Test
+	void it_should_return_same_server_for_same_share_key() {
+		final FakeEmbeddedServer server1 = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withHook(new FixtureHook()).build());
+		final FakeEmbeddedServer server2 = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withHook(new FixtureHook()).build());
+		final FakeEmbeddedServer server3 = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withHook(new FixtureHook()).build());
+		final FakeEmbeddedServer server4 = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withHook(new FixtureHook()).build());
+
+		assertThat(SharedServers.register(server1, "foo")).isSameAs(server1);
+		assertThat(SharedServers.register(server2, "foo")).isSameAs(server1);
+		assertThat(SharedServers.register(server3, "bar")).isSameAs(server3);
+		assertThat(SharedServers.register(server4)).isSameAs(server4);
+	}
+
+	@Test
+	void it_should_get_share_key() {
+		assertThat(SharedServers.getShareKey(SharedFixtureClass.class)).isNull();
+		assertThat(SharedServers.getShareKey(KeySharedFixtureClass.class)).isEqualTo("foo");
+		assertThat(SharedServers.getShareKey(FixtureClass.class)).isNull();
+		assertThat(SharedServers.getShareKey(null)).isNull();
+	}
+
+	@Test
+	void it_should_release_reference_if_server_fails_to_start() {
+		final RuntimeException failure = new RuntimeException("Failed to start");
+		final EmbeddedServer<?> server = SharedServers.register(new FakeEmbeddedServer() {
+			@Override
+			protected void doStart() {
+				throw failure;
+			}
+		});
+
+		assertThatThrownBy(() -> SharedServers.acquire(server)).isSameAs(failure);
+
+		SharedServers.stopIdle();
+		assertThat(SharedServers.register(new FakeEmbeddedServer())).isNotSameAs(server);
+	}
+
+	@Test
+	void it_should_keep_server_started_once_released() {
+		final EmbeddedServer<?> server = SharedServers.register(new FakeEmbeddedServer());
+
+		SharedServers.acquire(server);
+		SharedServers.acquire(server);
+		assertThat(server.isStarted()).isTrue();
+
+		SharedServers.release(server);
+		SharedServers.release(server);
+		assertThat(server.isStarted()).isTrue();
+	}
+
+	@Test
+	void it_should_stop_idle_servers() {
+		final EmbeddedServer<?> server1 = SharedServers.register(new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withPort(8080).build()));
+		final EmbeddedServer<?> server2 = SharedServers.register(new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withPort(9090).build()));
+
+		SharedServers.acquire(server1);
+		SharedServers.acquire(server2);
+		SharedServers.release(server1);
+
+		SharedServers.stopIdle();
+
+		assertThat(server1.isStarted()).isFalse();
+		assertThat(server2.isStarted()).isTrue();
+		assertThat(SharedServers.register(new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withPort(8080).build()))).isNotSameAs(server1);
+	}
+
+	@Test
+	void it_should_fail_to_acquire_unknown_server() {
+		final FakeEmbeddedServer server = new FakeEmbeddedServer();
+		assertThatThrownBy(() -> SharedServers.acquire(server))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@SharedServer
+	private static class SharedFixtureClass {
+	}
+
+	@SharedServer("foo")
+	private static class KeySharedFixtureClass {
+	}
+
+	private static class FixtureClass {
+	}
+
+	private static class FixtureHook implements Hook {
+		@Override
+		public void pre(EmbeddedServer<?> server) {
+		}
+
+		@Override
+		public void post(EmbeddedServer<?> server) {
+		}
+
+		@Override
+		public void onStarted(EmbeddedServer<?> server, ServletContext servletContext) {
+		}
+	}
+
+}
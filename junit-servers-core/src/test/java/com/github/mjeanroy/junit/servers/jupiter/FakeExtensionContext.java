@@ -57,6 +57,11 @@ class FakeExtensionContext implements ExtensionContext {
 	 */
 	private final Object testInstance;
 
+	/**
+	 * The root context, created on first access.
+	 */
+	private FakeExtensionContext root;
+
 	FakeExtensionContext(Object testInstance) {
 		this.stores = new HashMap<>();
 		this.id = UUID.randomUUID().toString();
@@ -69,8 +74,13 @@ class FakeExtensionContext implements ExtensionContext {
 	}
 
 	@Override
-	public ExtensionContext getRoot() {
-		throw new UnsupportedOperationException();
+	public FakeExtensionContext getRoot() {
+		if (root == null) {
+			root = new FakeExtensionContext(null);
+			root.root = root;
+		}
+
+		return root;
 	}
 
 	@Override
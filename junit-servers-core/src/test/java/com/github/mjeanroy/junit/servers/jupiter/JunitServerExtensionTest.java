@@ -29,13 +29,16 @@ import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.impl.ning.NingAsyncHttpClient;
 import com.github.mjeanroy.junit.servers.engine.AnnotationsHandlerRunner;
 import com.github.mjeanroy.junit.servers.engine.EmbeddedServerRunner;
+import com.github.mjeanroy.junit.servers.engine.SharedServers;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import com.github.mjeanroy.junit.servers.utils.builders.EmbeddedServerMockBuilder;
 import com.github.mjeanroy.junit.servers.utils.fixtures.FixtureClass;
+import com.github.mjeanroy.junit.servers.utils.fixtures.SharedFixtureClass;
 import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServer;
 import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServerConfiguration;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 
 import java.lang.reflect.Method;
@@ -170,6 +173,48 @@ class JunitServerExtensionTest {
 		assertThat(serverAdapter.getServer().isStarted()).isFalse();
 	}
 
+	@Test
+	void it_should_not_stop_shared_server_after_all_tests() {
+		final JunitServerExtension extension = new JunitServerExtension();
+		final SharedFixtureClass testInstance = new SharedFixtureClass();
+		final FakeExtensionContext context = new FakeExtensionContext(testInstance);
+
+		extension.beforeAll(context);
+
+		final FakeStore store = context.getSingleStore();
+		final EmbeddedServerRunner serverAdapter = store.get("serverAdapter", EmbeddedServerRunner.class);
+
+		extension.afterAll(context);
+
+		assertThat(store.isEmpty()).isTrue();
+		assertThat(serverAdapter.isShared()).isTrue();
+		assertThat(serverAdapter.getServer().isStarted()).isTrue();
+
+		SharedServers.stopIdle();
+		assertThat(serverAdapter.getServer().isStarted()).isFalse();
+	}
+
+	@Test
+	void it_should_stop_shared_server_when_root_context_is_closed() throws Throwable {
+		final JunitServerExtension extension = new JunitServerExtension();
+		final SharedFixtureClass testInstance = new SharedFixtureClass();
+		final FakeExtensionContext context = new FakeExtensionContext(testInstance);
+
+		extension.beforeAll(context);
+
+		final EmbeddedServerRunner serverAdapter = context.getSingleStore().get("serverAdapter", EmbeddedServerRunner.class);
+		final FakeStore rootStore = context.getRoot().getSingleStore();
+		final ExtensionContext.Store.CloseableResource cleanup = rootStore.get("sharedServers", ExtensionContext.Store.CloseableResource.class);
+
+		extension.afterAll(context);
+
+		assertThat(cleanup).isNotNull();
+		assertThat(serverAdapter.getServer().isStarted()).isTrue();
+
+		cleanup.close();
+		assertThat(serverAdapter.getServer().isStarted()).isFalse();
+	}
+
 	@Test
 	void it_should_inject_annotated_field_before_each_test() {
 		final JunitServerExtension extension = new JunitServerExtension();
@@ -207,9 +252,33 @@ class JunitServerExtensionTest {
 
 		assertThat(store.get("annotationsAdapter")).isNull();
 		assertThat(testInstance.client).isNull();
+		assertThat(client.isDestroyed()).isFalse();
+
+		extension.afterAll(context);
+
 		assertThat(client.isDestroyed()).isTrue();
 	}
 
+	@Test
+	void it_should_reuse_injected_http_client_between_tests() {
+		final JunitServerExtension extension = new JunitServerExtension();
+		final FixtureClass testInstance = new FixtureClass();
+		final FakeExtensionContext context = new FakeExtensionContext(testInstance);
+
+		extension.beforeAll(context);
+		extension.beforeEach(context);
+
+		final HttpClient client = testInstance.client;
+
+		extension.afterEach(context);
+		extension.beforeEach(context);
+
+		assertThat(testInstance.client).isSameAs(client);
+
+		extension.afterEach(context);
+		extension.afterAll(context);
+	}
+
 	@Test
 	void it_should_support_resolution_of_embedded_server_parameter() throws Exception {
 		verifySupportsParameter("method_server", EmbeddedServer.class);
@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+	@Test
+	void it_should_return_zero_with_empty_histogram() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getMin()).isEqualTo(Duration.ZERO);
+		assertThat(histogram.getMax()).isEqualTo(Duration.ZERO);
+		assertThat(histogram.getMean()).isEqualTo(Duration.ZERO);
+		assertThat(histogram.getValueAtPercentile(99)).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	void it_should_record_small_values_exactly() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i);
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(100);
+		assertThat(histogram.getMin()).isEqualTo(Duration.ofNanos(1));
+		assertThat(histogram.getMax()).isEqualTo(Duration.ofNanos(100));
+		assertThat(histogram.getValueAtPercentile(50)).isEqualTo(Duration.ofNanos(50));
+		assertThat(histogram.getValueAtPercentile(99)).isEqualTo(Duration.ofNanos(99));
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(Duration.ofNanos(100));
+	}
+
+	@Test
+	void it_should_reset_histogram() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(10);
+		histogram.record(1000);
+
+		histogram.reset();
+
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getMin()).isEqualTo(Duration.ZERO);
+		assertThat(histogram.getMax()).isEqualTo(Duration.ZERO);
+		assertThat(histogram.getValueAtPercentile(99)).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	void it_should_compute_percentiles_with_bounded_relative_error() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 10000; i++) {
+			histogram.record(i * 1000L);
+		}
+
+		assertThat(histogram.getValueAtPercentile(50).toNanos()).isCloseTo(5_000_000L, within(5_000_000L / 64));
+		assertThat(histogram.getValueAtPercentile(99).toNanos()).isCloseTo(9_900_000L, within(9_900_000L / 64));
+		assertThat(histogram.getValueAtPercentile(99.9).toNanos()).isCloseTo(9_990_000L, within(9_990_000L / 64));
+		assertThat(histogram.getMean().toNanos()).isEqualTo(5_000_500L);
+	}
+
+	@Test
+	void it_should_record_values_with_relative_error_of_at_most_one_sixty_fourth() {
+		for (long value = 128; value > 0 && value < Long.MAX_VALUE / 2; value = value * 3 / 2 + 1) {
+			final long highestValue = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+			assertThat(highestValue).isBetween(value, value + value / 64);
+		}
+	}
+
+	@Test
+	void it_should_map_values_to_contiguous_buckets() {
+		for (long value : new long[]{0, 1, 127, 128, 255, 256, 1_000_000, Long.MAX_VALUE}) {
+			final int index = LatencyHistogram.indexOf(value);
+			assertThat(LatencyHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(value);
+			if (index > 0) {
+				assertThat(LatencyHistogram.highestValueOf(index - 1)).isLessThan(value);
+			}
+		}
+	}
+
+	@Test
+	void it_should_fail_with_invalid_percentile() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+
+		assertThatThrownBy(() -> histogram.getValueAtPercentile(101))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Percentile must be between 0 and 100, got: 101.0");
+	}
+}
@@ -0,0 +1,191 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoadScenarioTest {
+
+	private HttpClient client;
+	private HttpRequest request;
+	private HttpResponse response;
+
+	@BeforeEach
+	void setUp() {
+		client = mock(HttpClient.class);
+		request = mock(HttpRequest.class);
+		response = mock(HttpResponse.class);
+
+		when(client.prepareGet("/")).thenReturn(request);
+		when(request.execute()).thenReturn(response);
+		when(request.executeAsync()).thenReturn(CompletableFuture.completedFuture(response));
+		when(response.status()).thenReturn(200);
+	}
+
+	@Test
+	void it_should_run_closed_model() {
+		final LoadScenario scenario = new LoadScenario.Builder(c -> c.prepareGet("/"))
+			.withConcurrency(4)
+			.withDuration(Duration.ofSeconds(10))
+			.withMaxRequests(100)
+			.build();
+
+		final LoadResult result = scenario.run(client);
+
+		assertThat(scenario.isOpenModel()).isFalse();
+		assertThat(result.getCount()).isEqualTo(100);
+		assertThat(result.getErrors()).isZero();
+		assertThat(result.throughput()).isPositive();
+		assertThat(result.p50()).isLessThanOrEqualTo(result.p99());
+		assertThat(result.p99()).isLessThanOrEqualTo(result.p999());
+		verify(response, atLeastOnce()).consumeBody(any());
+	}
+
+	@Test
+	void it_should_run_open_model() {
+		final LoadScenario scenario = new LoadScenario.Builder(c -> c.prepareGet("/"))
+			.withArrivalRate(1000)
+			.withDuration(Duration.ofSeconds(10))
+			.withMaxRequests(20)
+			.build();
+
+		final LoadResult result = scenario.run(client);
+
+		assertThat(scenario.isOpenModel()).isTrue();
+		assertThat(result.getCount()).isEqualTo(20);
+		assertThat(result.getErrors()).isZero();
+	}
+
+	@Test
+	void it_should_verify_responses_outside_client_threads_in_open_model() throws Exception {
+		final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+		final Thread ioThread = new Thread(() -> future.complete(response), "client-io-thread");
+		when(request.executeAsync()).thenReturn(future);
+
+		final Set<String> threads = ConcurrentHashMap.newKeySet();
+		final LoadScenario scenario = new LoadScenario.Builder(c -> c.prepareGet("/"))
+			.withArrivalRate(1000)
+			.withDuration(Duration.ofSeconds(10))
+			.withMaxRequests(1)
+			.withSuccessPredicate(rsp -> threads.add(Thread.currentThread().getName()))
+			.build();
+
+		ioThread.start();
+		final LoadResult result = scenario.run(client);
+		ioThread.join();
+
+		assertThat(result.getCount()).isEqualTo(1);
+		assertThat(result.getErrors()).isZero();
+		assertThat(threads).hasSize(1).allMatch(name -> name.startsWith("junit-servers-load-verifier"));
+	}
+
+	@Test
+	void it_should_evaluate_success_predicate_reading_response_body() {
+		when(request.execute()).thenAnswer(invocation -> DefaultHttpResponse.of(1000L, 200, "OK", emptyList()));
+
+		final LoadScenario scenario = new LoadScenario.Builder(c -> c.prepareGet("/"))
+			.withMaxRequests(10)
+			.withSuccessPredicate(rsp -> rsp.body().equals("OK"))
+			.build();
+
+		final LoadResult result = scenario.run(client);
+
+		assertThat(result.getCount()).isEqualTo(10);
+		assertThat(result.getErrors()).isZero();
+	}
+
+	@Test
+	void it_should_stop_after_duration() {
+		final LoadScenario scenario = new LoadScenario.Builder(c -> c.prepareGet("/"))
+			.withDuration(Duration.ofMillis(50))
+			.build();
+
+		final LoadResult result = scenario.run(client);
+
+		assertThat(result.getCount()).isPositive();
+		assertThat(result.getElapsed()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+	}
+
+	@Test
+	void it_should_count_errors() {
+		when(response.status()).thenReturn(500);
+
+		final LoadScenario scenario = new LoadScenario.Builder(c -> c.prepareGet("/"))
+			.withMaxRequests(10)
+			.build();
+
+		final LoadResult result = scenario.run(client);
+
+		assertThat(result.getCount()).isEqualTo(10);
+		assertThat(result.getErrors()).isEqualTo(10);
+	}
+
+	@Test
+	void it_should_count_failed_requests_as_errors() {
+		when(request.executeAsync()).thenReturn(failedFuture(new IllegalStateException("Connection refused")));
+
+		final LoadScenario scenario = new LoadScenario.Builder(c -> c.prepareGet("/"))
+			.withArrivalRate(1000)
+			.withMaxRequests(10)
+			.build();
+
+		final LoadResult result = scenario.run(client);
+
+		assertThat(result.getCount()).isEqualTo(10);
+		assertThat(result.getErrors()).isEqualTo(10);
+	}
+
+	@Test
+	void it_should_fail_with_invalid_concurrency() {
+		assertThatThrownBy(() -> new LoadScenario.Builder(c -> c.prepareGet("/")).withConcurrency(0))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Concurrency must be strictly positive");
+	}
+
+	private static CompletableFuture<HttpResponse> failedFuture(Throwable error) {
+		final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+		future.completeExceptionally(error);
+		return future;
+	}
+}
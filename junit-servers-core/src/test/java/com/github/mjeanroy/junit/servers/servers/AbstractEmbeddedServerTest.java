@@ -31,14 +31,19 @@ import com.github.mjeanroy.junit.servers.utils.impl.FakeServer;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.mjeanroy.junit.servers.servers.FakeWorker.startWorker;
 import static com.github.mjeanroy.junit.servers.servers.FakeWorker.stopWorker;
 import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.localUrl;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -160,6 +165,37 @@ class AbstractEmbeddedServerTest {
 		assertThat(server.getNbStop()).isOne();
 	}
 
+	@Test
+	void it_should_restart_server_in_place() {
+		final Hook hook = mock(Hook.class);
+		final FakeEmbeddedServerConfiguration configuration = new FakeEmbeddedServerConfigurationBuilder().withHook(hook).build();
+
+		server = new FakeEmbeddedServer(configuration);
+		server.setRestartInPlace(true);
+		server.start();
+		server.restart();
+
+		assertThat(server.isStarted()).isTrue();
+		assertThat(server.getNbStart()).isOne();
+		assertThat(server.getNbStop()).isZero();
+		assertThat(server.getNbRestart()).isOne();
+
+		verify(hook).post(server);
+		verify(hook, times(2)).pre(server);
+		verify(hook, times(2)).onStarted(server, server.getServletContext());
+	}
+
+	@Test
+	void it_should_not_restart_server_in_place_if_server_is_not_started() {
+		server.setRestartInPlace(true);
+		server.restart();
+
+		assertThat(server.isStarted()).isTrue();
+		assertThat(server.getNbStart()).isOne();
+		assertThat(server.getNbStop()).isZero();
+		assertThat(server.getNbRestart()).isZero();
+	}
+
 	@Test
 	void it_should_block_until_server_is_started() throws Exception {
 		assertThat(server.isStarted()).isFalse();
@@ -232,6 +268,44 @@ class AbstractEmbeddedServerTest {
 		assertThat(server.getNbStop()).isOne();
 	}
 
+	@Test
+	void it_should_not_block_other_servers_while_starting() throws Exception {
+		final CountDownLatch startingSignal = new CountDownLatch(1);
+		final CountDownLatch startSignal = new CountDownLatch(1);
+		final CountDownLatch doneSignal = new CountDownLatch(1);
+		final FakeEmbeddedServer blockingServer = new FakeEmbeddedServer() {
+			@Override
+			protected void doStart() {
+				startingSignal.countDown();
+
+				try {
+					startSignal.await();
+				}
+				catch (InterruptedException ex) {
+					throw new AssertionError(ex);
+				}
+
+				super.doStart();
+			}
+		};
+
+		final Thread th1 = new Thread(blockingServer::start);
+		final Thread th2 = new Thread(startWorker(server, new CountDownLatch(0), doneSignal));
+
+		// Ensure the first server start is in progress (and holds its lifecycle lock) before starting the second server.
+		th1.start();
+		assertThat(startingSignal.await(10, TimeUnit.SECONDS)).isTrue();
+
+		th2.start();
+		assertThat(doneSignal.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(server.isStarted()).isTrue();
+		assertThat(blockingServer.isStarted()).isFalse();
+
+		startSignal.countDown();
+		th1.join();
+		assertThat(blockingServer.isStarted()).isTrue();
+	}
+
 	@Test
 	void it_should_set_environment_properties() {
 		final String name1 = "foo";
@@ -307,6 +381,59 @@ class AbstractEmbeddedServerTest {
 		assertThat(server.getNbStop()).isEqualTo(1);
 	}
 
+	@Test
+	void it_should_notify_lifecycle_listeners() {
+		final List<ServerLifecycleTimings> timings = new ArrayList<>();
+		final ServerLifecycleListener listener = (server, lifecycleTimings) -> timings.add(lifecycleTimings);
+		final FakeEmbeddedServerConfiguration configuration = new FakeEmbeddedServerConfigurationBuilder().withHook(listener).build();
+
+		server = new FakeEmbeddedServer(configuration);
+		server.setRestartInPlace(true);
+
+		server.start();
+		server.restart();
+		server.stop();
+
+		assertThat(timings).extracting(ServerLifecycleTimings::getOperation).containsExactly(
+			ServerLifecycleTimings.Operation.START,
+			ServerLifecycleTimings.Operation.RESTART,
+			ServerLifecycleTimings.Operation.STOP
+		);
+
+		assertThat(timings.get(0).getPhases()).containsOnlyKeys(
+			ServerLifecycleTimings.ENVIRONMENT,
+			ServerLifecycleTimings.HOOKS,
+			ServerLifecycleTimings.SERVER,
+			ServerLifecycleTimings.STARTED_HOOKS
+		);
+
+		assertThat(timings.get(2).getPhases()).containsOnlyKeys(
+			ServerLifecycleTimings.HOOKS,
+			ServerLifecycleTimings.SERVER,
+			ServerLifecycleTimings.ENVIRONMENT
+		);
+
+		assertThat(timings.get(0).getTotal()).isGreaterThanOrEqualTo(timings.get(0).getPhase(ServerLifecycleTimings.SERVER));
+	}
+
+	@Test
+	void it_should_not_notify_lifecycle_listeners_if_start_fails() {
+		final List<ServerLifecycleTimings> timings = new ArrayList<>();
+		final ServerLifecycleListener listener = (server, lifecycleTimings) -> timings.add(lifecycleTimings);
+		final Hook failingHook = mock(Hook.class);
+		final FakeEmbeddedServerConfiguration configuration = new FakeEmbeddedServerConfigurationBuilder()
+			.withHook(listener)
+			.withHook(failingHook)
+			.build();
+
+		doThrow(new IllegalStateException("fail")).when(failingHook).pre(any(EmbeddedServer.class));
+
+		server = new FakeEmbeddedServer(configuration);
+
+		assertThatThrownBy(server::start).isInstanceOf(IllegalStateException.class);
+		assertThat(timings).isEmpty();
+	}
+
 	@Test
 	void it_should_get_path() {
 		assertThat(server.getPath()).isEqualTo("/");
@@ -323,6 +450,14 @@ class AbstractEmbeddedServerTest {
 		assertThat(server.getUrl()).isEqualTo(localUrl(0));
 	}
 
+	@Test
+	void it_should_get_url_with_custom_connector_host() {
+		final ConnectorConfiguration connector = ConnectorConfiguration.builder().withHost("127.0.0.1").build();
+		final FakeEmbeddedServer server = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withConnector(connector).build());
+		assertThat(server.getHost()).isEqualTo("127.0.0.1");
+		assertThat(server.getUrl()).isEqualTo("http://127.0.0.1:0/");
+	}
+
 	@Test
 	void it_should_get_url_with_custom_path() {
 		final FakeEmbeddedServer server = new FakeEmbeddedServer(new FakeEmbeddedServerConfigurationBuilder().withPath("/foo").build());
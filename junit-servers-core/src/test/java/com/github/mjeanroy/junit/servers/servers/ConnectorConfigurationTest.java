@@ -0,0 +1,141 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectorConfigurationTest {
+
+	@Test
+	void it_should_build_default_configuration() {
+		final ConnectorConfiguration configuration = ConnectorConfiguration.builder().build();
+
+		assertThat(configuration.getProtocol()).isEqualTo(ConnectorConfiguration.Protocol.NIO);
+		assertThat(configuration.getHost()).isNull();
+		assertThat(configuration.getUnixSocket()).isNull();
+		assertThat(configuration.getAcceptors()).isNull();
+		assertThat(configuration.getSelectors()).isNull();
+		assertThat(configuration.getMaxConnections()).isNull();
+		assertThat(configuration.getAcceptQueueSize()).isNull();
+		assertThat(configuration.getKeepAliveTimeout()).isNull();
+		assertThat(configuration.getMaxKeepAliveRequests()).isNull();
+		assertThat(configuration.getSocketReceiveBufferSize()).isNull();
+		assertThat(configuration.getSocketSendBufferSize()).isNull();
+		assertThat(configuration.getOutputBufferSize()).isNull();
+		assertThat(configuration.getRequestHeaderSize()).isNull();
+	}
+
+	@Test
+	void it_should_build_custom_configuration() {
+		final ConnectorConfiguration configuration = ConnectorConfiguration.builder()
+			.withProtocol(ConnectorConfiguration.Protocol.NIO2)
+			.withHost("127.0.0.1")
+			.withUnixSocket("/tmp/junit-servers.sock")
+			.withAcceptors(1)
+			.withSelectors(2)
+			.withMaxConnections(100)
+			.withAcceptQueueSize(50)
+			.withKeepAliveTimeout(5000)
+			.withMaxKeepAliveRequests(10)
+			.withSocketReceiveBufferSize(1024)
+			.withSocketSendBufferSize(2048)
+			.withOutputBufferSize(4096)
+			.withRequestHeaderSize(8192)
+			.build();
+
+		assertThat(configuration.getProtocol()).isEqualTo(ConnectorConfiguration.Protocol.NIO2);
+		assertThat(configuration.getHost()).isEqualTo("127.0.0.1");
+		assertThat(configuration.getUnixSocket()).isEqualTo("/tmp/junit-servers.sock");
+		assertThat(configuration.getAcceptors()).isEqualTo(1);
+		assertThat(configuration.getSelectors()).isEqualTo(2);
+		assertThat(configuration.getMaxConnections()).isEqualTo(100);
+		assertThat(configuration.getAcceptQueueSize()).isEqualTo(50);
+		assertThat(configuration.getKeepAliveTimeout()).isEqualTo(5000);
+		assertThat(configuration.getMaxKeepAliveRequests()).isEqualTo(10);
+		assertThat(configuration.getSocketReceiveBufferSize()).isEqualTo(1024);
+		assertThat(configuration.getSocketSendBufferSize()).isEqualTo(2048);
+		assertThat(configuration.getOutputBufferSize()).isEqualTo(4096);
+		assertThat(configuration.getRequestHeaderSize()).isEqualTo(8192);
+	}
+
+	@Test
+	void it_should_fail_with_negative_value() {
+		final ConnectorConfiguration.Builder builder = ConnectorConfiguration.builder();
+
+		assertThatThrownBy(() -> builder.withMaxConnections(-1))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("maxConnections must be positive");
+	}
+
+	@Test
+	void it_should_fail_with_null_protocol() {
+		final ConnectorConfiguration.Builder builder = ConnectorConfiguration.builder();
+
+		assertThatThrownBy(() -> builder.withProtocol(null))
+			.isExactlyInstanceOf(NullPointerException.class)
+			.hasMessage("protocol must not be null");
+	}
+
+	@Test
+	void it_should_fail_with_blank_unix_socket() {
+		final ConnectorConfiguration.Builder builder = ConnectorConfiguration.builder();
+
+		assertThatThrownBy(() -> builder.withUnixSocket(" "))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("unixSocket must not be blank");
+	}
+
+	@Test
+	void it_should_implement_equals_hashCode() {
+		EqualsVerifier.forClass(ConnectorConfiguration.class).verify();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		final ConnectorConfiguration configuration = ConnectorConfiguration.builder().withAcceptors(1).build();
+
+		assertThat(configuration.toString()).isEqualTo(
+			"ConnectorConfiguration{" +
+				"protocol: NIO, " +
+				"host: null, " +
+				"unixSocket: null, " +
+				"acceptors: 1, " +
+				"selectors: null, " +
+				"maxConnections: null, " +
+				"acceptQueueSize: null, " +
+				"keepAliveTimeout: null, " +
+				"maxKeepAliveRequests: null, " +
+				"socketReceiveBufferSize: null, " +
+				"socketSendBufferSize: null, " +
+				"outputBufferSize: null, " +
+				"requestHeaderSize: null" +
+			"}"
+		);
+	}
+}
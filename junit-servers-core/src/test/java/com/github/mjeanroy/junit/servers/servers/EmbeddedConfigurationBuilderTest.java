@@ -107,6 +107,30 @@ class EmbeddedConfigurationBuilderTest {
 			.hasMessage("Base class must not be null");
 	}
 
+	@Test
+	void it_should_change_thread_pool() {
+		final EmbeddedConfigurationBuilder builder = createBuilder();
+		final ThreadPoolConfiguration threadPool = ThreadPoolConfiguration.builder().withMinThreads(2).withMaxThreads(8).build();
+		assertThat(builder.getThreadPool()).isNull();
+
+		final EmbeddedConfigurationBuilder result = builder.withThreadPool(threadPool);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getThreadPool()).isSameAs(threadPool);
+	}
+
+	@Test
+	void it_should_change_connector() {
+		final EmbeddedConfigurationBuilder builder = createBuilder();
+		final ConnectorConfiguration connector = ConnectorConfiguration.builder().withAcceptors(1).build();
+		assertThat(builder.getConnector()).isNull();
+
+		final EmbeddedConfigurationBuilder result = builder.withConnector(connector);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getConnector()).isSameAs(connector);
+	}
+
 	@Test
 	void it_should_add_property() {
 		final EmbeddedConfigurationBuilder builder = createBuilder();
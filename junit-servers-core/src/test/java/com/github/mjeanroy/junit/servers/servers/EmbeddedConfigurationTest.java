@@ -53,7 +53,9 @@ class EmbeddedConfigurationTest {
 				"webapp: \"src/main/webapp\", " +
 				"classpath: \".\", " +
 				"overrideDescriptor: null, " +
-				"parentClassLoader: null" +
+				"parentClassLoader: null, " +
+				"threadPool: null, " +
+				"connector: null" +
 			"}"
 		);
 	}
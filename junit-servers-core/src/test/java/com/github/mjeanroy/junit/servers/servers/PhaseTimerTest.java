@@ -0,0 +1,63 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhaseTimerTest {
+
+	@Test
+	void it_should_record_each_step() throws Exception {
+		final List<String> phases = new ArrayList<>();
+		final List<Long> times = new ArrayList<>();
+		final PhaseTimer timer = new PhaseTimer("connector", (phase, nanos) -> {
+			phases.add(phase);
+			times.add(nanos);
+		});
+
+		timer.start();
+		Thread.sleep(10);
+		timer.stop();
+
+		timer.start();
+		timer.stop();
+
+		assertThat(phases).containsExactly("connector", "connector");
+		assertThat(times.get(0)).isGreaterThanOrEqualTo(10_000_000L);
+		assertThat(times.get(1)).isNotNegative().isLessThan(times.get(0));
+	}
+
+	@Test
+	void it_should_fail_without_phase() {
+		assertThatThrownBy(() -> new PhaseTimer(" ", (phase, nanos) -> {}))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("phase must not be blank");
+	}
+}
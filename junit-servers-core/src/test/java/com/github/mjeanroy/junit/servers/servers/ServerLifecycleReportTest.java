@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerLifecycleReportTest {
+
+	@BeforeEach
+	void setUp() {
+		ServerLifecycleReport.reset();
+	}
+
+	@AfterEach
+	void tearDown() {
+		ServerLifecycleReport.reset();
+	}
+
+	@Test
+	void it_should_aggregate_timings_by_suite() {
+		final FakeEmbeddedServer server = new FakeEmbeddedServer();
+
+		ServerLifecycleReport.runInSuite("FooTest", () -> {
+			server.start();
+			server.stop();
+		});
+
+		ServerLifecycleReport.runInSuite("BarTest", server::start);
+
+		final List<ServerLifecycleReport.SuiteTimings> suites = ServerLifecycleReport.getSuites();
+		assertThat(suites).extracting(ServerLifecycleReport.SuiteTimings::getSuite).containsOnly("FooTest", "BarTest");
+
+		final ServerLifecycleReport.SuiteTimings fooTest = suites.stream().filter(suite -> suite.getSuite().equals("FooTest")).findFirst().get();
+		assertThat(fooTest.getCount(ServerLifecycleTimings.Operation.START)).isOne();
+		assertThat(fooTest.getCount(ServerLifecycleTimings.Operation.STOP)).isOne();
+		assertThat(fooTest.getCount(ServerLifecycleTimings.Operation.RESTART)).isZero();
+		assertThat(fooTest.getTotal()).isEqualTo(fooTest.getTotal(ServerLifecycleTimings.Operation.START).plus(fooTest.getTotal(ServerLifecycleTimings.Operation.STOP)));
+		assertThat(fooTest.getPhases()).containsKeys(ServerLifecycleTimings.SERVER, ServerLifecycleTimings.HOOKS);
+	}
+
+	@Test
+	void it_should_order_suites_by_total_time() {
+		final FakeEmbeddedServer server = new FakeEmbeddedServer();
+
+		ServerLifecycleReport.runInSuite("FooTest", server::start);
+		ServerLifecycleReport.runInSuite("BarTest", () -> {
+			server.stop();
+			server.start();
+			server.stop();
+		});
+
+		final List<ServerLifecycleReport.SuiteTimings> suites = ServerLifecycleReport.getSuites();
+		assertThat(suites).hasSize(2);
+		assertThat(suites.get(0).getTotal()).isGreaterThanOrEqualTo(suites.get(1).getTotal());
+	}
+
+	@Test
+	void it_should_attribute_timings_outside_suite() {
+		final FakeEmbeddedServer server = new FakeEmbeddedServer();
+
+		ServerLifecycleReport.runInSuite("FooTest", () -> {
+		});
+
+		server.start();
+
+		assertThat(ServerLifecycleReport.getSuites()).extracting(ServerLifecycleReport.SuiteTimings::getSuite).containsExactly(ServerLifecycleReport.NO_SUITE);
+	}
+
+	@Test
+	void it_should_create_summary() {
+		final FakeEmbeddedServer server = new FakeEmbeddedServer();
+
+		ServerLifecycleReport.runInSuite("FooTest", server::start);
+
+		assertThat(ServerLifecycleReport.summary())
+			.startsWith("Embedded servers lifecycle report (1 suite(s), total: ")
+			.contains("FooTest: ")
+			.contains("(start: 1 x ")
+			.contains("server: ");
+	}
+}
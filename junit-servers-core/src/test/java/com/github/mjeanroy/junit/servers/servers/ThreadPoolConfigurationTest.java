@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThreadPoolConfigurationTest {
+
+	@Test
+	void it_should_build_default_configuration() {
+		final ThreadPoolConfiguration configuration = ThreadPoolConfiguration.builder().build();
+
+		assertThat(configuration.getMinThreads()).isEqualTo(10);
+		assertThat(configuration.getMaxThreads()).isEqualTo(200);
+		assertThat(configuration.getQueueSize()).isEqualTo(Integer.MAX_VALUE);
+		assertThat(configuration.getIdleTimeout()).isEqualTo(60000);
+		assertThat(configuration.isVirtualThreads()).isFalse();
+	}
+
+	@Test
+	void it_should_build_virtual_threads_configuration() {
+		final ThreadPoolConfiguration configuration = ThreadPoolConfiguration.virtualThreads();
+		assertThat(configuration.isVirtualThreads()).isTrue();
+	}
+
+	@Test
+	void it_should_build_custom_configuration() {
+		final ThreadPoolConfiguration configuration = ThreadPoolConfiguration.builder()
+			.withMinThreads(2)
+			.withMaxThreads(8)
+			.withQueueSize(100)
+			.withIdleTimeout(1000)
+			.enableVirtualThreads()
+			.build();
+
+		assertThat(configuration.getMinThreads()).isEqualTo(2);
+		assertThat(configuration.getMaxThreads()).isEqualTo(8);
+		assertThat(configuration.getQueueSize()).isEqualTo(100);
+		assertThat(configuration.getIdleTimeout()).isEqualTo(1000);
+		assertThat(configuration.isVirtualThreads()).isTrue();
+	}
+
+	@Test
+	void it_should_fail_with_zero_max_threads() {
+		final ThreadPoolConfiguration.Builder builder = ThreadPoolConfiguration.builder();
+
+		assertThatThrownBy(() -> builder.withMaxThreads(0))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("maxThreads must be strictly positive");
+	}
+
+	@Test
+	void it_should_fail_if_min_threads_is_greater_than_max_threads() {
+		final ThreadPoolConfiguration.Builder builder = ThreadPoolConfiguration.builder()
+			.withMinThreads(20)
+			.withMaxThreads(10);
+
+		assertThatThrownBy(builder::build)
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("minThreads must be lower than or equal to maxThreads");
+	}
+
+	@Test
+	void it_should_implement_equals_hashCode() {
+		EqualsVerifier.forClass(ThreadPoolConfiguration.class).verify();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		final ThreadPoolConfiguration configuration = ThreadPoolConfiguration.builder().build();
+
+		assertThat(configuration.toString()).isEqualTo(
+			"ThreadPoolConfiguration{" +
+				"minThreads: 10, " +
+				"maxThreads: 200, " +
+				"queueSize: 2147483647, " +
+				"idleTimeout: 60000, " +
+				"virtualThreads: false" +
+			"}"
+		);
+	}
+}
@@ -26,10 +26,14 @@ package com.github.mjeanroy.junit.servers.utils.builders;
 
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.InMemoryTransport;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.url;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -39,6 +43,12 @@ import static org.mockito.Mockito.when;
  */
 public class EmbeddedServerMockBuilder {
 
+	/**
+	 * An embedded server supporting in-memory transport.
+	 */
+	public interface InMemoryEmbeddedServer extends EmbeddedServer<AbstractConfiguration>, InMemoryTransport {
+	}
+
 	/**
 	 * The embedded server configuration.
 	 */
@@ -64,6 +74,11 @@ public class EmbeddedServerMockBuilder {
 	 */
 	private String path;
 
+	/**
+	 * Server in-memory transport, {@code null} if the server does not support in-memory transport.
+	 */
+	private InMemoryTransport inMemoryTransport;
+
 	/**
 	 * Create new builder.
 	 */
@@ -130,13 +145,30 @@ public class EmbeddedServerMockBuilder {
 		return this;
 	}
 
+	/**
+	 * Update {@link #inMemoryTransport}: the mock instance will implement {@link InMemoryTransport}.
+	 *
+	 * @param inMemoryTransport New {@link #inMemoryTransport}
+	 * @return The builder.
+	 */
+	public EmbeddedServerMockBuilder withInMemoryTransport(InMemoryTransport inMemoryTransport) {
+		this.inMemoryTransport = inMemoryTransport;
+		return this;
+	}
+
 	/**
 	 * Create new mock instance of {@link EmbeddedServer}.
 	 *
 	 * @return The mock instance.
 	 */
 	public EmbeddedServer<?> build() {
-		EmbeddedServer<?> server = mock(EmbeddedServer.class, "MockEmbeddedServer");
+		EmbeddedServer<?> server = inMemoryTransport == null ?
+			mock(EmbeddedServer.class, "MockEmbeddedServer") :
+			mock(InMemoryEmbeddedServer.class, "MockEmbeddedServer");
+
+		if (inMemoryTransport != null) {
+			stubInMemoryTransport((InMemoryTransport) server);
+		}
 
 		when(server.getConfiguration()).thenAnswer((Answer<AbstractConfiguration>) invocation -> configuration);
 
@@ -152,6 +184,20 @@ public class EmbeddedServerMockBuilder {
 		return server;
 	}
 
+	/**
+	 * Create new mock instance of {@link EmbeddedServer} supporting in-memory transport.
+	 *
+	 * @return The mock instance.
+	 * @throws IllegalStateException If the in-memory transport has not been set.
+	 */
+	public InMemoryEmbeddedServer buildInMemory() {
+		if (inMemoryTransport == null) {
+			throw new IllegalStateException("In-memory transport must be set");
+		}
+
+		return (InMemoryEmbeddedServer) build();
+	}
+
 	private static class IsStartedAnswer implements Answer<Object> {
 		private final EmbeddedServer<?> server;
 		private final boolean started;
@@ -167,4 +213,18 @@ public class EmbeddedServerMockBuilder {
 			return null;
 		}
 	}
+
+	private void stubInMemoryTransport(InMemoryTransport server) {
+		try {
+			doAnswer(invocation -> inMemoryTransport.dispatch(
+				invocation.getArgument(0),
+				invocation.getArgument(1),
+				invocation.getArgument(2),
+				invocation.getArgument(3)
+			)).when(server).dispatch(any(), anyBoolean(), anyLong(), any());
+		}
+		catch (Exception ex) {
+			throw new AssertionError(ex);
+		}
+	}
 }
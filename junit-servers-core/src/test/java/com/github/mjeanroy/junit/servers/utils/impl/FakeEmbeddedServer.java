@@ -43,6 +43,16 @@ public class FakeEmbeddedServer extends AbstractEmbeddedServer<FakeServer, FakeE
 	 */
 	private int nbStop;
 
+	/**
+	 * The number of times the fake server has been restarted in place.
+	 */
+	private int nbRestart;
+
+	/**
+	 * Flag used to allow the fake server to be restarted in place.
+	 */
+	private boolean restartInPlace;
+
 	/**
 	 * A fake servlet context.
 	 */
@@ -73,6 +83,16 @@ public class FakeEmbeddedServer extends AbstractEmbeddedServer<FakeServer, FakeE
 		this.nbStop++;
 	}
 
+	@Override
+	protected boolean canRestartInPlace() {
+		return restartInPlace;
+	}
+
+	@Override
+	protected void doRestart() {
+		this.nbRestart++;
+	}
+
 	@Override
 	protected int doGetPort() {
 		return configuration.getPort();
@@ -110,4 +130,22 @@ public class FakeEmbeddedServer extends AbstractEmbeddedServer<FakeServer, FakeE
 	public int getNbStop() {
 		return nbStop;
 	}
+
+	/**
+	 * Get {@link #nbRestart}
+	 *
+	 * @return {@link #nbRestart}
+	 */
+	public int getNbRestart() {
+		return nbRestart;
+	}
+
+	/**
+	 * Allow (or disallow) the fake server to be restarted in place.
+	 *
+	 * @param restartInPlace New {@link #restartInPlace} value.
+	 */
+	public void setRestartInPlace(boolean restartInPlace) {
+		this.restartInPlace = restartInPlace;
+	}
 }
@@ -25,7 +25,9 @@
 package com.github.mjeanroy.junit.servers.utils.impl;
 
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
+import com.github.mjeanroy.junit.servers.servers.ConnectorConfiguration;
 import com.github.mjeanroy.junit.servers.servers.Hook;
+import com.github.mjeanroy.junit.servers.servers.ThreadPoolConfiguration;
 
 import java.util.List;
 import java.util.Map;
@@ -44,7 +46,9 @@ public class FakeEmbeddedServerConfiguration extends AbstractConfiguration {
 		Map<String, String> envProperties,
 		List<Hook> hooks,
 		ClassLoader parentClassLoader,
-		String overrideDescriptor) {
+		String overrideDescriptor,
+		ThreadPoolConfiguration threadPool,
+		ConnectorConfiguration connector) {
 
 		super(
 			classpath,
@@ -54,7 +58,9 @@ public class FakeEmbeddedServerConfiguration extends AbstractConfiguration {
 			envProperties,
 			hooks,
 			parentClassLoader,
-			overrideDescriptor
+			overrideDescriptor,
+			threadPool,
+			connector
 		);
 	}
 }
@@ -47,7 +47,9 @@ public class FakeEmbeddedServerConfigurationBuilder extends AbstractConfiguratio
 			getEnvProperties(),
 			getHooks(),
 			getParentClassLoader(),
-			getOverrideDescriptor()
+			getOverrideDescriptor(),
+			getThreadPool(),
+			getConnector()
 		);
 	}
 }
@@ -58,6 +58,7 @@ class WireMockExtension implements BeforeEachCallback, AfterEachCallback, Parame
 	public void beforeEach(ExtensionContext context) {
 		WireMockServer wireMockServer = new WireMockServer(wireMockConfig()
 			.dynamicPort()
+			.containerThreads(64)
 		);
 
 		wireMockServer.start();
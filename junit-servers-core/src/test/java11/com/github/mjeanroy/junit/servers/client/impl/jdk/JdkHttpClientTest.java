@@ -0,0 +1,84 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.jdk;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.impl.BaseHttpClientTest;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.utils.builders.EmbeddedServerMockBuilder;
+import org.junit.jupiter.api.Test;
+
+import static com.github.mjeanroy.junit.servers.client.impl.jdk.JdkHttpClient.defaultJdkHttpClient;
+import static com.github.mjeanroy.junit.servers.client.impl.jdk.JdkHttpClient.newJdkHttpClient;
+import static com.github.mjeanroy.junit.servers.utils.commons.Fields.readPrivate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdkHttpClientTest extends BaseHttpClientTest {
+
+	@Override
+	protected HttpClient createDefaultClient(EmbeddedServer<?> server) {
+		return defaultJdkHttpClient(server);
+	}
+
+	@Override
+	protected HttpClient createCustomClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
+		return newJdkHttpClient(configuration, server);
+	}
+
+	@Override
+	protected void checkInternalHttpClient(HttpClientConfiguration configuration, HttpClient httpClient) {
+		java.net.http.HttpClient internalClient = readPrivate(httpClient, "client");
+		assertThat(internalClient.followRedirects()).isEqualTo(configuration.isFollowRedirect() ? java.net.http.HttpClient.Redirect.NORMAL : java.net.http.HttpClient.Redirect.NEVER);
+		assertThat(internalClient.version()).isEqualTo(java.net.http.HttpClient.Version.HTTP_2);
+	}
+
+	@Override
+	protected void checkInternalHttpClient(HttpClient httpClient) {
+		java.net.http.HttpClient internalClient = readPrivate(httpClient, "client");
+		assertThat(internalClient).isNotNull();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		final EmbeddedServer<?> server = new EmbeddedServerMockBuilder().build();
+		final HttpClient client = createDefaultClient(server);
+		final java.net.http.HttpClient internalClient = readPrivate(client, "client");
+
+		assertThat(client).hasToString(
+			"JdkHttpClient{" +
+				"configuration: HttpClientConfiguration{" +
+					"followRedirect: true, " +
+					"maxConnectionsPerHost: 100, " +
+					"defaultHeaders: {}, " +
+					"defaultCookies: []" +
+				"}, " +
+				"server: MockEmbeddedServer, " +
+				"client: " + internalClient.toString() + ", " +
+				"destroyed: false" +
+			"}"
+		);
+	}
+}
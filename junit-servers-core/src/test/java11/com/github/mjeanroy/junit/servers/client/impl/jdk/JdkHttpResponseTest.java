@@ -0,0 +1,73 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.jdk;
+
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpResponseImplTest;
+import com.github.mjeanroy.junit.servers.utils.builders.JdkHttpResponseBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdkHttpResponseTest extends AbstractHttpResponseImplTest<JdkHttpResponseBuilder, HttpResponse<InputStream>, JdkHttpResponse> {
+
+	@Override
+	protected JdkHttpResponseBuilder getBuilder() {
+		return new JdkHttpResponseBuilder();
+	}
+
+	@Override
+	protected JdkHttpResponse createHttpResponse(HttpResponse<InputStream> delegate, long duration) {
+		return new JdkHttpResponse(delegate, duration);
+	}
+
+	@Test
+	void it_should_read_body_with_charset_of_content_type() {
+		final HttpResponse<InputStream> delegate = new JdkHttpResponseBuilder()
+			.withHeader("Content-Type", "text/plain; charset=ISO-8859-1")
+			.withBody("café")
+			.build();
+
+		final JdkHttpResponse response = new JdkHttpResponse(delegate, 1000L);
+
+		assertThat(response.body()).isEqualTo("cafÃ©");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		final HttpResponse<InputStream> delegate = new JdkHttpResponseBuilder().build();
+		final long duration = 1000L;
+		final JdkHttpResponse response = new JdkHttpResponse(delegate, duration);
+
+		assertThat(response.toString()).isEqualTo(
+			"JdkHttpResponse{" +
+				"duration: 1000, " +
+				"response: " + delegate.toString() +
+			"}"
+		);
+	}
+}
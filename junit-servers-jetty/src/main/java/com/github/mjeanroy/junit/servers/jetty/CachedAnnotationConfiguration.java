@@ -0,0 +1,451 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.jetty;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import org.eclipse.jetty.annotations.AbstractDiscoverableAnnotationHandler;
+import org.eclipse.jetty.annotations.AnnotationConfiguration;
+import org.eclipse.jetty.plus.annotation.ContainerInitializer;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.resource.Resource;
+import org.eclipse.jetty.webapp.DiscoveredAnnotation;
+import org.eclipse.jetty.webapp.MetaData;
+import org.eclipse.jetty.webapp.WebAppContext;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.mjeanroy.junit.servers.commons.reflect.Reflections.getter;
+
+/**
+ * Jetty {@link AnnotationConfiguration} storing the result of the annotation scanning in a cache directory, so that
+ * the classpath is scanned once and the result replayed on next starts (in the same JVM or in next runs).
+ *
+ * <p>
+ *
+ * The cache entry is identified by a hash of the scanned resources (path, size and last modification date of
+ * each scanned JAR and class file) and of the active annotation handlers and initializers: a new scan is
+ * done as soon as one of them changes.
+ *
+ * <p>
+ *
+ * The cache entry contains:
+ *
+ * <ul>
+ *   <li>The discovered annotations (i.e {@code @WebServlet}, {@code @WebFilter} and {@code @WebListener}).</li>
+ *   <li>The classes annotated with the {@link javax.servlet.annotation.HandlesTypes} annotations of each {@link javax.servlet.ServletContainerInitializer}.</li>
+ *   <li>The class inheritance map, used to find the classes matching {@link javax.servlet.annotation.HandlesTypes}.</li>
+ * </ul>
+ */
+class CachedAnnotationConfiguration extends AnnotationConfiguration {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(CachedAnnotationConfiguration.class);
+
+	/**
+	 * The cache entries already read (or written) in the current JVM, indexed by file.
+	 */
+	private static final Map<Path, ScanResult> results = new ConcurrentHashMap<>();
+
+	/**
+	 * The cache file prefix.
+	 */
+	private static final String FILE_PREFIX = "jetty-annotations-";
+
+	/**
+	 * The cache file suffix.
+	 */
+	private static final String FILE_SUFFIX = ".cache";
+
+	/**
+	 * The cache file separator.
+	 */
+	private static final String SEPARATOR = "\t";
+
+	/**
+	 * The cache directory.
+	 */
+	private final Path cacheDir;
+
+	/**
+	 * Create the configuration.
+	 *
+	 * @param cacheDir The cache directory.
+	 */
+	CachedAnnotationConfiguration(String cacheDir) {
+		this.cacheDir = new File(cacheDir).toPath();
+	}
+
+	@Override
+	protected void scanForAnnotations(WebAppContext context) throws Exception {
+		final Path file = cacheDir.resolve(FILE_PREFIX + computeKey(context) + FILE_SUFFIX);
+		final ScanResult cached = readResult(file);
+
+		if (cached != null) {
+			log.debug("Replaying jetty annotation scanning result from: {}", file);
+			cached.replay(context);
+			return;
+		}
+
+		super.scanForAnnotations(context);
+
+		log.debug("Saving jetty annotation scanning result to: {}", file);
+		writeResult(file, ScanResult.of(context));
+	}
+
+	private String computeKey(WebAppContext context) throws IOException, NoSuchAlgorithmException {
+		final MetaData metaData = context.getMetaData();
+		final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+		update(digest, Server.getVersion());
+
+		// Initializers may be discovered in any order.
+		final Set<String> names = new TreeSet<>();
+
+		for (AbstractDiscoverableAnnotationHandler handler : _discoverableAnnotationHandlers) {
+			names.add(handler.getClass().getName());
+		}
+
+		for (ContainerInitializer initializer : getContainerInitializers(context)) {
+			names.add(initializer.getTarget().getClass().getName());
+		}
+
+		for (String name : names) {
+			update(digest, name);
+		}
+
+		for (Resource resource : metaData.getContainerResources()) {
+			update(digest, resource);
+		}
+
+		for (Resource resource : metaData.getWebInfClassesDirs()) {
+			update(digest, resource);
+		}
+
+		for (Resource resource : metaData.getWebInfJars()) {
+			update(digest, resource);
+		}
+
+		final StringBuilder sb = new StringBuilder();
+		for (byte b : digest.digest()) {
+			sb.append(String.format("%02x", b));
+		}
+
+		return sb.toString();
+	}
+
+	private static void update(MessageDigest digest, Resource resource) throws IOException {
+		final File file = resource.getFile();
+
+		update(digest, resource.toString());
+
+		if (file != null && file.isDirectory()) {
+			final Path root = file.toPath();
+
+			try (Stream<Path> paths = Files.walk(root)) {
+				final List<Path> files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+				for (Path path : files) {
+					update(digest, root.relativize(path) + SEPARATOR + Files.size(path) + SEPARATOR + Files.getLastModifiedTime(path).toMillis());
+				}
+			}
+		}
+		else {
+			update(digest, resource.length() + SEPARATOR + resource.lastModified());
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) '\n');
+	}
+
+	private static ScanResult readResult(Path file) {
+		final ScanResult result = results.get(file);
+		if (result != null || !Files.exists(file)) {
+			return result;
+		}
+
+		try {
+			final ScanResult read = ScanResult.read(file);
+			results.put(file, read);
+			return read;
+		}
+		catch (IOException | RuntimeException ex) {
+			log.warn("Cannot read jetty annotation cache file {}, classpath will be scanned", file);
+			return null;
+		}
+	}
+
+	private static void writeResult(Path file, ScanResult result) {
+		results.put(file, result);
+
+		try {
+			Files.createDirectories(file.getParent());
+
+			final Path tmp = Files.createTempFile(file.getParent(), FILE_PREFIX, ".tmp");
+			result.write(tmp);
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException ex) {
+			log.warn("Cannot write jetty annotation cache file {}", file);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<ContainerInitializer> getContainerInitializers(WebAppContext context) {
+		final List<ContainerInitializer> initializers = (List<ContainerInitializer>) context.getAttribute(CONTAINER_INITIALIZERS);
+		return initializers == null ? Collections.<ContainerInitializer>emptyList() : initializers;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Set<String>> getClassInheritanceMap(WebAppContext context) {
+		return (Map<String, Set<String>>) context.getAttribute(CLASS_INHERITANCE_MAP);
+	}
+
+	/**
+	 * The result of the annotation scanning.
+	 */
+	private static final class ScanResult {
+
+		/**
+		 * The line prefix of discovered annotations: annotation type, class name and resource.
+		 */
+		private static final String ANNOTATION = "A";
+
+		/**
+		 * The line prefix of {@link javax.servlet.annotation.HandlesTypes} matches: initializer and class name.
+		 */
+		private static final String ANNOTATED_TYPE = "I";
+
+		/**
+		 * The line prefix of the class inheritance map: class name and sub-class name.
+		 */
+		private static final String INHERITANCE = "H";
+
+		/**
+		 * The {@link DiscoveredAnnotation#_className} field.
+		 */
+		private static final Field CLASS_NAME = findField(DiscoveredAnnotation.class, "_className");
+
+		/**
+		 * The {@code MetaData#_annotations} field.
+		 */
+		private static final Field ANNOTATIONS = findField(MetaData.class, "_annotations");
+
+		/**
+		 * The discovered annotations: annotation type, class name and resource URI (empty if none).
+		 */
+		private final List<String[]> annotations;
+
+		/**
+		 * The annotated types, indexed by initializer class name.
+		 */
+		private final Map<String, Set<String>> annotatedTypes;
+
+		/**
+		 * The class inheritance map.
+		 */
+		private final Map<String, Set<String>> inheritance;
+
+		private ScanResult() {
+			this.annotations = new ArrayList<>();
+			this.annotatedTypes = new LinkedHashMap<>();
+			this.inheritance = new LinkedHashMap<>();
+		}
+
+		/**
+		 * Create the result of the annotation scanning of given context.
+		 *
+		 * @param context The context, once scanned.
+		 * @return The result.
+		 */
+		static ScanResult of(WebAppContext context) {
+			final ScanResult result = new ScanResult();
+
+			final Map<Resource, List<DiscoveredAnnotation>> discovered = getter(context.getMetaData(), ANNOTATIONS);
+			for (List<DiscoveredAnnotation> list : discovered.values()) {
+				for (DiscoveredAnnotation annotation : list) {
+					final Resource resource = annotation.getResource();
+					final String className = getter(annotation, CLASS_NAME);
+					final String uri = resource == null || resource.getURI() == null ? "" : resource.getURI().toString();
+					result.annotations.add(new String[] { annotation.getClass().getName(), className, uri });
+				}
+			}
+
+			for (ContainerInitializer initializer : getContainerInitializers(context)) {
+				result.add(result.annotatedTypes, initializer.getTarget().getClass().getName(), initializer.getAnnotatedTypeNames());
+			}
+
+			final Map<String, Set<String>> classInheritanceMap = getClassInheritanceMap(context);
+			if (classInheritanceMap != null) {
+				for (Map.Entry<String, Set<String>> entry : classInheritanceMap.entrySet()) {
+					result.add(result.inheritance, entry.getKey(), entry.getValue());
+				}
+			}
+
+			return result;
+		}
+
+		/**
+		 * Read the result from given file.
+		 *
+		 * @param file The file.
+		 * @return The result.
+		 * @throws IOException If an error occurred while reading the file.
+		 */
+		static ScanResult read(Path file) throws IOException {
+			final ScanResult result = new ScanResult();
+
+			try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					final String[] parts = line.split(SEPARATOR, -1);
+					if (ANNOTATION.equals(parts[0]) && parts.length == 4) {
+						result.annotations.add(new String[] { parts[1], parts[2], parts[3] });
+					}
+					else if (ANNOTATED_TYPE.equals(parts[0]) && parts.length == 3) {
+						result.add(result.annotatedTypes, parts[1], Collections.singleton(parts[2]));
+					}
+					else if (INHERITANCE.equals(parts[0]) && parts.length == 3) {
+						result.add(result.inheritance, parts[1], Collections.singleton(parts[2]));
+					}
+					else {
+						throw new IOException("Malformed line: " + line);
+					}
+				}
+			}
+
+			return result;
+		}
+
+		/**
+		 * Write the result to given file.
+		 *
+		 * @param file The file.
+		 * @throws IOException If an error occurred while writing the file.
+		 */
+		void write(Path file) throws IOException {
+			try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+				for (String[] annotation : annotations) {
+					writeLine(writer, ANNOTATION, annotation);
+				}
+
+				for (Map.Entry<String, Set<String>> entry : annotatedTypes.entrySet()) {
+					for (String className : entry.getValue()) {
+						writeLine(writer, ANNOTATED_TYPE, entry.getKey(), className);
+					}
+				}
+
+				for (Map.Entry<String, Set<String>> entry : inheritance.entrySet()) {
+					for (String className : entry.getValue()) {
+						writeLine(writer, INHERITANCE, entry.getKey(), className);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Replay the result on given context, as if the classpath had been scanned.
+		 *
+		 * @param context The context.
+		 * @throws Exception If a discovered annotation cannot be created.
+		 */
+		void replay(WebAppContext context) throws Exception {
+			final ClassLoader classLoader = CachedAnnotationConfiguration.class.getClassLoader();
+			final MetaData metaData = context.getMetaData();
+
+			for (String[] annotation : annotations) {
+				final Class<?> type = Class.forName(annotation[0], true, classLoader);
+				final Constructor<?> constructor = type.getConstructor(WebAppContext.class, String.class, Resource.class);
+				final Resource resource = annotation[2].isEmpty() ? null : Resource.newResource(annotation[2]);
+				metaData.addDiscoveredAnnotation((DiscoveredAnnotation) constructor.newInstance(context, annotation[1], resource));
+			}
+
+			for (ContainerInitializer initializer : getContainerInitializers(context)) {
+				final Set<String> classNames = annotatedTypes.get(initializer.getTarget().getClass().getName());
+				if (classNames != null) {
+					for (String className : classNames) {
+						initializer.addAnnotatedTypeName(className);
+					}
+				}
+			}
+
+			final Map<String, Set<String>> classInheritanceMap = getClassInheritanceMap(context);
+			if (classInheritanceMap != null) {
+				for (Map.Entry<String, Set<String>> entry : inheritance.entrySet()) {
+					classInheritanceMap.computeIfAbsent(entry.getKey(), k -> ConcurrentHashMap.newKeySet()).addAll(entry.getValue());
+				}
+			}
+		}
+
+		private void add(Map<String, Set<String>> map, String key, Collection<String> values) {
+			map.computeIfAbsent(key, k -> new LinkedHashSet<>()).addAll(values);
+		}
+
+		private static void writeLine(BufferedWriter writer, String type, String... values) throws IOException {
+			writer.write(type);
+			for (String value : values) {
+				writer.write(SEPARATOR);
+				writer.write(value);
+			}
+
+			writer.newLine();
+		}
+
+		private static Field findField(Class<?> klass, String name) {
+			try {
+				return klass.getDeclaredField(name);
+			}
+			catch (NoSuchFieldException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+}
@@ -24,20 +24,41 @@
 
 package com.github.mjeanroy.junit.servers.jetty;
 
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.impl.inmemory.InMemoryHttpClient;
 import com.github.mjeanroy.junit.servers.commons.core.CompositeClassLoader;
 import com.github.mjeanroy.junit.servers.commons.core.Java;
+import com.github.mjeanroy.junit.servers.commons.core.VirtualThreads;
 import com.github.mjeanroy.junit.servers.exceptions.ServerInitializationException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerStartException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerStopException;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import com.github.mjeanroy.junit.servers.servers.AbstractEmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.ConnectorConfiguration;
+import com.github.mjeanroy.junit.servers.servers.InMemoryTransport;
+import com.github.mjeanroy.junit.servers.servers.PhaseTimer;
+import com.github.mjeanroy.junit.servers.servers.ThreadPoolConfiguration;
 import org.eclipse.jetty.annotations.AnnotationConfiguration;
+import org.eclipse.jetty.server.AbstractConnector;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.ConnectionLimit;
 import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.LocalConnector;
+import org.eclipse.jetty.server.NetworkConnector;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
 import org.eclipse.jetty.util.resource.PathResource;
 import org.eclipse.jetty.util.resource.Resource;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
 import org.eclipse.jetty.webapp.Configuration;
 import org.eclipse.jetty.webapp.FragmentConfiguration;
 import org.eclipse.jetty.webapp.JettyWebXmlConfiguration;
@@ -47,7 +68,16 @@ import org.eclipse.jetty.webapp.WebInfConfiguration;
 import org.eclipse.jetty.webapp.WebXmlConfiguration;
 
 import javax.servlet.ServletContext;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
 import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.mjeanroy.junit.servers.commons.lang.Strings.isNotBlank;
 import static com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration.defaultConfiguration;
@@ -55,14 +85,82 @@ import static org.eclipse.jetty.util.resource.Resource.newResource;
 
 /**
  * Jetty Embedded Server.mv
+ *
+ * <p>
+ *
+ * The embedded jetty server supports the in-memory transport (using a jetty {@link LocalConnector}, added
+ * on first use), so it can be queried without opening any socket with an http client created
+ * using {@link #newInMemoryHttpClient()}.
  */
-public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyConfiguration> {
+public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyConfiguration> implements InMemoryTransport {
 
 	/**
 	 * Class Logger.
 	 */
 	private static final Logger log = LoggerFactory.getLogger(EmbeddedJetty.class);
 
+	/**
+	 * The lifecycle phase used to create the jetty webapp context.
+	 */
+	public static final String CONTEXT_PHASE = "jetty.context";
+
+	/**
+	 * The lifecycle phase used to configure the jetty webapp context: class loader initialization,
+	 * {@code web.xml} processing, JAR and annotation scanning.
+	 */
+	public static final String CONFIGURE_PHASE = "jetty.configure";
+
+	/**
+	 * The lifecycle phase used to execute the {@link javax.servlet.ServletContainerInitializer} of the webapp.
+	 */
+	public static final String INITIALIZERS_PHASE = "jetty.initializers";
+
+	/**
+	 * The lifecycle phase used to execute the {@link ServletContextListener} of the webapp.
+	 */
+	public static final String LISTENERS_PHASE = "jetty.listeners";
+
+	/**
+	 * The lifecycle phase used to initialize filters and servlets loaded on startup.
+	 */
+	public static final String SERVLETS_PHASE = "jetty.servlets";
+
+	/**
+	 * The lifecycle phase used to start (i.e bind) the jetty connector.
+	 */
+	public static final String CONNECTOR_PHASE = "jetty.connector";
+
+	/**
+	 * The lifecycle phase used to precompile JSP files.
+	 */
+	public static final String JSP_PHASE = "jetty.jsp";
+
+	/**
+	 * The FQN of the jetty connection factory handling HTTP/2 cleartext connections.
+	 */
+	private static final String HTTP2C_CONNECTION_FACTORY_CLASS = "org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory";
+
+	/**
+	 * The FQN of the jetty connector listening on a unix domain socket.
+	 */
+	private static final String UNIX_SOCKET_CONNECTOR_CLASS = "org.eclipse.jetty.unixsocket.UnixSocketConnector";
+
+	/**
+	 * The port returned when the server listens on a unix domain socket: the server URL can still be used to build
+	 * requests, but clients must connect to the unix domain socket.
+	 */
+	private static final int UNIX_SOCKET_PORT = 80;
+
+	/**
+	 * The name of the jetty thread pool, created when a thread pool is configured.
+	 */
+	private static final String THREAD_POOL_NAME = "junit-servers-jetty-qtp";
+
+	/**
+	 * The name of the jetty JSP servlet.
+	 */
+	private static final String JSP_SERVLET_NAME = "jsp";
+
 	/**
 	 * Instance of Jetty Server.
 	 */
@@ -74,9 +172,14 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 	private volatile WebAppContext webAppContext;
 
 	/**
-	 * Server Connector, lazily initialized.
+	 * Server Connector (a {@link ServerConnector}, or a connector listening on a unix domain socket), lazily initialized.
+	 */
+	private volatile Connector connector;
+
+	/**
+	 * Local connector, used by the in-memory transport, lazily initialized.
 	 */
-	private volatile ServerConnector connector;
+	private volatile LocalConnector localConnector;
 
 	/**
 	 * Build default embedded jetty server.
@@ -97,12 +200,242 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 
 	private Server initServer() {
 		log.debug("Initialize jetty server");
-		Server server = new Server(configuration.getPort());
+		Server server = new Server(initThreadPool());
+		Connector connector = initConnector(server);
+		connector.addLifeCycleListener(connectorLifecycleTimer());
+		server.addConnector(connector);
 		server.setStopAtShutdown(configuration.isStopAtShutdown());
 		server.setStopTimeout(configuration.getStopTimeout());
 		return server;
 	}
 
+	/**
+	 * Create the jetty thread pool from the thread pool configuration, if any.
+	 *
+	 * @return The jetty thread pool, {@code null} to use the jetty default thread pool.
+	 */
+	private ThreadPool initThreadPool() {
+		ThreadPoolConfiguration threadPool = configuration.getThreadPool();
+		if (threadPool == null) {
+			return null;
+		}
+
+		if (threadPool.isVirtualThreads()) {
+			if (VirtualThreads.isSupported()) {
+				log.debug("Initialize jetty virtual thread pool");
+				return new VirtualThreadPool(THREAD_POOL_NAME);
+			}
+
+			log.warn("Virtual threads are not supported by the runtime environment, fallback to a platform thread pool");
+		}
+
+		log.debug("Initialize jetty thread pool: {}", threadPool);
+
+		int queueSize = threadPool.getQueueSize();
+		BlockingQueue<Runnable> queue = queueSize == Integer.MAX_VALUE ? null : new BlockingArrayQueue<>(queueSize);
+		QueuedThreadPool queuedThreadPool = new QueuedThreadPool(
+			threadPool.getMaxThreads(),
+			threadPool.getMinThreads(),
+			threadPool.getIdleTimeout(),
+			queue
+		);
+
+		queuedThreadPool.setName(THREAD_POOL_NAME);
+		return queuedThreadPool;
+	}
+
+	/**
+	 * Create the jetty server connector: if HTTP/2 is enabled, the connector accepts both HTTP/1.1 and
+	 * HTTP/2 cleartext connections (using prior knowledge or the {@code Upgrade: h2c} mechanism).
+	 *
+	 * @param server The jetty server.
+	 * @return The jetty server connector.
+	 * @throws ServerInitializationException If HTTP/2 is enabled and the jetty HTTP/2 library is not available.
+	 * @throws ServerInitializationException If a unix domain socket is configured and the jetty unixsocket library is not available.
+	 */
+	private Connector initConnector(Server server) {
+		final ConnectorConfiguration connectorConfiguration = configuration.getConnector();
+		final HttpConfiguration httpConfiguration = initHttpConfiguration(connectorConfiguration);
+		final ConnectionFactory[] connectionFactories;
+
+		if (configuration.isHttp2()) {
+			log.debug("Initialize jetty HTTP/2 cleartext connector");
+			connectionFactories = new ConnectionFactory[] {
+				new HttpConnectionFactory(httpConfiguration),
+				newHttp2cConnectionFactory(httpConfiguration)
+			};
+		}
+		else {
+			connectionFactories = new ConnectionFactory[] {
+				new HttpConnectionFactory(httpConfiguration)
+			};
+		}
+
+		if (connectorConfiguration == null) {
+			ServerConnector connector = new ServerConnector(server, connectionFactories);
+			connector.setPort(configuration.getPort());
+			return connector;
+		}
+
+		log.debug("Initialize jetty connector using configuration: {}", connectorConfiguration);
+
+		if (connectorConfiguration.getUnixSocket() != null) {
+			return initUnixSocketConnector(server, connectorConfiguration, connectionFactories);
+		}
+
+		// Negative values means that jetty will compute the number of acceptors/selectors from available processors.
+		int acceptors = valueOrDefault(connectorConfiguration.getAcceptors(), -1);
+		int selectors = valueOrDefault(connectorConfiguration.getSelectors(), -1);
+		ServerConnector connector = new ServerConnector(server, acceptors, selectors, connectionFactories);
+		connector.setPort(configuration.getPort());
+		connector.setHost(connectorConfiguration.getHost());
+
+		if (connectorConfiguration.getProtocol() != ConnectorConfiguration.Protocol.NIO) {
+			log.warn("Jetty connector supports only NIO, ignoring protocol {}", connectorConfiguration.getProtocol());
+		}
+
+		if (connectorConfiguration.getMaxConnections() != null) {
+			server.addBean(new ConnectionLimit(connectorConfiguration.getMaxConnections(), connector));
+		}
+
+		if (connectorConfiguration.getAcceptQueueSize() != null) {
+			connector.setAcceptQueueSize(connectorConfiguration.getAcceptQueueSize());
+		}
+
+		if (connectorConfiguration.getKeepAliveTimeout() != null) {
+			connector.setIdleTimeout(connectorConfiguration.getKeepAliveTimeout());
+		}
+
+		if (connectorConfiguration.getMaxKeepAliveRequests() != null) {
+			log.warn("Jetty connector does not support maximum number of keep-alive requests, ignoring it");
+		}
+
+		if (connectorConfiguration.getSocketReceiveBufferSize() != null) {
+			connector.setAcceptedReceiveBufferSize(connectorConfiguration.getSocketReceiveBufferSize());
+		}
+
+		if (connectorConfiguration.getSocketSendBufferSize() != null) {
+			connector.setAcceptedSendBufferSize(connectorConfiguration.getSocketSendBufferSize());
+		}
+
+		return connector;
+	}
+
+	/**
+	 * Create the jetty connector listening on a unix domain socket: the connector is instantiated using reflection,
+	 * so that the jetty unixsocket library is required only when a unix domain socket is configured.
+	 *
+	 * @param server The jetty server.
+	 * @param connectorConfiguration The connector configuration.
+	 * @param connectionFactories The connection factories.
+	 * @return The jetty connector.
+	 * @throws ServerInitializationException If the jetty unixsocket library is not available.
+	 */
+	private static Connector initUnixSocketConnector(Server server, ConnectorConfiguration connectorConfiguration, ConnectionFactory[] connectionFactories) {
+		log.debug("Initialize jetty unix domain socket connector: {}", connectorConfiguration.getUnixSocket());
+
+		final AbstractConnector connector;
+
+		try {
+			// Negative value means that jetty will compute the number of selectors from available processors.
+			int selectors = valueOrDefault(connectorConfiguration.getSelectors(), -1);
+			Class<?> klass = Class.forName(UNIX_SOCKET_CONNECTOR_CLASS);
+			connector = (AbstractConnector) klass.getConstructor(Server.class, int.class, ConnectionFactory[].class).newInstance(server, selectors, connectionFactories);
+			klass.getMethod("setUnixSocket", String.class).invoke(connector, connectorConfiguration.getUnixSocket());
+
+			if (connectorConfiguration.getAcceptQueueSize() != null) {
+				klass.getMethod("setAcceptQueueSize", int.class).invoke(connector, connectorConfiguration.getAcceptQueueSize());
+			}
+		}
+		catch (ClassNotFoundException ex) {
+			log.error("Cannot listen on unix domain socket, please add org.eclipse.jetty:jetty-unixsocket to your classpath");
+			throw new ServerInitializationException(ex);
+		}
+		catch (ReflectiveOperationException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new ServerInitializationException(ex);
+		}
+
+		if (connectorConfiguration.getHost() != null) {
+			log.warn("Jetty connector listens on unix domain socket, ignoring host {}", connectorConfiguration.getHost());
+		}
+
+		if (connectorConfiguration.getAcceptors() != null) {
+			log.warn("Jetty unix domain socket connector does not support acceptors, ignoring it");
+		}
+
+		if (connectorConfiguration.getProtocol() != ConnectorConfiguration.Protocol.NIO) {
+			log.warn("Jetty connector supports only NIO, ignoring protocol {}", connectorConfiguration.getProtocol());
+		}
+
+		if (connectorConfiguration.getMaxConnections() != null) {
+			server.addBean(new ConnectionLimit(connectorConfiguration.getMaxConnections(), connector));
+		}
+
+		if (connectorConfiguration.getKeepAliveTimeout() != null) {
+			connector.setIdleTimeout(connectorConfiguration.getKeepAliveTimeout());
+		}
+
+		if (connectorConfiguration.getMaxKeepAliveRequests() != null) {
+			log.warn("Jetty connector does not support maximum number of keep-alive requests, ignoring it");
+		}
+
+		if (connectorConfiguration.getSocketReceiveBufferSize() != null || connectorConfiguration.getSocketSendBufferSize() != null) {
+			log.warn("Jetty unix domain socket connector does not support socket buffer sizes, ignoring them");
+		}
+
+		return connector;
+	}
+
+	/**
+	 * Create the jetty HTTP configuration, shared by HTTP/1.1 and HTTP/2 connection factories.
+	 *
+	 * @param connectorConfiguration The connector configuration, may be {@code null}.
+	 * @return The HTTP configuration.
+	 */
+	private static HttpConfiguration initHttpConfiguration(ConnectorConfiguration connectorConfiguration) {
+		HttpConfiguration httpConfiguration = new HttpConfiguration();
+
+		if (connectorConfiguration != null) {
+			if (connectorConfiguration.getOutputBufferSize() != null) {
+				httpConfiguration.setOutputBufferSize(connectorConfiguration.getOutputBufferSize());
+			}
+
+			if (connectorConfiguration.getRequestHeaderSize() != null) {
+				httpConfiguration.setRequestHeaderSize(connectorConfiguration.getRequestHeaderSize());
+			}
+		}
+
+		return httpConfiguration;
+	}
+
+	private static int valueOrDefault(Integer value, int defaultValue) {
+		return value == null ? defaultValue : value;
+	}
+
+	/**
+	 * Create the jetty HTTP/2 cleartext connection factory: the factory is instantiated using reflection, so that
+	 * the jetty HTTP/2 library is required only when HTTP/2 is enabled.
+	 *
+	 * @param httpConfiguration The HTTP configuration.
+	 * @return The connection factory.
+	 * @throws ServerInitializationException If the jetty HTTP/2 library is not available.
+	 */
+	private static ConnectionFactory newHttp2cConnectionFactory(HttpConfiguration httpConfiguration) {
+		try {
+			Class<?> klass = Class.forName(HTTP2C_CONNECTION_FACTORY_CLASS);
+			return (ConnectionFactory) klass.getConstructor(HttpConfiguration.class).newInstance(httpConfiguration);
+		}
+		catch (ClassNotFoundException ex) {
+			log.error("Cannot enable HTTP/2, please add org.eclipse.jetty.http2:http2-server to your classpath");
+			throw new ServerInitializationException(ex);
+		}
+		catch (ReflectiveOperationException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new ServerInitializationException(ex);
+		}
+	}
+
 	private WebAppContext initContext() {
 		try {
 			log.debug("Initialize jetty webapp context");
@@ -123,11 +456,18 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 	protected void doStart() {
 		try {
 			log.debug("Initializing embedded jetty context");
+			long time = System.nanoTime();
 			webAppContext = initContext();
+			recordPhase(CONTEXT_PHASE, System.nanoTime() - time);
 
 			log.debug("Starting embedded jetty");
 			server.start();
 
+			if (configuration.isJspPrecompilation()) {
+				log.debug("Compiling jetty webapp JSP files");
+				precompileJsp();
+			}
+
 			log.debug("Looking for embedded jetty server connector");
 			connector = findConnector();
 		}
@@ -153,7 +493,7 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 		final String containerJarPattern = configuration.getContainerJarPattern();
 		final String webInfJarPattern = configuration.getWebInfJarPattern();
 
-		final WebAppContext ctx = new WebAppContext();
+		final WebAppContext ctx = new TimedWebAppContext(this::recordPhase);
 
 		if (containerJarPattern != null) {
 			log.debug("Setting jetty 'containerJarPattern' attribute: {}", containerJarPattern);
@@ -207,7 +547,7 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 		ctx.setConfigurations(new Configuration[] {
 			new WebInfConfiguration(),
 			new WebXmlConfiguration(),
-			new AnnotationConfiguration(),
+			initAnnotationConfiguration(),
 			new JettyWebXmlConfiguration(),
 			new MetaInfConfiguration(),
 			new FragmentConfiguration()
@@ -225,6 +565,8 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 			ctx.getMetaData().addContainerResource(containerResources);
 		}
 
+		configureJspOutputDir(ctx);
+
 		ctx.setParentLoaderPriority(true);
 		ctx.setWar(webapp);
 		ctx.setServer(server);
@@ -235,6 +577,117 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 		return ctx;
 	}
 
+	/**
+	 * Create the jetty annotation configuration: if an annotation cache directory is set, the result of the
+	 * annotation scanning will be stored in this directory and replayed on next starts.
+	 *
+	 * @return The annotation configuration.
+	 */
+	private AnnotationConfiguration initAnnotationConfiguration() {
+		final String annotationCacheDir = configuration.getAnnotationCacheDir();
+		if (annotationCacheDir == null) {
+			return new AnnotationConfiguration();
+		}
+
+		log.debug("Using jetty annotation cache directory: {}", annotationCacheDir);
+		return new CachedAnnotationConfiguration(annotationCacheDir);
+	}
+
+	/**
+	 * Configure the directory where the JSP servlet stores compiled JSP files.
+	 *
+	 * <p>
+	 *
+	 * Note that the JSP servlet is defined when the context is configured, so the directory is set
+	 * once the context is initialized, before the JSP servlet is initialized.
+	 *
+	 * @param ctx Jetty webapp context.
+	 * @throws IOException If the directory cannot be created.
+	 */
+	private void configureJspOutputDir(WebAppContext ctx) throws IOException {
+		final String jspOutputDir = configuration.getJspOutputDir();
+		if (jspOutputDir == null) {
+			return;
+		}
+
+		log.debug("Using JSP output directory: {}", jspOutputDir);
+		Files.createDirectories(Paths.get(jspOutputDir));
+
+		ctx.addEventListener(new ServletContextListener() {
+			@Override
+			public void contextInitialized(ServletContextEvent sce) {
+				final ServletHolder jspHolder = ctx.getServletHandler().getServlet(JSP_SERVLET_NAME);
+				if (jspHolder == null) {
+					log.warn("Jetty JSP servlet is not defined, ignoring JSP output directory");
+				}
+				else {
+					jspHolder.setInitParameter("scratchdir", jspOutputDir);
+				}
+			}
+
+			@Override
+			public void contextDestroyed(ServletContextEvent sce) {
+			}
+		});
+	}
+
+	/**
+	 * Create the listener recording the time spent to start (i.e bind the server socket) the jetty
+	 * connector, as the {@link #CONNECTOR_PHASE}.
+	 *
+	 * @return The lifecycle listener.
+	 */
+	private LifeCycle.Listener connectorLifecycleTimer() {
+		final PhaseTimer timer = new PhaseTimer(CONNECTOR_PHASE, this::recordPhase);
+		return new AbstractLifeCycle.AbstractLifeCycleListener() {
+			@Override
+			public void lifeCycleStarting(LifeCycle event) {
+				timer.start();
+			}
+
+			@Override
+			public void lifeCycleStarted(LifeCycle event) {
+				timer.stop();
+			}
+		};
+	}
+
+	/**
+	 * Compile all the JSP files of the webapp in the scratch directory of the JSP servlet.
+	 *
+	 * @throws Exception If the JSP files cannot be compiled.
+	 */
+	private void precompileJsp() throws Exception {
+		if (!JspPrecompiler.isSupported()) {
+			log.warn("Jetty JSP precompilation needs Apache Ant, please import org.apache.ant:ant, skipping JSP precompilation");
+			return;
+		}
+
+		final ServletHolder jspHolder = webAppContext.getServletHandler().getServlet(JSP_SERVLET_NAME);
+		if (jspHolder == null) {
+			log.warn("Jetty JSP servlet is not defined, skipping JSP precompilation");
+			return;
+		}
+
+		final ServletContext servletContext = webAppContext.getServletContext();
+		final String webappDir = servletContext.getRealPath("/");
+		if (webappDir == null) {
+			log.warn("Jetty webapp is not a directory, skipping JSP precompilation");
+			return;
+		}
+
+		// Jetty initializes the scratch directory of the JSP servlet when the servlet is initialized.
+		final String scratchDir = jspHolder.getInitParameter("scratchdir");
+		if (scratchDir == null) {
+			log.warn("Jetty JSP servlet scratch directory is not defined, skipping JSP precompilation");
+			return;
+		}
+
+		final long time = System.nanoTime();
+		JspPrecompiler.precompile(webappDir, scratchDir, configuration.getClasspath());
+		recordPhase(JSP_PHASE, System.nanoTime() - time);
+	}
+
 	@Override
 	protected void doStop() {
 		try {
@@ -254,7 +707,13 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 
 	@Override
 	public String getScheme() {
-		return isStarted() ? server.getURI().getScheme() : super.getScheme();
+		if (!isStarted()) {
+			return super.getScheme();
+		}
+
+		// Jetty cannot compute server URI when it listens on a unix domain socket only.
+		URI uri = server.getURI();
+		return uri == null ? super.getScheme() : uri.getScheme();
 	}
 
 	@Override
@@ -264,14 +723,76 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 
 	@Override
 	protected int doGetPort() {
-		return connector.getLocalPort();
+		return connector instanceof NetworkConnector ? ((NetworkConnector) connector).getLocalPort() : UNIX_SOCKET_PORT;
+	}
+
+	/**
+	 * Create an http client dispatching requests directly into this server, without opening any socket.
+	 *
+	 * @return The http client.
+	 * @see InMemoryHttpClient
+	 */
+	public HttpClient newInMemoryHttpClient() {
+		return InMemoryHttpClient.defaultInMemoryHttpClient(this);
+	}
+
+	/**
+	 * Create an http client dispatching requests directly into this server, without opening any socket.
+	 *
+	 * @param configuration The http client configuration.
+	 * @return The http client.
+	 * @throws NullPointerException If {@code configuration} is {@code null}.
+	 * @see InMemoryHttpClient
+	 */
+	public HttpClient newInMemoryHttpClient(HttpClientConfiguration configuration) {
+		return InMemoryHttpClient.newInMemoryHttpClient(configuration, this);
+	}
+
+	@Override
+	public ByteBuffer dispatch(ByteBuffer request, boolean head, long timeout, TimeUnit unit) throws Exception {
+		if (!isStarted()) {
+			throw new IllegalStateException("Embedded jetty must be started to dispatch in-memory requests");
+		}
+
+		return getLocalConnector().getResponse(request, head, timeout, unit);
+	}
+
+	/**
+	 * Get the jetty local connector, and create it if needed: the local connector uses the same
+	 * HTTP configuration as the server connector.
+	 *
+	 * @return The jetty local connector.
+	 * @throws Exception If the local connector cannot be started.
+	 */
+	private LocalConnector getLocalConnector() throws Exception {
+		LocalConnector localConnector = this.localConnector;
+		if (localConnector != null) {
+			return localConnector;
+		}
+
+		synchronized (this) {
+			if (this.localConnector == null) {
+				log.debug("Adding jetty local connector");
+				HttpConfiguration httpConfiguration = connector.getConnectionFactory(HttpConnectionFactory.class).getHttpConfiguration();
+				LocalConnector newLocalConnector = new LocalConnector(server, new HttpConnectionFactory(httpConfiguration));
+				server.addConnector(newLocalConnector);
+
+				if (!newLocalConnector.isStarted()) {
+					newLocalConnector.start();
+				}
+
+				this.localConnector = newLocalConnector;
+			}
+
+			return this.localConnector;
+		}
 	}
 
-	private ServerConnector findConnector() {
+	private Connector findConnector() {
 		log.debug("Extracting jetty server connector");
 		for (Connector connector : server.getConnectors()) {
-			if (connector instanceof ServerConnector) {
-				return (ServerConnector) connector;
+			if (!(connector instanceof LocalConnector)) {
+				return connector;
 			}
 		}
 
@@ -29,8 +29,10 @@ import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfigurationBuilder;
 import org.eclipse.jetty.util.resource.Resource;
 
+import java.io.File;
 import java.util.Objects;
 
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.positive;
 
 /**
@@ -48,6 +50,16 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 	 */
 	private static final boolean DEFAULT_STOP_AT_SHUTDOWN = true;
 
+	/**
+	 * The default {@link Builder#http2} flag.
+	 */
+	private static final boolean DEFAULT_HTTP2 = false;
+
+	/**
+	 * The default {@link Builder#jspPrecompilation} flag.
+	 */
+	private static final boolean DEFAULT_JSP_PRECOMPILATION = false;
+
 	/**
 	 * Configure the stop timeout in milliseconds: set a graceful stop time.
 	 *
@@ -86,6 +98,36 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 	 */
 	private final String webInfJarPattern;
 
+	/**
+	 * Enable HTTP/2 cleartext (a.k.a {@code h2c}) on the server connector, in addition to HTTP/1.1.
+	 *
+	 * <p>
+	 *
+	 * Note that this requires the {@code org.eclipse.jetty.http2:http2-server} library on the classpath.
+	 */
+	private final boolean http2;
+
+	/**
+	 * The directory where the result of the annotation scanning is stored (disabled if {@code null}): the
+	 * classpath is scanned on first start, and the result is replayed on next starts (or next runs), as long as the
+	 * scanned classpath does not change.
+	 */
+	private final String annotationCacheDir;
+
+	/**
+	 * Flag used to compile all the JSP files of the webapp (including the ones in {@code WEB-INF}), in
+	 * parallel, when the server starts: the first request to a JSP does not have to wait for its compilation.
+	 * JSP files are compiled with the Jasper {@code JspC} compiler, which needs Apache Ant ({@code org.apache.ant:ant})
+	 * on the classpath.
+	 */
+	private final boolean jspPrecompilation;
+
+	/**
+	 * The directory where compiled JSP files are stored (the jetty temporary directory is used if {@code null}): when set,
+	 * JSP files compiled during a previous run are not compiled again, unless they have been updated.
+	 */
+	private final String jspOutputDir;
+
 	/**
 	 * Get configuration builder.
 	 *
@@ -114,7 +156,9 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 			builder.getEnvProperties(),
 			builder.getHooks(),
 			builder.getParentClassLoader(),
-			builder.getOverrideDescriptor()
+			builder.getOverrideDescriptor(),
+			builder.getThreadPool(),
+			builder.getConnector()
 		);
 
 		this.stopTimeout = builder.getStopTimeout();
@@ -122,6 +166,10 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 		this.baseResource = builder.getBaseResource();
 		this.containerJarPattern = builder.getContainerJarPattern();
 		this.webInfJarPattern = builder.getWebInfJarPattern();
+		this.http2 = builder.isHttp2();
+		this.annotationCacheDir = builder.getAnnotationCacheDir();
+		this.jspPrecompilation = builder.isJspPrecompilation();
+		this.jspOutputDir = builder.getJspOutputDir();
 	}
 
 	/**
@@ -169,6 +217,42 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 		return webInfJarPattern;
 	}
 
+	/**
+	 * Get {@link #http2}
+	 *
+	 * @return {@link #http2}
+	 */
+	public boolean isHttp2() {
+		return http2;
+	}
+
+	/**
+	 * Get {@link #annotationCacheDir}
+	 *
+	 * @return {@link #annotationCacheDir}
+	 */
+	public String getAnnotationCacheDir() {
+		return annotationCacheDir;
+	}
+
+	/**
+	 * Get {@link #jspPrecompilation}
+	 *
+	 * @return {@link #jspPrecompilation}
+	 */
+	public boolean isJspPrecompilation() {
+		return jspPrecompilation;
+	}
+
+	/**
+	 * Get {@link #jspOutputDir}
+	 *
+	 * @return {@link #jspOutputDir}
+	 */
+	public String getJspOutputDir() {
+		return jspOutputDir;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) {
@@ -183,7 +267,11 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 				&& Objects.equals(stopAtShutdown, c.stopAtShutdown)
 				&& Objects.equals(baseResource, c.baseResource)
 				&& Objects.equals(containerJarPattern, c.containerJarPattern)
-				&& Objects.equals(webInfJarPattern, c.webInfJarPattern);
+				&& Objects.equals(webInfJarPattern, c.webInfJarPattern)
+				&& Objects.equals(http2, c.http2)
+				&& Objects.equals(annotationCacheDir, c.annotationCacheDir)
+				&& Objects.equals(jspPrecompilation, c.jspPrecompilation)
+				&& Objects.equals(jspOutputDir, c.jspOutputDir);
 		}
 
 		return false;
@@ -196,7 +284,7 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(super.hashCode(), stopTimeout, stopAtShutdown, baseResource, containerJarPattern, webInfJarPattern);
+		return Objects.hash(super.hashCode(), stopTimeout, stopAtShutdown, baseResource, containerJarPattern, webInfJarPattern, http2, annotationCacheDir, jspPrecompilation, jspOutputDir);
 	}
 
 	@Override
@@ -208,11 +296,17 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 			.append("classpath", getClasspath())
 			.append("overrideDescriptor", getOverrideDescriptor())
 			.append("parentClassLoader", getParentClassLoader())
+			.append("threadPool", getThreadPool())
+			.append("connector", getConnector())
 			.append("stopTimeout", stopTimeout)
 			.append("stopAtShutdown", stopAtShutdown)
 			.append("baseResource", baseResource)
 			.append("containerJarPattern", containerJarPattern)
 			.append("webInfJarPattern", webInfJarPattern)
+			.append("http2", http2)
+			.append("annotationCacheDir", annotationCacheDir)
+			.append("jspPrecompilation", jspPrecompilation)
+			.append("jspOutputDir", jspOutputDir)
 			.build();
 	}
 
@@ -260,9 +354,35 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 		 */
 		private String webInfJarPattern;
 
+		/**
+		 * Enable HTTP/2 cleartext on the server connector.
+		 *
+		 * @see EmbeddedJettyConfiguration#DEFAULT_HTTP2
+		 */
+		private boolean http2;
+
+		/**
+		 * The directory where the result of the annotation scanning is stored.
+		 */
+		private String annotationCacheDir;
+
+		/**
+		 * Enable JSP precompilation.
+		 *
+		 * @see EmbeddedJettyConfiguration#DEFAULT_JSP_PRECOMPILATION
+		 */
+		private boolean jspPrecompilation;
+
+		/**
+		 * The directory where compiled JSP files are stored.
+		 */
+		private String jspOutputDir;
+
 		private Builder() {
 			stopTimeout = DEFAULT_STOP_TIMEOUT;
 			stopAtShutdown = DEFAULT_STOP_AT_SHUTDOWN;
+			http2 = DEFAULT_HTTP2;
+			jspPrecompilation = DEFAULT_JSP_PRECOMPILATION;
 		}
 
 		@Override
@@ -320,6 +440,42 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 			return webInfJarPattern;
 		}
 
+		/**
+		 * Get current {@link #http2} value.
+		 *
+		 * @return {@link #http2}
+		 */
+		public boolean isHttp2() {
+			return http2;
+		}
+
+		/**
+		 * Get current {@link #annotationCacheDir} value.
+		 *
+		 * @return {@link #annotationCacheDir}
+		 */
+		public String getAnnotationCacheDir() {
+			return annotationCacheDir;
+		}
+
+		/**
+		 * Get current {@link #jspPrecompilation} value.
+		 *
+		 * @return {@link #jspPrecompilation}
+		 */
+		public boolean isJspPrecompilation() {
+			return jspPrecompilation;
+		}
+
+		/**
+		 * Get current {@link #jspOutputDir} value.
+		 *
+		 * @return {@link #jspOutputDir}
+		 */
+		public String getJspOutputDir() {
+			return jspOutputDir;
+		}
+
 		/**
 		 * Update {@link #stopTimeout} value.
 		 *
@@ -391,5 +547,105 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 			this.webInfJarPattern = webInfJarPattern;
 			return this;
 		}
+
+		/**
+		 * Change {@link #annotationCacheDir} value.
+		 *
+		 * @param annotationCacheDir The annotation cache directory.
+		 * @return this
+		 * @throws NullPointerException If {@code annotationCacheDir} is {@code null}.
+		 */
+		public Builder withAnnotationCacheDir(String annotationCacheDir) {
+			this.annotationCacheDir = notNull(annotationCacheDir, "annotationCacheDir");
+			return this;
+		}
+
+		/**
+		 * Change {@link #annotationCacheDir} value.
+		 *
+		 * @param annotationCacheDir The annotation cache directory.
+		 * @return this
+		 * @throws NullPointerException If {@code annotationCacheDir} is {@code null}.
+		 */
+		public Builder withAnnotationCacheDir(File annotationCacheDir) {
+			return withAnnotationCacheDir(notNull(annotationCacheDir, "annotationCacheDir").getAbsolutePath());
+		}
+
+		/**
+		 * Set {@link #http2} to {@code true}.
+		 * @return this
+		 */
+		public Builder enableHttp2() {
+			return toggleHttp2(true);
+		}
+
+		/**
+		 * Set {@link #http2} to {@code false}.
+		 * @return this
+		 */
+		public Builder disableHttp2() {
+			return toggleHttp2(false);
+		}
+
+		/**
+		 * Toggle {@link #http2}.
+		 *
+		 * @param http2 New {@link #http2} value.
+		 * @return this
+		 */
+		private Builder toggleHttp2(boolean http2) {
+			this.http2 = http2;
+			return this;
+		}
+
+		/**
+		 * Set {@link #jspPrecompilation} to {@code true}.
+		 * @return this
+		 */
+		public Builder enableJspPrecompilation() {
+			return toggleJspPrecompilation(true);
+		}
+
+		/**
+		 * Set {@link #jspPrecompilation} to {@code false}.
+		 * @return this
+		 */
+		public Builder disableJspPrecompilation() {
+			return toggleJspPrecompilation(false);
+		}
+
+		/**
+		 * Toggle {@link #jspPrecompilation}.
+		 *
+		 * @param jspPrecompilation New {@link #jspPrecompilation} value.
+		 * @return this
+		 */
+		private Builder toggleJspPrecompilation(boolean jspPrecompilation) {
+			this.jspPrecompilation = jspPrecompilation;
+			return this;
+		}
+
+		/**
+		 * Change {@link #jspOutputDir} value.
+		 *
+		 * @param jspOutputDir The directory where compiled JSP files are stored.
+		 * @return this
+		 * @throws NullPointerException If {@code jspOutputDir} is {@code null}.
+		 */
+		public Builder withJspOutputDir(String jspOutputDir) {
+			this.jspOutputDir = notNull(jspOutputDir, "jspOutputDir");
+			return this;
+		}
+
+		/**
+		 * Change {@link #jspOutputDir} value.
+		 *
+		 * @param jspOutputDir The directory where compiled JSP files are stored.
+		 * @return this
+		 * @throws NullPointerException If {@code jspOutputDir} is {@code null}.
+		 */
+		public Builder withJspOutputDir(File jspOutputDir) {
+			return withJspOutputDir(notNull(jspOutputDir, "jspOutputDir").getAbsolutePath());
+		}
 	}
 }
@@ -0,0 +1,109 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.jetty;
+
+import org.eclipse.jetty.servlet.ServletHandler;
+import org.eclipse.jetty.webapp.WebAppContext;
+
+import javax.servlet.ServletContainerInitializer;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Jetty webapp context recording the time spent in each phase of its start:
+ *
+ * <ol>
+ *   <li>{@link EmbeddedJetty#CONFIGURE_PHASE}: class loader initialization, {@code web.xml} processing, JAR and annotation scanning.</li>
+ *   <li>{@link EmbeddedJetty#INITIALIZERS_PHASE}: execution of the {@link ServletContainerInitializer}.</li>
+ *   <li>{@link EmbeddedJetty#LISTENERS_PHASE}: execution of the {@link ServletContextListener}.</li>
+ *   <li>{@link EmbeddedJetty#SERVLETS_PHASE}: initialization of filters and servlets loaded on startup.</li>
+ * </ol>
+ *
+ * The end of the initializers phase is detected by registering a listener before any other listener.
+ */
+final class TimedWebAppContext extends WebAppContext {
+
+	/**
+	 * The phase recorder.
+	 */
+	private final ObjLongConsumer<String> recorder;
+
+	/**
+	 * The start time of the current phase, in nanoseconds.
+	 */
+	private volatile long phaseStart;
+
+	/**
+	 * Create the context.
+	 *
+	 * @param recorder The phase recorder.
+	 */
+	TimedWebAppContext(ObjLongConsumer<String> recorder) {
+		this.recorder = recorder;
+
+		// Registered first, so that it is notified before listeners defined by the webapp.
+		addEventListener(new ServletContextListener() {
+			@Override
+			public void contextInitialized(ServletContextEvent sce) {
+				endPhase(EmbeddedJetty.INITIALIZERS_PHASE);
+			}
+
+			@Override
+			public void contextDestroyed(ServletContextEvent sce) {
+			}
+		});
+	}
+
+	@Override
+	public void preConfigure() throws Exception {
+		phaseStart = System.nanoTime();
+		super.preConfigure();
+	}
+
+	@Override
+	protected void startWebapp() throws Exception {
+		endPhase(EmbeddedJetty.CONFIGURE_PHASE);
+		super.startWebapp();
+	}
+
+	@Override
+	protected ServletHandler newServletHandler() {
+		return new ServletHandler() {
+			@Override
+			public void initialize() throws Exception {
+				endPhase(EmbeddedJetty.LISTENERS_PHASE);
+				super.initialize();
+				endPhase(EmbeddedJetty.SERVLETS_PHASE);
+			}
+		};
+	}
+
+	private void endPhase(String phase) {
+		long now = System.nanoTime();
+		recorder.accept(phase, now - phaseStart);
+		phaseStart = now;
+	}
+}
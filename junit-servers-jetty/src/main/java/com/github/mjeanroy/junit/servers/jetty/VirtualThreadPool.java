@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.jetty;
+
+import com.github.mjeanroy.junit.servers.commons.core.VirtualThreads;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jetty {@link ThreadPool} executing each task in a new virtual thread (requires Java 21).
+ *
+ * <p>
+ *
+ * The underlying executor is created when the thread pool is started, and shutdown when the
+ * thread pool is stopped, so that the embedded server can be restarted.
+ */
+class VirtualThreadPool extends AbstractLifeCycle implements ThreadPool {
+
+	/**
+	 * The thread name prefix.
+	 */
+	private final String name;
+
+	/**
+	 * The underlying executor, {@code null} until the thread pool is started.
+	 */
+	private volatile ExecutorService executor;
+
+	/**
+	 * Create the thread pool.
+	 *
+	 * @param name The thread name prefix.
+	 */
+	VirtualThreadPool(String name) {
+		this.name = name;
+	}
+
+	@Override
+	protected void doStart() throws Exception {
+		executor = VirtualThreads.newVirtualThreadPerTaskExecutor(name);
+		super.doStart();
+	}
+
+	@Override
+	protected void doStop() throws Exception {
+		super.doStop();
+
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		ExecutorService executor = this.executor;
+		if (executor == null) {
+			throw new RejectedExecutionException("Thread pool " + name + " is not started");
+		}
+
+		executor.execute(command);
+	}
+
+	@Override
+	public void join() throws InterruptedException {
+		ExecutorService executor = this.executor;
+		if (executor != null) {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public int getThreads() {
+		// Virtual threads are not pooled.
+		return 0;
+	}
+
+	@Override
+	public int getIdleThreads() {
+		return 0;
+	}
+
+	@Override
+	public boolean isLowOnThreads() {
+		return false;
+	}
+}
@@ -129,4 +129,52 @@ class EmbeddedJettyConfigurationBuilderTest {
 		assertThat(result).isSameAs(builder);
 		assertThat(result.isStopAtShutdown()).isFalse();
 	}
+
+	@Test
+	void it_should_enable_http2() {
+		final EmbeddedJettyConfiguration.Builder result = builder.enableHttp2();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isHttp2()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_http2() {
+		final EmbeddedJettyConfiguration.Builder result = builder.disableHttp2();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isHttp2()).isFalse();
+	}
+
+	@Test
+	void it_should_change_annotation_cache_dir(@TempDir File cacheDir) {
+		final EmbeddedJettyConfiguration.Builder result = builder.withAnnotationCacheDir(cacheDir);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getAnnotationCacheDir()).isEqualTo(cacheDir.getAbsolutePath());
+	}
+
+	@Test
+	void it_should_enable_jsp_precompilation() {
+		final EmbeddedJettyConfiguration.Builder result = builder.enableJspPrecompilation();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isJspPrecompilation()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_jsp_precompilation() {
+		final EmbeddedJettyConfiguration.Builder result = builder.disableJspPrecompilation();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isJspPrecompilation()).isFalse();
+	}
+
+	@Test
+	void it_should_change_jsp_output_dir(@TempDir File jspOutputDir) {
+		final EmbeddedJettyConfiguration.Builder result = builder.withJspOutputDir(jspOutputDir);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJspOutputDir()).isEqualTo(jspOutputDir.getAbsolutePath());
+	}
 }
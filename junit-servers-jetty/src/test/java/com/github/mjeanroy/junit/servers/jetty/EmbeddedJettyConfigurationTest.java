@@ -103,11 +103,17 @@ class EmbeddedJettyConfigurationTest {
 				"classpath: \".\", " +
 				"overrideDescriptor: null, " +
 				"parentClassLoader: null, " +
+				"threadPool: null, " +
+				"connector: null, " +
 				"stopTimeout: 30000, " +
 				"stopAtShutdown: true, " +
 				"baseResource: null, " +
 				"containerJarPattern: null, " +
-				"webInfJarPattern: null" +
+				"webInfJarPattern: null, " +
+				"http2: false, " +
+				"annotationCacheDir: null, " +
+				"jspPrecompilation: false, " +
+				"jspOutputDir: null" +
 			"}"
 		);
 	}
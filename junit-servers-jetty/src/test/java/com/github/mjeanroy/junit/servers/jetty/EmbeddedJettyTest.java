@@ -24,20 +24,41 @@
 
 package com.github.mjeanroy.junit.servers.jetty;
 
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.jetty.tests.AnnotatedServlet;
+import com.github.mjeanroy.junit.servers.servers.ConnectorConfiguration;
+import com.github.mjeanroy.junit.servers.servers.ServerLifecycleListener;
+import com.github.mjeanroy.junit.servers.servers.ServerLifecycleTimings;
+import com.github.mjeanroy.junit.servers.servers.ThreadPoolConfiguration;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.unixsocket.UnixSocketConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.eclipse.jetty.webapp.WebAppContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -47,7 +68,38 @@ class EmbeddedJettyTest {
 
 	@AfterEach
 	void tearDown() {
-		jetty.stop();
+		if (jetty != null) {
+			jetty.stop();
+		}
+	}
+
+	@Test
+	void it_should_start_jetty_with_http2() throws Exception {
+		final URL resource = getClass().getResource("/custom-web.xml");
+		final File descriptor = new File(resource.getFile());
+
+		jetty = new EmbeddedJetty(EmbeddedJettyConfiguration.builder()
+			.withWebapp(descriptor.getParentFile())
+			.withOverrideDescriptor(descriptor.getAbsolutePath())
+			.enableHttp2()
+			.build());
+
+		jetty.start();
+
+		final OkHttpClient client = new OkHttpClient.Builder()
+			.protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE))
+			.build();
+
+		final Request rq = new Request.Builder().url(jetty.getUrl() + "hello").build();
+
+		try (Response rsp = client.newCall(rq).execute()) {
+			assertThat(rsp.code()).isEqualTo(200);
+			assertThat(rsp.protocol()).isEqualTo(Protocol.H2_PRIOR_KNOWLEDGE);
+
+			final ResponseBody body = rsp.body();
+			final String content = body == null ? null : body.string();
+			assertThat(content).isNotEmpty().contains("Hello World");
+		}
 	}
 
 	@Test
@@ -63,6 +115,213 @@ class EmbeddedJettyTest {
 		assertThat(jetty.getUrl()).isEqualTo(localUrl(jetty.getPort()));
 	}
 
+	@Test
+	void it_should_start_jetty_with_custom_thread_pool() {
+		final EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withThreadPool(ThreadPoolConfiguration.builder().withMinThreads(4).withMaxThreads(16).build())
+			.build();
+
+		jetty = new EmbeddedJetty(configuration);
+		jetty.start();
+
+		assertThat(jetty.isStarted()).isTrue();
+		assertThat(jetty.getDelegate().getThreadPool()).isExactlyInstanceOf(QueuedThreadPool.class);
+
+		final QueuedThreadPool threadPool = (QueuedThreadPool) jetty.getDelegate().getThreadPool();
+		assertThat(threadPool.getMinThreads()).isEqualTo(4);
+		assertThat(threadPool.getMaxThreads()).isEqualTo(16);
+	}
+
+	@Test
+	void it_should_start_jetty_with_custom_connector() {
+		final EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withConnector(ConnectorConfiguration.builder()
+				.withHost("127.0.0.1")
+				.withAcceptors(1)
+				.withSelectors(2)
+				.withAcceptQueueSize(64)
+				.withKeepAliveTimeout(5000)
+				.withRequestHeaderSize(16384)
+				.build())
+			.build();
+
+		jetty = new EmbeddedJetty(configuration);
+		jetty.start();
+
+		final ServerConnector connector = (ServerConnector) jetty.getDelegate().getConnectors()[0];
+		assertThat(connector.getHost()).isEqualTo("127.0.0.1");
+		assertThat(jetty.getUrl()).isEqualTo("http://127.0.0.1:" + jetty.getPort() + "/");
+		assertThat(connector.getAcceptors()).isEqualTo(1);
+		assertThat(connector.getSelectorManager().getSelectorCount()).isEqualTo(2);
+		assertThat(connector.getAcceptQueueSize()).isEqualTo(64);
+		assertThat(connector.getIdleTimeout()).isEqualTo(5000);
+		assertThat(connector.getConnectionFactory(HttpConnectionFactory.class).getHttpConfiguration().getRequestHeaderSize()).isEqualTo(16384);
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void it_should_start_jetty_on_unix_socket(@TempDir Path tmpDir) {
+		final URL resource = getClass().getResource("/custom-web.xml");
+		final File descriptor = new File(resource.getFile());
+		final Path unixSocket = tmpDir.resolve("jetty.sock");
+
+		jetty = new EmbeddedJetty(EmbeddedJettyConfiguration.builder()
+			.withWebapp(descriptor.getParentFile())
+			.withOverrideDescriptor(descriptor.getAbsolutePath())
+			.withConnector(ConnectorConfiguration.builder()
+				.withUnixSocket(unixSocket.toString())
+				.build())
+			.build());
+
+		jetty.start();
+
+		final UnixSocketConnector connector = (UnixSocketConnector) jetty.getDelegate().getConnectors()[0];
+		assertThat(connector.getUnixSocket()).isEqualTo(unixSocket.toString());
+		assertThat(unixSocket).exists();
+		assertThat(jetty.getUrl()).isEqualTo("http://localhost:80/");
+
+		final HttpClient client = HttpClientStrategy.OK_HTTP3.build(jetty);
+
+		try {
+			final HttpResponse rsp = client.prepareGet("/hello").execute();
+			assertThat(rsp.status()).isEqualTo(200);
+			assertThat(rsp.body()).isNotEmpty().contains("Hello World");
+		}
+		finally {
+			client.destroy();
+		}
+	}
+
+	@Test
+	void it_should_dispatch_in_memory_requests() {
+		final URL resource = getClass().getResource("/custom-web.xml");
+		final File descriptor = new File(resource.getFile());
+
+		jetty = new EmbeddedJetty(EmbeddedJettyConfiguration.builder()
+			.withWebapp(descriptor.getParentFile())
+			.withOverrideDescriptor(descriptor.getAbsolutePath())
+			.build());
+
+		jetty.start();
+
+		final HttpClient client = jetty.newInMemoryHttpClient();
+
+		try {
+			final HttpResponse rsp = client.prepareGet("/hello").execute();
+			assertThat(rsp.status()).isEqualTo(200);
+			assertThat(rsp.body()).isNotEmpty().contains("Hello World");
+
+			final HttpResponse notFound = client.prepareGet("/not-found").execute();
+			assertThat(notFound.status()).isEqualTo(404);
+		}
+		finally {
+			client.destroy();
+		}
+	}
+
+	@Test
+	void it_should_replay_annotation_scanning_from_cache(@TempDir Path cacheDir) throws Exception {
+		final URL resource = getClass().getResource("/custom-web.xml");
+		final File descriptor = new File(resource.getFile());
+		final EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(descriptor.getParentFile())
+			.withClasspath(descriptor.getParentFile().getAbsolutePath())
+			.withOverrideDescriptor(descriptor.getAbsolutePath())
+			.withAnnotationCacheDir(cacheDir.toFile())
+			.build();
+
+		jetty = new EmbeddedJetty(configuration);
+		jetty.start();
+
+		assertThat(getAnnotatedServlet(jetty)).contains("Hello Annotations");
+
+		jetty.stop();
+
+		final File[] files = cacheDir.toFile().listFiles();
+		assertThat(files).hasSize(1);
+		assertThat(new String(Files.readAllBytes(files[0].toPath()), StandardCharsets.UTF_8)).contains(AnnotatedServlet.class.getName());
+
+		final FileTime lastModifiedTime = Files.getLastModifiedTime(files[0].toPath());
+
+		jetty = new EmbeddedJetty(configuration);
+		jetty.start();
+
+		assertThat(getAnnotatedServlet(jetty)).contains("Hello Annotations");
+		assertThat(cacheDir.toFile().listFiles()).hasSize(1);
+		assertThat(Files.getLastModifiedTime(files[0].toPath())).isEqualTo(lastModifiedTime);
+	}
+
+	@Test
+	void it_should_precompile_jsp(@TempDir Path tmpDir) throws Exception {
+		final Path webapp = Files.createDirectories(tmpDir.resolve("webapp"));
+		final Path views = Files.createDirectories(webapp.resolve("WEB-INF").resolve("views"));
+		final Path jspOutputDir = tmpDir.resolve("jsp");
+		Files.write(views.resolve("hello.jsp"), "<%= \"Hello World\" %>".getBytes(StandardCharsets.UTF_8));
+		Files.write(webapp.resolve("index.jsp"), "<%= \"Hello Index\" %>".getBytes(StandardCharsets.UTF_8));
+
+		jetty = new EmbeddedJetty(EmbeddedJettyConfiguration.builder()
+			.withWebapp(webapp.toFile())
+			.withClasspath(webapp.toAbsolutePath().toString())
+			.withJspOutputDir(jspOutputDir.toFile())
+			.enableJspPrecompilation()
+			.build());
+
+		jetty.start();
+
+		try (Stream<Path> files = Files.walk(jspOutputDir)) {
+			assertThat(files.map(file -> file.getFileName().toString())).contains("hello_jsp.class", "index_jsp.class", "index_jsp.java");
+		}
+
+		// The JSP servlet must load the compiled class instead of compiling the JSP file again.
+		try (Stream<Path> files = Files.walk(jspOutputDir)) {
+			for (Path file : (Iterable<Path>) files.filter(f -> f.getFileName().toString().equals("index_jsp.java"))::iterator) {
+				Files.delete(file);
+			}
+		}
+
+		final Request rq = new Request.Builder().url(jetty.getUrl() + "index.jsp").build();
+		try (Response rsp = new OkHttpClient().newCall(rq).execute()) {
+			assertThat(rsp.code()).isEqualTo(200);
+
+			final ResponseBody body = rsp.body();
+			assertThat(body == null ? null : body.string()).contains("Hello Index");
+		}
+
+		try (Stream<Path> files = Files.walk(jspOutputDir)) {
+			assertThat(files.map(file -> file.getFileName().toString())).doesNotContain("index_jsp.java");
+		}
+	}
+
+	@Test
+	void it_should_record_lifecycle_phases() {
+		final List<ServerLifecycleTimings> timings = new ArrayList<>();
+
+		jetty = new EmbeddedJetty(EmbeddedJettyConfiguration.builder()
+			.withHook((ServerLifecycleListener) (server, lifecycleTimings) -> timings.add(lifecycleTimings))
+			.build());
+
+		jetty.start();
+		jetty.stop();
+
+		assertThat(timings).extracting(ServerLifecycleTimings::getOperation).containsExactly(
+			ServerLifecycleTimings.Operation.START,
+			ServerLifecycleTimings.Operation.STOP
+		);
+
+		assertThat(timings.get(0).getPhases()).containsKeys(
+			ServerLifecycleTimings.SERVER,
+			EmbeddedJetty.CONTEXT_PHASE,
+			EmbeddedJetty.CONFIGURE_PHASE,
+			EmbeddedJetty.INITIALIZERS_PHASE,
+			EmbeddedJetty.LISTENERS_PHASE,
+			EmbeddedJetty.SERVLETS_PHASE,
+			EmbeddedJetty.CONNECTOR_PHASE
+		);
+
+		assertThat(timings.get(0).getPhase(EmbeddedJetty.CONFIGURE_PHASE)).isLessThan(timings.get(0).getPhase(ServerLifecycleTimings.SERVER));
+		assertThat(timings.get(1).getPhases()).containsOnlyKeys(ServerLifecycleTimings.HOOKS, ServerLifecycleTimings.SERVER, ServerLifecycleTimings.ENVIRONMENT);
+	}
+
 	@Test
 	void it_should_stop_jetty() {
 		jetty = new EmbeddedJetty();
@@ -158,6 +417,19 @@ class EmbeddedJettyTest {
 		assertThat(content).isNotEmpty().contains("Hello World");
 	}
 
+	private static String getAnnotatedServlet(EmbeddedJetty jetty) {
+		final HttpClient client = jetty.newInMemoryHttpClient();
+
+		try {
+			final HttpResponse rsp = client.prepareGet("/annotated").execute();
+			assertThat(rsp.status()).isEqualTo(200);
+			return rsp.body();
+		}
+		finally {
+			client.destroy();
+		}
+	}
+
 	private static String localUrl(int port) {
 		return "http://localhost:" + port + "/";
 	}
@@ -26,6 +26,8 @@ package com.github.mjeanroy.junit.servers.jetty.junit4;
 
 import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.impl.inmemory.InMemoryHttpClient;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +37,9 @@ public class JettyJunit4Test extends AbstractJettyJunit4Test {
 	@TestHttpClient
 	private HttpClient client;
 
+	@TestHttpClient(strategy = HttpClientStrategy.IN_MEMORY)
+	private HttpClient inMemoryClient;
+
 	@Test
 	public void it_should_have_a_server() {
 		assertThat(server).isNotNull();
@@ -45,4 +50,9 @@ public class JettyJunit4Test extends AbstractJettyJunit4Test {
 	public void it_should_have_a_client() {
 		assertThat(client).isNotNull();
 	}
+
+	@Test
+	public void it_should_have_an_in_memory_client() {
+		assertThat(inMemoryClient).isExactlyInstanceOf(InMemoryHttpClient.class);
+	}
 }
@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.Lifecycle;
+import org.apache.catalina.LifecycleEvent;
+import org.apache.catalina.LifecycleListener;
+
+import javax.servlet.ServletContainerInitializer;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Record the time spent in each phase of a tomcat context start:
+ *
+ * <ol>
+ *   <li>{@link EmbeddedTomcat#CONFIGURE_PHASE}: resources and class loader initialization, {@code web.xml} processing, JAR and annotation scanning.</li>
+ *   <li>{@link EmbeddedTomcat#INITIALIZERS_PHASE}: execution of the {@link ServletContainerInitializer}.</li>
+ *   <li>{@link EmbeddedTomcat#LISTENERS_PHASE}: execution of the {@link ServletContextListener}.</li>
+ *   <li>{@link EmbeddedTomcat#SERVLETS_PHASE}: initialization of filters and servlets loaded on startup.</li>
+ * </ol>
+ *
+ * The end of each phase is detected by registering this timer as the last initializer (once the context has been
+ * configured), and as the last listener (by this initializer).
+ */
+final class ContextLifecycleTimer implements LifecycleListener, ServletContainerInitializer, ServletContextListener {
+
+	/**
+	 * The timed context.
+	 */
+	private final Context context;
+
+	/**
+	 * The phase recorder.
+	 */
+	private final ObjLongConsumer<String> recorder;
+
+	/**
+	 * The start time of the current phase, in nanoseconds.
+	 */
+	private volatile long phaseStart;
+
+	/**
+	 * Create the timer.
+	 *
+	 * @param context The timed context.
+	 * @param recorder The phase recorder.
+	 */
+	ContextLifecycleTimer(Context context, ObjLongConsumer<String> recorder) {
+		this.context = context;
+		this.recorder = recorder;
+	}
+
+	@Override
+	public void lifecycleEvent(LifecycleEvent event) {
+		String type = event.getType();
+
+		if (Lifecycle.BEFORE_START_EVENT.equals(type)) {
+			phaseStart = System.nanoTime();
+		}
+		else if (Lifecycle.CONFIGURE_START_EVENT.equals(type)) {
+			endPhase(EmbeddedTomcat.CONFIGURE_PHASE);
+			context.addServletContainerInitializer(this, null);
+		}
+		else if (Lifecycle.START_EVENT.equals(type)) {
+			endPhase(EmbeddedTomcat.SERVLETS_PHASE);
+		}
+	}
+
+	@Override
+	public void onStartup(Set<Class<?>> classes, ServletContext servletContext) {
+		endPhase(EmbeddedTomcat.INITIALIZERS_PHASE);
+		servletContext.addListener(this);
+	}
+
+	@Override
+	public void contextInitialized(ServletContextEvent event) {
+		endPhase(EmbeddedTomcat.LISTENERS_PHASE);
+	}
+
+	@Override
+	public void contextDestroyed(ServletContextEvent event) {
+	}
+
+	private void endPhase(String phase) {
+		long now = System.nanoTime();
+		recorder.accept(phase, now - phaseStart);
+		phaseStart = now;
+	}
+}
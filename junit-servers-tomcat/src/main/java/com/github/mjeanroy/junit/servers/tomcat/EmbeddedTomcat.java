@@ -25,22 +25,51 @@
 package com.github.mjeanroy.junit.servers.tomcat;
 
 import com.github.mjeanroy.junit.servers.commons.core.CompositeClassLoader;
+import com.github.mjeanroy.junit.servers.commons.core.VirtualThreads;
+import com.github.mjeanroy.junit.servers.commons.io.Ios;
+import com.github.mjeanroy.junit.servers.exceptions.IllegalConfigurationException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerInitializationException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerStartException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerStopException;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import com.github.mjeanroy.junit.servers.servers.AbstractEmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.ConnectorConfiguration;
+import com.github.mjeanroy.junit.servers.servers.PhaseTimer;
+import com.github.mjeanroy.junit.servers.servers.ThreadPoolConfiguration;
 import org.apache.catalina.Context;
+import org.apache.catalina.Executor;
+import org.apache.catalina.Lifecycle;
+import org.apache.catalina.LifecycleListener;
 import org.apache.catalina.WebResourceRoot;
+import org.apache.catalina.Wrapper;
 import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.core.StandardThreadExecutor;
 import org.apache.catalina.startup.Tomcat;
 import org.apache.catalina.webresources.StandardRoot;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.http11.Http11Nio2Protocol;
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.apache.tomcat.util.scan.StandardJarScanFilter;
 import org.apache.tomcat.util.scan.StandardJarScanner;
 
 import javax.servlet.ServletContext;
 import java.io.File;
-
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.mjeanroy.junit.servers.commons.core.DaemonThreadFactory.daemonThreadFactory;
 import static com.github.mjeanroy.junit.servers.commons.lang.Strings.isNotBlank;
 import static com.github.mjeanroy.junit.servers.tomcat.EmbeddedTomcatConfiguration.defaultConfiguration;
 
@@ -54,11 +83,88 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 	 */
 	private static final Logger log = LoggerFactory.getLogger(EmbeddedTomcat.class);
 
+	/**
+	 * The lifecycle phase used to create the tomcat context.
+	 */
+	public static final String CONTEXT_PHASE = "tomcat.context";
+
+	/**
+	 * The lifecycle phase used to configure the tomcat context: resources and class loader initialization,
+	 * {@code web.xml} processing, JAR and annotation scanning.
+	 */
+	public static final String CONFIGURE_PHASE = "tomcat.configure";
+
+	/**
+	 * The lifecycle phase used to execute the {@link javax.servlet.ServletContainerInitializer} of the webapp.
+	 */
+	public static final String INITIALIZERS_PHASE = "tomcat.initializers";
+
+	/**
+	 * The lifecycle phase used to execute the {@link javax.servlet.ServletContextListener} of the webapp.
+	 */
+	public static final String LISTENERS_PHASE = "tomcat.listeners";
+
+	/**
+	 * The lifecycle phase used to initialize filters and servlets loaded on startup.
+	 */
+	public static final String SERVLETS_PHASE = "tomcat.servlets";
+
+	/**
+	 * The lifecycle phase used to initialize (i.e bind) and start the tomcat connector.
+	 */
+	public static final String CONNECTOR_PHASE = "tomcat.connector";
+
+	/**
+	 * The lifecycle phase used to precompile JSP files.
+	 */
+	public static final String JSP_PHASE = "tomcat.jsp";
+
+	/**
+	 * The name of the tomcat executor, created when a thread pool is configured.
+	 */
+	private static final String EXECUTOR_NAME = "junit-servers-tomcat-exec";
+
+	/**
+	 * The name of the tomcat JSP servlet.
+	 */
+	private static final String JSP_SERVLET_NAME = "jsp";
+
+	/**
+	 * The prefix of unique tomcat base directories.
+	 */
+	private static final String UNIQUE_BASE_DIR_PREFIX = "tomcat-";
+
+	/**
+	 * The suffix appended to the name of a base directory being deleted asynchronously.
+	 */
+	private static final String DELETED_BASE_DIR_SUFFIX = ".deleted-";
+
+	/**
+	 * The executor deleting tomcat base directories, when asynchronous deletion is enabled.
+	 *
+	 * <p>
+	 *
+	 * This executor uses daemon threads and is never shut down: directories that are not deleted when the JVM
+	 * exits are deleted the next time a tomcat server is started with the same base directory.
+	 */
+	private static final ExecutorService DELETION_EXECUTOR = Executors.newSingleThreadExecutor(daemonThreadFactory("junit-servers-tomcat-cleanup"));
+
+	/**
+	 * The directories submitted to {@link #DELETION_EXECUTOR}, and not deleted yet.
+	 */
+	private static final Set<Path> DELETIONS = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * Tomcat instance.
 	 */
 	private final Tomcat tomcat;
 
+	/**
+	 * Tomcat base directory: when a unique base directory is used, it is created each time
+	 * the server is started.
+	 */
+	private volatile String baseDir;
+
 	/**
 	 * Tomcat context.
 	 */
@@ -78,26 +184,139 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 	 */
 	public EmbeddedTomcat(EmbeddedTomcatConfiguration configuration) {
 		super(configuration);
+		this.baseDir = configuration.getBaseDirRoot() == null ? configuration.getBaseDir() : null;
 		this.tomcat = initServer();
 	}
 
+	/**
+	 * Create a new unique base directory, and use it as the tomcat base directory.
+	 *
+	 * @param baseDirRoot The directory containing unique base directories.
+	 * @throws IOException If the directory cannot be created.
+	 */
+	private void initUniqueBaseDir(String baseDirRoot) throws IOException {
+		final Path root = Files.createDirectories(Paths.get(baseDirRoot));
+		final Path uniqueBaseDir = Files.createTempDirectory(root, UNIQUE_BASE_DIR_PREFIX);
+		log.debug("Using unique tomcat base directory: {}", uniqueBaseDir);
+
+		baseDir = uniqueBaseDir.toString();
+		tomcat.setBaseDir(baseDir);
+		tomcat.getServer().setCatalinaBase(uniqueBaseDir.toFile());
+	}
+
 	private Tomcat initServer() {
 		log.debug("Initializing tomcat instance using configuration: {}", configuration);
 
+		// The unique base directory is created when the server is started: until then, the root directory is used.
 		Tomcat tomcat = new Tomcat();
-		tomcat.setBaseDir(configuration.getBaseDir());
+		tomcat.setBaseDir(baseDir == null ? configuration.getBaseDirRoot() : baseDir);
 		tomcat.setPort(configuration.getPort());
 
+		ConnectorConfiguration connectorConfiguration = configuration.getConnector();
+		if (connectorConfiguration != null) {
+			tomcat.setConnector(createConnector(connectorConfiguration));
+		}
+
 		tomcat.getHost().setAutoDeploy(true);
 		tomcat.getHost().setDeployOnStartup(true);
 
+		log.debug("Using {} tomcat start/stop threads", configuration.getStartStopThreads());
+		tomcat.getEngine().setStartStopThreads(configuration.getStartStopThreads());
+		tomcat.getHost().setStartStopThreads(configuration.getStartStopThreads());
+
 		if (configuration.isEnableNaming()) {
 			tomcat.enableNaming();
 		}
 
+		if (configuration.isHttp2()) {
+			log.debug("Enabling HTTP/2 cleartext on tomcat connector");
+			tomcat.getConnector().addUpgradeProtocol(new Http2Protocol());
+		}
+
+		ThreadPoolConfiguration threadPool = configuration.getThreadPool();
+		if (threadPool != null) {
+			Executor executor = createExecutor(threadPool);
+			log.debug("Using tomcat executor: {}", executor);
+			tomcat.getService().addExecutor(executor);
+			((AbstractProtocol<?>) tomcat.getConnector().getProtocolHandler()).setExecutor(executor);
+		}
+
+		tomcat.getConnector().addLifecycleListener(connectorLifecycleTimer());
+
 		return tomcat;
 	}
 
+	/**
+	 * Create the tomcat connector from the connector configuration: settings are applied as connector
+	 * properties (i.e the same way as the {@code <Connector>} attributes in {@code server.xml}).
+	 *
+	 * @param connectorConfiguration The connector configuration.
+	 * @return The tomcat connector.
+	 * @throws IllegalConfigurationException If a unix domain socket is configured, since tomcat connectors listen on TCP ports only.
+	 */
+	private Connector createConnector(ConnectorConfiguration connectorConfiguration) {
+		log.debug("Initializing tomcat connector using configuration: {}", connectorConfiguration);
+
+		if (connectorConfiguration.getUnixSocket() != null) {
+			throw new IllegalConfigurationException("Embedded tomcat server does not support unix domain sockets, please use embedded jetty server");
+		}
+
+		boolean nio2 = connectorConfiguration.getProtocol() == ConnectorConfiguration.Protocol.NIO2;
+		Connector connector = new Connector(nio2 ? Http11Nio2Protocol.class.getName() : Http11NioProtocol.class.getName());
+		connector.setPort(configuration.getPort());
+
+		setConnectorProperty(connector, "address", connectorConfiguration.getHost());
+		setConnectorProperty(connector, "acceptorThreadCount", connectorConfiguration.getAcceptors());
+		setConnectorProperty(connector, "pollerThreadCount", connectorConfiguration.getSelectors());
+		setConnectorProperty(connector, "maxConnections", connectorConfiguration.getMaxConnections());
+		setConnectorProperty(connector, "acceptCount", connectorConfiguration.getAcceptQueueSize());
+		setConnectorProperty(connector, "keepAliveTimeout", connectorConfiguration.getKeepAliveTimeout());
+		setConnectorProperty(connector, "maxKeepAliveRequests", connectorConfiguration.getMaxKeepAliveRequests());
+		setConnectorProperty(connector, "socket.rxBufSize", connectorConfiguration.getSocketReceiveBufferSize());
+		setConnectorProperty(connector, "socket.txBufSize", connectorConfiguration.getSocketSendBufferSize());
+		setConnectorProperty(connector, "socket.appWriteBufSize", connectorConfiguration.getOutputBufferSize());
+		setConnectorProperty(connector, "maxHttpHeaderSize", connectorConfiguration.getRequestHeaderSize());
+
+		return connector;
+	}
+
+	private static void setConnectorProperty(Connector connector, String name, Object value) {
+		if (value == null) {
+			return;
+		}
+
+		log.debug("Setting tomcat connector property '{}': {}", name, value);
+		if (!connector.setProperty(name, String.valueOf(value))) {
+			log.warn("Property '{}' is not supported by tomcat connector {}, ignoring it", name, connector.getProtocolHandlerClassName());
+		}
+	}
+
+	/**
+	 * Create the tomcat executor that will execute requests.
+	 *
+	 * @param threadPool The thread pool configuration.
+	 * @return The tomcat executor.
+	 */
+	private static Executor createExecutor(ThreadPoolConfiguration threadPool) {
+		if (threadPool.isVirtualThreads()) {
+			if (VirtualThreads.isSupported()) {
+				return new VirtualThreadExecutor(EXECUTOR_NAME);
+			}
+
+			log.warn("Virtual threads are not supported by the runtime environment, fallback to a platform thread pool");
+		}
+
+		StandardThreadExecutor executor = new StandardThreadExecutor();
+		executor.setName(EXECUTOR_NAME);
+		executor.setNamePrefix(EXECUTOR_NAME + "-");
+		executor.setDaemon(true);
+		executor.setMinSpareThreads(threadPool.getMinThreads());
+		executor.setMaxThreads(threadPool.getMaxThreads());
+		executor.setMaxQueueSize(threadPool.getQueueSize());
+		executor.setMaxIdleTime(threadPool.getIdleTimeout());
+		return executor;
+	}
+
 	private Context initContext() {
 		try {
 			log.debug("Creating embedded tomcat context");
@@ -127,6 +346,9 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 		final boolean forceMetaInf = configuration.isForceMetaInf();
 		final ClassLoader parentClassLoader = configuration.getParentClassLoader();
 		final String descriptor = configuration.getOverrideDescriptor();
+		final boolean fastRestart = configuration.isFastRestart();
+		final String jarScanCacheDir = configuration.getJarScanCacheDir();
+		final int annotationScanThreads = configuration.getAnnotationScanThreads();
 
 		final File webappDirectory = new File(webapp);
 
@@ -139,7 +361,19 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 			tomcat.getHost().setAppBase(webappAbsolutePath);
 
 			log.debug("Adding tomcat webapp using contextPath={} and docBase={}", path, webappAbsolutePath);
-			context = tomcat.addWebapp(path, webappAbsolutePath);
+			log.debug("Using tomcat fast restart: {}", fastRestart);
+			log.debug("Using tomcat jar scan cache directory: {}", jarScanCacheDir);
+			log.debug("Using {} tomcat annotation scanning threads", annotationScanThreads);
+			context = tomcat.addWebapp(tomcat.getHost(), path, webappAbsolutePath, new EmbeddedTomcatContextConfig(fastRestart, jarScanCacheDir, annotationScanThreads));
+
+			if (fastRestart) {
+				// The webapp classloader is stopped on each reload: clearing serialization caches requires
+				// java.io to be opened on Java 9+, and would make the reload fail otherwise.
+				((StandardContext) context).setClearReferencesObjectStreamClassCaches(false);
+			}
+
+			configureJarScanner(context);
+			configureJspOutputDir(context);
 
 			// Add additional classpath entry
 			if (isNotBlank(classpath)) {
@@ -220,6 +454,146 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 		return context;
 	}
 
+	/**
+	 * Configure the JAR scanner of given context, i.e the JAR files that are scanned for TLD, web fragments
+	 * and {@code @HandlesTypes} classes.
+	 *
+	 * @param context Tomcat context.
+	 */
+	private void configureJarScanner(Context context) {
+		if (!(context.getJarScanner() instanceof StandardJarScanner)) {
+			log.warn("Tomcat jar scanner {} is not a standard jar scanner, ignoring jar scan configuration", context.getJarScanner());
+			return;
+		}
+
+		final StandardJarScanner jarScanner = (StandardJarScanner) context.getJarScanner();
+		if (!configuration.isManifestScan()) {
+			log.debug("Disabling tomcat jar scanner manifest scan");
+			jarScanner.setScanManifest(false);
+		}
+
+		if (!(jarScanner.getJarScanFilter() instanceof StandardJarScanFilter)) {
+			log.warn("Tomcat jar scan filter {} is not a standard jar scan filter, ignoring jar scan filter configuration", jarScanner.getJarScanFilter());
+			return;
+		}
+
+		final StandardJarScanFilter jarScanFilter = (StandardJarScanFilter) jarScanner.getJarScanFilter();
+		final String jarScanIncludes = configuration.getJarScanIncludes();
+		final String jarScanExcludes = configuration.getJarScanExcludes();
+
+		// When the default scan flag is false, only JAR files matching the scan patterns are scanned
+		// (unless they also match the skip patterns).
+		if (jarScanIncludes != null) {
+			log.debug("Scanning only JAR files matching: {}", jarScanIncludes);
+			jarScanFilter.setDefaultTldScan(false);
+			jarScanFilter.setTldScan(jarScanIncludes);
+			jarScanFilter.setDefaultPluggabilityScan(false);
+			jarScanFilter.setPluggabilityScan(jarScanIncludes);
+		}
+
+		if (jarScanExcludes != null) {
+			log.debug("Skipping JAR files matching: {}", jarScanExcludes);
+			jarScanFilter.setTldSkip(appendPatterns(jarScanFilter.getTldSkip(), jarScanExcludes));
+			jarScanFilter.setPluggabilitySkip(appendPatterns(jarScanFilter.getPluggabilitySkip(), jarScanExcludes));
+		}
+
+		if (!configuration.isTldScan()) {
+			log.debug("Disabling tomcat TLD scan");
+			jarScanFilter.setDefaultTldScan(false);
+			jarScanFilter.setTldScan("");
+		}
+	}
+
+	/**
+	 * Configure the directory where the JSP servlet stores compiled JSP files.
+	 *
+	 * <p>
+	 *
+	 * Note that the JSP servlet is defined when the context is configured, so the directory is set
+	 * each time the context is started.
+	 *
+	 * @param context Tomcat context.
+	 * @throws IOException If the directory cannot be created.
+	 */
+	private void configureJspOutputDir(Context context) throws IOException {
+		final String jspOutputDir = configuration.getJspOutputDir();
+		if (jspOutputDir == null) {
+			return;
+		}
+
+		log.debug("Using JSP output directory: {}", jspOutputDir);
+		Files.createDirectories(Paths.get(jspOutputDir));
+
+		context.addLifecycleListener(event -> {
+			if (Lifecycle.CONFIGURE_START_EVENT.equals(event.getType())) {
+				final Wrapper jspWrapper = (Wrapper) context.findChild(JSP_SERVLET_NAME);
+				if (jspWrapper == null) {
+					log.warn("Tomcat JSP servlet is not defined, ignoring JSP output directory");
+				}
+				else {
+					jspWrapper.addInitParameter("scratchdir", jspOutputDir);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Create the listener recording the time spent to initialize (i.e bind the server socket) and start
+	 * the tomcat connector, as the {@link #CONNECTOR_PHASE}.
+	 *
+	 * @return The lifecycle listener.
+	 */
+	private LifecycleListener connectorLifecycleTimer() {
+		final PhaseTimer timer = new PhaseTimer(CONNECTOR_PHASE, this::recordPhase);
+		return event -> {
+			String type = event.getType();
+
+			if (Lifecycle.BEFORE_INIT_EVENT.equals(type) || Lifecycle.BEFORE_START_EVENT.equals(type)) {
+				timer.start();
+			}
+			else if (Lifecycle.AFTER_INIT_EVENT.equals(type) || Lifecycle.AFTER_START_EVENT.equals(type)) {
+				timer.stop();
+			}
+		};
+	}
+
+	/**
+	 * Compile all the JSP files of the webapp in the scratch directory of the JSP servlet.
+	 *
+	 * @throws Exception If the JSP files cannot be compiled.
+	 */
+	private void precompileJsp() throws Exception {
+		if (!JspPrecompiler.isSupported()) {
+			log.warn("Tomcat JSP precompilation needs Apache Ant, please import org.apache.ant:ant, skipping JSP precompilation");
+			return;
+		}
+
+		final Wrapper jspWrapper = (Wrapper) context.findChild(JSP_SERVLET_NAME);
+		if (jspWrapper == null) {
+			log.warn("Tomcat JSP servlet is not defined, skipping JSP precompilation");
+			return;
+		}
+
+		final ServletContext servletContext = context.getServletContext();
+		final String webappDir = servletContext.getRealPath("/");
+		if (webappDir == null) {
+			log.warn("Tomcat webapp is not a directory, skipping JSP precompilation");
+			return;
+		}
+
+		// Same default as the JSP servlet: the work directory of the webapp.
+		final String scratchDir = jspWrapper.findInitParameter("scratchdir");
+		final File tempDir = (File) servletContext.getAttribute(ServletContext.TEMPDIR);
+
+		final long time = System.nanoTime();
+		JspPrecompiler.precompile(webappDir, scratchDir == null ? tempDir.getAbsolutePath() : scratchDir, configuration.getClasspath());
+		recordPhase(JSP_PHASE, System.nanoTime() - time);
+	}
+
+	private static String appendPatterns(String patterns, String newPatterns) {
+		return isNotBlank(patterns) ? patterns + "," + newPatterns : newPatterns;
+	}
+
 	@Override
 	public Tomcat getDelegate() {
 		return tomcat;
@@ -228,11 +602,31 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 	@Override
 	protected void doStart() {
 		try {
+			final String baseDirRoot = configuration.getBaseDirRoot();
+			if (baseDirRoot != null) {
+				initUniqueBaseDir(baseDirRoot);
+			}
+
+			if (configuration.isAsyncBaseDirDeletion()) {
+				deleteLeftoverBaseDirs();
+			}
+
 			log.debug("Initializing tomcat context");
+			long time = System.nanoTime();
 			context = initContext();
+			recordPhase(CONTEXT_PHASE, System.nanoTime() - time);
+
+			if (context != null) {
+				context.addLifecycleListener(new ContextLifecycleTimer(context, this::recordPhase));
+			}
 
 			log.debug("Starting tomcat");
 			tomcat.start();
+
+			if (configuration.isJspPrecompilation() && context != null) {
+				log.debug("Compiling tomcat webapp JSP files");
+				precompileJsp();
+			}
 		}
 		catch (Exception ex) {
 			log.error(ex.getMessage(), ex);
@@ -254,8 +648,7 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 			}
 
 			if (!configuration.isKeepBaseDir()) {
-				log.debug("Deleting tomcat base directory: {}", configuration.getBaseDir());
-				deleteDirectory(configuration.getBaseDir());
+				deleteBaseDir();
 			}
 		}
 		catch (Exception ex) {
@@ -264,6 +657,33 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 		}
 	}
 
+	@Override
+	protected boolean canRestartInPlace() {
+		return configuration.isFastRestart() && context != null;
+	}
+
+	@Override
+	protected void doRestart() {
+		log.debug("Reloading tomcat context");
+		context.reload();
+
+		if (!context.getState().isAvailable()) {
+			throw new ServerStartException(
+				new IllegalStateException("Tomcat context " + context.getName() + " cannot be reloaded (state: " + context.getState() + ")")
+			);
+		}
+
+		if (configuration.isJspPrecompilation()) {
+			try {
+				log.debug("Compiling tomcat webapp JSP files");
+				precompileJsp();
+			}
+			catch (Exception ex) {
+				throw new ServerStartException(ex);
+			}
+		}
+	}
+
 	@Override
 	public String getScheme() {
 		return getConnector().getScheme();
@@ -283,29 +703,93 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 		return tomcat.getConnector();
 	}
 
-	private static void deleteDirectory(String path) {
-		if (path == null) {
+	/**
+	 * Delete the tomcat base directory: when asynchronous deletion is enabled, the directory is renamed
+	 * first (so that it does not conflict with a server restart) and deleted in a background thread.
+	 */
+	private void deleteBaseDir() {
+		if (baseDir == null) {
 			return;
 		}
 
-		File file = new File(path);
-		if (file.exists()) {
-			File[] files = file.listFiles();
-			if (files != null && files.length > 0) {
-				for (File f : files) {
-					if (f.isDirectory()) {
-						deleteDirectory(f.getAbsolutePath());
-					}
+		final Path path = Paths.get(baseDir);
+		if (Files.notExists(path)) {
+			return;
+		}
 
-					if (!f.delete()) {
-						log.warn("Directory {} has not been deleted", f);
-					}
-				}
+		if (configuration.isAsyncBaseDirDeletion()) {
+			final Path trash = path.resolveSibling(path.getFileName() + DELETED_BASE_DIR_SUFFIX + UUID.randomUUID());
+
+			try {
+				Files.move(path, trash, StandardCopyOption.ATOMIC_MOVE);
+				log.debug("Deleting tomcat base directory asynchronously: {}", trash);
+				deleteDirectoryAsync(trash);
+				return;
+			}
+			catch (IOException ex) {
+				log.warn("Tomcat base directory {} cannot be renamed, deleting it synchronously", path);
 			}
+		}
+
+		log.debug("Deleting tomcat base directory: {}", path);
+		deleteDirectory(path);
+	}
+
+	/**
+	 * Delete, in a background thread, the base directories renamed by a previous asynchronous deletion
+	 * and not deleted yet (for example, because the JVM exited before the deletion was done).
+	 */
+	private void deleteLeftoverBaseDirs() {
+		final String baseDirRoot = configuration.getBaseDirRoot();
+		final Path dir;
+		final String glob;
+
+		if (baseDirRoot != null) {
+			dir = Paths.get(baseDirRoot);
+			glob = UNIQUE_BASE_DIR_PREFIX + "*" + DELETED_BASE_DIR_SUFFIX + "*";
+		}
+		else {
+			final Path path = Paths.get(baseDir).toAbsolutePath().normalize();
+			dir = path.getParent();
+			glob = path.getFileName() + DELETED_BASE_DIR_SUFFIX + "*";
+		}
+
+		if (dir == null || Files.notExists(dir)) {
+			return;
+		}
+
+		try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(dir, glob)) {
+			for (Path leftover : leftovers) {
+				log.debug("Deleting leftover tomcat base directory asynchronously: {}", leftover);
+				deleteDirectoryAsync(leftover);
+			}
+		}
+		catch (IOException ex) {
+			log.warn("Leftover tomcat base directories in {} cannot be listed: {}", dir, ex.getMessage());
+		}
+	}
+
+	private static void deleteDirectoryAsync(Path path) {
+		if (!DELETIONS.add(path)) {
+			return;
+		}
 
-			if (!file.delete()) {
-				log.warn("File {} has not been deleted", file);
+		DELETION_EXECUTOR.execute(() -> {
+			try {
+				deleteDirectory(path);
+			}
+			finally {
+				DELETIONS.remove(path);
 			}
+		});
+	}
+
+	private static void deleteDirectory(Path path) {
+		try {
+			Ios.deleteRecursively(path);
+		}
+		catch (IOException ex) {
+			log.warn("Directory {} has not been deleted: {}", path, ex.getMessage());
 		}
 	}
 }
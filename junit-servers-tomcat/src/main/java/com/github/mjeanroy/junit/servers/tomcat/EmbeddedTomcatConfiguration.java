@@ -29,8 +29,10 @@ import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfigurationBuilder;
 import org.apache.catalina.startup.Tomcat;
 
+import java.io.File;
 import java.util.Objects;
 
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
 
 /**
@@ -53,6 +55,11 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 	 */
 	private static final boolean DEFAULT_KEEP_BASE_DIR = false;
 
+	/**
+	 * The default value for the {@link Builder#asyncBaseDirDeletion} flag.
+	 */
+	private static final boolean DEFAULT_ASYNC_BASE_DIR_DELETION = false;
+
 	/**
 	 * The default value for the {@link Builder#enableNaming} flag.
 	 */
@@ -63,6 +70,49 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 	 */
 	private static final boolean DEFAULT_FORCE_META_INF = true;
 
+	/**
+	 * Default HTTP/2 flag.
+	 */
+	private static final boolean DEFAULT_HTTP2 = false;
+
+	/**
+	 * Default fast restart flag.
+	 */
+	private static final boolean DEFAULT_FAST_RESTART = false;
+
+	/**
+	 * Default TLD scan flag.
+	 */
+	private static final boolean DEFAULT_TLD_SCAN = true;
+
+	/**
+	 * Default manifest scan flag.
+	 */
+	private static final boolean DEFAULT_MANIFEST_SCAN = true;
+
+	/**
+	 * Default number of start/stop threads: start and stop children sequentially (i.e tomcat default).
+	 *
+	 * <p>
+	 *
+	 * Parallel start/stop is opt-in: tomcat starts the children of a container (i.e the hosts of the engine, and
+	 * the contexts of a host) in parallel, and the embedded server deploys a single webapp context, so using all
+	 * processors by default would only change the tomcat default behavior, without speeding up the startup. It is
+	 * useful when other contexts are deployed on the embedded host (the webapp startup itself is sped up
+	 * by {@link Builder#withAnnotationScanThreads(int)}).
+	 */
+	private static final int DEFAULT_START_STOP_THREADS = 1;
+
+	/**
+	 * Default number of annotation scanning threads: scan web fragments sequentially.
+	 */
+	private static final int DEFAULT_ANNOTATION_SCAN_THREADS = 1;
+
+	/**
+	 * Default JSP precompilation flag.
+	 */
+	private static final boolean DEFAULT_JSP_PRECOMPILATION = false;
+
 	/**
 	 * Get configuration builder.
 	 *
@@ -94,6 +144,19 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 	 */
 	private final boolean keepBaseDir;
 
+	/**
+	 * The root directory of tomcat base directories (disabled if {@code null}): when set, each server
+	 * creates its own unique base directory under this root each time it is started (for example {@code /dev/shm} to
+	 * store tomcat files in memory), and {@link #baseDir} is ignored.
+	 */
+	private final String baseDirRoot;
+
+	/**
+	 * Flag used to delete the tomcat base directory asynchronously on server stop: the directory is renamed
+	 * and deleted in a background thread, so that stopping the server does not wait for the deletion.
+	 */
+	private final boolean asyncBaseDirDeletion;
+
 	/**
 	 * Flag used to enable / disable naming.
 	 * This is a flag to enables JNDI naming.
@@ -108,6 +171,95 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 	 */
 	private final boolean forceMetaInf;
 
+	/**
+	 * Flag used to enable HTTP/2 cleartext (a.k.a {@code h2c}) on the tomcat connector, in
+	 * addition to HTTP/1.1.
+	 *
+	 * @see org.apache.coyote.http2.Http2Protocol
+	 */
+	private final boolean http2;
+
+	/**
+	 * Flag used to enable fast restart: when enabled, restarting the server only reloads the
+	 * tomcat context and replays the webapp metadata (effective {@code web.xml}, web fragments,
+	 * {@code @HandlesTypes} matches and TLD) scanned during the first start.
+	 */
+	private final boolean fastRestart;
+
+	/**
+	 * The comma separated list of JAR name patterns (such as {@code spring-*.jar}) that should be scanned
+	 * for TLD, web fragments and {@code @HandlesTypes} classes: when set, JAR files that do not match
+	 * one of these patterns are not scanned.
+	 *
+	 * @see org.apache.tomcat.util.scan.StandardJarScanFilter
+	 */
+	private final String jarScanIncludes;
+
+	/**
+	 * The comma separated list of JAR name patterns (such as {@code assertj-*.jar}) that should not be scanned
+	 * for TLD, web fragments and {@code @HandlesTypes} classes.
+	 *
+	 * @see org.apache.tomcat.util.scan.StandardJarScanFilter
+	 */
+	private final String jarScanExcludes;
+
+	/**
+	 * Flag used to enable / disable TLD scanning of JAR files.
+	 */
+	private final boolean tldScan;
+
+	/**
+	 * Flag used to enable / disable scanning of JAR files referenced in the {@code Class-Path} entry
+	 * of JAR manifests.
+	 *
+	 * @see org.apache.tomcat.util.scan.StandardJarScanner#setScanManifest(boolean)
+	 */
+	private final boolean manifestScan;
+
+	/**
+	 * The directory where the result of the {@code @HandlesTypes} scanning of classpath JAR files is
+	 * stored (disabled if {@code null}): classpath JAR files are scanned on first start, and the result is replayed
+	 * on next starts (or next runs), as long as these JAR files do not change.
+	 *
+	 * <p>
+	 *
+	 * Note that only the {@code @HandlesTypes} matches are stored: web fragments ({@code META-INF/web-fragment.xml})
+	 * and TLD files of classpath JAR files are still looked up on each start, so that startup time still grows with
+	 * the size of the classpath. Disable these scans (see {@link #tldScan} and {@link #jarScanIncludes}) or enable
+	 * {@link #fastRestart} (which keeps them in memory between restarts of the same server) to avoid this cost.
+	 */
+	private final String jarScanCacheDir;
+
+	/**
+	 * The number of threads used to start and stop the tomcat engine and host children (i.e the webapp
+	 * contexts) in parallel: if zero or negative, the number of available processors plus this value is used.
+	 * Default is {@code 1} (see {@link #DEFAULT_START_STOP_THREADS}).
+	 *
+	 * @see org.apache.catalina.core.ContainerBase#setStartStopThreads(int)
+	 */
+	private final int startStopThreads;
+
+	/**
+	 * The number of threads used to scan web fragments (i.e JAR files) for annotations and
+	 * {@code @HandlesTypes} classes: if zero or negative, the number of available processors plus
+	 * this value is used.
+	 */
+	private final int annotationScanThreads;
+
+	/**
+	 * Flag used to compile all the JSP files of the webapp (including the ones in {@code WEB-INF}), in
+	 * parallel, when the server starts: the first request to a JSP does not have to wait for its compilation.
+	 * JSP files are compiled with the Jasper {@code JspC} compiler, which needs Apache Ant ({@code org.apache.ant:ant})
+	 * on the classpath.
+	 */
+	private final boolean jspPrecompilation;
+
+	/**
+	 * The directory where compiled JSP files are stored (the tomcat work directory is used if {@code null}): when set,
+	 * JSP files compiled during a previous run are not compiled again, unless they have been updated.
+	 */
+	private final String jspOutputDir;
+
 	/**
 	 * Build new tomcat configuration.
 	 *
@@ -122,13 +274,28 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			builder.getEnvProperties(),
 			builder.getHooks(),
 			builder.getParentClassLoader(),
-			builder.getOverrideDescriptor()
+			builder.getOverrideDescriptor(),
+			builder.getThreadPool(),
+			builder.getConnector()
 		);
 
 		this.baseDir = builder.getBaseDir();
 		this.keepBaseDir = builder.isKeepBaseDir();
+		this.baseDirRoot = builder.getBaseDirRoot();
+		this.asyncBaseDirDeletion = builder.isAsyncBaseDirDeletion();
 		this.enableNaming = builder.isEnableNaming();
 		this.forceMetaInf = builder.isForceMetaInf();
+		this.http2 = builder.isHttp2();
+		this.fastRestart = builder.isFastRestart();
+		this.jarScanIncludes = builder.getJarScanIncludes();
+		this.jarScanExcludes = builder.getJarScanExcludes();
+		this.tldScan = builder.isTldScan();
+		this.manifestScan = builder.isManifestScan();
+		this.jarScanCacheDir = builder.getJarScanCacheDir();
+		this.startStopThreads = builder.getStartStopThreads();
+		this.annotationScanThreads = builder.getAnnotationScanThreads();
+		this.jspPrecompilation = builder.isJspPrecompilation();
+		this.jspOutputDir = builder.getJspOutputDir();
 	}
 
 	/**
@@ -149,6 +316,24 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 		return keepBaseDir;
 	}
 
+	/**
+	 * Get {@link #baseDirRoot}.
+	 *
+	 * @return {@link #baseDirRoot}
+	 */
+	public String getBaseDirRoot() {
+		return baseDirRoot;
+	}
+
+	/**
+	 * Get {@link #asyncBaseDirDeletion}.
+	 *
+	 * @return {@link #asyncBaseDirDeletion}
+	 */
+	public boolean isAsyncBaseDirDeletion() {
+		return asyncBaseDirDeletion;
+	}
+
 	/**
 	 * Get {@link #enableNaming}.
 	 *
@@ -167,6 +352,105 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 		return forceMetaInf;
 	}
 
+	/**
+	 * Get {@link #http2}.
+	 *
+	 * @return {@link #http2}
+	 */
+	public boolean isHttp2() {
+		return http2;
+	}
+
+	/**
+	 * Get {@link #fastRestart}.
+	 *
+	 * @return {@link #fastRestart}
+	 */
+	public boolean isFastRestart() {
+		return fastRestart;
+	}
+
+	/**
+	 * Get {@link #jarScanIncludes}.
+	 *
+	 * @return {@link #jarScanIncludes}
+	 */
+	public String getJarScanIncludes() {
+		return jarScanIncludes;
+	}
+
+	/**
+	 * Get {@link #jarScanExcludes}.
+	 *
+	 * @return {@link #jarScanExcludes}
+	 */
+	public String getJarScanExcludes() {
+		return jarScanExcludes;
+	}
+
+	/**
+	 * Get {@link #tldScan}.
+	 *
+	 * @return {@link #tldScan}
+	 */
+	public boolean isTldScan() {
+		return tldScan;
+	}
+
+	/**
+	 * Get {@link #manifestScan}.
+	 *
+	 * @return {@link #manifestScan}
+	 */
+	public boolean isManifestScan() {
+		return manifestScan;
+	}
+
+	/**
+	 * Get {@link #jarScanCacheDir}.
+	 *
+	 * @return {@link #jarScanCacheDir}
+	 */
+	public String getJarScanCacheDir() {
+		return jarScanCacheDir;
+	}
+
+	/**
+	 * Get {@link #startStopThreads}.
+	 *
+	 * @return {@link #startStopThreads}
+	 */
+	public int getStartStopThreads() {
+		return startStopThreads;
+	}
+
+	/**
+	 * Get {@link #annotationScanThreads}.
+	 *
+	 * @return {@link #annotationScanThreads}
+	 */
+	public int getAnnotationScanThreads() {
+		return annotationScanThreads;
+	}
+
+	/**
+	 * Get {@link #jspPrecompilation}.
+	 *
+	 * @return {@link #jspPrecompilation}
+	 */
+	public boolean isJspPrecompilation() {
+		return jspPrecompilation;
+	}
+
+	/**
+	 * Get {@link #jspOutputDir}.
+	 *
+	 * @return {@link #jspOutputDir}
+	 */
+	public String getJspOutputDir() {
+		return jspOutputDir;
+	}
+
 	@Override
 	public String toString() {
 		return ToStringBuilder.create(getClass())
@@ -176,10 +460,25 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			.append("classpath", getClasspath())
 			.append("overrideDescriptor", getOverrideDescriptor())
 			.append("parentClassLoader", getParentClassLoader())
+			.append("threadPool", getThreadPool())
+			.append("connector", getConnector())
 			.append("baseDir", baseDir)
 			.append("keepBaseDir", keepBaseDir)
+			.append("baseDirRoot", baseDirRoot)
+			.append("asyncBaseDirDeletion", asyncBaseDirDeletion)
 			.append("enableNaming", enableNaming)
 			.append("forceMetaInf", forceMetaInf)
+			.append("http2", http2)
+			.append("fastRestart", fastRestart)
+			.append("jarScanIncludes", jarScanIncludes)
+			.append("jarScanExcludes", jarScanExcludes)
+			.append("tldScan", tldScan)
+			.append("manifestScan", manifestScan)
+			.append("jarScanCacheDir", jarScanCacheDir)
+			.append("startStopThreads", startStopThreads)
+			.append("annotationScanThreads", annotationScanThreads)
+			.append("jspPrecompilation", jspPrecompilation)
+			.append("jspOutputDir", jspOutputDir)
 			.build();
 	}
 
@@ -194,8 +493,21 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			return super.equals(c)
 				&& Objects.equals(baseDir, c.baseDir)
 				&& Objects.equals(keepBaseDir, c.keepBaseDir)
+				&& Objects.equals(baseDirRoot, c.baseDirRoot)
+				&& Objects.equals(asyncBaseDirDeletion, c.asyncBaseDirDeletion)
 				&& Objects.equals(enableNaming, c.enableNaming)
-				&& Objects.equals(forceMetaInf, c.forceMetaInf);
+				&& Objects.equals(forceMetaInf, c.forceMetaInf)
+				&& Objects.equals(http2, c.http2)
+				&& Objects.equals(fastRestart, c.fastRestart)
+				&& Objects.equals(jarScanIncludes, c.jarScanIncludes)
+				&& Objects.equals(jarScanExcludes, c.jarScanExcludes)
+				&& Objects.equals(tldScan, c.tldScan)
+				&& Objects.equals(manifestScan, c.manifestScan)
+				&& Objects.equals(jarScanCacheDir, c.jarScanCacheDir)
+				&& Objects.equals(startStopThreads, c.startStopThreads)
+				&& Objects.equals(annotationScanThreads, c.annotationScanThreads)
+				&& Objects.equals(jspPrecompilation, c.jspPrecompilation)
+				&& Objects.equals(jspOutputDir, c.jspOutputDir);
 		}
 
 		return false;
@@ -208,7 +520,7 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(super.hashCode(), baseDir, keepBaseDir, enableNaming, forceMetaInf);
+		return Objects.hash(super.hashCode(), baseDir, keepBaseDir, baseDirRoot, asyncBaseDirDeletion, enableNaming, forceMetaInf, http2, fastRestart, jarScanIncludes, jarScanExcludes, tldScan, manifestScan, jarScanCacheDir, startStopThreads, annotationScanThreads, jspPrecompilation, jspOutputDir);
 	}
 
 	/**
@@ -234,6 +546,19 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 		 */
 		private boolean keepBaseDir = DEFAULT_KEEP_BASE_DIR;
 
+		/**
+		 * The root directory of unique tomcat base directories.
+		 */
+		private String baseDirRoot;
+
+		/**
+		 * Delete tomcat base directory asynchronously on server stop.
+		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_ASYNC_BASE_DIR_DELETION}.
+		 *
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_ASYNC_BASE_DIR_DELETION
+		 */
+		private boolean asyncBaseDirDeletion = DEFAULT_ASYNC_BASE_DIR_DELETION;
+
 		/**
 		 * Enable/Disable naming: this is a flag to enables JNDI naming.
 		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_ENABLE_NAMING}.
@@ -249,10 +574,93 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 		 */
 		private boolean forceMetaInf;
 
+		/**
+		 * Enable/Disable HTTP/2 cleartext on the tomcat connector.
+		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_HTTP2}.
+		 *
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_HTTP2
+		 */
+		private boolean http2;
+
+		/**
+		 * Enable/Disable fast restart.
+		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_FAST_RESTART}.
+		 *
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_FAST_RESTART
+		 */
+		private boolean fastRestart;
+
+		/**
+		 * The JAR name patterns that should be scanned.
+		 */
+		private String jarScanIncludes;
+
+		/**
+		 * The JAR name patterns that should not be scanned.
+		 */
+		private String jarScanExcludes;
+
+		/**
+		 * Enable/Disable TLD scanning of JAR files.
+		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_TLD_SCAN}.
+		 *
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_TLD_SCAN
+		 */
+		private boolean tldScan;
+
+		/**
+		 * Enable/Disable scanning of JAR files referenced in JAR manifests.
+		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_MANIFEST_SCAN}.
+		 *
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_MANIFEST_SCAN
+		 */
+		private boolean manifestScan;
+
+		/**
+		 * The directory where the result of the JAR scanning is stored.
+		 */
+		private String jarScanCacheDir;
+
+		/**
+		 * The number of start/stop threads.
+		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_START_STOP_THREADS}.
+		 *
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_START_STOP_THREADS
+		 */
+		private int startStopThreads;
+
+		/**
+		 * The number of annotation scanning threads.
+		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_ANNOTATION_SCAN_THREADS}.
+		 *
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_ANNOTATION_SCAN_THREADS
+		 */
+		private int annotationScanThreads;
+
+		/**
+		 * Enable/Disable JSP precompilation.
+		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_JSP_PRECOMPILATION}.
+		 *
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_JSP_PRECOMPILATION
+		 */
+		private boolean jspPrecompilation;
+
+		/**
+		 * The directory where compiled JSP files are stored.
+		 */
+		private String jspOutputDir;
+
 		private Builder() {
 			baseDir = DEFAULT_BASE_DIR;
 			enableNaming = DEFAULT_ENABLE_NAMING;
 			forceMetaInf = DEFAULT_FORCE_META_INF;
+			http2 = DEFAULT_HTTP2;
+			fastRestart = DEFAULT_FAST_RESTART;
+			tldScan = DEFAULT_TLD_SCAN;
+			manifestScan = DEFAULT_MANIFEST_SCAN;
+			startStopThreads = DEFAULT_START_STOP_THREADS;
+			annotationScanThreads = DEFAULT_ANNOTATION_SCAN_THREADS;
+			jspPrecompilation = DEFAULT_JSP_PRECOMPILATION;
 
 			withClasspath(DEFAULT_CLASSPATH);
 		}
@@ -285,6 +693,24 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			return keepBaseDir;
 		}
 
+		/**
+		 * Get current {@link #baseDirRoot} value.
+		 *
+		 * @return {@link #baseDirRoot}
+		 */
+		public String getBaseDirRoot() {
+			return baseDirRoot;
+		}
+
+		/**
+		 * Get current {@link #asyncBaseDirDeletion} value.
+		 *
+		 * @return {@link #asyncBaseDirDeletion}
+		 */
+		public boolean isAsyncBaseDirDeletion() {
+			return asyncBaseDirDeletion;
+		}
+
 		/**
 		 * Get current {@link #enableNaming} value.
 		 *
@@ -303,6 +729,105 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			return forceMetaInf;
 		}
 
+		/**
+		 * Get current {@link #http2} value.
+		 *
+		 * @return {@link #http2}
+		 */
+		public boolean isHttp2() {
+			return http2;
+		}
+
+		/**
+		 * Get current {@link #fastRestart} value.
+		 *
+		 * @return {@link #fastRestart}
+		 */
+		public boolean isFastRestart() {
+			return fastRestart;
+		}
+
+		/**
+		 * Get current {@link #jarScanIncludes} value.
+		 *
+		 * @return {@link #jarScanIncludes}
+		 */
+		public String getJarScanIncludes() {
+			return jarScanIncludes;
+		}
+
+		/**
+		 * Get current {@link #jarScanExcludes} value.
+		 *
+		 * @return {@link #jarScanExcludes}
+		 */
+		public String getJarScanExcludes() {
+			return jarScanExcludes;
+		}
+
+		/**
+		 * Get current {@link #tldScan} value.
+		 *
+		 * @return {@link #tldScan}
+		 */
+		public boolean isTldScan() {
+			return tldScan;
+		}
+
+		/**
+		 * Get current {@link #manifestScan} value.
+		 *
+		 * @return {@link #manifestScan}
+		 */
+		public boolean isManifestScan() {
+			return manifestScan;
+		}
+
+		/**
+		 * Get current {@link #jarScanCacheDir} value.
+		 *
+		 * @return {@link #jarScanCacheDir}
+		 */
+		public String getJarScanCacheDir() {
+			return jarScanCacheDir;
+		}
+
+		/**
+		 * Get current {@link #startStopThreads} value.
+		 *
+		 * @return {@link #startStopThreads}
+		 */
+		public int getStartStopThreads() {
+			return startStopThreads;
+		}
+
+		/**
+		 * Get current {@link #annotationScanThreads} value.
+		 *
+		 * @return {@link #annotationScanThreads}
+		 */
+		public int getAnnotationScanThreads() {
+			return annotationScanThreads;
+		}
+
+		/**
+		 * Get current {@link #jspPrecompilation} value.
+		 *
+		 * @return {@link #jspPrecompilation}
+		 */
+		public boolean isJspPrecompilation() {
+			return jspPrecompilation;
+		}
+
+		/**
+		 * Get current {@link #jspOutputDir} value.
+		 *
+		 * @return {@link #jspOutputDir}
+		 */
+		public String getJspOutputDir() {
+			return jspOutputDir;
+		}
+
 		/**
 		 * Change tomcat base directory.
 		 *
@@ -335,6 +860,49 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			return self();
 		}
 
+		/**
+		 * Use a unique tomcat base directory, created under given root directory (for example {@code /dev/shm}):
+		 * servers running in parallel will never share the same base directory.
+		 *
+		 * @param baseDirRoot The root directory.
+		 * @return this.
+		 * @throws NullPointerException If {@code baseDirRoot} is {@code null}.
+		 */
+		public Builder withBaseDirRoot(String baseDirRoot) {
+			this.baseDirRoot = notNull(baseDirRoot, "baseDirRoot");
+			return self();
+		}
+
+		/**
+		 * Use a unique tomcat base directory, created under given root directory (for example {@code /dev/shm}):
+		 * servers running in parallel will never share the same base directory.
+		 *
+		 * @param baseDirRoot The root directory.
+		 * @return this.
+		 * @throws NullPointerException If {@code baseDirRoot} is {@code null}.
+		 */
+		public Builder withBaseDirRoot(File baseDirRoot) {
+			return withBaseDirRoot(notNull(baseDirRoot, "baseDirRoot").getAbsolutePath());
+		}
+
+		/**
+		 * Delete tomcat base directory asynchronously on server stop.
+		 *
+		 * @return this.
+		 */
+		public Builder enableAsyncBaseDirDeletion() {
+			return toggleAsyncBaseDirDeletion(true);
+		}
+
+		/**
+		 * Delete tomcat base directory synchronously on server stop.
+		 *
+		 * @return this.
+		 */
+		public Builder disableAsyncBaseDirDeletion() {
+			return toggleAsyncBaseDirDeletion(false);
+		}
+
 		/**
 		 * Enable naming (i.e enable JNDI) on tomcat server.
 		 *
@@ -371,6 +939,221 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			return toggleMetaInf(false);
 		}
 
+		/**
+		 * Enable HTTP/2 cleartext (i.e {@code h2c}) on tomcat connector.
+		 *
+		 * @return this.
+		 */
+		public Builder enableHttp2() {
+			return toggleHttp2(true);
+		}
+
+		/**
+		 * Disable HTTP/2 cleartext on tomcat connector.
+		 *
+		 * @return this.
+		 */
+		public Builder disableHttp2() {
+			return toggleHttp2(false);
+		}
+
+		/**
+		 * Enable fast restart: restarting the server will only reload the tomcat context, without
+		 * scanning the webapp again.
+		 *
+		 * @return this.
+		 */
+		public Builder enableFastRestart() {
+			return toggleFastRestart(true);
+		}
+
+		/**
+		 * Disable fast restart: restarting the server will stop and start the whole server.
+		 *
+		 * @return this.
+		 */
+		public Builder disableFastRestart() {
+			return toggleFastRestart(false);
+		}
+
+		/**
+		 * Scan only JAR files matching one of given patterns, for example: {@code "spring-*.jar,my-app-*.jar"}.
+		 *
+		 * @param jarScanIncludes The comma separated list of JAR name patterns.
+		 * @return this.
+		 * @throws NullPointerException If {@code jarScanIncludes} is {@code null}.
+		 * @throws IllegalArgumentException If {@code jarScanIncludes} is empty or blank.
+		 */
+		public Builder withJarScanIncludes(String jarScanIncludes) {
+			this.jarScanIncludes = notBlank(jarScanIncludes, "jarScanIncludes");
+			return self();
+		}
+
+		/**
+		 * Do not scan JAR files matching one of given patterns, for example: {@code "assertj-*.jar,mockito-*.jar"}.
+		 *
+		 * @param jarScanExcludes The comma separated list of JAR name patterns.
+		 * @return this.
+		 * @throws NullPointerException If {@code jarScanExcludes} is {@code null}.
+		 * @throws IllegalArgumentException If {@code jarScanExcludes} is empty or blank.
+		 */
+		public Builder withJarScanExcludes(String jarScanExcludes) {
+			this.jarScanExcludes = notBlank(jarScanExcludes, "jarScanExcludes");
+			return self();
+		}
+
+		/**
+		 * Enable TLD scanning of JAR files.
+		 *
+		 * @return this.
+		 */
+		public Builder enableTldScan() {
+			return toggleTldScan(true);
+		}
+
+		/**
+		 * Disable TLD scanning of JAR files (i.e when the webapp does not use JSP tag libraries
+		 * defined in JAR files).
+		 *
+		 * @return this.
+		 */
+		public Builder disableTldScan() {
+			return toggleTldScan(false);
+		}
+
+		/**
+		 * Enable scanning of JAR files referenced in JAR manifests.
+		 *
+		 * @return this.
+		 */
+		public Builder enableManifestScan() {
+			return toggleManifestScan(true);
+		}
+
+		/**
+		 * Disable scanning of JAR files referenced in JAR manifests.
+		 *
+		 * @return this.
+		 */
+		public Builder disableManifestScan() {
+			return toggleManifestScan(false);
+		}
+
+		/**
+		 * Change {@link #jarScanCacheDir} value.
+		 *
+		 * @param jarScanCacheDir The JAR scan cache directory.
+		 * @return this.
+		 * @throws NullPointerException If {@code jarScanCacheDir} is {@code null}.
+		 */
+		public Builder withJarScanCacheDir(String jarScanCacheDir) {
+			this.jarScanCacheDir = notNull(jarScanCacheDir, "jarScanCacheDir");
+			return self();
+		}
+
+		/**
+		 * Change {@link #jarScanCacheDir} value.
+		 *
+		 * @param jarScanCacheDir The JAR scan cache directory.
+		 * @return this.
+		 * @throws NullPointerException If {@code jarScanCacheDir} is {@code null}.
+		 */
+		public Builder withJarScanCacheDir(File jarScanCacheDir) {
+			return withJarScanCacheDir(notNull(jarScanCacheDir, "jarScanCacheDir").getAbsolutePath());
+		}
+
+		/**
+		 * Change the number of threads used to start and stop the tomcat engine and host children in
+		 * parallel (default is 1, i.e sequential): if zero or negative, the number of available processors plus this value is used.
+		 *
+		 * <p>
+		 *
+		 * Note that the embedded server deploys a single webapp context: parallel start/stop is useful only when
+		 * other contexts are deployed on the embedded host.
+		 *
+		 * @param startStopThreads The number of start/stop threads.
+		 * @return this.
+		 */
+		public Builder withStartStopThreads(int startStopThreads) {
+			this.startStopThreads = startStopThreads;
+			return self();
+		}
+
+		/**
+		 * Change the number of threads used to scan web fragments (i.e JAR files) for annotations: if zero
+		 * or negative, the number of available processors plus this value is used.
+		 *
+		 * @param annotationScanThreads The number of annotation scanning threads.
+		 * @return this.
+		 */
+		public Builder withAnnotationScanThreads(int annotationScanThreads) {
+			this.annotationScanThreads = annotationScanThreads;
+			return self();
+		}
+
+		/**
+		 * Enable JSP precompilation: all the JSP files of the webapp are compiled when the server starts.
+		 *
+		 * @return this.
+		 */
+		public Builder enableJspPrecompilation() {
+			return toggleJspPrecompilation(true);
+		}
+
+		/**
+		 * Disable JSP precompilation: JSP files are compiled when they are requested for the first time.
+		 *
+		 * @return this.
+		 */
+		public Builder disableJspPrecompilation() {
+			return toggleJspPrecompilation(false);
+		}
+
+		/**
+		 * Change {@link #jspOutputDir} value.
+		 *
+		 * @param jspOutputDir The directory where compiled JSP files are stored.
+		 * @return this.
+		 * @throws NullPointerException If {@code jspOutputDir} is {@code null}.
+		 */
+		public Builder withJspOutputDir(String jspOutputDir) {
+			this.jspOutputDir = notNull(jspOutputDir, "jspOutputDir");
+			return self();
+		}
+
+		/**
+		 * Change {@link #jspOutputDir} value.
+		 *
+		 * @param jspOutputDir The directory where compiled JSP files are stored.
+		 * @return this.
+		 * @throws NullPointerException If {@code jspOutputDir} is {@code null}.
+		 */
+		public Builder withJspOutputDir(File jspOutputDir) {
+			return withJspOutputDir(notNull(jspOutputDir, "jspOutputDir").getAbsolutePath());
+		}
+
+		/**
+		 * Toggle {@link #jspPrecompilation} to a new value.
+		 *
+		 * @param jspPrecompilation New {@link #jspPrecompilation}
+		 * @return this.
+		 */
+		private Builder toggleJspPrecompilation(boolean jspPrecompilation) {
+			this.jspPrecompilation = jspPrecompilation;
+			return self();
+		}
+
+		/**
+		 * Toggle {@link #asyncBaseDirDeletion} to a new value.
+		 *
+		 * @param asyncBaseDirDeletion New {@link #asyncBaseDirDeletion}
+		 * @return this.
+		 */
+		private Builder toggleAsyncBaseDirDeletion(boolean asyncBaseDirDeletion) {
+			this.asyncBaseDirDeletion = asyncBaseDirDeletion;
+			return self();
+		}
+
 		/**
 		 * Toggle {@link #enableNaming} to a new value.
 		 *
@@ -392,5 +1175,49 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			this.forceMetaInf = forceMetaInf;
 			return self();
 		}
+
+		/**
+		 * Toggle {@link #http2} to a new value.
+		 *
+		 * @param http2 New {@link #http2}
+		 * @return this.
+		 */
+		private Builder toggleHttp2(boolean http2) {
+			this.http2 = http2;
+			return self();
+		}
+
+		/**
+		 * Toggle {@link #fastRestart} to a new value.
+		 *
+		 * @param fastRestart New {@link #fastRestart}
+		 * @return this.
+		 */
+		private Builder toggleFastRestart(boolean fastRestart) {
+			this.fastRestart = fastRestart;
+			return self();
+		}
+
+		/**
+		 * Toggle {@link #tldScan} to a new value.
+		 *
+		 * @param tldScan New {@link #tldScan}
+		 * @return this.
+		 */
+		private Builder toggleTldScan(boolean tldScan) {
+			this.tldScan = tldScan;
+			return self();
+		}
+
+		/**
+		 * Toggle {@link #manifestScan} to a new value.
+		 *
+		 * @param manifestScan New {@link #manifestScan}
+		 * @return this.
+		 */
+		private Builder toggleManifestScan(boolean manifestScan) {
+			this.manifestScan = manifestScan;
+			return self();
+		}
 	}
 }
@@ -0,0 +1,656 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import org.apache.catalina.startup.ContextConfig;
+import org.apache.catalina.util.ServerInfo;
+import org.apache.jasper.servlet.JasperInitializer;
+import org.apache.jasper.servlet.TldScanner;
+import org.apache.tomcat.util.descriptor.tld.TaglibXml;
+import org.apache.tomcat.util.descriptor.tld.TldResourcePath;
+import org.apache.tomcat.util.descriptor.web.WebXml;
+import org.apache.tomcat.util.descriptor.web.WebXmlParser;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.servlet.ServletContainerInitializer;
+import javax.servlet.ServletContext;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.mjeanroy.junit.servers.commons.core.DaemonThreadFactory.daemonThreadFactory;
+
+/**
+ * Tomcat {@link ContextConfig} used by {@link EmbeddedTomcat}: each optimization is enabled by its own flag, and
+ * the default {@link ContextConfig} behavior is used when all of them are disabled.
+ *
+ * <p>
+ *
+ * Available optimizations are:
+ *
+ * <ul>
+ *   <li>
+ *     <strong>Fast restart</strong>: webapp metadata scanned during the first start of the context are kept in a
+ *     snapshot and replayed each time the context is reloaded. The snapshot contains the effective {@code web.xml}
+ *     (i.e the result of the merge of {@code web.xml}, web fragments and annotations), the web fragments found in
+ *     {@code WEB-INF/lib}, the classes matching {@link javax.servlet.annotation.HandlesTypes} of each
+ *     {@link ServletContainerInitializer} and the TLD found by the JSP engine. Each {@link ServletContainerInitializer}
+ *     (and each listener, servlet and filter) is still executed on each start, but jar scanning, annotation scanning
+ *     and {@code web.xml} merging only happen once.
+ *   </li>
+ *   <li>
+ *     <strong>JAR scan cache</strong>: the {@link javax.servlet.annotation.HandlesTypes} matches found in classpath
+ *     JAR files (i.e JAR files that are not part of {@code WEB-INF/lib}) are stored in a cache directory, so that
+ *     these JAR files are scanned once and the result replayed on next starts (in the same JVM or in next runs).
+ *     The cache entry is identified by a hash of the scanned JAR files (path, size and last modification date) and
+ *     of the types handled by each {@link ServletContainerInitializer}. Note that the webapp itself (i.e
+ *     {@code WEB-INF/classes} and {@code WEB-INF/lib}) is always scanned, and that web fragments and TLD files
+ *     are not part of the cache: they are still looked up in classpath JAR files on each start (unless fast restart
+ *     is enabled, in which case they are only looked up on first start).
+ *   </li>
+ *   <li>
+ *     <strong>Parallel annotation scanning</strong>: each web fragment is scanned in its own task, the shared
+ *     state (the java class cache and the classes matching the {@link javax.servlet.annotation.HandlesTypes}
+ *     annotation of each {@link ServletContainerInitializer}) being replaced by thread-safe implementations
+ *     during the scan.
+ *   </li>
+ * </ul>
+ */
+class EmbeddedTomcatContextConfig extends ContextConfig {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(EmbeddedTomcatContextConfig.class);
+
+	/**
+	 * The prefix of the scanning thread names.
+	 */
+	private static final String THREAD_NAME_PREFIX = "junit-servers-tomcat-scan";
+
+	/**
+	 * The JAR scan cache entries already read (or written) in the current JVM, indexed by file.
+	 */
+	private static final Map<Path, Map<String, Set<String>>> results = new ConcurrentHashMap<>();
+
+	/**
+	 * The JAR scan cache file prefix.
+	 */
+	private static final String FILE_PREFIX = "tomcat-jar-scan-";
+
+	/**
+	 * The JAR scan cache file suffix.
+	 */
+	private static final String FILE_SUFFIX = ".cache";
+
+	/**
+	 * The JAR scan cache file separator.
+	 */
+	private static final String SEPARATOR = "\t";
+
+	/**
+	 * Flag to enable fast restart.
+	 */
+	private final boolean fastRestart;
+
+	/**
+	 * The JAR scan cache directory, {@code null} if cache is disabled.
+	 */
+	private final Path cacheDir;
+
+	/**
+	 * The number of threads used to scan annotations.
+	 */
+	private final int annotationScanThreads;
+
+	/**
+	 * The TLD snapshot, shared with the JSP engine initializer (used with fast restart only).
+	 */
+	private final TldSnapshot tldSnapshot;
+
+	/**
+	 * The last created {@link WebXml}: once {@link #webConfig()} is done, this is the
+	 * effective {@code web.xml}.
+	 */
+	private WebXml lastWebXml;
+
+	/**
+	 * The system id of the webapp {@code web.xml}, if any.
+	 */
+	private String webXmlSystemId;
+
+	/**
+	 * The effective {@code web.xml}, {@code null} until the first start has completed.
+	 */
+	private String effectiveWebXml;
+
+	/**
+	 * The web fragments found during the first start.
+	 */
+	private Map<String, WebXml> fragments;
+
+	/**
+	 * The {@link javax.servlet.annotation.HandlesTypes} matches found during the first start, indexed
+	 * by initializer class name.
+	 */
+	private Map<String, Set<String>> handlesTypes;
+
+	/**
+	 * Create the context configuration.
+	 *
+	 * @param fastRestart Flag to enable fast restart.
+	 * @param cacheDir The JAR scan cache directory, {@code null} to disable cache.
+	 * @param annotationScanThreads The number of threads used to scan annotations (if zero or negative, the
+	 *                              number of available processors plus this value is used).
+	 */
+	EmbeddedTomcatContextConfig(boolean fastRestart, String cacheDir, int annotationScanThreads) {
+		this.fastRestart = fastRestart;
+		this.cacheDir = cacheDir == null ? null : new File(cacheDir).toPath();
+		this.annotationScanThreads = resolveThreads(annotationScanThreads);
+		this.tldSnapshot = fastRestart ? new TldSnapshot() : null;
+	}
+
+	/**
+	 * Resolve the number of threads, using the same rules as {@link org.apache.catalina.core.ContainerBase#setStartStopThreads(int)}.
+	 *
+	 * @param threads The number of threads.
+	 * @return The number of threads, always greater than zero.
+	 */
+	static int resolveThreads(int threads) {
+		if (threads > 0) {
+			return threads;
+		}
+
+		return Math.max(1, Runtime.getRuntime().availableProcessors() + threads);
+	}
+
+	/**
+	 * Check if webapp metadata have been scanned and will be replayed on next start.
+	 *
+	 * @return {@code true} if next start will replay webapp metadata, {@code false} otherwise.
+	 */
+	boolean hasSnapshot() {
+		return effectiveWebXml != null;
+	}
+
+	@Override
+	protected void webConfig() {
+		if (!fastRestart) {
+			super.webConfig();
+			return;
+		}
+
+		if (effectiveWebXml != null) {
+			log.debug("Replaying tomcat webapp metadata snapshot");
+			super.webConfig();
+			return;
+		}
+
+		super.webConfig();
+
+		if (ok && lastWebXml != null) {
+			log.debug("Saving tomcat webapp metadata snapshot");
+			effectiveWebXml = lastWebXml.toXml();
+		}
+
+		lastWebXml = null;
+	}
+
+	@Override
+	protected WebXml createWebXml() {
+		WebXml webXml = super.createWebXml();
+		if (fastRestart) {
+			lastWebXml = webXml;
+		}
+
+		return webXml;
+	}
+
+	@Override
+	protected InputSource getContextWebXmlSource() {
+		if (effectiveWebXml == null) {
+			InputSource source = super.getContextWebXmlSource();
+			webXmlSystemId = source == null ? null : source.getSystemId();
+			return source;
+		}
+
+		// The effective web.xml is flagged as metadata-complete, so that annotations and
+		// web fragments will not be processed again.
+		InputSource source = new InputSource(new StringReader(effectiveWebXml));
+		if (webXmlSystemId != null) {
+			source.setSystemId(webXmlSystemId);
+		}
+
+		return source;
+	}
+
+	@Override
+	protected Map<String, WebXml> processJarsForWebFragments(WebXml application, WebXmlParser webXmlParser) {
+		if (!fastRestart) {
+			return super.processJarsForWebFragments(application, webXmlParser);
+		}
+
+		if (fragments == null) {
+			fragments = super.processJarsForWebFragments(application, webXmlParser);
+		}
+
+		return new LinkedHashMap<>(fragments);
+	}
+
+	@Override
+	protected void processServletContainerInitializers() {
+		super.processServletContainerInitializers();
+
+		if (!fastRestart) {
+			return;
+		}
+
+		// Replace the default JSP engine initializer, so that TLD scanning is done only once.
+		List<Map.Entry<ServletContainerInitializer, Set<Class<?>>>> entries = new ArrayList<>(initializerClassMap.entrySet());
+		initializerClassMap.clear();
+
+		for (Map.Entry<ServletContainerInitializer, Set<Class<?>>> entry : entries) {
+			ServletContainerInitializer sci = entry.getKey();
+			if (sci.getClass() == JasperInitializer.class) {
+				sci = new FastRestartJasperInitializer(tldSnapshot);
+			}
+
+			initializerClassMap.put(sci, entry.getValue());
+		}
+	}
+
+	@Override
+	protected void processClasses(WebXml webXml, Set<WebXml> orderedFragments) {
+		if (!fastRestart) {
+			super.processClasses(webXml, orderedFragments);
+			return;
+		}
+
+		if (effectiveWebXml == null || handlesTypes == null) {
+			super.processClasses(webXml, orderedFragments);
+			handlesTypes = snapshot();
+			return;
+		}
+
+		log.debug("Replaying tomcat handled types snapshot");
+		replay(handlesTypes);
+	}
+
+	// The java class cache entry type is not visible outside tomcat package: raw types are required to override this method.
+	@Override
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	protected void processAnnotations(Set fragments, boolean handlesTypesOnly, Map javaClassCache) {
+		if (cacheDir == null || typeInitializerMap.isEmpty()) {
+			scanAnnotations(fragments, handlesTypesOnly, javaClassCache);
+			return;
+		}
+
+		final Set<WebXml> webappFragments = new LinkedHashSet<>();
+		final Set<WebXml> containerFragments = new LinkedHashSet<>();
+		for (WebXml fragment : (Set<WebXml>) fragments) {
+			if (fragment.getWebappJar()) {
+				webappFragments.add(fragment);
+			}
+			else {
+				containerFragments.add(fragment);
+			}
+		}
+
+		scanAnnotations(webappFragments, handlesTypesOnly, javaClassCache);
+
+		if (!ok || containerFragments.isEmpty()) {
+			return;
+		}
+
+		final Path file;
+		try {
+			file = cacheDir.resolve(FILE_PREFIX + computeKey(containerFragments) + FILE_SUFFIX);
+		}
+		catch (IOException | NoSuchAlgorithmException ex) {
+			log.warn("Cannot compute tomcat jar scan cache key ({}), classpath will be scanned", ex.getMessage());
+			scanAnnotations(containerFragments, handlesTypesOnly, javaClassCache);
+			return;
+		}
+
+		final Map<String, Set<String>> cached = readResult(file);
+		if (cached != null) {
+			log.debug("Replaying tomcat jar scan result from: {}", file);
+			replay(cached);
+			return;
+		}
+
+		final Map<String, Set<String>> before = snapshot();
+		scanAnnotations(containerFragments, handlesTypesOnly, javaClassCache);
+
+		if (ok) {
+			log.debug("Saving tomcat jar scan result to: {}", file);
+			writeResult(file, diff(before, snapshot()));
+		}
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private void scanAnnotations(Set<WebXml> fragments, boolean handlesTypesOnly, Map javaClassCache) {
+		if (annotationScanThreads <= 1 || fragments.size() <= 1) {
+			super.processAnnotations(fragments, handlesTypesOnly, javaClassCache);
+			return;
+		}
+
+		log.debug("Scanning {} tomcat web fragments using {} threads", fragments.size(), annotationScanThreads);
+
+		for (Map.Entry<ServletContainerInitializer, Set<Class<?>>> entry : initializerClassMap.entrySet()) {
+			entry.setValue(Collections.synchronizedSet(entry.getValue()));
+		}
+
+		final Map concurrentJavaClassCache = new ConcurrentHashMap(javaClassCache);
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.min(annotationScanThreads, fragments.size()), daemonThreadFactory(THREAD_NAME_PREFIX));
+
+		try {
+			final List<Future<?>> futures = new ArrayList<>(fragments.size());
+			for (WebXml fragment : fragments) {
+				futures.add(executor.submit(() ->
+					super.processAnnotations(Collections.singleton(fragment), handlesTypesOnly, concurrentJavaClassCache)
+				));
+			}
+
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			log.error("Tomcat annotation scanning has been interrupted");
+			ok = false;
+		}
+		catch (ExecutionException ex) {
+			log.error(ex.getMessage(), ex.getCause());
+			ok = false;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		javaClassCache.putAll(concurrentJavaClassCache);
+	}
+
+	private String computeKey(Set<WebXml> containerFragments) throws IOException, NoSuchAlgorithmException {
+		final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+		update(digest, ServerInfo.getServerNumber());
+
+		// Initializers may be discovered in any order.
+		final Set<String> handledTypes = new TreeSet<>();
+		for (Map.Entry<Class<?>, Set<ServletContainerInitializer>> entry : typeInitializerMap.entrySet()) {
+			for (ServletContainerInitializer sci : entry.getValue()) {
+				handledTypes.add(entry.getKey().getName() + SEPARATOR + sci.getClass().getName());
+			}
+		}
+
+		for (String handledType : handledTypes) {
+			update(digest, handledType);
+		}
+
+		for (WebXml fragment : containerFragments) {
+			update(digest, fragment.getURL());
+		}
+
+		final StringBuilder sb = new StringBuilder();
+		for (byte b : digest.digest()) {
+			sb.append(String.format("%02x", b));
+		}
+
+		return sb.toString();
+	}
+
+	private static void update(MessageDigest digest, URL url) throws IOException {
+		update(digest, String.valueOf(url));
+
+		final File file = toFile(url);
+		if (file == null) {
+			return;
+		}
+
+		if (file.isDirectory()) {
+			final Path root = file.toPath();
+
+			try (Stream<Path> paths = Files.walk(root)) {
+				final List<Path> files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+				for (Path path : files) {
+					update(digest, root.relativize(path) + SEPARATOR + Files.size(path) + SEPARATOR + Files.getLastModifiedTime(path).toMillis());
+				}
+			}
+		}
+		else {
+			update(digest, file.length() + SEPARATOR + file.lastModified());
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) '\n');
+	}
+
+	private static File toFile(URL url) {
+		if (url == null || !"file".equals(url.getProtocol())) {
+			return null;
+		}
+
+		try {
+			return new File(url.toURI());
+		}
+		catch (URISyntaxException | IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Get the name of the classes matching the {@link javax.servlet.annotation.HandlesTypes} annotation
+	 * of each initializer, indexed by initializer class name.
+	 *
+	 * @return The matching classes.
+	 */
+	private Map<String, Set<String>> snapshot() {
+		final Map<String, Set<String>> snapshot = new LinkedHashMap<>();
+
+		for (Map.Entry<ServletContainerInitializer, Set<Class<?>>> entry : initializerClassMap.entrySet()) {
+			final Set<String> classNames = snapshot.computeIfAbsent(entry.getKey().getClass().getName(), k -> new LinkedHashSet<>());
+			for (Class<?> klass : entry.getValue()) {
+				classNames.add(klass.getName());
+			}
+		}
+
+		return snapshot;
+	}
+
+	private static Map<String, Set<String>> diff(Map<String, Set<String>> before, Map<String, Set<String>> after) {
+		final Map<String, Set<String>> diff = new LinkedHashMap<>();
+
+		for (Map.Entry<String, Set<String>> entry : after.entrySet()) {
+			final Set<String> classNames = new LinkedHashSet<>(entry.getValue());
+			classNames.removeAll(before.getOrDefault(entry.getKey(), Collections.<String>emptySet()));
+			if (!classNames.isEmpty()) {
+				diff.put(entry.getKey(), classNames);
+			}
+		}
+
+		return diff;
+	}
+
+	/**
+	 * Add the classes found during a previous scan to the classes matching the
+	 * {@link javax.servlet.annotation.HandlesTypes} annotation of each initializer.
+	 *
+	 * @param result The classes found during a previous scan, indexed by initializer class name.
+	 */
+	private void replay(Map<String, Set<String>> result) {
+		final ClassLoader classLoader = context.getLoader().getClassLoader();
+
+		for (Map.Entry<ServletContainerInitializer, Set<Class<?>>> entry : initializerClassMap.entrySet()) {
+			final Set<String> classNames = result.get(entry.getKey().getClass().getName());
+			if (classNames == null) {
+				continue;
+			}
+
+			for (String className : classNames) {
+				try {
+					entry.getValue().add(classLoader.loadClass(className));
+				}
+				catch (ClassNotFoundException | LinkageError ex) {
+					log.warn("Cannot load class {} handled by {}", className, entry.getKey());
+				}
+			}
+		}
+	}
+
+	private static Map<String, Set<String>> readResult(Path file) {
+		final Map<String, Set<String>> result = results.get(file);
+		if (result != null || !Files.exists(file)) {
+			return result;
+		}
+
+		final Map<String, Set<String>> read = new LinkedHashMap<>();
+
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				final String[] parts = line.split(SEPARATOR, -1);
+				if (parts.length != 2) {
+					throw new IOException("Malformed line: " + line);
+				}
+
+				read.computeIfAbsent(parts[0], k -> new LinkedHashSet<>()).add(parts[1]);
+			}
+		}
+		catch (IOException ex) {
+			log.warn("Cannot read tomcat jar scan cache file {}, classpath will be scanned", file);
+			return null;
+		}
+
+		results.put(file, read);
+		return read;
+	}
+
+	private static void writeResult(Path file, Map<String, Set<String>> result) {
+		results.put(file, result);
+
+		try {
+			Files.createDirectories(file.getParent());
+
+			final Path tmp = Files.createTempFile(file.getParent(), FILE_PREFIX, ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+				for (Map.Entry<String, Set<String>> entry : result.entrySet()) {
+					for (String className : entry.getValue()) {
+						writer.write(entry.getKey() + SEPARATOR + className);
+						writer.newLine();
+					}
+				}
+			}
+
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException ex) {
+			log.warn("Cannot write tomcat jar scan cache file {}", file);
+		}
+	}
+
+	/**
+	 * The TLD found by the JSP engine during the first start.
+	 */
+	private static final class TldSnapshot {
+		private Map<String, TldResourcePath> uriTldResourcePathMap;
+		private Map<TldResourcePath, TaglibXml> tldResourcePathTaglibXmlMap;
+		private List<String> listeners;
+	}
+
+	/**
+	 * JSP engine initializer, scanning TLD only once.
+	 */
+	private static final class FastRestartJasperInitializer extends JasperInitializer {
+		private final TldSnapshot tldSnapshot;
+
+		private FastRestartJasperInitializer(TldSnapshot tldSnapshot) {
+			this.tldSnapshot = tldSnapshot;
+		}
+
+		@Override
+		protected TldScanner newTldScanner(ServletContext context, boolean namespaceAware, boolean validate, boolean blockExternal) {
+			return new FastRestartTldScanner(context, namespaceAware, validate, blockExternal, tldSnapshot);
+		}
+	}
+
+	/**
+	 * TLD scanner, saving the scan result on first start and replaying it afterwards.
+	 */
+	private static final class FastRestartTldScanner extends TldScanner {
+		private final TldSnapshot tldSnapshot;
+
+		private FastRestartTldScanner(ServletContext context, boolean namespaceAware, boolean validate, boolean blockExternal, TldSnapshot tldSnapshot) {
+			super(context, namespaceAware, validate, blockExternal);
+			this.tldSnapshot = tldSnapshot;
+		}
+
+		@Override
+		public void scan() throws IOException, SAXException {
+			if (tldSnapshot.uriTldResourcePathMap == null) {
+				super.scan();
+				tldSnapshot.uriTldResourcePathMap = new LinkedHashMap<>(getUriTldResourcePathMap());
+				tldSnapshot.tldResourcePathTaglibXmlMap = new LinkedHashMap<>(getTldResourcePathTaglibXmlMap());
+				tldSnapshot.listeners = new ArrayList<>(getListeners());
+				return;
+			}
+
+			log.debug("Replaying TLD snapshot");
+			getUriTldResourcePathMap().putAll(tldSnapshot.uriTldResourcePathMap);
+			getTldResourcePathTaglibXmlMap().putAll(tldSnapshot.tldResourcePathTaglibXmlMap);
+			getListeners().addAll(tldSnapshot.listeners);
+		}
+	}
+}
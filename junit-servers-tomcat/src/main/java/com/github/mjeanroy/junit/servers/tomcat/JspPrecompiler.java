@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import com.github.mjeanroy.junit.servers.commons.reflect.Classes;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import org.apache.jasper.JasperException;
+import org.apache.jasper.JspC;
+
+import java.io.File;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Strings.isNotBlank;
+
+/**
+ * Compile, in parallel, all the JSP files of a webapp directory (including the ones in {@code WEB-INF}) with
+ * the Jasper {@link JspC} compiler.
+ *
+ * <p>
+ *
+ * JSP files are compiled in the scratch directory of the JSP servlet, in the default Jasper package: when a JSP
+ * is requested, the JSP servlet finds an up-to-date compiled class and loads it instead of compiling the JSP file
+ * (it is compiled again only if the JSP file has been modified since).
+ *
+ * <p>
+ *
+ * Note that {@link JspC} is an Apache Ant task: Apache Ant must be available on the classpath.
+ */
+final class JspPrecompiler {
+
+	/**
+	 * Class Logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(JspPrecompiler.class);
+
+	/**
+	 * Flag to check if Apache Ant, needed to run {@link JspC}, is available on the classpath.
+	 */
+	private static final boolean ANT_AVAILABLE = Classes.isPresent("org.apache.tools.ant.Task");
+
+	// Ensure non instantiation.
+	private JspPrecompiler() {
+	}
+
+	/**
+	 * Check if JSP files can be compiled, i.e Apache Ant is available on the classpath.
+	 *
+	 * @return {@code true} if JSP files can be compiled, {@code false} otherwise.
+	 */
+	static boolean isSupported() {
+		return ANT_AVAILABLE;
+	}
+
+	/**
+	 * Compile all JSP files of given webapp directory.
+	 *
+	 * @param webappDir The webapp directory.
+	 * @param scratchDir The scratch directory of the JSP servlet.
+	 * @param classpath Additional classpath entries needed to compile the JSP files, may be {@code null}.
+	 * @throws JasperException If the JSP compiler cannot be initialized.
+	 */
+	static void precompile(String webappDir, String scratchDir, String classpath) throws JasperException {
+		notBlank(webappDir, "webappDir");
+		notBlank(scratchDir, "scratchDir");
+
+		log.debug("Compiling JSP files of {} to {}", webappDir, scratchDir);
+
+		final JspC jspc = new JspC();
+		jspc.setUriroot(webappDir);
+		jspc.setOutputDir(scratchDir);
+		jspc.setClassPath(compileClasspath(classpath));
+		jspc.setCompile(true);
+		jspc.setThreadCount(String.valueOf(Runtime.getRuntime().availableProcessors()));
+
+		// The same error will be reported when the JSP is requested.
+		jspc.setFailOnError(false);
+
+		final Thread thread = Thread.currentThread();
+		final ClassLoader threadClassLoader = thread.getContextClassLoader();
+
+		try {
+			jspc.execute();
+		}
+		finally {
+			thread.setContextClassLoader(threadClassLoader);
+		}
+	}
+
+	private static String compileClasspath(String classpath) {
+		final String systemClasspath = System.getProperty("java.class.path");
+		return isNotBlank(classpath) ? systemClasspath + File.pathSeparator + classpath : systemClasspath;
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import com.github.mjeanroy.junit.servers.commons.core.VirtualThreads;
+import org.apache.catalina.Executor;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.LifecycleState;
+import org.apache.catalina.util.LifecycleMBeanBase;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tomcat {@link Executor} executing each task in a new virtual thread (requires Java 21).
+ *
+ * <p>
+ *
+ * The underlying executor is created when the executor is started, and shutdown when the
+ * executor is stopped, so that the embedded server can be restarted.
+ */
+class VirtualThreadExecutor extends LifecycleMBeanBase implements Executor {
+
+	/**
+	 * The executor name (also used as the thread name prefix).
+	 */
+	private final String name;
+
+	/**
+	 * The underlying executor, {@code null} until the executor is started.
+	 */
+	private volatile ExecutorService executor;
+
+	/**
+	 * Create the executor.
+	 *
+	 * @param name The executor name.
+	 */
+	VirtualThreadExecutor(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		ExecutorService executor = this.executor;
+		if (executor == null) {
+			throw new RejectedExecutionException("Executor " + name + " is not started");
+		}
+
+		executor.execute(command);
+	}
+
+	@Override
+	public void execute(Runnable command, long timeout, TimeUnit unit) {
+		// Virtual threads are never queued, so the timeout can be ignored.
+		execute(command);
+	}
+
+	@Override
+	protected void startInternal() throws LifecycleException {
+		executor = VirtualThreads.newVirtualThreadPerTaskExecutor(name);
+		setState(LifecycleState.STARTING);
+	}
+
+	@Override
+	protected void stopInternal() throws LifecycleException {
+		setState(LifecycleState.STOPPING);
+
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	@Override
+	protected String getDomainInternal() {
+		// Same as StandardThreadExecutor: no way to navigate to the engine domain.
+		return null;
+	}
+
+	@Override
+	protected String getObjectNameKeyProperties() {
+		return "type=Executor,name=" + name;
+	}
+}
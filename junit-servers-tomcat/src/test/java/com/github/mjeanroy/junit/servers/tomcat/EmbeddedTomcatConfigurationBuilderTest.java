@@ -152,6 +152,158 @@ class EmbeddedTomcatConfigurationBuilderTest {
 		assertThat(result.isEnableNaming()).isFalse();
 	}
 
+	@Test
+	void it_should_enable_http2() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.enableHttp2();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isHttp2()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_http2() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.disableHttp2();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isHttp2()).isFalse();
+	}
+
+	@Test
+	void it_should_enable_fast_restart() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.enableFastRestart();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isFastRestart()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_fast_restart() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.disableFastRestart();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isFastRestart()).isFalse();
+	}
+
+	@Test
+	void it_should_change_jar_scan_includes() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.withJarScanIncludes("spring-*.jar");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJarScanIncludes()).isEqualTo("spring-*.jar");
+	}
+
+	@Test
+	void it_should_change_jar_scan_excludes() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.withJarScanExcludes("assertj-*.jar");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJarScanExcludes()).isEqualTo("assertj-*.jar");
+	}
+
+	@Test
+	void it_should_enable_tld_scan() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.enableTldScan();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isTldScan()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_tld_scan() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.disableTldScan();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isTldScan()).isFalse();
+	}
+
+	@Test
+	void it_should_enable_manifest_scan() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.enableManifestScan();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isManifestScan()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_manifest_scan() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.disableManifestScan();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isManifestScan()).isFalse();
+	}
+
+	@Test
+	void it_should_change_jar_scan_cache_dir(@TempDir File cacheDir) {
+		final EmbeddedTomcatConfiguration.Builder result = builder.withJarScanCacheDir(cacheDir);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJarScanCacheDir()).isEqualTo(cacheDir.getAbsolutePath());
+	}
+
+	@Test
+	void it_should_change_start_stop_threads() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.withStartStopThreads(4);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getStartStopThreads()).isEqualTo(4);
+	}
+
+	@Test
+	void it_should_change_annotation_scan_threads() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.withAnnotationScanThreads(0);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getAnnotationScanThreads()).isZero();
+	}
+
+	@Test
+	void it_should_change_base_dir_root(@TempDir File baseDirRoot) {
+		final EmbeddedTomcatConfiguration.Builder result = builder.withBaseDirRoot(baseDirRoot);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getBaseDirRoot()).isEqualTo(baseDirRoot.getAbsolutePath());
+	}
+
+	@Test
+	void it_should_enable_async_base_dir_deletion() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.enableAsyncBaseDirDeletion();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isAsyncBaseDirDeletion()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_async_base_dir_deletion() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.disableAsyncBaseDirDeletion();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isAsyncBaseDirDeletion()).isFalse();
+	}
+
+	@Test
+	void it_should_enable_jsp_precompilation() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.enableJspPrecompilation();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isJspPrecompilation()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_jsp_precompilation() {
+		final EmbeddedTomcatConfiguration.Builder result = builder.disableJspPrecompilation();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isJspPrecompilation()).isFalse();
+	}
+
+	@Test
+	void it_should_change_jsp_output_dir(@TempDir File jspOutputDir) {
+		final EmbeddedTomcatConfiguration.Builder result = builder.withJspOutputDir(jspOutputDir);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJspOutputDir()).isEqualTo(jspOutputDir.getAbsolutePath());
+	}
+
 	@Test
 	void it_should_enable_metaInf_creation() {
 		final EmbeddedTomcatConfiguration.Builder result = builder.enableForceMetaInf();
@@ -96,10 +96,25 @@ class EmbeddedTomcatConfigurationTest {
 				"classpath: \"./target/classes\", " +
 				"overrideDescriptor: null, " +
 				"parentClassLoader: null, " +
+				"threadPool: null, " +
+				"connector: null, " +
 				"baseDir: \"./tomcat-work\", " +
 				"keepBaseDir: false, " +
+				"baseDirRoot: null, " +
+				"asyncBaseDirDeletion: false, " +
 				"enableNaming: true, " +
-				"forceMetaInf: true" +
+				"forceMetaInf: true, " +
+				"http2: false, " +
+				"fastRestart: false, " +
+				"jarScanIncludes: null, " +
+				"jarScanExcludes: null, " +
+				"tldScan: true, " +
+				"manifestScan: true, " +
+				"jarScanCacheDir: null, " +
+				"startStopThreads: 1, " +
+				"annotationScanThreads: 1, " +
+				"jspPrecompilation: false, " +
+				"jspOutputDir: null" +
 			"}"
 		);
 	}
@@ -24,23 +24,51 @@
 
 package com.github.mjeanroy.junit.servers.tomcat;
 
+import com.github.mjeanroy.junit.servers.exceptions.IllegalConfigurationException;
+import com.github.mjeanroy.junit.servers.servers.ConnectorConfiguration;
+import com.github.mjeanroy.junit.servers.servers.ServerLifecycleListener;
+import com.github.mjeanroy.junit.servers.servers.ServerLifecycleTimings;
+import com.github.mjeanroy.junit.servers.servers.ThreadPoolConfiguration;
+import com.github.mjeanroy.junit.servers.tomcat.tests.core.HandlesTypesInitializer;
+import com.github.mjeanroy.junit.servers.tomcat.tests.core.HandlesTypesInitializer.HandledImpl;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.apache.catalina.Container;
 import org.apache.catalina.Context;
+import org.apache.catalina.Executor;
+import org.apache.catalina.LifecycleListener;
 import org.apache.catalina.LifecycleState;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.StandardThreadExecutor;
+import org.apache.coyote.http11.Http11Nio2Protocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.apache.tomcat.JarScanFilter;
+import org.apache.tomcat.JarScanType;
+import org.apache.tomcat.util.scan.StandardJarScanner;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.servlet.ServletContainerInitializer;
+import javax.servlet.ServletContext;
 import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static com.github.mjeanroy.junit.servers.tomcat.tests.commons.Fields.readPrivate;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class EmbeddedTomcatTest {
 
@@ -48,10 +76,19 @@ class EmbeddedTomcatTest {
 
 	private EmbeddedTomcat tomcat;
 
+	private EmbeddedTomcat otherTomcat;
+
 	@AfterEach
 	void tearDown() {
-		if (tomcat != null) {
-			tomcat.stop();
+		try {
+			if (tomcat != null) {
+				tomcat.stop();
+			}
+		}
+		finally {
+			if (otherTomcat != null) {
+				otherTomcat.stop();
+			}
 		}
 	}
 
@@ -89,6 +126,80 @@ class EmbeddedTomcatTest {
 		assertThat(tomcat.getUrl()).isEqualTo(localUrl(tomcat.getPort()));
 	}
 
+	@Test
+	void it_should_start_tomcat_with_http2() throws Exception {
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder().enableHttp2().build());
+		tomcat.start();
+
+		final OkHttpClient client = new OkHttpClient.Builder()
+			.protocols(singletonList(Protocol.H2_PRIOR_KNOWLEDGE))
+			.build();
+
+		final Request rq = new Request.Builder().url(tomcat.getUrl()).build();
+
+		assertThat(tomcat.getDelegate().getConnector().findUpgradeProtocols()).hasAtLeastOneElementOfType(Http2Protocol.class);
+
+		try (Response rsp = client.newCall(rq).execute()) {
+			assertThat(rsp.protocol()).isEqualTo(Protocol.H2_PRIOR_KNOWLEDGE);
+		}
+	}
+
+	@Test
+	void it_should_start_tomcat_with_custom_thread_pool() {
+		final ThreadPoolConfiguration threadPool = ThreadPoolConfiguration.builder().withMinThreads(4).withMaxThreads(16).build();
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder().withThreadPool(threadPool).build());
+		tomcat.start();
+
+		final Executor[] executors = tomcat.getDelegate().getService().findExecutors();
+		assertThat(executors).hasSize(1);
+		assertThat(executors[0]).isExactlyInstanceOf(StandardThreadExecutor.class);
+
+		final StandardThreadExecutor executor = (StandardThreadExecutor) executors[0];
+		assertThat(executor.getMinSpareThreads()).isEqualTo(4);
+		assertThat(executor.getMaxThreads()).isEqualTo(16);
+		assertThat(tomcat.getDelegate().getConnector().getProtocolHandler().getExecutor()).isSameAs(executor);
+	}
+
+	@Test
+	void it_should_start_tomcat_with_custom_connector() {
+		final ConnectorConfiguration connectorConfiguration = ConnectorConfiguration.builder()
+			.withProtocol(ConnectorConfiguration.Protocol.NIO2)
+			.withHost("127.0.0.1")
+			.withMaxConnections(100)
+			.withAcceptQueueSize(64)
+			.withKeepAliveTimeout(5000)
+			.withMaxKeepAliveRequests(10)
+			.withRequestHeaderSize(16384)
+			.build();
+
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder().withConnector(connectorConfiguration).build());
+		tomcat.start();
+
+		final Connector connector = tomcat.getDelegate().getConnector();
+		assertThat(connector.getProtocolHandler()).isExactlyInstanceOf(Http11Nio2Protocol.class);
+		assertThat(connector.getProperty("maxConnections")).isEqualTo(100);
+		assertThat(connector.getProperty("acceptCount")).isEqualTo(64);
+		assertThat(connector.getProperty("keepAliveTimeout")).isEqualTo(5000);
+		assertThat(connector.getProperty("maxKeepAliveRequests")).isEqualTo(10);
+		assertThat(connector.getProperty("maxHttpHeaderSize")).isEqualTo(16384);
+		assertThat(connector.getLocalPort()).isNotZero();
+		assertThat(tomcat.getUrl()).isEqualTo("http://127.0.0.1:" + tomcat.getPort() + "/");
+		assertThat(connector.getProperty("address")).hasToString("/127.0.0.1");
+	}
+
+	@Test
+	void it_should_fail_to_listen_on_unix_socket() {
+		final ConnectorConfiguration connectorConfiguration = ConnectorConfiguration.builder()
+			.withUnixSocket("/tmp/junit-servers-tomcat.sock")
+			.build();
+
+		final EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder().withConnector(connectorConfiguration).build();
+
+		assertThatThrownBy(() -> new EmbeddedTomcat(configuration))
+			.isExactlyInstanceOf(IllegalConfigurationException.class)
+			.hasMessage("Embedded tomcat server does not support unix domain sockets, please use embedded jetty server");
+	}
+
 	@Test
 	void it_should_destroy_context_on_stop() {
 		tomcat = new EmbeddedTomcat(defaultConfiguration());
@@ -105,6 +216,188 @@ class EmbeddedTomcatTest {
 		assertThat(ctx.getState()).isEqualTo(LifecycleState.DESTROYED);
 	}
 
+	@Test
+	void it_should_reload_context_on_fast_restart() throws Exception {
+		final URL resource = getClass().getResource("/custom-web.xml");
+		final File descriptor = new File(resource.getFile());
+
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder()
+			.withOverrideDescriptor(descriptor.getAbsolutePath())
+			.enableFastRestart()
+			.build());
+
+		tomcat.start();
+
+		final int port = tomcat.getPort();
+		final Context ctx = readPrivate(tomcat, "context");
+		final ServletContext servletContext = tomcat.getServletContext();
+		final String[] welcomeFiles = ctx.findWelcomeFiles();
+		final EmbeddedTomcatContextConfig config = findContextConfig(ctx);
+
+		assertThat(config).isNotNull();
+		assertThat(config.hasSnapshot()).isTrue();
+
+		tomcat.restart();
+
+		assertThat(tomcat.isStarted()).isTrue();
+		assertThat(tomcat.getPort()).isEqualTo(port);
+		assertThat((Context) readPrivate(tomcat, "context")).isSameAs(ctx);
+		assertThat(ctx.getState()).isEqualTo(LifecycleState.STARTED);
+		assertThat(tomcat.getServletContext()).isNotSameAs(servletContext);
+		assertThat(ctx.findWelcomeFiles()).containsExactly(welcomeFiles).contains("hello-world.html");
+		assertThat(ctx.findChild("jsp")).isNotNull();
+
+		final OkHttpClient client = new OkHttpClient();
+		final Request rq = new Request.Builder().url(tomcat.getUrl()).build();
+		final Response rsp = client.newCall(rq).execute();
+
+		assertThat(rsp.code()).isEqualTo(200);
+
+		final ResponseBody body = rsp.body();
+		final String content = body == null ? null : body.string();
+		assertThat(content).isNotEmpty().contains("Hello World");
+	}
+
+	@Test
+	void it_should_record_lifecycle_phases() {
+		final List<ServerLifecycleTimings> timings = new ArrayList<>();
+
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder()
+			.withHook((ServerLifecycleListener) (server, lifecycleTimings) -> timings.add(lifecycleTimings))
+			.enableFastRestart()
+			.build());
+
+		tomcat.start();
+		tomcat.restart();
+
+		assertThat(timings).extracting(ServerLifecycleTimings::getOperation).containsExactly(
+			ServerLifecycleTimings.Operation.START,
+			ServerLifecycleTimings.Operation.RESTART
+		);
+
+		assertThat(timings.get(0).getPhases()).containsKeys(
+			ServerLifecycleTimings.SERVER,
+			EmbeddedTomcat.CONTEXT_PHASE,
+			EmbeddedTomcat.CONFIGURE_PHASE,
+			EmbeddedTomcat.INITIALIZERS_PHASE,
+			EmbeddedTomcat.LISTENERS_PHASE,
+			EmbeddedTomcat.SERVLETS_PHASE,
+			EmbeddedTomcat.CONNECTOR_PHASE
+		);
+
+		assertThat(timings.get(1).getPhases())
+			.containsKeys(EmbeddedTomcat.CONFIGURE_PHASE, EmbeddedTomcat.INITIALIZERS_PHASE, EmbeddedTomcat.LISTENERS_PHASE, EmbeddedTomcat.SERVLETS_PHASE)
+			.doesNotContainKeys(EmbeddedTomcat.CONTEXT_PHASE, EmbeddedTomcat.CONNECTOR_PHASE);
+
+		assertThat(timings.get(0).getPhase(EmbeddedTomcat.CONFIGURE_PHASE)).isLessThan(timings.get(0).getPhase(ServerLifecycleTimings.SERVER));
+	}
+
+	@Test
+	void it_should_configure_jar_scanner() {
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder()
+			.withJarScanIncludes("spring-*.jar")
+			.withJarScanExcludes("spring-test-*.jar")
+			.disableTldScan()
+			.disableManifestScan()
+			.build());
+
+		tomcat.start();
+
+		final Context ctx = readPrivate(tomcat, "context");
+		final StandardJarScanner jarScanner = (StandardJarScanner) ctx.getJarScanner();
+		final JarScanFilter jarScanFilter = jarScanner.getJarScanFilter();
+
+		assertThat(jarScanner.isScanManifest()).isFalse();
+		assertThat(jarScanFilter.check(JarScanType.PLUGGABILITY, "spring-web-5.2.0.jar")).isTrue();
+		assertThat(jarScanFilter.check(JarScanType.PLUGGABILITY, "spring-test-5.2.0.jar")).isFalse();
+		assertThat(jarScanFilter.check(JarScanType.PLUGGABILITY, "assertj-core-3.17.2.jar")).isFalse();
+		assertThat(jarScanFilter.check(JarScanType.TLD, "spring-web-5.2.0.jar")).isFalse();
+	}
+
+	@Test
+	void it_should_replay_jar_scan_from_cache(@TempDir Path tmpDir) throws Exception {
+		final Path cacheDir = tmpDir.resolve("cache");
+		final EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withParentClasspath(createHandlesTypesInitializerClasspath(tmpDir))
+			.withJarScanCacheDir(cacheDir.toFile())
+			.build();
+
+		otherTomcat = new EmbeddedTomcat(configuration);
+		otherTomcat.start();
+
+		final File[] files = cacheDir.toFile().listFiles();
+		assertThat(files).hasSize(1);
+		assertThat(new String(Files.readAllBytes(files[0].toPath()), StandardCharsets.UTF_8)).contains(HandledImpl.class.getName());
+		assertThat(otherTomcat.getServletContext().getAttribute(HandlesTypesInitializer.ATTRIBUTE)).isEqualTo(singleton(HandledImpl.class.getName()));
+
+		otherTomcat.stop();
+
+		final FileTime lastModifiedTime = Files.getLastModifiedTime(files[0].toPath());
+
+		tomcat = new EmbeddedTomcat(configuration);
+		tomcat.start();
+
+		assertThat(cacheDir.toFile().listFiles()).hasSize(1);
+		assertThat(Files.getLastModifiedTime(files[0].toPath())).isEqualTo(lastModifiedTime);
+		assertThat(tomcat.getServletContext().getAttribute(HandlesTypesInitializer.ATTRIBUTE)).isEqualTo(singleton(HandledImpl.class.getName()));
+	}
+
+	@Test
+	void it_should_start_tomcat_with_parallel_startup(@TempDir Path tmpDir) throws Exception {
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder()
+			.withParentClasspath(createHandlesTypesInitializerClasspath(tmpDir))
+			.withStartStopThreads(2)
+			.withAnnotationScanThreads(4)
+			.build());
+
+		tomcat.start();
+
+		assertThat(tomcat.getDelegate().getEngine().getStartStopThreads()).isEqualTo(2);
+		assertThat(tomcat.getDelegate().getHost().getStartStopThreads()).isEqualTo(2);
+		assertThat(tomcat.getServletContext().getAttribute(HandlesTypesInitializer.ATTRIBUTE)).isEqualTo(singleton(HandledImpl.class.getName()));
+	}
+
+	@Test
+	void it_should_precompile_jsp(@TempDir Path tmpDir) throws Exception {
+		final Path webapp = Files.createDirectories(tmpDir.resolve("webapp"));
+		final Path views = Files.createDirectories(webapp.resolve("WEB-INF").resolve("views"));
+		final Path jspOutputDir = tmpDir.resolve("jsp");
+		Files.write(views.resolve("hello.jsp"), "<%= \"Hello World\" %>".getBytes(StandardCharsets.UTF_8));
+		Files.write(webapp.resolve("index.jsp"), "<%= \"Hello Index\" %>".getBytes(StandardCharsets.UTF_8));
+
+		tomcat = new EmbeddedTomcat(EmbeddedTomcatConfiguration.builder()
+			.withClasspath(webapp.toAbsolutePath().toString())
+			.withWebapp(webapp.toFile())
+			.withJspOutputDir(jspOutputDir.toFile())
+			.enableJspPrecompilation()
+			.build());
+
+		tomcat.start();
+
+		try (Stream<Path> files = Files.walk(jspOutputDir)) {
+			assertThat(files.map(file -> file.getFileName().toString())).contains("hello_jsp.class", "index_jsp.class", "index_jsp.java");
+		}
+
+		// The JSP servlet must load the compiled class instead of compiling the JSP file again.
+		try (Stream<Path> files = Files.walk(jspOutputDir)) {
+			for (Path file : (Iterable<Path>) files.filter(f -> f.getFileName().toString().equals("index_jsp.java"))::iterator) {
+				Files.delete(file);
+			}
+		}
+
+		final Request rq = new Request.Builder().url(tomcat.getUrl() + "index.jsp").build();
+		try (Response rsp = new OkHttpClient().newCall(rq).execute()) {
+			assertThat(rsp.code()).isEqualTo(200);
+
+			final ResponseBody body = rsp.body();
+			assertThat(body == null ? null : body.string()).contains("Hello Index");
+		}
+
+		try (Stream<Path> files = Files.walk(jspOutputDir)) {
+			assertThat(files.map(file -> file.getFileName().toString())).doesNotContain("index_jsp.java");
+		}
+	}
+
 	@Test
 	void it_should_delete_base_dir_on_stop() {
 		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder().deleteBaseDir().build());
@@ -131,6 +424,65 @@ class EmbeddedTomcatTest {
 		assertThat(baseDir).exists();
 	}
 
+	@Test
+	void it_should_use_unique_base_dir(@TempDir File baseDirRoot) {
+		// Both servers run at the same time: they would register the same naming context.
+		final EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withBaseDirRoot(baseDirRoot)
+			.disableNaming()
+			.build();
+
+		tomcat = new EmbeddedTomcat(configuration);
+		otherTomcat = new EmbeddedTomcat(configuration);
+
+		tomcat.start();
+		otherTomcat.start();
+
+		final File baseDir = tomcat.getDelegate().getServer().getCatalinaBase();
+		final File otherBaseDir = otherTomcat.getDelegate().getServer().getCatalinaBase();
+
+		assertThat(baseDir).exists().hasParent(baseDirRoot);
+		assertThat(otherBaseDir).exists().hasParent(baseDirRoot);
+		assertThat(baseDir).isNotEqualTo(otherBaseDir);
+	}
+
+	@Test
+	void it_should_create_unique_base_dir_on_start(@TempDir File baseDirRoot) {
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder().withBaseDirRoot(baseDirRoot).build());
+
+		assertThat(baseDirRoot.listFiles()).isEmpty();
+
+		tomcat.start();
+		final File baseDir = tomcat.getDelegate().getServer().getCatalinaBase();
+		assertThat(baseDir).exists().hasParent(baseDirRoot);
+
+		tomcat.stop();
+		assertThat(baseDir).doesNotExist();
+	}
+
+	@Test
+	void it_should_delete_leftover_base_dirs_on_start(@TempDir File baseDirRoot) throws Exception {
+		final File leftover = new File(baseDirRoot, "tomcat-123.deleted-456");
+		final File other = new File(baseDirRoot, "other.deleted-456");
+		assertThat(new File(leftover, "work").mkdirs()).isTrue();
+		assertThat(other.mkdirs()).isTrue();
+
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder()
+			.withBaseDirRoot(baseDirRoot)
+			.enableAsyncBaseDirDeletion()
+			.build()
+		);
+
+		tomcat.start();
+
+		for (int i = 0; i < 100 && leftover.exists(); i++) {
+			Thread.sleep(50);
+		}
+
+		assertThat(leftover).doesNotExist();
+		assertThat(other).exists();
+	}
+
 	@Test
 	void it_should_get_servlet_context() {
 		tomcat = new EmbeddedTomcat(defaultConfiguration());
@@ -204,6 +556,23 @@ class EmbeddedTomcatTest {
 		assertThat(content).isNotEmpty().contains("Hello World");
 	}
 
+	private static URL createHandlesTypesInitializerClasspath(Path tmpDir) throws Exception {
+		final Path classpath = tmpDir.resolve("classpath");
+		final Path services = Files.createDirectories(classpath.resolve("META-INF/services"));
+		Files.write(services.resolve(ServletContainerInitializer.class.getName()), HandlesTypesInitializer.class.getName().getBytes(StandardCharsets.UTF_8));
+		return classpath.toUri().toURL();
+	}
+
+	private static EmbeddedTomcatContextConfig findContextConfig(Context ctx) {
+		for (LifecycleListener listener : ctx.findLifecycleListeners()) {
+			if (listener instanceof EmbeddedTomcatContextConfig) {
+				return (EmbeddedTomcatContextConfig) listener;
+			}
+		}
+
+		return null;
+	}
+
 	private static EmbeddedTomcatConfiguration defaultConfiguration() {
 		return defaultConfigurationBuilder().build();
 	}
@@ -0,0 +1,66 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2019 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.tomcat.tests.core;
+
+import javax.servlet.ServletContainerInitializer;
+import javax.servlet.ServletContext;
+import javax.servlet.annotation.HandlesTypes;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A {@link ServletContainerInitializer} exposing the classes implementing {@link Handled}
+ * as a servlet context attribute.
+ *
+ * <br>
+ *
+ * Note that this class must be registered using the Service Provider Interface.
+ */
+@HandlesTypes(HandlesTypesInitializer.Handled.class)
+public class HandlesTypesInitializer implements ServletContainerInitializer {
+
+	/**
+	 * The name of the servlet context attribute.
+	 */
+	public static final String ATTRIBUTE = HandlesTypesInitializer.class.getName();
+
+	@Override
+	public void onStartup(Set<Class<?>> classes, ServletContext ctx) {
+		final Set<String> classNames = new TreeSet<>();
+		if (classes != null) {
+			for (Class<?> klass : classes) {
+				classNames.add(klass.getName());
+			}
+		}
+
+		ctx.setAttribute(ATTRIBUTE, classNames);
+	}
+
+	public interface Handled {
+	}
+
+	public static class HandledImpl implements Handled {
+	}
+}